@@ -0,0 +1,44 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.exceptions.ForbiddenException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Restringe operações de manutenção (varreduras e reconstruções de dados do tenant, métricas do
+ * actuator) aos administradores do sistema, identificados pelos e-mails de {@code app.security.admin-emails}.
+ */
+@Service
+public class AcessoAdministrativoService {
+
+    private final Set<String> emailsAdministradores;
+
+    public AcessoAdministrativoService(@Value("${app.security.admin-emails:}") String emailsAdministradores) {
+        this.emailsAdministradores = Arrays.stream(emailsAdministradores.split(","))
+                .map(String::trim)
+                .filter(email -> !email.isEmpty())
+                .map(email -> email.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * @throws ForbiddenException se o usuário autenticado não for administrador do sistema
+     */
+    public void exigirAdministrador() {
+        if (!isAdministrador(SecurityContextHolder.getContext().getAuthentication())) {
+            throw new ForbiddenException("Operação restrita a administradores do sistema");
+        }
+    }
+
+    public boolean isAdministrador(Authentication autenticacao) {
+        return autenticacao != null && autenticacao.isAuthenticated() && autenticacao.getName() != null
+                && emailsAdministradores.contains(autenticacao.getName().toLowerCase(Locale.ROOT));
+    }
+}
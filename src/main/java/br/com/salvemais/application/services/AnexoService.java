@@ -4,22 +4,28 @@ import br.com.salvemais.infrastructure.context.TenantContext;
 import br.com.salvemais.domain.entities.Anexo;
 import br.com.salvemais.domain.entities.ContaFixa;
 import br.com.salvemais.infrastructure.repositories.AnexoRepository;
+import br.com.salvemais.infrastructure.repositories.AnexoResumo;
+import br.com.salvemais.util.HashSha256InputStream;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-import software.amazon.awssdk.services.s3.presigner.S3Presigner;
-import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
-import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
 import java.io.IOException;
-import java.time.Duration;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 public class AnexoService implements AnexoServiceInterface {
@@ -31,13 +37,21 @@ public class AnexoService implements AnexoServiceInterface {
     private S3Client s3Client;
     
     @Autowired
-    private S3Presigner s3Presigner;
+    private UrlAssinadaCache urlAssinadaCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
     
     @Value("${aws.s3.bucket}")
     private String bucketName;
-    
-    @Value("${aws.s3.presignedUrlExpirationMinutes}")
-    private int presignedUrlExpirationMinutes;
+
+    @Value("${app.anexos.deduplicacao.enabled:false}")
+    private boolean deduplicacaoHabilitada;
+
+    /**
+     * Anexo com a URL pré-assinada de download
+     */
+    public record Download(Anexo anexo, String url) {}
 
     /**
      * Faz o upload de um arquivo para o S3 e salva os metadados no banco de dados
@@ -57,47 +71,119 @@ public class AnexoService implements AnexoServiceInterface {
         // Gerar uma chave única para o S3
         String chaveS3 = "comprovantes/" + tenantName + "/" + UUID.randomUUID() + "-" + originalFilename;
         
-        // Fazer upload para o S3
-        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                .bucket(bucketName)
-                .key(chaveS3)
-                .contentType(contentType)
-                .build();
-                
-        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(file.getBytes()));
+        // Envia em streaming: o arquivo não é copiado para a memória e o hash sai no caminho
+        ConteudoEnviado conteudo = enviarParaS3(file, chaveS3, contentType);
         
         // Criar o anexo no banco de dados (apenas os metadados)
         Anexo anexo = new Anexo();
         anexo.setNome(originalFilename);
         anexo.setTipo(contentType);
         anexo.setChaveS3(chaveS3);
+        anexo.setHashSha256(conteudo.hashSha256());
+        anexo.setTamanho(conteudo.tamanho());
         anexo.setContaFixa(contaFixa);
-        
-        contaFixa.adicionarAnexo(anexo);
-        
-        return anexoRepository.save(anexo);
+
+        // A trava do objeto reaproveitado só é liberada no commit, depois que o novo anexo já aponta para ele
+        Anexo salvo = new TransactionTemplate(transactionManager).execute(status -> {
+            if (deduplicacaoHabilitada) {
+                reaproveitarObjetoIdentico(anexo);
+            }
+            contaFixa.adicionarAnexo(anexo);
+            return anexoRepository.save(anexo);
+        });
+
+        // Objeto recém-enviado substituído por um idêntico: nenhum outro anexo conhece esta chave
+        if (!chaveS3.equals(salvo.getChaveS3())) {
+            excluirObjetoS3(chaveS3);
+        }
+        return salvo;
+    }
+    
+    private record ConteudoEnviado(String hashSha256, long tamanho) {}
+
+    private ConteudoEnviado enviarParaS3(MultipartFile file, String chaveS3, String contentType)
+            throws IOException {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(chaveS3)
+                .contentType(contentType)
+                .contentLength(file.getSize())
+                .build();
+
+        // O SDK pede um stream novo a cada tentativa; o hash e o tamanho valem os da última, lida até o fim
+        AtomicReference<HashSha256InputStream> tentativa = new AtomicReference<>();
+        ContentStreamProvider provedor = () -> {
+            try {
+                fecharSilenciosamente(tentativa.get());
+                tentativa.set(new HashSha256InputStream(file.getInputStream()));
+                return tentativa.get();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+
+        try {
+            s3Client.putObject(putObjectRequest,
+                    RequestBody.fromContentProvider(provedor, file.getSize(), contentType));
+            HashSha256InputStream conteudo = tentativa.get();
+            long bytesLidos = conteudo != null ? conteudo.getBytesLidos() : 0;
+            if (bytesLidos != file.getSize()) {
+                throw new IOException("Upload incompleto: " + bytesLidos + " de "
+                        + file.getSize() + " bytes enviados");
+            }
+            return new ConteudoEnviado(conteudo.getHashHex(), bytesLidos);
+        } finally {
+            fecharSilenciosamente(tentativa.get());
+        }
+    }
+
+    private static void fecharSilenciosamente(HashSha256InputStream conteudo) {
+        if (conteudo == null) {
+            return;
+        }
+        try {
+            conteudo.close();
+        } catch (IOException ignorada) {
+            // Só leitura do arquivo temporário do upload; não há o que recuperar
+        }
+    }
+
+    /**
+     * Se o tenant já tem um comprovante com o mesmo conteúdo, aponta o anexo para o objeto
+     * S3 existente. Deve rodar numa transação: o objeto fica travado até o commit e é
+     * conferido de novo depois da trava, caso o último anexo que o usava tenha sido excluído
+     */
+    private void reaproveitarObjetoIdentico(Anexo anexo) {
+        anexoRepository.findFirstByHashSha256AndTamanho(anexo.getHashSha256(), anexo.getTamanho())
+                .ifPresent(existente -> {
+                    anexoRepository.travarObjetoS3(existente.getChaveS3());
+                    if (anexoRepository.existsByChaveS3(existente.getChaveS3())) {
+                        anexo.setChaveS3(existente.getChaveS3());
+                    }
+                });
+    }
+
+    private void excluirObjetoS3(String chaveS3) {
+        s3Client.deleteObject(builder -> builder
+                .bucket(bucketName)
+                .key(chaveS3)
+                .build());
     }
     
     /**
      * Gera uma URL pré-assinada para download do anexo
      */
     public String gerarUrlDownload(Long anexoId) {
+        return prepararDownload(anexoId).url();
+    }
+
+    /**
+     * Busca o anexo uma única vez e devolve junto a URL pré-assinada de download
+     */
+    public Download prepararDownload(Long anexoId) {
         Anexo anexo = anexoRepository.findById(anexoId)
                 .orElseThrow(() -> new IllegalArgumentException("Anexo não encontrado"));
-        
-        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
-                .bucket(bucketName)
-                .key(anexo.getChaveS3())
-                .build();
-                
-        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(presignedUrlExpirationMinutes))
-                .getObjectRequest(getObjectRequest)
-                .build();
-                
-        PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
-        
-        return presignedRequest.url().toString();
+        return new Download(anexo, urlAssinadaCache.urlDownload(anexo.getChaveS3()));
     }
     
     /**
@@ -106,15 +192,20 @@ public class AnexoService implements AnexoServiceInterface {
     public void excluirAnexo(Long anexoId) {
         Anexo anexo = anexoRepository.findById(anexoId)
                 .orElseThrow(() -> new IllegalArgumentException("Anexo não encontrado"));
-        
-        // Excluir do S3
-        s3Client.deleteObject(builder -> builder
-                .bucket(bucketName)
-                .key(anexo.getChaveS3())
-                .build());
-        
-        // Excluir do banco de dados
-        anexoRepository.delete(anexo);
+
+        // Excluir do banco com o objeto travado, para um upload deduplicado não passar a usá-lo no meio do caminho
+        boolean compartilhado = Boolean.TRUE.equals(new TransactionTemplate(transactionManager).execute(status -> {
+            anexoRepository.travarObjetoS3(anexo.getChaveS3());
+            boolean usadoPorOutro = anexoRepository.existsByChaveS3AndIdNot(anexo.getChaveS3(), anexo.getId());
+            anexoRepository.delete(anexo);
+            return usadoPorOutro;
+        }));
+
+        // Depois do commit nenhum anexo aponta para o objeto, e um novo upload não o reaproveita mais
+        if (!compartilhado) {
+            excluirObjetoS3(anexo.getChaveS3());
+            urlAssinadaCache.invalidate(anexo.getChaveS3());
+        }
     }
     
     /**
@@ -131,4 +222,20 @@ public class AnexoService implements AnexoServiceInterface {
     public List<Anexo> listarTodosAnexos() {
         return anexoRepository.findAllBy();
     }
+
+    /**
+     * Catálogo paginado dos comprovantes do tenant, só com os metadados
+     * @param fim Último dia do período (inclusivo)
+     */
+    @Transactional(readOnly = true)
+    public Page<AnexoResumo> buscarComprovantes(String nome, String tipo, Long contaFixaId,
+                                                LocalDate inicio, LocalDate fim, Pageable pageable) {
+        return anexoRepository.buscarResumos(
+                nome == null || nome.isBlank() ? null : nome.trim(),
+                tipo == null || tipo.isBlank() ? null : tipo.trim(),
+                contaFixaId,
+                inicio != null ? inicio.atStartOfDay() : null,
+                fim != null ? fim.plusDays(1).atStartOfDay() : null,
+                pageable);
+    }
 }
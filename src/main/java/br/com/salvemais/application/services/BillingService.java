@@ -7,6 +7,7 @@ import com.stripe.model.Invoice;
 import com.stripe.model.StripeObject;
 import com.stripe.model.Subscription;
 import com.stripe.model.checkout.Session;
+import br.com.salvemais.application.services.TenantMetadataCache.TenantMetadata;
 import br.com.salvemais.web.api.dto.BillingStatusDTO;
 import br.com.salvemais.web.api.dto.PlanoDTO;
 import br.com.salvemais.web.api.dto.SubscriptionRequestDTO;
@@ -43,6 +44,7 @@ public class BillingService {
     @Autowired private UsuarioRepository usuarioRepository;
     @Autowired private TransacaoRepository transacaoRepository;
     @Autowired private StripeGateway stripeGateway;
+    @Autowired private TenantMetadataCache tenantMetadataCache;
     @Autowired private ObjectMapper objectMapper;
 
     @Transactional(readOnly = true)
@@ -62,12 +64,13 @@ public class BillingService {
     }
 
     @Transactional(readOnly = true)
-    public BillingStatusDTO getStatus(Tenant tenant) {
-        Tenant fresh = tenantRepository.findById(tenant.getId()).orElse(tenant);
-        Plano plano = planoRepository.findByTipo(fresh.getSubscriptionPlan()).orElse(null);
+    public BillingStatusDTO getStatus(String tenantDomain) {
+        TenantMetadata fresh = tenantMetadataCache.get(tenantDomain)
+                .orElseThrow(() -> new ResourceNotFoundException("Tenant not found with domain " + tenantDomain));
+        Plano plano = planoRepository.findByTipo(fresh.subscriptionPlan()).orElse(null);
 
-        Long diasRestantesTrial = fresh.getTrialEndDate() != null
-                ? ChronoUnit.DAYS.between(LocalDateTime.now(), fresh.getTrialEndDate())
+        Long diasRestantesTrial = fresh.trialEndDate() != null
+                ? ChronoUnit.DAYS.between(LocalDateTime.now(), fresh.trialEndDate())
                 : null;
 
         long usuariosAtivos = usuarioRepository.count();
@@ -77,18 +80,18 @@ public class BillingService {
         long transacoesMes = transacaoRepository.countByDataBetween(inicioMes, fimMes);
 
         return new BillingStatusDTO(
-                fresh.getSubscriptionStatus(),
-                plano != null ? plano.getNome() : fresh.getSubscriptionPlan().name(),
+                fresh.subscriptionStatus(),
+                plano != null ? plano.getNome() : fresh.subscriptionPlan().name(),
                 plano != null ? plano.getPrecoMensal() : null,
-                fresh.getSubscriptionEndDate(),
-                fresh.getTrialEndDate(),
+                fresh.subscriptionEndDate(),
+                fresh.trialEndDate(),
                 diasRestantesTrial,
                 null,
                 usuariosAtivos,
-                plano != null ? plano.getMaxUsuarios() : fresh.getMaxUsers(),
+                plano != null ? plano.getMaxUsuarios() : fresh.maxUsers(),
                 transacoesMes,
                 plano != null ? plano.getMaxTransacoesMes() : null,
-                plano != null ? plano.getMaxStorageGb() : fresh.getMaxStorageGb()
+                plano != null ? plano.getMaxStorageGb() : fresh.maxStorageGb()
         );
     }
 
@@ -199,6 +202,7 @@ public class BillingService {
         tenant.setSubscriptionStartDate(LocalDateTime.now());
         tenant.setSubscriptionEndDate(LocalDateTime.now().plusMonths(1));
         tenantRepository.save(tenant);
+        tenantMetadataCache.invalidate(tenant.getDomain());
 
         log.info("Tenant '{}' ativado via checkout.session.completed", tenant.getDomain());
     }
@@ -209,6 +213,7 @@ public class BillingService {
                     tenant.setSubscriptionStatus(SubscriptionStatus.ATIVO);
                     tenant.setSubscriptionEndDate(LocalDateTime.now().plusMonths(1));
                     tenantRepository.save(tenant);
+                    tenantMetadataCache.invalidate(tenant.getDomain());
                     log.info("Tenant '{}' renovado via invoice.payment_succeeded", tenant.getDomain());
                 })
         );
@@ -219,6 +224,7 @@ public class BillingService {
                 tenantRepository.findByStripeSubscriptionId(subscriptionId).ifPresent(tenant -> {
                     tenant.setSubscriptionStatus(SubscriptionStatus.INADIMPLENTE);
                     tenantRepository.save(tenant);
+                    tenantMetadataCache.invalidate(tenant.getDomain());
                     log.warn("Tenant '{}' marcado INADIMPLENTE via invoice.payment_failed", tenant.getDomain());
                 })
         );
@@ -234,6 +240,7 @@ public class BillingService {
             tenant.setStripeSubscriptionId(null);
             tenant.setSubscriptionEndDate(LocalDateTime.now());
             tenantRepository.save(tenant);
+            tenantMetadataCache.invalidate(tenant.getDomain());
             log.warn("Tenant '{}' CANCELADO via customer.subscription.deleted", tenant.getDomain());
         });
     }
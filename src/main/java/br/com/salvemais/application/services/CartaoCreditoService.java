@@ -5,13 +5,13 @@ import br.com.salvemais.web.api.dto.CartaoLimiteStatusDTO;
 import br.com.salvemais.domain.entities.CartaoCredito;
 import br.com.salvemais.domain.exceptions.CartaoCreditoException;
 import br.com.salvemais.infrastructure.repositories.CartaoCreditoRepository;
-import br.com.salvemais.infrastructure.repositories.CompraRepository;
+import br.com.salvemais.infrastructure.repositories.UtilizacaoLimiteCartao;
+import br.com.salvemais.util.PeriodoMensal;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
 
@@ -20,9 +20,6 @@ public class CartaoCreditoService {
 
     @Autowired
     private CartaoCreditoRepository cartaoCreditoRepository;
-    
-    @Autowired
-    private CompraRepository compraRepository;
 
     public CartaoCredito findOrFail(Long cartaoId){
         return cartaoCreditoRepository.findById(cartaoId).orElseThrow(() -> new CartaoCreditoException(cartaoId));
@@ -52,52 +49,28 @@ public class CartaoCreditoService {
     }
     
     /**
-     * Verifica o status atual do limite do cartão
+     * Verifica o status atual do limite do cartão: compras do mês corrente mais as parcelas
+     * em aberto, somadas no banco em uma única consulta
      */
     public CartaoLimiteStatusDTO verificarStatusLimite(Long cartaoId) {
-        CartaoCredito cartao = findOrFail(cartaoId);
-        
-        if (cartao.getLimiteTotal() == null) {
+        PeriodoMensal periodo = PeriodoMensal.de(YearMonth.now());
+        UtilizacaoLimiteCartao utilizacao = cartaoCreditoRepository
+                .buscarUtilizacaoLimite(cartaoId, periodo.inicio(), periodo.fimExclusivo())
+                .orElseThrow(() -> new CartaoCreditoException(cartaoId));
+
+        if (utilizacao.getLimiteTotal() == null) {
             throw new IllegalStateException("Cartão não possui limite configurado");
         }
-        
-        // Calcula período atual (ciclo do cartão)
-        LocalDate hoje = LocalDate.now();
-        YearMonth mesAtual = YearMonth.from(hoje);
-        LocalDate inicioMes = mesAtual.atDay(1);
-        LocalDate fimMes = mesAtual.atEndOfMonth();
-        
-        // Busca valor utilizado no mês
-        BigDecimal valorUtilizado = compraRepository.calcularValorUtilizadoPeriodo(cartaoId, inicioMes, fimMes);
-        
-        // Calcula valores
-        BigDecimal limiteDisponivel = cartao.getLimiteTotal().subtract(valorUtilizado);
-        BigDecimal percentualUtilizado = calcularPercentualUtilizado(valorUtilizado, cartao.getLimiteTotal());
-        
-        // Verifica alertas
-        boolean limiteExcedido = valorUtilizado.compareTo(cartao.getLimiteTotal()) > 0;
-        boolean alertaAtivado = percentualUtilizado.compareTo(BigDecimal.valueOf(cartao.getLimiteAlertaPercentual())) >= 0;
-        
-        return new CartaoLimiteStatusDTO(
-            cartao.getId(),
-            cartao.getNome(),
-            cartao.getLimiteTotal(),
-            valorUtilizado,
-            limiteDisponivel,
-            percentualUtilizado,
-            limiteExcedido,
-            alertaAtivado,
-            cartao.getLimiteAlertaPercentual()
-        );
+        return toStatusLimite(utilizacao);
     }
     
     /**
      * Lista status de limite de todos os cartões ativos
      */
     public List<CartaoLimiteStatusDTO> listarStatusLimiteTodos() {
-        return cartaoCreditoRepository.findAll().stream()
-            .filter(cartao -> cartao.getAtivo() && cartao.getLimiteTotal() != null)
-            .map(cartao -> verificarStatusLimite(cartao.getId()))
+        PeriodoMensal periodo = PeriodoMensal.de(YearMonth.now());
+        return cartaoCreditoRepository.buscarUtilizacaoLimiteAtivos(periodo.inicio(), periodo.fimExclusivo()).stream()
+            .map(this::toStatusLimite)
             .toList();
     }
     
@@ -131,6 +104,31 @@ public class CartaoCreditoService {
         }
     }
     
+    private CartaoLimiteStatusDTO toStatusLimite(UtilizacaoLimiteCartao utilizacao) {
+        BigDecimal limiteTotal = utilizacao.getLimiteTotal();
+        BigDecimal valorUtilizado = utilizacao.getValorCompras().add(utilizacao.getValorParcelasAbertas());
+
+        // Calcula valores
+        BigDecimal limiteDisponivel = limiteTotal.subtract(valorUtilizado);
+        BigDecimal percentualUtilizado = calcularPercentualUtilizado(valorUtilizado, limiteTotal);
+
+        // Verifica alertas
+        boolean limiteExcedido = valorUtilizado.compareTo(limiteTotal) > 0;
+        boolean alertaAtivado = percentualUtilizado.compareTo(BigDecimal.valueOf(utilizacao.getLimiteAlertaPercentual())) >= 0;
+
+        return new CartaoLimiteStatusDTO(
+            utilizacao.getCartaoId(),
+            utilizacao.getNome(),
+            limiteTotal,
+            valorUtilizado,
+            limiteDisponivel,
+            percentualUtilizado,
+            limiteExcedido,
+            alertaAtivado,
+            utilizacao.getLimiteAlertaPercentual()
+        );
+    }
+
     private BigDecimal calcularPercentualUtilizado(BigDecimal valorUtilizado, BigDecimal limiteTotal) {
         if (limiteTotal.compareTo(BigDecimal.ZERO) == 0) {
             return BigDecimal.ZERO;
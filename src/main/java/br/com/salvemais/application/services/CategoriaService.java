@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
@@ -16,13 +17,17 @@ import br.com.salvemais.infrastructure.repositories.CategoriaRepository;
 public class CategoriaService {
 
     private final CategoriaRepository categoriaRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CategoriaService(CategoriaRepository categoriaRepository) {
+    public CategoriaService(CategoriaRepository categoriaRepository, ApplicationEventPublisher eventPublisher) {
         this.categoriaRepository = categoriaRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public Categoria salvarCategoria(Categoria categoria) {
-        return categoriaRepository.save(categoria);
+        Categoria salva = categoriaRepository.save(categoria);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        return salva;
     }
 
     public Categoria buscarCategoriaPorNome(String nome) {
@@ -59,12 +64,15 @@ public class CategoriaService {
         } catch (DataIntegrityViolationException e) {
             throw new EntityInUseException("categoria", id, "contas fixas ou outras transações");
         }
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
     }
 
     public Categoria atualizarCategoria(Long id, Categoria categoria) {
         Categoria categoriaExistente = buscaCategoriaPorId(id);
         categoriaExistente.setNome(categoria.getNome());
         categoriaExistente.setTipo(categoria.getTipo());
-        return categoriaRepository.save(categoriaExistente);
+        Categoria salva = categoriaRepository.save(categoriaExistente);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        return salva;
     }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package br.com.salvemais.application.services;
 
 import br.com.salvemais.domain.entities.CompraDebito;
+import br.com.salvemais.domain.enums.OrigemResumo;
 import br.com.salvemais.infrastructure.repositories.CompraDebitoRepository;
+import br.com.salvemais.util.PeriodoMensal;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,6 +26,12 @@ public class CompraDebitoService {
     @Autowired
     private TransacaoService transacaoService;
 
+    @Autowired
+    private ResumoMensalService resumoMensalService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Salva uma nova compra em débito.
      * Ao salvar, automaticamente debita o valor da conta vinculada e cria a transação.
@@ -63,6 +72,9 @@ public class CompraDebitoService {
         // Cria a transação sem atualizar o saldo (já atualizamos acima)
         transacaoService.criarTransacaoSemAtualizarSaldo(transacaoDTO);
         
+        resumoMensalService.registrarAlteracao(OrigemResumo.COMPRA_DEBITO, compraDebitoSalva.getDataCompra());
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        
         return compraDebitoSalva;
     }
     
@@ -86,6 +98,10 @@ public class CompraDebitoService {
         compraDebitoExistente.setCategoria(compraDebitoAtualizada.getCategoria());
         compraDebitoExistente.setObservacoes(compraDebitoAtualizada.getObservacoes());
         
+        // A categoria pode ter mudado
+        resumoMensalService.registrarAlteracao(OrigemResumo.COMPRA_DEBITO, compraDebitoExistente.getDataCompra());
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        
         return compraDebitoRepository.save(compraDebitoExistente);
     }
 
@@ -107,7 +123,8 @@ public class CompraDebitoService {
     }
 
     public Page<CompraDebito> listarComprasPorMesEAno(Pageable pageable, Integer mes, Integer ano) {
-        return compraDebitoRepository.findByDataCompraMesEAno(pageable, mes, ano);
+        PeriodoMensal periodo = PeriodoMensal.de(mes, ano);
+        return compraDebitoRepository.findByDataCompraNoPeriodo(pageable, periodo.inicio(), periodo.fimExclusivo());
     }
 
     public CompraDebito buscarCompraDebitoPorId(Long id) {
@@ -116,6 +133,9 @@ public class CompraDebitoService {
 
     @org.springframework.transaction.annotation.Transactional
     public void deletarCompraDebito(Long id) {
+        LocalDate dataCompra = compraDebitoRepository.findById(id).map(CompraDebito::getDataCompra).orElse(null);
         compraDebitoRepository.deleteById(id);
+        resumoMensalService.registrarAlteracao(OrigemResumo.COMPRA_DEBITO, dataCompra);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
     }
 }
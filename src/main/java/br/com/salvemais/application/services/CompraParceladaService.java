@@ -7,6 +7,7 @@ import br.com.salvemais.domain.entities.Parcela;
 import br.com.salvemais.infrastructure.repositories.CompraParceladaRepository;
 import br.com.salvemais.infrastructure.repositories.ParcelaRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -33,6 +34,9 @@ public class CompraParceladaService {
     @Autowired
     private CategoriaService categoriaService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Cria uma compra parcelada e gera as parcelas automaticamente
      * @param compraParcelada dados da compra parcelada
@@ -76,6 +80,7 @@ public class CompraParceladaService {
         // Gera as parcelas
         List<Parcela> parcelas = gerarParcelas(compraSalva);
         compraSalva.setParcelas(parcelas);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
 
         return compraSalva;
     }
@@ -203,7 +208,7 @@ public class CompraParceladaService {
      * Busca compra parcelada por ID
      */
     public CompraParcelada buscarPorId(Long id) {
-        return compraParceladaRepository.findById(id)
+        return compraParceladaRepository.findComParcelasById(id)
                 .orElseThrow(() -> new RuntimeException("Compra parcelada não encontrada com ID: " + id));
     }
 
@@ -230,7 +235,9 @@ public class CompraParceladaService {
                 .orElseThrow(() -> new RuntimeException("Parcela não encontrada com ID: " + parcelaId));
         
         parcela.setPaga(true);
-        return parcelaRepository.save(parcela);
+        Parcela parcelaSalva = parcelaRepository.save(parcela);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        return parcelaSalva;
     }
 
     /**
@@ -242,7 +249,9 @@ public class CompraParceladaService {
                 .orElseThrow(() -> new RuntimeException("Parcela não encontrada com ID: " + parcelaId));
         
         parcela.setPaga(false);
-        return parcelaRepository.save(parcela);
+        Parcela parcelaSalva = parcelaRepository.save(parcela);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        return parcelaSalva;
     }
 
     /**
@@ -312,6 +321,7 @@ public class CompraParceladaService {
             
             // Gera e adiciona novas parcelas à coleção
             gerarParcelas(compraExistente);
+            eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
             
             return compraExistente;
         } else {
@@ -323,6 +333,7 @@ public class CompraParceladaService {
             
             // Atualiza os valores das parcelas existentes
             atualizarValoresParcelas(compraSalva);
+            eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
             
             return compraSalva;
         }
@@ -355,9 +366,9 @@ public class CompraParceladaService {
             } else {
                 parcela.setValor(valorParcela);
             }
-            
-            parcelaRepository.save(parcela);
         }
+        // Parcelas gerenciadas: os UPDATEs saem em lote no flush
+        parcelaRepository.saveAll(parcelas);
     }
 
     /**
@@ -387,6 +398,7 @@ public class CompraParceladaService {
     public void excluirCompraParcelada(Long id) {
         CompraParcelada compra = buscarPorId(id);
         compraParceladaRepository.delete(compra);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
     }
 
     /**
@@ -2,7 +2,9 @@ package br.com.salvemais.application.services;
 
 import br.com.salvemais.domain.entities.Compra;
 import br.com.salvemais.infrastructure.repositories.CompraRepository;
+import br.com.salvemais.util.PeriodoMensal;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,6 +21,9 @@ public class CompraService {
     @Autowired
     private CartaoCreditoService cartaoCreditoService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public Compra salvarCompra(Compra compra) {
         var cartaoCredito = cartaoCreditoService.findOrFail(compra.getCartaoCredito().getId());
         compra.setCartaoCredito(cartaoCredito);
@@ -28,7 +33,9 @@ public class CompraService {
             throw new IllegalArgumentException("Compra excede o limite disponível do cartão de crédito");
         }
 
-        return compraRepository.save(compra);
+        Compra compraSalva = compraRepository.save(compra);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        return compraSalva;
     }
 
     public Page<Compra> listarCompras(Pageable pageable) {
@@ -36,7 +43,8 @@ public class CompraService {
     }
 
     public Page<Compra> listarComprasPorMesEAno(Pageable pageable, Integer mes, Integer ano) {
-        return compraRepository.findByDataMesEAno(pageable, mes, ano);
+        PeriodoMensal periodo = PeriodoMensal.de(mes, ano);
+        return compraRepository.findByDataNoPeriodo(pageable, periodo.inicio(), periodo.fimExclusivo());
     }
 
     public List<Compra> comprasPorCartaoAteData(Long cartaoId, LocalDate dataVencimento) {
@@ -74,11 +82,14 @@ public class CompraService {
             compraExistente.setCartaoCredito(cartaoCredito);
         }
 
-        return compraRepository.save(compraExistente);
+        Compra compraSalva = compraRepository.save(compraExistente);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        return compraSalva;
     }
 
     public void excluirCompra(Long id) {
         Compra compra = buscarCompraPorId(id);
         compraRepository.delete(compra);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
     }
 }
@@ -3,16 +3,21 @@ package br.com.salvemais.application.services;
 import br.com.salvemais.web.api.dto.ContaFixaRecorrenteDTO;
 import br.com.salvemais.domain.entities.Anexo;
 import br.com.salvemais.domain.entities.ContaFixa;
+import br.com.salvemais.domain.enums.OrigemResumo;
 import br.com.salvemais.infrastructure.repositories.ContaFixaRepository;
+import br.com.salvemais.infrastructure.repositories.LinhaExportacaoContaFixa;
+import br.com.salvemais.util.PeriodoMensal;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -23,6 +28,11 @@ import java.util.List;
 @Service
 public class ContaFixaService {
 
+    private static final int JANELA_LINHAS_EXCEL = 100;
+    private static final int LOTE_EXPORTACAO = 500;
+    private static final LocalDate INICIO_HISTORICO = LocalDate.of(1900, 1, 1);
+    private static final LocalDate FIM_HISTORICO = LocalDate.of(9999, 12, 31);
+
     @Autowired
     private ContaFixaRepository contaFixaRepository;
 
@@ -38,6 +48,12 @@ public class ContaFixaService {
     @Autowired
     private TransacaoService transacaoService;
 
+    @Autowired
+    private ResumoMensalService resumoMensalService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @org.springframework.transaction.annotation.Transactional
     public ContaFixa salvarContaFixa(ContaFixa contaFixa) {
         var conta = contaService.getOne(contaFixa.getConta().getId());
@@ -61,6 +77,12 @@ public class ContaFixaService {
             mudouParaPago = contaFixa.isPago();
         }
 
+        // Recalculado após o commit: mês anterior (se o vencimento mudou) e o atual
+        resumoMensalService.registrarAlteracao(OrigemResumo.CONTA_FIXA,
+                contaFixaExistente != null ? contaFixaExistente.getVencimento() : null,
+                contaFixa.getVencimento());
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+
         // Se a conta fixa foi marcada como paga, debita o valor da conta e cria a transação
         if (mudouParaPago) {
             // Verifica se a conta tem saldo suficiente
@@ -123,7 +145,8 @@ public class ContaFixaService {
     }
 
     public Page<ContaFixa> listarContasFixasPorMesEAno(Pageable pageable, Integer mes, Integer ano) {
-        return contaFixaRepository.findByVencimentoMesEAno(pageable, mes, ano);
+        PeriodoMensal periodo = PeriodoMensal.de(mes, ano);
+        return contaFixaRepository.findByVencimentoNoPeriodo(pageable, periodo.inicio(), periodo.fimExclusivo());
     }
 
     public ContaFixa buscarContaFixaPorId(Long id) {
@@ -131,7 +154,10 @@ public class ContaFixaService {
     }
 
     public void deletarContaFixa(Long id) {
+        LocalDate vencimento = contaFixaRepository.findById(id).map(ContaFixa::getVencimento).orElse(null);
         contaFixaRepository.deleteById(id);
+        resumoMensalService.registrarAlteracao(OrigemResumo.CONTA_FIXA, vencimento);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
     }
 
     /**
@@ -139,6 +165,7 @@ public class ContaFixaService {
      * @param dto Dados da conta fixa recorrente
      * @return Lista das contas fixas criadas
      */
+    @org.springframework.transaction.annotation.Transactional
     public List<ContaFixa> criarContasFixasRecorrentes(ContaFixaRecorrenteDTO dto) {
         // Validar se a conta existe
         var conta = contaService.getOne(dto.contaId());
@@ -168,14 +195,20 @@ public class ContaFixaService {
             contaFixa.setVencimento(dataVencimento);
             contaFixa.setValor(dto.valor());
             contaFixa.setPago(false);
-
-            ContaFixa contaSalva = contaFixaRepository.save(contaFixa);
-            contasFixasCriadas.add(contaSalva);
+            contasFixasCriadas.add(contaFixa);
 
             // Calcular próxima data de vencimento baseada no tipo de recorrência
             dataVencimento = dataVencimento.plusMonths(dto.tipoRecorrencia().getMeses());
         }
 
+        // Ids de sequência: os INSERTs saem em lotes no flush, em vez de um por recorrência
+        contasFixasCriadas = contaFixaRepository.saveAll(contasFixasCriadas);
+
+        resumoMensalService.registrarAlteracao(OrigemResumo.CONTA_FIXA, contasFixasCriadas.stream()
+                .map(ContaFixa::getVencimento)
+                .toArray(LocalDate[]::new));
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+
         return contasFixasCriadas;
     }
     
@@ -230,6 +263,7 @@ public class ContaFixaService {
         
         // Cria a transação sem atualizar o saldo (já atualizamos acima)
         transacaoService.criarTransacaoSemAtualizarSaldo(transacaoDTO);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
         
         return contaFixaSalva;
     }
@@ -282,118 +316,122 @@ public class ContaFixaService {
         novaContaFixa.setPago(false);
         
         // Salva a nova conta fixa
-        return contaFixaRepository.save(novaContaFixa);
+        ContaFixa contaFixaSalva = contaFixaRepository.save(novaContaFixa);
+        resumoMensalService.registrarAlteracao(OrigemResumo.CONTA_FIXA, novoVencimento);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        return contaFixaSalva;
     }
     
     /**
-     * Exporta contas fixas para Excel
+     * Exporta contas fixas para Excel, escrevendo direto no {@code outputStream}.
+     * As linhas são lidas em lotes por id e o workbook mantém só uma janela de linhas em
+     * memória, então o consumo de heap não depende do tamanho do histórico.
      * @param mes Mês opcional para filtrar
      * @param ano Ano opcional para filtrar
-     * @return ByteArrayOutputStream com o arquivo Excel
      */
-    public ByteArrayOutputStream exportarParaExcel(Integer mes, Integer ano) throws IOException {
-        // Buscar contas fixas filtradas
-        List<ContaFixa> contasFixas;
-        
+    public void exportarParaExcel(Integer mes, Integer ano, OutputStream outputStream) throws IOException {
+        LocalDate dataInicio = INICIO_HISTORICO;
+        LocalDate dataFim = FIM_HISTORICO;
         if (mes != null && ano != null) {
             YearMonth mesAtual = YearMonth.of(ano, mes);
-            LocalDate inicioMes = mesAtual.atDay(1);
-            LocalDate fimMes = mesAtual.atEndOfMonth();
-            contasFixas = contaFixaRepository.findByVencimentoBetween(inicioMes, fimMes);
-        } else {
-            contasFixas = contaFixaRepository.findAll();
+            dataInicio = mesAtual.atDay(1);
+            dataFim = mesAtual.atEndOfMonth();
         }
-        
-        // Criar workbook
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("Débitos em Conta");
-        
-        // Estilo para cabeçalho
-        CellStyle headerStyle = workbook.createCellStyle();
-        Font headerFont = workbook.createFont();
-        headerFont.setBold(true);
-        headerFont.setFontHeightInPoints((short) 12);
-        headerStyle.setFont(headerFont);
-        headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
-        headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        headerStyle.setBorderBottom(BorderStyle.THIN);
-        headerStyle.setBorderTop(BorderStyle.THIN);
-        headerStyle.setBorderRight(BorderStyle.THIN);
-        headerStyle.setBorderLeft(BorderStyle.THIN);
-        
-        // Estilo para células de moeda
-        CellStyle currencyStyle = workbook.createCellStyle();
-        DataFormat format = workbook.createDataFormat();
-        currencyStyle.setDataFormat(format.getFormat("R$ #,##0.00"));
-        
-        // Estilo para data
-        CellStyle dateStyle = workbook.createCellStyle();
-        dateStyle.setDataFormat(format.getFormat("dd/MM/yyyy"));
-        
-        // Criar cabeçalho
-        Row headerRow = sheet.createRow(0);
-        String[] columns = {"Nome", "Categoria", "Conta", "Vencimento", "Valor", "Status"};
-        
-        for (int i = 0; i < columns.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(columns[i]);
-            cell.setCellStyle(headerStyle);
-        }
-        
-        // Preencher dados
-        int rowNum = 1;
-        BigDecimal totalGeral = BigDecimal.ZERO;
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        
-        for (ContaFixa contaFixa : contasFixas) {
-            Row row = sheet.createRow(rowNum++);
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(JANELA_LINHAS_EXCEL);
+        try (workbook) {
+            Sheet sheet = workbook.createSheet("Débitos em Conta");
             
-            row.createCell(0).setCellValue(contaFixa.getNome());
-            row.createCell(1).setCellValue(contaFixa.getCategoria() != null ? contaFixa.getCategoria().getNome() : "N/A");
-            row.createCell(2).setCellValue(contaFixa.getConta() != null ? contaFixa.getConta().getTitular() : "N/A");
+            // Estilo para cabeçalho
+            CellStyle headerStyle = workbook.createCellStyle();
+            Font headerFont = workbook.createFont();
+            headerFont.setBold(true);
+            headerFont.setFontHeightInPoints((short) 12);
+            headerStyle.setFont(headerFont);
+            headerStyle.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+            headerStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            headerStyle.setBorderBottom(BorderStyle.THIN);
+            headerStyle.setBorderTop(BorderStyle.THIN);
+            headerStyle.setBorderRight(BorderStyle.THIN);
+            headerStyle.setBorderLeft(BorderStyle.THIN);
             
-            Cell dateCell = row.createCell(3);
-            dateCell.setCellValue(contaFixa.getVencimento().format(dateFormatter));
-            dateCell.setCellStyle(dateStyle);
+            // Estilo para células de moeda
+            CellStyle currencyStyle = workbook.createCellStyle();
+            DataFormat format = workbook.createDataFormat();
+            currencyStyle.setDataFormat(format.getFormat("R$ #,##0.00"));
             
-            Cell valorCell = row.createCell(4);
-            valorCell.setCellValue(contaFixa.getValor().doubleValue());
-            valorCell.setCellStyle(currencyStyle);
+            // Estilo para data
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(format.getFormat("dd/MM/yyyy"));
             
-            row.createCell(5).setCellValue(contaFixa.isPago() ? "Pago" : "Pendente");
+            // Criar cabeçalho
+            Row headerRow = sheet.createRow(0);
+            String[] columns = {"Nome", "Categoria", "Conta", "Vencimento", "Valor", "Status"};
+            int[] larguras = {30, 20, 20, 14, 16, 12};
             
-            totalGeral = totalGeral.add(contaFixa.getValor());
-        }
-        
-        // Adicionar linha de total
-        Row totalRow = sheet.createRow(rowNum);
-        Cell totalLabelCell = totalRow.createCell(3);
-        totalLabelCell.setCellValue("TOTAL:");
-        CellStyle totalLabelStyle = workbook.createCellStyle();
-        Font totalFont = workbook.createFont();
-        totalFont.setBold(true);
-        totalLabelStyle.setFont(totalFont);
-        totalLabelCell.setCellStyle(totalLabelStyle);
-        
-        Cell totalValueCell = totalRow.createCell(4);
-        totalValueCell.setCellValue(totalGeral.doubleValue());
-        CellStyle totalCurrencyStyle = workbook.createCellStyle();
-        totalCurrencyStyle.cloneStyleFrom(currencyStyle);
-        Font totalValueFont = workbook.createFont();
-        totalValueFont.setBold(true);
-        totalCurrencyStyle.setFont(totalValueFont);
-        totalValueCell.setCellStyle(totalCurrencyStyle);
-        
-        // Ajustar largura das colunas
-        for (int i = 0; i < columns.length; i++) {
-            sheet.autoSizeColumn(i);
+            for (int i = 0; i < columns.length; i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(columns[i]);
+                cell.setCellStyle(headerStyle);
+                // Largura fixa: autoSizeColumn exigiria medir todas as linhas já descarregadas
+                sheet.setColumnWidth(i, larguras[i] * 256);
+            }
+            
+            // Preencher dados
+            int rowNum = 1;
+            BigDecimal totalGeral = BigDecimal.ZERO;
+            DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+            
+            long ultimoId = 0L;
+            List<LinhaExportacaoContaFixa> lote;
+            do {
+                lote = contaFixaRepository.buscarLoteExportacao(ultimoId, dataInicio, dataFim,
+                        PageRequest.of(0, LOTE_EXPORTACAO));
+                for (LinhaExportacaoContaFixa contaFixa : lote) {
+                    Row row = sheet.createRow(rowNum++);
+                    
+                    row.createCell(0).setCellValue(contaFixa.getNome());
+                    row.createCell(1).setCellValue(contaFixa.getCategoriaNome() != null ? contaFixa.getCategoriaNome() : "N/A");
+                    row.createCell(2).setCellValue(contaFixa.getContaTitular() != null ? contaFixa.getContaTitular() : "N/A");
+                    
+                    Cell dateCell = row.createCell(3);
+                    dateCell.setCellValue(contaFixa.getVencimento().format(dateFormatter));
+                    dateCell.setCellStyle(dateStyle);
+                    
+                    Cell valorCell = row.createCell(4);
+                    valorCell.setCellValue(contaFixa.getValor().doubleValue());
+                    valorCell.setCellStyle(currencyStyle);
+                    
+                    row.createCell(5).setCellValue(Boolean.TRUE.equals(contaFixa.getPago()) ? "Pago" : "Pendente");
+                    
+                    totalGeral = totalGeral.add(contaFixa.getValor());
+                    ultimoId = contaFixa.getId();
+                }
+            } while (lote.size() == LOTE_EXPORTACAO);
+            
+            // Adicionar linha de total
+            Row totalRow = sheet.createRow(rowNum);
+            Cell totalLabelCell = totalRow.createCell(3);
+            totalLabelCell.setCellValue("TOTAL:");
+            CellStyle totalLabelStyle = workbook.createCellStyle();
+            Font totalFont = workbook.createFont();
+            totalFont.setBold(true);
+            totalLabelStyle.setFont(totalFont);
+            totalLabelCell.setCellStyle(totalLabelStyle);
+            
+            Cell totalValueCell = totalRow.createCell(4);
+            totalValueCell.setCellValue(totalGeral.doubleValue());
+            CellStyle totalCurrencyStyle = workbook.createCellStyle();
+            totalCurrencyStyle.cloneStyleFrom(currencyStyle);
+            Font totalValueFont = workbook.createFont();
+            totalValueFont.setBold(true);
+            totalCurrencyStyle.setFont(totalValueFont);
+            totalValueCell.setCellStyle(totalCurrencyStyle);
+            
+            workbook.write(outputStream);
+        } finally {
+            // Remove os arquivos temporários das linhas já descarregadas
+            workbook.dispose();
         }
-        
-        // Escrever no ByteArrayOutputStream
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        workbook.write(outputStream);
-        workbook.close();
-        
-        return outputStream;
     }
 }
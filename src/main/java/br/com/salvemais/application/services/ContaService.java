@@ -5,6 +5,7 @@ import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -22,6 +23,8 @@ import br.com.salvemais.infrastructure.repositories.ContaRepository;
 import br.com.salvemais.infrastructure.repositories.FaturaRepository;
 import br.com.salvemais.infrastructure.repositories.ReservaEmergenciaRepository;
 import br.com.salvemais.infrastructure.repositories.TransacaoRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 
 @Service
@@ -41,6 +44,12 @@ public class ContaService {
 
     @Autowired
     private ReservaEmergenciaRepository reservaEmergenciaRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
     
     public Conta getOne(Long id) {
         return contaRepository.findById(id).orElse(null);
@@ -59,7 +68,9 @@ public class ContaService {
     }
 
     public Conta create(Conta acc) {
-        return contaRepository.save(acc);
+        Conta salva = contaRepository.save(acc);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        return salva;
     }
 
     public Conta update(Long id, Conta conta) {
@@ -72,7 +83,9 @@ public class ContaService {
         existingConta.setTaxaRendimento(conta.getTaxaRendimento());
         existingConta.setDescricao(conta.getDescricao());
         
-        return contaRepository.save(existingConta);
+        Conta salva = contaRepository.save(existingConta);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        return salva;
     }
 
     public Conta findOrFail(Long id) {
@@ -99,6 +112,7 @@ public class ContaService {
         }
 
         contaRepository.delete(conta);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
     }
 
     /**
@@ -201,8 +215,7 @@ public class ContaService {
         }
         
         // Atualiza os saldos
-        atualizarSaldoDebito(contaOrigem, valor);
-        atualizarSaldoCredito(contaDestino, valor);
+        transferirSaldo(contaOrigem, contaDestino, valor);
         
         // Registra as transações
         TransacaoInputDTO transacaoSaidaDTO = new TransacaoInputDTO(
@@ -311,24 +324,67 @@ public class ContaService {
     
  
     
+    /**
+     * Move um valor do saldo de uma conta para outra, sem registrar transações.
+     * As duas contas são atualizadas em ordem crescente de id, então transferências
+     * concorrentes em sentidos opostos não entram em deadlock.
+     * Deve ser chamado dentro de uma transação.
+     */
+    public void transferirSaldo(Conta origem, Conta destino, BigDecimal valor) {
+        if (origem.getId() < destino.getId()) {
+            atualizarSaldoDebito(origem, valor);
+            atualizarSaldoCredito(destino, valor);
+        } else {
+            atualizarSaldoCredito(destino, valor);
+            atualizarSaldoDebito(origem, valor);
+        }
+    }
+
+    /**
+     * Aplica ao saldo um movimento já consolidado (positivo credita, negativo debita),
+     * sem registrar transações. Lança {@link TransacaoException} se o débito deixaria
+     * o saldo negativo. Deve ser chamado dentro de uma transação.
+     */
+    public void movimentarSaldo(Conta conta, BigDecimal delta) {
+        if (delta.signum() > 0) {
+            atualizarSaldoCredito(conta, delta);
+        } else if (delta.signum() < 0) {
+            atualizarSaldoDebito(conta, delta.negate());
+        }
+    }
+
     // Métodos auxiliares para atualização de saldo
+    //
+    // O saldo é alterado com um UPDATE atômico (saldo = saldo ± valor) em vez de ler,
+    // calcular em Java e salvar, o que perdia atualizações com requisições simultâneas.
+    // A linha fica bloqueada até o fim da transação; a entidade é recarregada em seguida
+    // para refletir o saldo gravado.
     
     /**
      * Atualiza o saldo de uma conta adicionando um valor (crédito)
      */
     private void atualizarSaldoCredito(Conta conta, BigDecimal valor) {
-        conta.setSaldo(conta.getSaldo().add(valor));
-        contaRepository.save(conta);
+        if (contaRepository.creditarSaldo(conta.getId(), valor) == 0) {
+            throw new ResourceNotFoundException("Conta não encontrada com ID: " + conta.getId());
+        }
+        recarregarSaldo(conta);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
     }
     
     /**
      * Atualiza o saldo de uma conta subtraindo um valor (débito)
      */
     private void atualizarSaldoDebito(Conta conta, BigDecimal valor) {
-        if (conta.getSaldo().compareTo(valor) < 0) {
+        if (contaRepository.debitarSaldo(conta.getId(), valor) == 0) {
             throw new TransacaoException("Saldo insuficiente na conta");
         }
-        conta.setSaldo(conta.getSaldo().subtract(valor));
-        contaRepository.save(conta);
+        recarregarSaldo(conta);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+    }
+
+    private void recarregarSaldo(Conta conta) {
+        if (entityManager.contains(conta)) {
+            entityManager.refresh(conta);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.infrastructure.context.TenantContext;
+
+/**
+ * Publicado pelos serviços de escrita quando saldos, lançamentos, parcelas, categorias
+ * ou a reserva de emergência de um tenant mudam. Invalida o {@link DashboardCacheService}.
+ *
+ * @param tenant domínio (schema) do tenant alterado
+ */
+public record DadosFinanceirosAlteradosEvent(String tenant) {
+
+    public static DadosFinanceirosAlteradosEvent doTenantAtual() {
+        return new DadosFinanceirosAlteradosEvent(TenantContext.getCurrentTenant());
+    }
+}
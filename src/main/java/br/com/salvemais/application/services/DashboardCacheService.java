@@ -0,0 +1,70 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.infrastructure.context.TenantContext;
+import br.com.salvemais.util.TtlCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Cache das respostas do dashboard por tenant e recurso (ex.: {@code summary:2025-03}).
+ *
+ * Cada resposta guarda o ETag calculado do JSON serializado, então um
+ * {@code If-None-Match} igual devolve 304 sem consultar o banco enquanto a entrada
+ * estiver no cache. As entradas do tenant são descartadas a cada
+ * {@link DadosFinanceirosAlteradosEvent}; o TTL cobre escritas feitas em outra instância.
+ */
+@Service
+public class DashboardCacheService {
+
+    public record Resposta<T>(T corpo, String etag) {
+    }
+
+    private record Chave(String tenant, String recurso) {
+    }
+
+    private final TtlCache<Chave, Resposta<?>> cache;
+    private final ObjectMapper objectMapper;
+
+    public DashboardCacheService(ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.cache.dashboard.ttl-seconds:60}") long ttlSeconds,
+                                 @Value("${app.cache.dashboard.max-entries:20000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.cache = new TtlCache<>("salvemais.cache.dashboard",
+                Duration.ofSeconds(ttlSeconds), maxEntries, meterRegistry);
+    }
+
+    /**
+     * Devolve a resposta em cache do recurso para o tenant atual ou a calcula com o {@code loader}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Resposta<T> obter(String recurso, Supplier<T> loader) {
+        Chave chave = new Chave(TenantContext.getCurrentTenant(), recurso);
+        return (Resposta<T>) cache.get(chave, c -> {
+            T corpo = loader.get();
+            return Optional.of(new Resposta<>(corpo, calcularEtag(corpo)));
+        }).orElseThrow();
+    }
+
+    @EventListener
+    public void onDadosFinanceirosAlterados(DadosFinanceirosAlteradosEvent event) {
+        cache.invalidateIf((chave, resposta) -> chave.tenant().equals(event.tenant()));
+    }
+
+    private String calcularEtag(Object corpo) {
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(corpo)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao serializar resposta do dashboard", e);
+        }
+    }
+}
@@ -5,6 +5,8 @@ import br.com.salvemais.domain.entities.Compra;
 import br.com.salvemais.domain.entities.CompraDebito;
 import br.com.salvemais.domain.entities.ContaFixa;
 import br.com.salvemais.domain.entities.Fatura;
+import br.com.salvemais.domain.entities.ResumoMensal;
+import br.com.salvemais.domain.enums.OrigemResumo;
 import br.com.salvemais.infrastructure.repositories.CategoriaRepository;
 import br.com.salvemais.infrastructure.repositories.CompraDebitoRepository;
 import br.com.salvemais.infrastructure.repositories.ContaFixaRepository;
@@ -18,6 +20,7 @@ import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -29,15 +32,18 @@ public class DashboardCategoryExpenseService {
     private final CategoriaRepository categoriaRepository;
     private final FaturaRepository faturaRepository;
     private final CompraDebitoRepository compraDebitoRepository;
+    private final ResumoMensalService resumoMensalService;
 
     public DashboardCategoryExpenseService(ContaFixaRepository contaFixaRepository,
                                            CategoriaRepository categoriaRepository,
                                            FaturaRepository faturaRepository,
-                                           CompraDebitoRepository compraDebitoRepository) {
+                                           CompraDebitoRepository compraDebitoRepository,
+                                           ResumoMensalService resumoMensalService) {
         this.contaFixaRepository = contaFixaRepository;
         this.categoriaRepository = categoriaRepository;
         this.faturaRepository = faturaRepository;
         this.compraDebitoRepository = compraDebitoRepository;
+        this.resumoMensalService = resumoMensalService;
     }
 
     public List<CategoryExpenseDTO> getExpensesByCategory(Integer mes, Integer ano) {
@@ -45,23 +51,43 @@ public class DashboardCategoryExpenseService {
         LocalDate inicioMesAtual = mesAtual.atDay(1);
         LocalDate fimMesAtual = mesAtual.atEndOfMonth();
 
-        Map<Categoria, BigDecimal> gastosPorCategoria = new HashMap<>();
+        Map<Long, BigDecimal> gastosPorCategoria = new HashMap<>();
+        Map<Long, Categoria> categorias = new LinkedHashMap<>();
 
-        for (ContaFixa conta : contaFixaRepository.findByVencimentoBetween(inicioMesAtual, fimMesAtual)) {
-            addExpense(gastosPorCategoria, conta.getCategoria(), conta.getValor());
-        }
+        if (resumoMensalService.isLeituraHabilitada()) {
+            // Contas fixas e compras no débito já consolidadas por categoria em resumo_mensal
+            List<ResumoMensal> linhas = resumoMensalService.listar(mesAtual,
+                    List.of(OrigemResumo.CONTA_FIXA, OrigemResumo.COMPRA_DEBITO));
+            List<Long> categoriaIds = linhas.stream()
+                    .map(ResumoMensal::getCategoriaId)
+                    .filter(id -> id != null)
+                    .distinct()
+                    .toList();
+            if (!categoriaIds.isEmpty()) {
+                for (Categoria categoria : categoriaRepository.findAllById(categoriaIds)) {
+                    categorias.put(categoria.getId(), categoria);
+                }
+            }
+            for (ResumoMensal linha : linhas) {
+                addExpense(gastosPorCategoria, categorias, categorias.get(linha.getCategoriaId()), linha.getTotal());
+            }
+        } else {
+            for (ContaFixa conta : contaFixaRepository.findByVencimentoBetween(inicioMesAtual, fimMesAtual)) {
+                addExpense(gastosPorCategoria, categorias, conta.getCategoria(), conta.getValor());
+            }
 
-        for (CompraDebito compra : compraDebitoRepository.findByDataCompraBetween(inicioMesAtual, fimMesAtual)) {
-            addExpense(gastosPorCategoria, compra.getCategoria(), compra.getValor());
+            for (CompraDebito compra : compraDebitoRepository.findByDataCompraBetween(inicioMesAtual, fimMesAtual)) {
+                addExpense(gastosPorCategoria, categorias, compra.getCategoria(), compra.getValor());
+            }
         }
 
         Categoria categoriaCartao = categoriaRepository.findByNome("Cartões de Crédito");
-        for (Fatura fatura : faturaRepository.findByDataVencimentoBetween(inicioMesAtual, fimMesAtual)) {
+        for (Fatura fatura : faturaRepository.findComComprasByDataVencimentoBetween(inicioMesAtual, fimMesAtual)) {
             if (categoriaCartao != null) {
-                addExpense(gastosPorCategoria, categoriaCartao, fatura.getValorTotal());
+                addExpense(gastosPorCategoria, categorias, categoriaCartao, fatura.getValorTotal());
             } else {
                 for (Compra compra : fatura.getCompras()) {
-                    addExpense(gastosPorCategoria, compra.getCategoria(), compra.getValor());
+                    addExpense(gastosPorCategoria, categorias, compra.getCategoria(), compra.getValor());
                 }
             }
         }
@@ -71,8 +97,8 @@ public class DashboardCategoryExpenseService {
 
         return gastosPorCategoria.entrySet().stream()
                 .map(entry -> new CategoryExpenseDTO(
-                        entry.getKey().getId(),
-                        entry.getKey().getNome(),
+                        entry.getKey(),
+                        categorias.get(entry.getKey()).getNome(),
                         entry.getValue(),
                         calcularPercentual(entry.getValue(), totalGastos)
                 ))
@@ -80,13 +106,15 @@ public class DashboardCategoryExpenseService {
                 .collect(Collectors.toList());
     }
 
-    private void addExpense(Map<Categoria, BigDecimal> gastosPorCategoria, Categoria categoria, BigDecimal valor) {
+    private void addExpense(Map<Long, BigDecimal> gastosPorCategoria, Map<Long, Categoria> categorias,
+                            Categoria categoria, BigDecimal valor) {
         if (categoria == null) {
             return;
         }
+        categorias.putIfAbsent(categoria.getId(), categoria);
         gastosPorCategoria.put(
-                categoria,
-                gastosPorCategoria.getOrDefault(categoria, BigDecimal.ZERO).add(valor)
+                categoria.getId(),
+                gastosPorCategoria.getOrDefault(categoria.getId(), BigDecimal.ZERO).add(valor)
         );
     }
 
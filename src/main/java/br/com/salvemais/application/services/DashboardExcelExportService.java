@@ -8,6 +8,7 @@ import br.com.salvemais.infrastructure.repositories.CompraParceladaRepository;
 import br.com.salvemais.web.api.dto.CategoryExpenseDTO;
 import br.com.salvemais.web.api.dto.DashboardSummaryDTO;
 import br.com.salvemais.web.api.dto.MonthlyExpenseDTO;
+import br.com.salvemais.util.PeriodoMensal;
 import org.apache.poi.ss.usermodel.BorderStyle;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -19,22 +20,28 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class DashboardExcelExportService {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final int JANELA_LINHAS = 100;
 
     private final DashboardOverviewService dashboardOverviewService;
     private final DashboardCategoryExpenseService dashboardCategoryExpenseService;
@@ -57,8 +64,13 @@ public class DashboardExcelExportService {
         this.compraParceladaRepository = compraParceladaRepository;
     }
 
-    public byte[] generateDashboardExcel(Integer mes, Integer ano) throws IOException {
-        try (Workbook workbook = new XSSFWorkbook()) {
+    /**
+     * Gera o Excel do dashboard direto no {@code outputStream}, com um workbook que mantém
+     * só uma janela de linhas em memória (as demais vão para arquivo temporário).
+     */
+    public void generateDashboardExcel(Integer mes, Integer ano, OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(JANELA_LINHAS);
+        try (workbook) {
             CellStyle headerStyle = createHeaderStyle(workbook);
             CellStyle titleStyle = createTitleStyle(workbook);
             CellStyle currencyStyle = createCurrencyStyle(workbook);
@@ -71,16 +83,16 @@ public class DashboardExcelExportService {
                     ano != null ? ano : LocalDate.now().getYear()
             );
             List<Conta> contas = contaService.findAllAccounts(PageRequest.of(0, 100)).getContent();
-            List<Compra> compras = compraRepository.findByDataMesEAno(
-                    PageRequest.of(0, 10, Sort.by("data").descending()),
+            PeriodoMensal periodo = PeriodoMensal.de(
                     mes != null ? mes : LocalDate.now().getMonthValue(),
                     ano != null ? ano : LocalDate.now().getYear()
+            );
+            List<Compra> compras = compraRepository.findByDataNoPeriodo(
+                    PageRequest.of(0, 10, Sort.by("data").descending()),
+                    periodo.inicio(),
+                    periodo.fimExclusivo()
             ).getContent();
-            List<CompraParcelada> comprasParceladas = compraParceladaRepository.findAll()
-                    .stream()
-                    .filter(cp -> cp.getParcelas() != null && cp.getParcelas().stream().anyMatch(p -> !p.isPaga()))
-                    .limit(10)
-                    .toList();
+            List<CompraParcelada> comprasParceladas = buscarParceladasPendentes(10);
 
             createSummarySheet(workbook, summary, headerStyle, titleStyle, currencyStyle);
             createCategoriesSheet(workbook, categories, headerStyle, titleStyle, currencyStyle, percentStyle);
@@ -89,15 +101,31 @@ public class DashboardExcelExportService {
             createInstallmentsSheet(workbook, comprasParceladas, headerStyle, titleStyle, currencyStyle, dateStyle);
             createTrendSheet(workbook, monthlyTrend, headerStyle, titleStyle, currencyStyle);
 
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             workbook.write(outputStream);
-            return outputStream.toByteArray();
+        } finally {
+            workbook.dispose();
         }
     }
 
+    /**
+     * Compras parceladas pendentes mais recentes: pagina os ids no banco e só então busca as parcelas,
+     * porque o JOIN FETCH de uma coleção com limite seria paginado em memória
+     */
+    private List<CompraParcelada> buscarParceladasPendentes(int quantidade) {
+        List<Long> ids = compraParceladaRepository.findIdsComParcelasPendentes(
+                PageRequest.of(0, quantidade, Sort.by(Sort.Direction.DESC, "dataCompra", "id")));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, CompraParcelada> porId = compraParceladaRepository.findComParcelasByIdIn(ids).stream()
+                .collect(Collectors.toMap(CompraParcelada::getId, Function.identity()));
+        // Uma compra excluída entre as duas consultas some do mapa
+        return ids.stream().map(porId::get).filter(Objects::nonNull).toList();
+    }
+
     private void createSummarySheet(Workbook workbook, DashboardSummaryDTO summary,
                                     CellStyle headerStyle, CellStyle titleStyle, CellStyle currencyStyle) {
-        Sheet sheet = workbook.createSheet("Resumo Financeiro");
+        Sheet sheet = createSheet(workbook, "Resumo Financeiro");
         int rowNum = 0;
 
         Row titleRow = sheet.createRow(rowNum++);
@@ -165,7 +193,7 @@ public class DashboardExcelExportService {
     private void createCategoriesSheet(Workbook workbook, List<CategoryExpenseDTO> categories,
                                        CellStyle headerStyle, CellStyle titleStyle,
                                        CellStyle currencyStyle, CellStyle percentStyle) {
-        Sheet sheet = workbook.createSheet("Despesas por Categoria");
+        Sheet sheet = createSheet(workbook, "Despesas por Categoria");
         int rowNum = 0;
 
         Row titleRow = sheet.createRow(rowNum++);
@@ -201,7 +229,7 @@ public class DashboardExcelExportService {
 
     private void createAccountsSheet(Workbook workbook, List<Conta> contas,
                                      CellStyle headerStyle, CellStyle titleStyle, CellStyle currencyStyle) {
-        Sheet sheet = workbook.createSheet("Contas e Saldos");
+        Sheet sheet = createSheet(workbook, "Contas e Saldos");
         int rowNum = 0;
 
         Row titleRow = sheet.createRow(rowNum++);
@@ -238,7 +266,7 @@ public class DashboardExcelExportService {
     private void createTransactionsSheet(Workbook workbook, List<Compra> compras,
                                          CellStyle headerStyle, CellStyle titleStyle,
                                          CellStyle currencyStyle, CellStyle dateStyle) {
-        Sheet sheet = workbook.createSheet("Transações Recentes");
+        Sheet sheet = createSheet(workbook, "Transações Recentes");
         int rowNum = 0;
 
         Row titleRow = sheet.createRow(rowNum++);
@@ -285,7 +313,7 @@ public class DashboardExcelExportService {
     private void createInstallmentsSheet(Workbook workbook, List<CompraParcelada> compras,
                                          CellStyle headerStyle, CellStyle titleStyle,
                                          CellStyle currencyStyle, CellStyle dateStyle) {
-        Sheet sheet = workbook.createSheet("Faturas");
+        Sheet sheet = createSheet(workbook, "Faturas");
         int rowNum = 0;
 
         Row titleRow = sheet.createRow(rowNum++);
@@ -323,7 +351,7 @@ public class DashboardExcelExportService {
 
     private void createTrendSheet(Workbook workbook, List<MonthlyExpenseDTO> trends,
                                   CellStyle headerStyle, CellStyle titleStyle, CellStyle currencyStyle) {
-        Sheet sheet = workbook.createSheet("Tendência Mensal");
+        Sheet sheet = createSheet(workbook, "Tendência Mensal");
         int rowNum = 0;
 
         Row titleRow = sheet.createRow(rowNum++);
@@ -363,6 +391,15 @@ public class DashboardExcelExportService {
         }
     }
 
+    private Sheet createSheet(Workbook workbook, String name) {
+        Sheet sheet = workbook.createSheet(name);
+        if (sheet instanceof SXSSFSheet streamingSheet) {
+            // autoSizeColumn precisa acompanhar as larguras antes de as linhas saírem da janela
+            streamingSheet.trackAllColumnsForAutoSizing();
+        }
+        return sheet;
+    }
+
     private CellStyle createHeaderStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
@@ -3,11 +3,8 @@ package br.com.salvemais.application.services;
 import br.com.salvemais.domain.entities.Categoria;
 import br.com.salvemais.domain.entities.Compra;
 import br.com.salvemais.domain.entities.CompraDebito;
-import br.com.salvemais.domain.entities.Conta;
 import br.com.salvemais.domain.entities.ContaFixa;
 import br.com.salvemais.domain.entities.Fatura;
-import br.com.salvemais.domain.entities.Parcela;
-import br.com.salvemais.domain.entities.Provento;
 import br.com.salvemais.domain.entities.ReservaEmergencia;
 import br.com.salvemais.domain.enums.TipoConta;
 import br.com.salvemais.infrastructure.repositories.CompraDebitoRepository;
@@ -16,6 +13,7 @@ import br.com.salvemais.infrastructure.repositories.ContaRepository;
 import br.com.salvemais.infrastructure.repositories.CategoriaRepository;
 import br.com.salvemais.infrastructure.repositories.FaturaRepository;
 import br.com.salvemais.infrastructure.repositories.ParcelaRepository;
+import br.com.salvemais.infrastructure.repositories.ParcelaRepository.ResumoParcelas;
 import br.com.salvemais.infrastructure.repositories.ProventoRepository;
 import br.com.salvemais.infrastructure.repositories.ReservaEmergenciaRepository;
 import br.com.salvemais.web.api.dto.BudgetRuleDTO;
@@ -28,7 +26,6 @@ import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
 import java.util.EnumMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -67,10 +64,7 @@ public class DashboardOverviewService {
     }
 
     public DashboardSummaryDTO getSummary(Integer mes, Integer ano) {
-        BigDecimal saldoTotal = contaRepository.findAll().stream()
-                .filter(conta -> !TipoConta.RESERVA_EMERGENCIA.equals(conta.getTipo()))
-                .map(Conta::getSaldo)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal saldoTotal = contaRepository.somarSaldoExcetoTipo(TipoConta.RESERVA_EMERGENCIA);
 
         YearMonth mesAtual = mes != null && ano != null ? YearMonth.of(ano, mes) : YearMonth.now();
         LocalDate inicioMesAtual = mesAtual.atDay(1);
@@ -162,7 +156,7 @@ public class DashboardOverviewService {
             }
         }
 
-        for (Fatura fatura : faturaRepository.findByDataVencimentoBetween(inicioMesAtual, fimMesAtual)) {
+        for (Fatura fatura : faturaRepository.findComComprasByDataVencimentoBetween(inicioMesAtual, fimMesAtual)) {
             for (Compra compra : fatura.getCompras()) {
                 if (compra.getCategoria() != null) {
                     Categoria.TipoCategoria tipo = compra.getCategoria().getTipo();
@@ -204,23 +198,16 @@ public class DashboardOverviewService {
     }
 
     private DashboardSummaryDTO.ParcelasResumoDTO calcularResumoParcelasMes(LocalDate inicioMes, LocalDate fimMes) {
-        List<Parcela> parcelasMes = parcelaRepository.findByDataVencimentoBetweenAtivas(inicioMes, fimMes);
-        long totalParcelasAtivas = parcelaRepository.findParcelasNaoPagasAtivas().size();
-        long parcelasPagasMes = parcelasMes.stream().filter(Parcela::isPaga).count();
-        long parcelasNaoPagasMes = parcelasMes.stream().filter(p -> !p.isPaga()).count();
-        BigDecimal valorTotalParcelasMes = parcelasMes.stream()
-                .map(Parcela::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal valorPagoMes = parcelasMes.stream()
-                .filter(Parcela::isPaga)
-                .map(Parcela::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        ResumoParcelas resumoMes = parcelaRepository.resumirPorDataVencimentoAtivas(inicioMes, fimMes);
+        long totalParcelasAtivas = parcelaRepository.countParcelasNaoPagasAtivas();
+        BigDecimal valorTotalParcelasMes = resumoMes.getValorTotal();
+        BigDecimal valorPagoMes = resumoMes.getValorPago();
         BigDecimal valorRestanteMes = valorTotalParcelasMes.subtract(valorPagoMes);
 
         return new DashboardSummaryDTO.ParcelasResumoDTO(
                 totalParcelasAtivas,
-                parcelasPagasMes,
-                parcelasNaoPagasMes,
+                resumoMes.getPagas(),
+                resumoMes.getNaoPagas(),
                 valorTotalParcelasMes,
                 valorPagoMes,
                 valorRestanteMes
@@ -228,22 +215,15 @@ public class DashboardOverviewService {
     }
 
     private BigDecimal sumProventos(LocalDate inicio, LocalDate fim) {
-        return proventoRepository.findByDataBetween(inicio, fim).stream()
-                .map(Provento::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return proventoRepository.somarValorPorPeriodo(inicio, fim);
     }
 
     private BigDecimal sumDespesas(LocalDate inicio, LocalDate fim) {
-        BigDecimal despesasFixas = contaFixaRepository.findByVencimentoBetween(inicio, fim).stream()
-                .map(ContaFixa::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal despesasFaturas = faturaRepository.findByDataVencimentoBetween(inicio, fim).stream()
-                .map(Fatura::getValorTotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal despesasComprasDebito = compraDebitoRepository.findByDataCompraBetween(inicio, fim).stream()
-                .map(CompraDebito::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        return despesasFixas.add(despesasFaturas).add(despesasComprasDebito);
+        BigDecimal despesasFixas = contaFixaRepository.somarValorPorVencimento(inicio, fim);
+        BigDecimal despesasFaturas = faturaRepository.somarValorTotalPorVencimento(inicio, fim);
+        BigDecimal despesasComprasDebito = compraDebitoRepository.calcularTotalPorPeriodo(inicio, fim);
+        return despesasFixas.add(despesasFaturas)
+                .add(despesasComprasDebito != null ? despesasComprasDebito : BigDecimal.ZERO);
     }
 
     private double calcularPercentual(BigDecimal valor, BigDecimal total) {
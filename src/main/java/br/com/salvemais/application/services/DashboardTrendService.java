@@ -1,18 +1,9 @@
 package br.com.salvemais.application.services;
 
-import br.com.salvemais.domain.entities.Categoria;
-import br.com.salvemais.domain.entities.CompraDebito;
-import br.com.salvemais.domain.entities.Conta;
-import br.com.salvemais.domain.entities.ContaFixa;
-import br.com.salvemais.domain.entities.Fatura;
-import br.com.salvemais.domain.entities.Provento;
+import br.com.salvemais.application.services.MonthlyTrendEngine.TotaisDoMes;
 import br.com.salvemais.domain.entities.ReservaEmergencia;
 import br.com.salvemais.domain.enums.TipoConta;
-import br.com.salvemais.infrastructure.repositories.CompraDebitoRepository;
-import br.com.salvemais.infrastructure.repositories.ContaFixaRepository;
 import br.com.salvemais.infrastructure.repositories.ContaRepository;
-import br.com.salvemais.infrastructure.repositories.FaturaRepository;
-import br.com.salvemais.infrastructure.repositories.ProventoRepository;
 import br.com.salvemais.infrastructure.repositories.ReservaEmergenciaRepository;
 import br.com.salvemais.web.api.dto.MonthlyExpenseDTO;
 import br.com.salvemais.web.api.dto.VariationDataDTO;
@@ -20,7 +11,6 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -32,71 +22,46 @@ import java.util.Optional;
 public class DashboardTrendService {
 
     private final ContaRepository contaRepository;
-    private final ProventoRepository proventoRepository;
-    private final ContaFixaRepository contaFixaRepository;
-    private final FaturaRepository faturaRepository;
     private final ReservaEmergenciaRepository reservaEmergenciaRepository;
-    private final CompraDebitoRepository compraDebitoRepository;
+    private final MonthlyTrendEngine monthlyTrendEngine;
 
     public DashboardTrendService(ContaRepository contaRepository,
-                                 ProventoRepository proventoRepository,
-                                 ContaFixaRepository contaFixaRepository,
-                                 FaturaRepository faturaRepository,
                                  ReservaEmergenciaRepository reservaEmergenciaRepository,
-                                 CompraDebitoRepository compraDebitoRepository) {
+                                 MonthlyTrendEngine monthlyTrendEngine) {
         this.contaRepository = contaRepository;
-        this.proventoRepository = proventoRepository;
-        this.contaFixaRepository = contaFixaRepository;
-        this.faturaRepository = faturaRepository;
         this.reservaEmergenciaRepository = reservaEmergenciaRepository;
-        this.compraDebitoRepository = compraDebitoRepository;
+        this.monthlyTrendEngine = monthlyTrendEngine;
     }
 
     public List<MonthlyExpenseDTO> getMonthlyExpenseTrend(int meses) {
-        List<MonthlyExpenseDTO> result = new ArrayList<>();
+        if (meses <= 0) {
+            return new ArrayList<>();
+        }
+
         DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("MMM", Locale.getDefault());
 
         YearMonth mesAtual = YearMonth.now();
 
-        for (int i = meses - 1; i >= 0; i--) {
-            YearMonth targetMonth = mesAtual.minusMonths(i);
-            LocalDate inicioMes = targetMonth.atDay(1);
-            LocalDate fimMes = targetMonth.atEndOfMonth();
-
-            BigDecimal receitas = sumProventos(inicioMes, fimMes);
-            BigDecimal despesasTotal = sumDespesas(inicioMes, fimMes);
-
-            result.add(new MonthlyExpenseDTO(
-                    inicioMes.format(monthFormatter),
-                    inicioMes,
-                    despesasTotal,
-                    receitas
-            ));
-        }
-
-        return result;
+        return toMonthlyExpenses(monthlyTrendEngine.calcular(mesAtual.minusMonths(meses - 1), mesAtual), monthFormatter);
     }
 
     public List<MonthlyExpenseDTO> getMonthlyExpenseTrendByYear(int year) {
-        List<MonthlyExpenseDTO> result = new ArrayList<>();
         DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("yyyy-MM");
 
-        for (int month = 1; month <= 12; month++) {
-            YearMonth targetMonth = YearMonth.of(year, month);
-            LocalDate inicioMes = targetMonth.atDay(1);
-            LocalDate fimMes = targetMonth.atEndOfMonth();
-
-            BigDecimal receitas = sumProventos(inicioMes, fimMes);
-            BigDecimal despesasTotal = sumDespesas(inicioMes, fimMes);
+        return toMonthlyExpenses(monthlyTrendEngine.calcular(YearMonth.of(year, 1), YearMonth.of(year, 12)), monthFormatter);
+    }
 
+    private List<MonthlyExpenseDTO> toMonthlyExpenses(List<TotaisDoMes> resumos, DateTimeFormatter monthFormatter) {
+        List<MonthlyExpenseDTO> result = new ArrayList<>();
+        for (TotaisDoMes resumo : resumos) {
+            var inicioMes = resumo.mes().atDay(1);
             result.add(new MonthlyExpenseDTO(
                     inicioMes.format(monthFormatter),
                     inicioMes,
-                    despesasTotal,
-                    receitas
+                    resumo.despesas(),
+                    resumo.receitas()
             ));
         }
-
         return result;
     }
 
@@ -111,21 +76,17 @@ public class DashboardTrendService {
         }
         YearMonth mesAnterior = mesAtual.minusMonths(1);
 
-        LocalDate inicioMesAtual = mesAtual.atDay(1);
-        LocalDate fimMesAtual = mesAtual.atEndOfMonth();
-        LocalDate inicioMesAnterior = mesAnterior.atDay(1);
-        LocalDate fimMesAnterior = mesAnterior.atEndOfMonth();
+        BigDecimal saldoTotalAtual = contaRepository.somarSaldoExcetoTipo(TipoConta.RESERVA_EMERGENCIA);
 
-        BigDecimal saldoTotalAtual = contaRepository.findAll().stream()
-                .filter(conta -> !TipoConta.RESERVA_EMERGENCIA.equals(conta.getTipo()))
-                .map(Conta::getSaldo)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        List<TotaisDoMes> resumos = monthlyTrendEngine.calcular(mesAnterior, mesAtual);
+        TotaisDoMes resumoAnterior = resumos.get(0);
+        TotaisDoMes resumoAtual = resumos.get(1);
 
-        BigDecimal receitasAtual = sumProventos(inicioMesAtual, fimMesAtual);
-        BigDecimal despesasAtual = sumDespesas(inicioMesAtual, fimMesAtual);
+        BigDecimal receitasAtual = resumoAtual.receitas();
+        BigDecimal despesasAtual = resumoAtual.despesas();
 
-        BigDecimal receitasAnterior = sumProventos(inicioMesAnterior, fimMesAnterior);
-        BigDecimal despesasAnterior = sumDespesas(inicioMesAnterior, fimMesAnterior);
+        BigDecimal receitasAnterior = resumoAnterior.receitas();
+        BigDecimal despesasAnterior = resumoAnterior.despesas();
         BigDecimal saldoAnterior = receitasAnterior.subtract(despesasAnterior);
 
         variations.add(createVariation("Saldo Total", saldoTotalAtual, saldoAnterior, "account_balance_wallet"));
@@ -159,28 +120,6 @@ public class DashboardTrendService {
         return variations;
     }
 
-    private BigDecimal sumProventos(LocalDate inicio, LocalDate fim) {
-        return proventoRepository.findByDataBetween(inicio, fim).stream()
-                .map(Provento::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
-    private BigDecimal sumDespesas(LocalDate inicio, LocalDate fim) {
-        BigDecimal despesasFixas = contaFixaRepository.findByVencimentoBetween(inicio, fim).stream()
-                .map(ContaFixa::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal despesasFaturas = faturaRepository.findByDataVencimentoBetween(inicio, fim).stream()
-                .map(Fatura::getValorTotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal despesasComprasDebito = compraDebitoRepository.findByDataCompraBetween(inicio, fim).stream()
-                .map(CompraDebito::getValor)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        return despesasFixas.add(despesasFaturas).add(despesasComprasDebito);
-    }
-
     private VariationDataDTO createVariation(String metric, BigDecimal currentValue, BigDecimal previousValue, String icon) {
         BigDecimal variation = currentValue.subtract(previousValue);
         BigDecimal variationPercent = BigDecimal.ZERO;
@@ -0,0 +1,194 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.EmailOutbox;
+import br.com.salvemais.domain.enums.StatusEmailOutbox;
+import br.com.salvemais.infrastructure.repositories.EmailOutboxRepository;
+import br.com.salvemais.util.LimitadorTaxa;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Fila de saída de e-mails ({@code email_outbox}).
+ *
+ * Quem precisa enviar grava na fila com {@link #enfileirar}; {@link #processarFila()} roda
+ * periodicamente, reserva um lote de e-mails prontos, envia respeitando o limite de envios
+ * por segundo do servidor SMTP e registra o resultado. Falhas voltam para a fila com espera
+ * exponencial até {@code app.mail.outbox.max-tentativas}. Um e-mail reservado por um envio
+ * que não terminou (queda da instância) volta a ser elegível quando a reserva expira.
+ */
+@Service
+public class EmailOutboxService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxService.class);
+
+    private static final Duration RESERVA_ENVIO = Duration.ofMinutes(10);
+    private static final Duration ESPERA_MAXIMA = Duration.ofHours(6);
+    private static final int TAMANHO_MAXIMO_ERRO = 1000;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final LimitadorTaxa limitadorSmtp;
+    private final double maxPorSegundo;
+    private final String hostSmtp;
+    private final String mailFrom;
+    private final String mailFromName;
+    private final int maxTentativas;
+    private final Duration esperaInicial;
+    private final int tamanhoLote;
+    private final Duration tempoMaximoPorExecucao;
+
+    public EmailOutboxService(EmailOutboxRepository emailOutboxRepository,
+                              JavaMailSender mailSender,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${spring.mail.host:}") String hostSmtp,
+                              @Value("${app.mail.from}") String mailFrom,
+                              @Value("${app.mail.from.name}") String mailFromName,
+                              @Value("${app.mail.outbox.max-por-segundo:5}") double maxPorSegundo,
+                              @Value("${app.mail.outbox.max-tentativas:6}") int maxTentativas,
+                              @Value("${app.mail.outbox.espera-inicial-segundos:60}") long esperaInicialSegundos,
+                              @Value("${app.mail.outbox.tamanho-lote:100}") int tamanhoLote,
+                              @Value("${app.mail.outbox.tempo-maximo-ms:10000}") long tempoMaximoMs) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailSender = mailSender;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.limitadorSmtp = new LimitadorTaxa(maxPorSegundo);
+        this.maxPorSegundo = maxPorSegundo;
+        this.hostSmtp = hostSmtp;
+        this.mailFrom = mailFrom;
+        this.mailFromName = mailFromName;
+        this.maxTentativas = Math.max(1, maxTentativas);
+        this.esperaInicial = Duration.ofSeconds(Math.max(1, esperaInicialSegundos));
+        this.tamanhoLote = Math.max(1, tamanhoLote);
+        this.tempoMaximoPorExecucao = Duration.ofMillis(Math.max(0, tempoMaximoMs));
+    }
+
+    /**
+     * Grava um e-mail HTML na fila; o envio acontece no próximo processamento.
+     */
+    public EmailOutbox enfileirar(String tenantDomain, String destinatario, String assunto, String corpoHtml) {
+        LocalDateTime agora = LocalDateTime.now();
+        EmailOutbox email = new EmailOutbox();
+        email.setTenantDomain(tenantDomain);
+        email.setDestinatario(destinatario);
+        email.setAssunto(assunto);
+        email.setCorpoHtml(corpoHtml);
+        email.setStatus(StatusEmailOutbox.PENDENTE);
+        email.setProximaTentativa(agora);
+        email.setCriadoEm(agora);
+        return emailOutboxRepository.save(email);
+    }
+
+    /**
+     * Envia os e-mails prontos, em lotes, por no máximo {@code app.mail.outbox.tempo-maximo-ms};
+     * o restante da fila fica para a próxima execução, sem prender a thread do agendador.
+     * Cada lote é reservado do tamanho que cabe no tempo restante no limite de envios por segundo,
+     * então nenhum e-mail fica reservado sem ser enviado ao fim da execução.
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.intervalo-ms:15000}", initialDelayString = "${app.mail.outbox.intervalo-ms:15000}")
+    public void processarFila() {
+        long fim = System.nanoTime() + tempoMaximoPorExecucao.toNanos();
+        int enviados = 0;
+        int tamanho;
+        List<EmailOutbox> lote;
+        do {
+            double segundosRestantes = Math.max(0, fim - System.nanoTime()) / 1_000_000_000.0;
+            tamanho = (int) Math.max(1, Math.min(tamanhoLote, Math.floor(segundosRestantes * maxPorSegundo)));
+            lote = reservarLote(tamanho);
+            for (EmailOutbox email : lote) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                if (enviar(email)) {
+                    enviados++;
+                }
+            }
+        } while (lote.size() == tamanho && System.nanoTime() < fim);
+
+        if (enviados > 0) {
+            log.info("Fila de e-mails: {} enviados", enviados);
+        }
+    }
+
+    private List<EmailOutbox> reservarLote(int tamanho) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime agora = LocalDateTime.now();
+            List<EmailOutbox> prontos = emailOutboxRepository.reservarProntosParaEnvio(agora, tamanho);
+            for (EmailOutbox email : prontos) {
+                email.setStatus(StatusEmailOutbox.ENVIANDO);
+                email.setProximaTentativa(agora.plus(RESERVA_ENVIO));
+            }
+            return prontos;
+        });
+    }
+
+    private boolean enviar(EmailOutbox email) {
+        boolean enviado = false;
+        try {
+            limitadorSmtp.aguardar(hostSmtp);
+
+            MimeMessage mimeMessage = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+            helper.setFrom(mailFrom, mailFromName);
+            helper.setTo(email.getDestinatario());
+            helper.setSubject(email.getAssunto());
+            helper.setText(email.getCorpoHtml(), true);
+            mailSender.send(mimeMessage);
+
+            email.setTentativas(email.getTentativas() + 1);
+            email.setStatus(StatusEmailOutbox.ENVIADO);
+            email.setEnviadoEm(LocalDateTime.now());
+            email.setUltimoErro(null);
+            enviado = true;
+        } catch (InterruptedException e) {
+            // Desligando: o e-mail continua reservado e volta para a fila quando a reserva expirar
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            registrarFalha(email, e);
+        }
+        emailOutboxRepository.save(email);
+        return enviado;
+    }
+
+    private void registrarFalha(EmailOutbox email, Exception erro) {
+        int tentativas = email.getTentativas() + 1;
+        email.setTentativas(tentativas);
+        email.setUltimoErro(truncar(erro.getMessage()));
+
+        if (tentativas >= maxTentativas) {
+            email.setStatus(StatusEmailOutbox.FALHA);
+            log.error("E-mail {} para {} descartado após {} tentativas: {}",
+                    email.getId(), email.getDestinatario(), tentativas, erro.getMessage());
+            return;
+        }
+
+        Duration espera = esperaInicial.multipliedBy(1L << Math.min(tentativas - 1, 20));
+        if (espera.compareTo(ESPERA_MAXIMA) > 0) {
+            espera = ESPERA_MAXIMA;
+        }
+        email.setStatus(StatusEmailOutbox.PENDENTE);
+        email.setProximaTentativa(LocalDateTime.now().plus(espera));
+        log.warn("Falha ao enviar e-mail {} para {} (tentativa {}), nova tentativa em {}s: {}",
+                email.getId(), email.getDestinatario(), tentativas, espera.toSeconds(), erro.getMessage());
+    }
+
+    private String truncar(String mensagem) {
+        if (mensagem == null || mensagem.length() <= TAMANHO_MAXIMO_ERRO) {
+            return mensagem;
+        }
+        return mensagem.substring(0, TAMANHO_MAXIMO_ERRO);
+    }
+}
@@ -13,11 +13,11 @@ import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -27,27 +27,30 @@ import java.time.format.DateTimeFormatter;
 public class ExportService {
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final int JANELA_LINHAS = 100;
 
     private final DashboardExcelExportService dashboardExcelExportService;
     private final RelatorioMensalService relatorioMensalService;
 
-    public byte[] generateDashboardExcel(Integer mes, Integer ano) throws IOException {
-        return dashboardExcelExportService.generateDashboardExcel(mes, ano);
+    public void generateDashboardExcel(Integer mes, Integer ano, OutputStream outputStream) throws IOException {
+        dashboardExcelExportService.generateDashboardExcel(mes, ano, outputStream);
     }
 
-    public byte[] generateRelatorioMensalExcel(Integer mes, Integer ano) throws IOException {
-        try (Workbook workbook = new XSSFWorkbook()) {
+    public void generateRelatorioMensalExcel(Integer mes, Integer ano, OutputStream outputStream) throws IOException {
+        RelatorioMensalDTO relatorio = relatorioMensalService.gerarRelatorioMensal(ano, mes);
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(JANELA_LINHAS);
+        try (workbook) {
             CellStyle headerStyle = createHeaderStyle(workbook);
             CellStyle titleStyle = createTitleStyle(workbook);
             CellStyle currencyStyle = createCurrencyStyle(workbook);
             CellStyle dateStyle = createDateStyle(workbook);
 
-            RelatorioMensalDTO relatorio = relatorioMensalService.gerarRelatorioMensal(ano, mes);
             createRelatorioSheet(workbook, relatorio, ano, mes, headerStyle, titleStyle, currencyStyle, dateStyle);
 
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             workbook.write(outputStream);
-            return outputStream.toByteArray();
+        } finally {
+            workbook.dispose();
         }
     }
 
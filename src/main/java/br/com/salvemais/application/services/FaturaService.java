@@ -5,9 +5,11 @@ import br.com.salvemais.domain.entities.Compra;
 import br.com.salvemais.domain.entities.Fatura;
 import br.com.salvemais.domain.entities.Conta;
 import br.com.salvemais.domain.entities.Parcela;
+import br.com.salvemais.domain.enums.OrigemResumo;
 import br.com.salvemais.infrastructure.repositories.FaturaRepository;
 import br.com.salvemais.infrastructure.repositories.ParcelaRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -38,6 +40,12 @@ public class FaturaService {
     @Autowired
     private ParcelaRepository parcelaRepository;
 
+    @Autowired
+    private ResumoMensalService resumoMensalService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Gera fatura para um cartão de crédito com data de vencimento específica ou usando a data do cartão.
      * @param cartaoCreditoId ID do cartão
@@ -80,6 +88,8 @@ public class FaturaService {
         fatura.setDataVencimento(dataVencimentoFatura);
 
         faturaRepository.save(fatura);
+        resumoMensalService.registrarAlteracao(OrigemResumo.FATURA, dataVencimentoFatura);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
     }
     
     /**
@@ -115,7 +125,10 @@ public class FaturaService {
         fatura.setPago(false);
         fatura.setDataVencimento(dataVencimento);
         
-        return faturaRepository.save(fatura);
+        Fatura faturaSalva = faturaRepository.save(fatura);
+        resumoMensalService.registrarAlteracao(OrigemResumo.FATURA, dataVencimento);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        return faturaSalva;
     }
 
     public Fatura findOrFail(Long id) {
@@ -128,6 +141,7 @@ public class FaturaService {
         fatura.setPago(true);
         fatura.setDataPagamento(LocalDate.now());
         faturaRepository.save(fatura);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
     }
 
     @Transactional
@@ -167,6 +181,8 @@ public class FaturaService {
         }
         
         faturaRepository.delete(fatura);
+        resumoMensalService.registrarAlteracao(OrigemResumo.FATURA, fatura.getDataVencimento());
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
     }
 
     public List<Fatura> listarPorConta(Long contaId) {
@@ -0,0 +1,170 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.Categoria;
+import br.com.salvemais.domain.entities.Conta;
+import br.com.salvemais.domain.entities.Transacao;
+import br.com.salvemais.domain.enums.TipoTransacao;
+import br.com.salvemais.domain.exceptions.BadRequestException;
+import br.com.salvemais.domain.exceptions.TransacaoException;
+import br.com.salvemais.infrastructure.repositories.CategoriaRepository;
+import br.com.salvemais.infrastructure.repositories.ContaRepository;
+import br.com.salvemais.infrastructure.repositories.TransacaoRepository;
+import br.com.salvemais.web.api.dto.ImportacaoTransacoesResultadoDTO;
+import br.com.salvemais.web.api.dto.ImportacaoTransacoesResultadoDTO.ErroLinhaDTO;
+import br.com.salvemais.web.api.dto.TransacaoLoteItemDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Importa transações em lote (ex.: extrato bancário).
+ *
+ * Contas e categorias referenciadas são buscadas uma vez por lote, os saldos recebem um
+ * único movimento consolidado por conta e as transações são gravadas com ids de sequência,
+ * o que permite ao Hibernate agrupar os INSERTs em lotes JDBC. Linhas inválidas são
+ * devolvidas no resultado sem impedir a gravação das demais.
+ */
+@Service
+public class ImportacaoTransacaoService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportacaoTransacaoService.class);
+
+    static final int MAXIMO_LINHAS = 5000;
+
+    private record LinhaValida(int numero, Transacao transacao) {
+    }
+
+    private final TransacaoRepository transacaoRepository;
+    private final ContaRepository contaRepository;
+    private final CategoriaRepository categoriaRepository;
+    private final ContaService contaService;
+
+    public ImportacaoTransacaoService(TransacaoRepository transacaoRepository,
+                                      ContaRepository contaRepository,
+                                      CategoriaRepository categoriaRepository,
+                                      ContaService contaService) {
+        this.transacaoRepository = transacaoRepository;
+        this.contaRepository = contaRepository;
+        this.categoriaRepository = categoriaRepository;
+        this.contaService = contaService;
+    }
+
+    /**
+     * @param itens linhas do lote, na ordem do arquivo de origem
+     * @return quantidade importada e os erros por linha
+     */
+    @Transactional
+    public ImportacaoTransacoesResultadoDTO importar(List<TransacaoLoteItemDTO> itens) {
+        if (itens == null || itens.isEmpty()) {
+            throw new BadRequestException("O lote de transações está vazio");
+        }
+        if (itens.size() > MAXIMO_LINHAS) {
+            throw new BadRequestException("O lote aceita no máximo " + MAXIMO_LINHAS + " transações");
+        }
+
+        Map<Long, Conta> contas = porId(contaRepository.findAllById(ids(itens, TransacaoLoteItemDTO::contaId)),
+                Conta::getId);
+        Map<Long, Categoria> categorias = porId(categoriaRepository.findAllById(ids(itens, TransacaoLoteItemDTO::categoriaId)),
+                Categoria::getId);
+
+        List<ErroLinhaDTO> erros = new ArrayList<>();
+        // TreeMap: os saldos são atualizados em ordem de id, como nas transferências
+        Map<Long, List<LinhaValida>> linhasPorConta = new TreeMap<>();
+        LocalDateTime agora = LocalDateTime.now();
+
+        for (int i = 0; i < itens.size(); i++) {
+            TransacaoLoteItemDTO item = itens.get(i);
+            String erro = validar(item, contas, categorias);
+            if (erro != null) {
+                erros.add(new ErroLinhaDTO(i + 1, erro));
+                continue;
+            }
+            Transacao transacao = new Transacao();
+            transacao.setTipo(item.tipo());
+            transacao.setValor(item.valor());
+            transacao.setData(item.data() != null ? item.data() : agora);
+            transacao.setDescricao(item.descricao());
+            transacao.setObservacoes(item.observacoes());
+            transacao.setConta(contas.get(item.contaId()));
+            transacao.setCategoria(categorias.get(item.categoriaId()));
+            linhasPorConta.computeIfAbsent(item.contaId(), id -> new ArrayList<>()).add(new LinhaValida(i + 1, transacao));
+        }
+
+        List<Transacao> aceitas = new ArrayList<>();
+        for (Map.Entry<Long, List<LinhaValida>> entrada : linhasPorConta.entrySet()) {
+            List<LinhaValida> linhas = entrada.getValue();
+            BigDecimal movimento = linhas.stream()
+                    .map(linha -> movimento(linha.transacao()))
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            try {
+                contaService.movimentarSaldo(contas.get(entrada.getKey()), movimento);
+            } catch (TransacaoException e) {
+                String mensagem = "Saldo insuficiente na conta " + entrada.getKey() + " para os débitos do lote";
+                linhas.forEach(linha -> erros.add(new ErroLinhaDTO(linha.numero(), mensagem)));
+                continue;
+            }
+            linhas.forEach(linha -> aceitas.add(linha.transacao()));
+        }
+
+        transacaoRepository.saveAll(aceitas);
+        erros.sort(Comparator.comparingInt(ErroLinhaDTO::linha));
+
+        log.info("Importação de transações: {} recebidas, {} importadas, {} com erro",
+                itens.size(), aceitas.size(), erros.size());
+        return new ImportacaoTransacoesResultadoDTO(itens.size(), aceitas.size(), erros);
+    }
+
+    private String validar(TransacaoLoteItemDTO item, Map<Long, Conta> contas, Map<Long, Categoria> categorias) {
+        if (item == null) {
+            return "Linha vazia";
+        }
+        if (item.tipo() != TipoTransacao.CREDITO && item.tipo() != TipoTransacao.DEBITO) {
+            return "Tipo de transação não suportado na importação: " + item.tipo() + " (use CREDITO ou DEBITO)";
+        }
+        if (item.valor() == null || item.valor().signum() <= 0) {
+            return "O valor deve ser maior que zero";
+        }
+        if (item.contaId() == null) {
+            return "O ID da conta é obrigatório";
+        }
+        if (!contas.containsKey(item.contaId())) {
+            return "Conta não encontrada com ID: " + item.contaId();
+        }
+        if (item.categoriaId() == null) {
+            return "É necessário informar a categoria";
+        }
+        if (!categorias.containsKey(item.categoriaId())) {
+            return "Categoria não encontrada com ID: " + item.categoriaId();
+        }
+        return null;
+    }
+
+    private BigDecimal movimento(Transacao transacao) {
+        return transacao.getTipo() == TipoTransacao.CREDITO ? transacao.getValor() : transacao.getValor().negate();
+    }
+
+    private List<Long> ids(List<TransacaoLoteItemDTO> itens, Function<TransacaoLoteItemDTO, Long> id) {
+        return itens.stream()
+                .filter(Objects::nonNull)
+                .map(id)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private <T> Map<Long, T> porId(List<T> entidades, Function<T, Long> id) {
+        return entidades.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+}
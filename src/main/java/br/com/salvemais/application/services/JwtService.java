@@ -1,9 +1,12 @@
 package br.com.salvemais.application.services;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
@@ -19,6 +22,27 @@ public class JwtService {
 
     private final Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
 
+    // JwtParser é imutável e thread-safe: construído uma vez e reutilizado
+    private final JwtParser parser = Jwts.parserBuilder()
+            .setSigningKey(key)
+            .build();
+
+    /**
+     * Claims do token extraídas em um único parse.
+     */
+    public record JwtPrincipal(String email, UUID tenantId, String tenantDomain) {
+
+        /**
+         * Principal sem senha para o SecurityContext — o token já foi validado.
+         */
+        public UserDetails toUserDetails() {
+            return User.withUsername(email)
+                    .password("")
+                    .authorities("USER")
+                    .build();
+        }
+    }
+
     /**
      * Gera um token JWT com as informações do usuário e tenant
      * 
@@ -53,21 +77,28 @@ public class JwtService {
         return gerarToken(email, tenantId, null);
     }
 
+    /**
+     * Valida a assinatura/expiração e extrai e-mail, tenantId e tenantDomain de uma vez.
+     *
+     * @param token token JWT
+     * @return claims do token
+     */
+    public JwtPrincipal parseToken(String token) {
+        Claims claims = parseClaims(token);
+        String tenantIdStr = claims.get("tenantId", String.class);
+        return new JwtPrincipal(
+                claims.getSubject(),
+                tenantIdStr != null ? UUID.fromString(tenantIdStr) : null,
+                claims.get("tenantDomain", String.class)
+        );
+    }
+
     public String getEmailFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     public UUID getTenantIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseClaims(token);
         
         String tenantIdStr = claims.get("tenantId", String.class);
         return tenantIdStr != null ? UUID.fromString(tenantIdStr) : null;
@@ -80,12 +111,12 @@ public class JwtService {
      * @return domain do tenant ou null se não incluído no token
      */
     public String getTenantDomainFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parseClaims(token);
         
         return claims.get("tenantDomain", String.class);
     }
+
+    private Claims parseClaims(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
 }
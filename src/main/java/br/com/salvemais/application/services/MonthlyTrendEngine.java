@@ -0,0 +1,138 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.ResumoMensal;
+import br.com.salvemais.domain.enums.OrigemResumo;
+import br.com.salvemais.infrastructure.repositories.CompraDebitoRepository;
+import br.com.salvemais.infrastructure.repositories.ContaFixaRepository;
+import br.com.salvemais.infrastructure.repositories.FaturaRepository;
+import br.com.salvemais.infrastructure.repositories.ProventoRepository;
+import br.com.salvemais.infrastructure.repositories.TotalMensal;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Calcula receitas e despesas mês a mês para um intervalo arbitrário de meses.
+ *
+ * Lê os totais da tabela {@code resumo_mensal} (uma linha por mês, origem e categoria).
+ * Com {@code app.resumo-mensal.leitura.enabled=false}, faz uma consulta agrupada por mês
+ * para cada origem (proventos, contas fixas, faturas e compras no débito) direto nos
+ * lançamentos. Nos dois casos os meses sem lançamentos são preenchidos com zero em Java.
+ */
+@Service
+public class MonthlyTrendEngine {
+
+    /**
+     * Totais de um mês, separados por origem da despesa.
+     */
+    public record TotaisDoMes(YearMonth mes,
+                               BigDecimal receitas,
+                               BigDecimal despesasFixas,
+                               BigDecimal despesasFaturas,
+                               BigDecimal despesasDebito) {
+
+        public BigDecimal despesas() {
+            return despesasFixas.add(despesasFaturas).add(despesasDebito);
+        }
+
+        public BigDecimal resultado() {
+            return receitas.subtract(despesas());
+        }
+    }
+
+    private final ProventoRepository proventoRepository;
+    private final ContaFixaRepository contaFixaRepository;
+    private final FaturaRepository faturaRepository;
+    private final CompraDebitoRepository compraDebitoRepository;
+    private final ResumoMensalService resumoMensalService;
+
+    public MonthlyTrendEngine(ProventoRepository proventoRepository,
+                              ContaFixaRepository contaFixaRepository,
+                              FaturaRepository faturaRepository,
+                              CompraDebitoRepository compraDebitoRepository,
+                              ResumoMensalService resumoMensalService) {
+        this.proventoRepository = proventoRepository;
+        this.contaFixaRepository = contaFixaRepository;
+        this.faturaRepository = faturaRepository;
+        this.compraDebitoRepository = compraDebitoRepository;
+        this.resumoMensalService = resumoMensalService;
+    }
+
+    /**
+     * @param inicio primeiro mês do intervalo (inclusive)
+     * @param fim    último mês do intervalo (inclusive)
+     * @return um {@link TotaisDoMes} por mês, em ordem cronológica, inclusive meses sem lançamentos
+     */
+    public List<TotaisDoMes> calcular(YearMonth inicio, YearMonth fim) {
+        if (fim.isBefore(inicio)) {
+            throw new IllegalArgumentException("O mês final deve ser igual ou posterior ao mês inicial");
+        }
+
+        Map<OrigemResumo, Map<YearMonth, BigDecimal>> totais = resumoMensalService.isLeituraHabilitada()
+                ? totaisDoResumo(inicio, fim)
+                : totaisDosLancamentos(inicio, fim);
+
+        Map<YearMonth, BigDecimal> receitas = totais.get(OrigemResumo.PROVENTO);
+        Map<YearMonth, BigDecimal> fixas = totais.get(OrigemResumo.CONTA_FIXA);
+        Map<YearMonth, BigDecimal> faturas = totais.get(OrigemResumo.FATURA);
+        Map<YearMonth, BigDecimal> debito = totais.get(OrigemResumo.COMPRA_DEBITO);
+
+        List<TotaisDoMes> resultado = new ArrayList<>();
+        for (YearMonth mes = inicio; !mes.isAfter(fim); mes = mes.plusMonths(1)) {
+            resultado.add(new TotaisDoMes(
+                    mes,
+                    receitas.getOrDefault(mes, BigDecimal.ZERO),
+                    fixas.getOrDefault(mes, BigDecimal.ZERO),
+                    faturas.getOrDefault(mes, BigDecimal.ZERO),
+                    debito.getOrDefault(mes, BigDecimal.ZERO)
+            ));
+        }
+        return resultado;
+    }
+
+    /**
+     * Atalho para um único mês.
+     */
+    public TotaisDoMes calcular(YearMonth mes) {
+        return calcular(mes, mes).getFirst();
+    }
+
+    private Map<OrigemResumo, Map<YearMonth, BigDecimal>> totaisDoResumo(YearMonth inicio, YearMonth fim) {
+        Map<OrigemResumo, Map<YearMonth, BigDecimal>> totais = new EnumMap<>(OrigemResumo.class);
+        for (OrigemResumo origem : OrigemResumo.values()) {
+            totais.put(origem, new HashMap<>());
+        }
+        for (ResumoMensal linha : resumoMensalService.listar(inicio, fim)) {
+            totais.get(linha.getOrigem()).merge(YearMonth.from(linha.getMes()), linha.getTotal(), BigDecimal::add);
+        }
+        return totais;
+    }
+
+    private Map<OrigemResumo, Map<YearMonth, BigDecimal>> totaisDosLancamentos(YearMonth inicio, YearMonth fim) {
+        var dataInicio = inicio.atDay(1);
+        var dataFim = fim.atEndOfMonth();
+
+        Map<OrigemResumo, Map<YearMonth, BigDecimal>> totais = new EnumMap<>(OrigemResumo.class);
+        totais.put(OrigemResumo.PROVENTO, porMes(proventoRepository.somarValorPorMes(dataInicio, dataFim)));
+        totais.put(OrigemResumo.CONTA_FIXA, porMes(contaFixaRepository.somarValorPorMesVencimento(dataInicio, dataFim)));
+        totais.put(OrigemResumo.FATURA, porMes(faturaRepository.somarValorTotalPorMesVencimento(dataInicio, dataFim)));
+        totais.put(OrigemResumo.COMPRA_DEBITO, porMes(compraDebitoRepository.somarValorPorMes(dataInicio, dataFim)));
+        return totais;
+    }
+
+    private Map<YearMonth, BigDecimal> porMes(List<TotalMensal> totais) {
+        Map<YearMonth, BigDecimal> mapa = new HashMap<>();
+        for (TotalMensal total : totais) {
+            if (total.getTotal() != null) {
+                mapa.merge(YearMonth.of(total.getAno(), total.getMes()), total.getTotal(), BigDecimal::add);
+            }
+        }
+        return mapa;
+    }
+}
@@ -5,31 +5,43 @@ import br.com.salvemais.web.api.dto.NotificacaoEmailResponseDTO;
 import br.com.salvemais.infrastructure.context.TenantContext;
 import br.com.salvemais.domain.entities.Tenant;
 import br.com.salvemais.domain.entities.Usuario;
+import br.com.salvemais.infrastructure.repositories.NotificacaoEmailRepository;
 import br.com.salvemais.infrastructure.repositories.TenantRepository;
 import br.com.salvemais.infrastructure.repositories.UsuarioRepository;
+import br.com.salvemais.util.RodaDeHorarios;
 import jakarta.mail.internet.MimeMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StreamUtils;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 @Service
 public class NotificacaoEmailSchedulerService {
 
     private static final Logger logger = LoggerFactory.getLogger(NotificacaoEmailSchedulerService.class);
 
+    static final String JOB_NOTIFICACAO_EMAIL = "notificacao-email";
+
     @Autowired
     private NotificacaoEmailService notificacaoEmailService;
 
@@ -45,112 +57,217 @@ public class NotificacaoEmailSchedulerService {
     @Autowired
     private UsuarioRepository usuarioRepository;
 
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private NotificacaoEmailRepository notificacaoEmailRepository;
+
+    @Autowired
+    private TenantJobRunner tenantJobRunner;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     @Value("${app.mail.from}")
     private String mailFrom;
 
     @Value("${app.mail.from.name}")
     private String mailFromName;
 
+    @Value("${app.notificacao.email.recuperacao-minutos:60}")
+    private int recuperacaoMinutos;
+
+    // Template lido uma única vez do classpath
+    private volatile String templateNotificacaoDiaria;
+
+    // Horários de envio por tenant, um minuto do dia por posição
+    private volatile RodaDeHorarios agenda = new RodaDeHorarios();
+
+    // Último minuto do dia já verificado; -1 até a agenda ser carregada
+    private volatile int ultimoMinutoVerificado = -1;
+
+    // Envios que falharam sem gravar nada; entram de novo na próxima verificação
+    private final Queue<EnvioProgramado> retentativas = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Monta a agenda em memória com as notificações ativas quando a aplicação sobe e
+     * recupera os envios dos últimos {@code app.notificacao.email.recuperacao-minutos}
+     * (ex.: horários que caíram durante um deploy). A marca de último envio impede que
+     * um tenant já atendido hoje receba de novo.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciarAgenda() {
+        recarregarAgenda();
+        ultimoMinutoVerificado = Math.floorMod(
+                RodaDeHorarios.minutoDoDia(LocalTime.now()) - Math.max(1, recuperacaoMinutos),
+                RodaDeHorarios.MINUTOS_POR_DIA);
+        logger.info("Agenda de notificações por email carregada com {} tenants", agenda.tamanho());
+    }
+
+    /**
+     * Relê as notificações ativas do banco. Cobre alterações feitas por outras instâncias,
+     * que só atualizam a agenda da instância que atendeu a requisição.
+     */
+    @Scheduled(fixedDelayString = "${app.notificacao.email.ressincronizar-ms:900000}",
+            initialDelayString = "${app.notificacao.email.ressincronizar-ms:900000}")
+    public void recarregarAgenda() {
+        RodaDeHorarios novaAgenda = new RodaDeHorarios();
+        for (NotificacaoEmailResponseDTO notificacao : notificacaoEmailService.obterTodasNotificacoesAtivas()) {
+            novaAgenda.agendar(notificacao.getDomain(), notificacao.getHorario());
+        }
+        agenda = novaAgenda;
+    }
+
     /**
-     * Executa a cada hora para verificar se há notificações que precisam ser enviadas
+     * Atualiza o horário de um tenant na agenda; notificações inativas saem da agenda.
+     */
+    public void atualizarAgenda(String domain, LocalTime horario, boolean ativo) {
+        if (ativo && horario != null) {
+            agenda.agendar(domain, horario);
+        } else {
+            agenda.remover(domain);
+        }
+    }
+
+    public void removerDaAgenda(String domain) {
+        agenda.remover(domain);
+    }
+
+    /**
+     * Executa a cada minuto e envia as notificações agendadas para os minutos desde a
+     * última verificação (normalmente só o minuto atual), mais as que falharam na
+     * verificação anterior no mesmo dia
      * Timezone: America/Sao_Paulo (Brasília)
      */
-    @Scheduled(cron = "0 0 * * * *", zone = "America/Sao_Paulo") // Executa a cada hora no minuto 0
+    @Scheduled(cron = "0 * * * * *", zone = "America/Sao_Paulo")
     public void verificarEEnviarNotificacoes() {
-        logger.debug("Verificando notificações para envio...");
-        
-        List<NotificacaoEmailResponseDTO> notificacoesAtivas = notificacaoEmailService.obterTodasNotificacoesAtivas();
-        LocalTime horaAtual = LocalTime.now();
-        
-        // Tolerância de 30 minutos para envio
-        LocalTime horaInicio = horaAtual.minusMinutes(30);
-        LocalTime horaFim = horaAtual.plusMinutes(30);
-        
-        for (NotificacaoEmailResponseDTO notificacao : notificacoesAtivas) {
-            LocalTime horarioNotificacao = notificacao.getHorario();
-            
-            // Verifica se o horário está dentro da janela de envio
-            if (horarioNotificacao.isAfter(horaInicio) && horarioNotificacao.isBefore(horaFim)) {
-                enviarEmailNotificacao(notificacao);
+        if (ultimoMinutoVerificado < 0) {
+            // Agenda ainda não carregada
+            return;
+        }
+
+        LocalDate hoje = LocalDate.now();
+        int minutoAtual = RodaDeHorarios.minutoDoDia(LocalTime.now());
+        int minutosPendentes = Math.floorMod(minutoAtual - ultimoMinutoVerificado, RodaDeHorarios.MINUTOS_POR_DIA);
+        ultimoMinutoVerificado = minutoAtual;
+
+        List<EnvioProgramado> envios = new ArrayList<>();
+        for (int i = minutosPendentes - 1; i >= 0; i--) {
+            int minuto = Math.floorMod(minutoAtual - i, RodaDeHorarios.MINUTOS_POR_DIA);
+            // Minutos antes da meia-noite pertencem ao dia anterior
+            LocalDate dia = minuto > minutoAtual ? hoje.minusDays(1) : hoje;
+            for (String domain : agenda.agendadosNoMinuto(minuto)) {
+                envios.add(new EnvioProgramado(domain, dia));
             }
         }
+        EnvioProgramado retentativa;
+        while ((retentativa = retentativas.poll()) != null) {
+            if (retentativa.dia().equals(hoje)) {
+                envios.add(retentativa);
+            } else {
+                logger.warn("Notificação do domínio {} de {} não foi enviada e não será mais tentada",
+                        retentativa.domain(), retentativa.dia());
+            }
+        }
+        if (envios.isEmpty()) {
+            return;
+        }
+
+        // O runner roda cada tenant no próprio contexto, com paralelismo e tempo limite
+        tenantJobRunner.distribuir(JOB_NOTIFICACAO_EMAIL, envios, EnvioProgramado::domain, this::enviarSeNaoEnviadoNoDia);
     }
 
+    private void enviarSeNaoEnviadoNoDia(EnvioProgramado envio) {
+        try {
+            // A marca do dia e os e-mails da fila são gravados na mesma transação: uma falha desfaz
+            // os dois e o envio é tentado de novo no próximo minuto
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                // Só quem registra a marca do dia envia: evita e-mail duplicado entre instâncias e reinícios
+                if (notificacaoEmailRepository.registrarEnvioDoDia(envio.domain(), envio.dia()) == 0) {
+                    logger.debug("Notificação do domínio {} já enviada em {}", envio.domain(), envio.dia());
+                    return;
+                }
+                enviarEmailNotificacao(envio.domain(), false);
+            });
+        } catch (RuntimeException e) {
+            retentativas.add(envio);
+            throw e;
+        }
+    }
+
+    private record EnvioProgramado(String domain, LocalDate dia) {}
+
     /**
      * Envia uma notificação de teste imediatamente para o tenant especificado
      */
     public void enviarNotificacaoTeste(NotificacaoEmailResponseDTO notificacao) {
         logger.info("Enviando notificação de TESTE para o domínio: {}", notificacao.getDomain());
-        enviarEmailNotificacao(notificacao, true);
-    }
-
-    private void enviarEmailNotificacao(NotificacaoEmailResponseDTO notificacao) {
-        enviarEmailNotificacao(notificacao, false);
+        try {
+            TenantContext.runWithTenant(notificacao.getDomain(), () -> enviarEmailNotificacao(notificacao.getDomain(), true));
+        } catch (Exception e) {
+            logger.error("Erro ao enviar notificação para o domínio: {}", notificacao.getDomain(), e);
+        }
     }
 
-    private void enviarEmailNotificacao(NotificacaoEmailResponseDTO notificacao, boolean isTeste) {
-        try {
-            String domain = notificacao.getDomain();
-            String tipoEmail = isTeste ? "TESTE" : "programada";
-            logger.info("Enviando notificação {} para o domínio: {}", tipoEmail, domain);
-            
-            // Buscar tenant
-            Tenant tenant = tenantRepository.findByDomain(domain).orElse(null);
-            if (tenant == null) {
-                logger.warn("Tenant não encontrado para o domínio: {}", domain);
+    /**
+     * Monta o resumo do tenant e envia (teste) ou enfileira (programada) para cada usuário.
+     * Erros são propagados para o chamador, que decide se a notificação será tentada de novo.
+     */
+    private void enviarEmailNotificacao(String domain, boolean isTeste) {
+        String tipoEmail = isTeste ? "TESTE" : "programada";
+        logger.info("Enviando notificação {} para o domínio: {}", tipoEmail, domain);
+        
+        // Buscar tenant
+        Tenant tenant = tenantRepository.findByDomain(domain).orElse(null);
+        if (tenant == null) {
+            logger.warn("Tenant não encontrado para o domínio: {}", domain);
+            return;
+        }
+        
+        // Buscar notificações do sistema
+        List<NotificacaoDTO> notificacoes = notificacaoService.obterNotificacoes();
+        
+        if (notificacoes.isEmpty()) {
+            if (isTeste) {
+                logger.info("Nenhuma notificação pendente para teste, enviando email de exemplo para o domínio: {}", domain);
+                // Criar notificações de exemplo para teste
+                notificacoes = criarNotificacoesExemplo();
+            } else {
+                logger.info("Nenhuma notificação pendente para o domínio: {}", domain);
                 return;
             }
-            
-            // Configurar contexto do tenant
-            TenantContext.setCurrentTenant(domain);
-            
-            try {
-                // Buscar notificações do sistema
-                List<NotificacaoDTO> notificacoes = notificacaoService.obterNotificacoes();
-                
-                if (notificacoes.isEmpty()) {
-                    if (isTeste) {
-                        logger.info("Nenhuma notificação pendente para teste, enviando email de exemplo para o domínio: {}", domain);
-                        // Criar notificações de exemplo para teste
-                        notificacoes = criarNotificacoesExemplo();
-                    } else {
-                        logger.info("Nenhuma notificação pendente para o domínio: {}", domain);
-                        return;
-                    }
-                }
-                
-                // Buscar usuários do tenant
-                // Como estamos no contexto do tenant, o JPA já filtra automaticamente pelo schema
-                List<Usuario> usuarios = usuarioRepository.findAll();
-                
-                if (usuarios.isEmpty()) {
-                    logger.warn("Nenhum usuário encontrado para o domínio: {}", domain);
-                    if (isTeste) {
-                        logger.info("Enviando email de teste para o domínio do tenant como fallback");
-                        // Em ambiente de teste, continuar mesmo sem usuários cadastrados
-                        // Isso permite testar a configuração de email
-                    } else {
-                        return;
-                    }
-                }
-                
-                // Construir conteúdo do email
-                String conteudoEmailHtml = construirConteudoEmailHtml(tenant, notificacoes);
-                
-                // Enviar email para cada usuário
-                for (Usuario usuario : usuarios) {
-                    String prefixo = isTeste ? "[TESTE] " : "";
-                    String assunto = String.format("%sSalve Mais - Resumo Diário de Notificações (%s)", prefixo, tenant.getName());
-                    enviarEmailHtml(usuario.getEmail(), assunto, conteudoEmailHtml);
-                    logger.info("Email de notificação {} enviado para: {}", isTeste ? "de TESTE" : "", usuario.getEmail());
-                }
-                
-            } finally {
-                TenantContext.clear();
+        }
+        
+        // Buscar usuários do tenant
+        // Como estamos no contexto do tenant, o JPA já filtra automaticamente pelo schema
+        List<Usuario> usuarios = usuarioRepository.findAll();
+        
+        if (usuarios.isEmpty()) {
+            logger.warn("Nenhum usuário encontrado para o domínio: {}", domain);
+            if (isTeste) {
+                logger.info("Enviando email de teste para o domínio do tenant como fallback");
+                // Em ambiente de teste, continuar mesmo sem usuários cadastrados
+                // Isso permite testar a configuração de email
+            } else {
+                return;
+            }
+        }
+        
+        // Construir conteúdo do email
+        String conteudoEmailHtml = construirConteudoEmailHtml(tenant, notificacoes);
+        
+        // Teste é enviado na hora; os programados vão para a fila de saída, que faz as retentativas
+        for (Usuario usuario : usuarios) {
+            String prefixo = isTeste ? "[TESTE] " : "";
+            String assunto = String.format("%sSalve Mais - Resumo Diário de Notificações (%s)", prefixo, tenant.getName());
+            if (isTeste) {
+                enviarEmailHtml(usuario.getEmail(), assunto, conteudoEmailHtml);
+                logger.info("Email de notificação de TESTE enviado para: {}", usuario.getEmail());
+            } else {
+                emailOutboxService.enfileirar(domain, usuario.getEmail(), assunto, conteudoEmailHtml);
+                logger.info("Email de notificação enfileirado para: {}", usuario.getEmail());
             }
-            
-        } catch (Exception e) {
-            logger.error("Erro ao enviar notificação para o domínio: {}", notificacao.getDomain(), e);
         }
     }
 
@@ -173,9 +290,7 @@ public class NotificacaoEmailSchedulerService {
 
     private String construirConteudoEmailHtml(Tenant tenant, List<NotificacaoDTO> notificacoes) {
         try {
-            // Ler template HTML
-            ClassPathResource resource = new ClassPathResource("templates/notificacao-diaria.html");
-            String htmlTemplate = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+            String htmlTemplate = templateNotificacaoDiaria();
             
             // Contar tipos de notificações
             long contasAtrasadas = notificacoes.stream()
@@ -239,6 +354,16 @@ public class NotificacaoEmailSchedulerService {
         }
     }
 
+    private String templateNotificacaoDiaria() throws IOException {
+        String template = templateNotificacaoDiaria;
+        if (template == null) {
+            ClassPathResource resource = new ClassPathResource("templates/notificacao-diaria.html");
+            template = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8);
+            templateNotificacaoDiaria = template;
+        }
+        return template;
+    }
+
     private String construirSecaoPrioridade(String titulo, List<NotificacaoDTO> notificacoes, String classe) {
         if (notificacoes.isEmpty()) {
             return "";
@@ -9,6 +9,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -52,6 +54,9 @@ public class NotificacaoEmailService {
         }
         
         notificacao = notificacaoEmailRepository.save(notificacao);
+        NotificacaoEmail salva = notificacao;
+        aposCommit(() -> notificacaoEmailSchedulerService.atualizarAgenda(
+                salva.getDomain(), salva.getHorario(), Boolean.TRUE.equals(salva.getAtivo())));
         return toResponseDTO(notificacao);
     }
 
@@ -102,6 +107,7 @@ public class NotificacaoEmailService {
             n.setAtivo(false);
             n.setUpdatedBy(getCurrentUser());
             notificacaoEmailRepository.save(n);
+            aposCommit(() -> notificacaoEmailSchedulerService.removerDaAgenda(n.getDomain()));
         }
     }
     
@@ -114,6 +120,7 @@ public class NotificacaoEmailService {
             n.setAtivo(false);
             n.setUpdatedBy(getCurrentUser());
             notificacaoEmailRepository.save(n);
+            aposCommit(() -> notificacaoEmailSchedulerService.removerDaAgenda(n.getDomain()));
         }
     }
 
@@ -129,7 +136,27 @@ public class NotificacaoEmailService {
 
     @Transactional
     public void deletarNotificacao(UUID id) {
-        notificacaoEmailRepository.deleteById(id);
+        notificacaoEmailRepository.findById(id).ifPresent(n -> {
+            notificacaoEmailRepository.delete(n);
+            aposCommit(() -> notificacaoEmailSchedulerService.removerDaAgenda(n.getDomain()));
+        });
+    }
+
+    /**
+     * Atualiza a agenda do envio só depois do commit, para um rollback não deixar
+     * a agenda em memória diferente do banco.
+     */
+    private void aposCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
     }
 
     private NotificacaoEmailResponseDTO toResponseDTO(NotificacaoEmail notificacao) {
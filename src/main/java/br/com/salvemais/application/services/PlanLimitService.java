@@ -1,11 +1,10 @@
 package br.com.salvemais.application.services;
 
+import br.com.salvemais.application.services.TenantMetadataCache.TenantMetadata;
 import br.com.salvemais.domain.entities.Plano;
-import br.com.salvemais.domain.entities.Tenant;
 import br.com.salvemais.domain.exceptions.PaymentRequiredException;
 import br.com.salvemais.domain.exceptions.ResourceNotFoundException;
 import br.com.salvemais.infrastructure.repositories.PlanoRepository;
-import br.com.salvemais.infrastructure.repositories.TenantRepository;
 import br.com.salvemais.infrastructure.repositories.UsuarioRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -14,7 +13,7 @@ import org.springframework.stereotype.Service;
 public class PlanLimitService {
 
     @Autowired
-    private TenantRepository tenantRepository;
+    private TenantMetadataCache tenantMetadataCache;
 
     @Autowired
     private PlanoRepository planoRepository;
@@ -23,10 +22,10 @@ public class PlanLimitService {
     private UsuarioRepository usuarioRepository;
 
     public void verificarLimiteUsuarios(String tenantDomain) {
-        Tenant tenant = tenantRepository.findByDomain(tenantDomain)
+        TenantMetadata tenant = tenantMetadataCache.get(tenantDomain)
                 .orElseThrow(() -> new ResourceNotFoundException("Tenant não encontrado: " + tenantDomain));
 
-        Plano plano = planoRepository.findByTipo(tenant.getSubscriptionPlan())
+        Plano plano = planoRepository.findByTipo(tenant.subscriptionPlan())
                 .orElse(null);
 
         int maxUsuarios = resolverMaxUsuarios(tenant, plano);
@@ -35,7 +34,7 @@ public class PlanLimitService {
         long totalUsuarios = usuarioRepository.count();
 
         if (totalUsuarios >= maxUsuarios) {
-            String nomePlano = plano != null ? plano.getNome() : tenant.getSubscriptionPlan().name();
+            String nomePlano = plano != null ? plano.getNome() : tenant.subscriptionPlan().name();
             throw new PaymentRequiredException(
                     "Limite de usuários do plano %s atingido (%d/%d). Faça upgrade para adicionar mais usuários."
                             .formatted(nomePlano, totalUsuarios, maxUsuarios)
@@ -43,10 +42,10 @@ public class PlanLimitService {
         }
     }
 
-    private int resolverMaxUsuarios(Tenant tenant, Plano plano) {
+    private int resolverMaxUsuarios(TenantMetadata tenant, Plano plano) {
         // Prioridade: campo do tenant (configuração manual) → plano cadastrado → fallback 1
-        if (tenant.getMaxUsers() != null && tenant.getMaxUsers() > 0) {
-            return tenant.getMaxUsers();
+        if (tenant.maxUsers() != null && tenant.maxUsers() > 0) {
+            return tenant.maxUsers();
         }
         if (plano != null) {
             return plano.getMaxUsuarios();
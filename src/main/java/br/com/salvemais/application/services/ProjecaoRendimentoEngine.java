@@ -0,0 +1,68 @@
+package br.com.salvemais.application.services;
+
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Projeta saldos com juros compostos mensais a partir de uma taxa anual em percentual
+ * (ex.: 13.25 para 13,25% a.a., dividida por 12 a cada mês).
+ *
+ * O fator {@code (1 + taxa)^meses} é calculado com 34 dígitos significativos
+ * ({@link MathContext#DECIMAL128}) e o valor só é arredondado para centavos no final.
+ * Um ponto isolado usa {@link BigDecimal#pow(int, MathContext)} (exponenciação por quadrados);
+ * a curva mês a mês reaproveita o fator do mês anterior, uma multiplicação por ponto.
+ */
+@Service
+public class ProjecaoRendimentoEngine {
+
+    public static final int MESES_MAXIMO = 360;
+
+    private static final BigDecimal MESES_POR_ANO = BigDecimal.valueOf(12);
+    private static final BigDecimal CEM = BigDecimal.valueOf(100);
+
+    /**
+     * Saldo após {@code meses} meses; sem taxa positiva ou sem meses positivos o saldo não muda.
+     */
+    public BigDecimal projetar(BigDecimal saldo, BigDecimal taxaAnual, int meses) {
+        if (saldo == null || meses <= 0 || !temRendimento(taxaAnual)) {
+            return saldo;
+        }
+        BigDecimal fator = fatorMensal(taxaAnual).pow(meses, MathContext.DECIMAL128);
+        return saldo.multiply(fator, MathContext.DECIMAL128).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Saldo projetado para cada mês de 1 a {@code meses}; o índice 0 é o mês 1.
+     */
+    public List<BigDecimal> curva(BigDecimal saldo, BigDecimal taxaAnual, int meses) {
+        List<BigDecimal> pontos = new ArrayList<>(meses);
+        BigDecimal base = saldo != null ? saldo : BigDecimal.ZERO;
+        if (!temRendimento(taxaAnual)) {
+            for (int mes = 1; mes <= meses; mes++) {
+                pontos.add(base);
+            }
+            return pontos;
+        }
+
+        BigDecimal fatorMensal = fatorMensal(taxaAnual);
+        BigDecimal fator = BigDecimal.ONE;
+        for (int mes = 1; mes <= meses; mes++) {
+            fator = fator.multiply(fatorMensal, MathContext.DECIMAL128);
+            pontos.add(base.multiply(fator, MathContext.DECIMAL128).setScale(2, RoundingMode.HALF_UP));
+        }
+        return pontos;
+    }
+
+    private BigDecimal fatorMensal(BigDecimal taxaAnual) {
+        return BigDecimal.ONE.add(taxaAnual.divide(MESES_POR_ANO.multiply(CEM), MathContext.DECIMAL128));
+    }
+
+    private boolean temRendimento(BigDecimal taxaAnual) {
+        return taxaAnual != null && taxaAnual.signum() > 0;
+    }
+}
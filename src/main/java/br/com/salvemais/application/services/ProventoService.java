@@ -1,8 +1,10 @@
 package br.com.salvemais.application.services;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -10,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import br.com.salvemais.domain.entities.Provento;
 import br.com.salvemais.domain.entities.Transacao;
+import br.com.salvemais.domain.enums.OrigemResumo;
 import br.com.salvemais.domain.enums.TipoTransacao;
 import br.com.salvemais.infrastructure.repositories.ProventoRepository;
 
@@ -25,6 +28,12 @@ public class ProventoService {
     @Autowired
     private TransacaoService transacaoService;
 
+    @Autowired
+    private ResumoMensalService resumoMensalService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public Provento getOne(Long id) {
         return proventoRepository.findById(id).orElse(null);
     }
@@ -53,6 +62,9 @@ public class ProventoService {
         // Cria a transação sem atualizar o saldo (o saldo já foi atualizado acima)
         transacaoService.criarTransacaoSemAtualizarSaldo(transacaoDTO);
 
+        resumoMensalService.registrarAlteracao(OrigemResumo.PROVENTO, proventoSalvo.getData());
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+
         return proventoSalvo;
     }
 
@@ -66,6 +78,8 @@ public class ProventoService {
         Provento existente = proventoRepository.findById(provento.getId())
                 .orElseThrow(() -> new IllegalArgumentException("Provento não encontrado"));
 
+        LocalDate dataAnterior = existente.getData();
+
         // Verifica se houve alteração de valor para ajustar o saldo
         var diferencaValor = provento.getValor().subtract(existente.getValor());
 
@@ -107,6 +121,9 @@ public class ProventoService {
         existente.setData(provento.getData());
         existente.setConta(provento.getConta());
 
+        resumoMensalService.registrarAlteracao(OrigemResumo.PROVENTO, dataAnterior, existente.getData());
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+
         return proventoRepository.save(existente);
     }
 
@@ -120,5 +137,8 @@ public class ProventoService {
         conta.setSaldo(conta.getSaldo().subtract(provento.getValor()));
 
         proventoRepository.deleteById(id);
+
+        resumoMensalService.registrarAlteracao(OrigemResumo.PROVENTO, provento.getData());
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
     }
 }
\ No newline at end of file
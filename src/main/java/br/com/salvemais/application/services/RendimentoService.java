@@ -2,65 +2,113 @@ package br.com.salvemais.application.services;
 
 import br.com.salvemais.domain.entities.Conta;
 import br.com.salvemais.domain.enums.TipoConta;
+import br.com.salvemais.domain.exceptions.BadRequestException;
 import br.com.salvemais.infrastructure.repositories.ContaRepository;
+import br.com.salvemais.web.api.dto.ProjecaoRendimentoDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
-public class RendimentoService {
+public class RendimentoService implements TenantJob {
+
+    private static final Logger log = LoggerFactory.getLogger(RendimentoService.class);
+
+    static final String JOB_RENDIMENTO_MENSAL = "rendimento-mensal";
 
     @Autowired
     private ContaRepository contaRepository;
+
+    @Autowired
+    private TenantJobRunner tenantJobRunner;
+
+    @Autowired
+    private ProjecaoRendimentoEngine projecaoRendimentoEngine;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
     /**
      * Calcula o rendimento mensal das contas de investimento e reserva de emergência
-     * Este método é executado automaticamente no dia 1 de cada mês
+     * de todos os tenants. Executado no dia 1 de cada mês; a referência é o mês que terminou,
+     * e o checkpoint por tenant impede creditar o mesmo mês duas vezes
      */
-    @Scheduled(cron = "0 0 0 1 * ?") // Executa às 00:00:00 do primeiro dia de cada mês
+    @Scheduled(cron = "0 0 0 1 * ?", zone = "America/Sao_Paulo") // Executa às 00:00:00 do primeiro dia de cada mês
     public void calcularRendimentoMensal() {
-        List<Conta> contas = contaRepository.findByTipoIn(
-            List.of(TipoConta.INVESTIMENTO, TipoConta.RESERVA_EMERGENCIA)
-        );
-        
-        for (Conta conta : contas) {
-            if (conta.getTaxaRendimento() != null && conta.getTaxaRendimento().compareTo(BigDecimal.ZERO) > 0) {
-                // Calcula o rendimento mensal (taxa anual / 12)
-                BigDecimal taxaMensal = conta.getTaxaRendimento().divide(BigDecimal.valueOf(12), 6, RoundingMode.HALF_UP);
-                BigDecimal rendimento = conta.getSaldo().multiply(taxaMensal).divide(BigDecimal.valueOf(100), 2, RoundingMode.HALF_UP);
-                
-                // Atualiza o saldo da conta
-                conta.setSaldo(conta.getSaldo().add(rendimento));
-                contaRepository.save(conta);
-            }
+        tenantJobRunner.executar(this, YearMonth.now().minusMonths(1).toString());
+    }
+
+    @Override
+    public String nome() {
+        return JOB_RENDIMENTO_MENSAL;
+    }
+
+    /**
+     * Credita o rendimento do mês nas contas do tenant atual, com a transação de
+     * rendimento de cada conta, em um único comando SQL
+     */
+    @Override
+    public void executar(String tenant, String referencia) {
+        int creditadas = contaRepository.creditarRendimentoMensal(LocalDateTime.now(), "Rendimento " + referencia);
+        log.info("Rendimento {} creditado em {} contas do tenant {}", referencia, creditadas, tenant);
+        if (creditadas > 0) {
+            eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
         }
     }
     
     /**
      * Calcula o rendimento para uma determinada conta de acordo com sua taxa configurada
      * @param conta A conta para calcular rendimento
-     * @param meses Número de meses para projeção
+     * @param meses Número de meses para projeção; zero ou negativo devolve o saldo atual
      * @return Valor projetado após o período
      */
     public BigDecimal projetarRendimento(Conta conta, int meses) {
-        if (conta.getTaxaRendimento() == null || conta.getTaxaRendimento().compareTo(BigDecimal.ZERO) <= 0) {
-            return conta.getSaldo();
+        return projecaoRendimentoEngine.projetar(conta.getSaldo(), conta.getTaxaRendimento(), meses);
+    }
+
+    /**
+     * Curva de saldo projetado mês a mês de uma conta
+     * @param conta A conta para calcular rendimento
+     * @param meses Número de meses da curva (1 a 360)
+     */
+    public ProjecaoRendimentoDTO projetarCurva(Conta conta, int meses) {
+        validarMeses(meses);
+        List<BigDecimal> valores = projecaoRendimentoEngine.curva(conta.getSaldo(), conta.getTaxaRendimento(), meses);
+        List<ProjecaoRendimentoDTO.Ponto> pontos = new ArrayList<>(valores.size());
+        for (int i = 0; i < valores.size(); i++) {
+            pontos.add(new ProjecaoRendimentoDTO.Ponto(i + 1, valores.get(i)));
         }
-        
-        BigDecimal taxaMensal = conta.getTaxaRendimento().divide(BigDecimal.valueOf(12), 10, RoundingMode.HALF_UP)
-                                .divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP)
-                                .add(BigDecimal.ONE);
-        
-        // Fórmula: saldo * (1 + taxa)^meses
-        BigDecimal valorFinal = conta.getSaldo();
-        for (int i = 0; i < meses; i++) {
-            valorFinal = valorFinal.multiply(taxaMensal).setScale(2, RoundingMode.HALF_UP);
+        return new ProjecaoRendimentoDTO(conta.getId(), conta.getTitular(), conta.getSaldo(),
+                conta.getTaxaRendimento(), pontos);
+    }
+
+    /**
+     * Curvas de todas as contas de investimento e reserva de emergência do tenant atual
+     * @param meses Número de meses das curvas (1 a 360)
+     */
+    @Transactional(readOnly = true)
+    public List<ProjecaoRendimentoDTO> projetarCurvas(int meses) {
+        validarMeses(meses);
+        return contaRepository.findByTipoIn(List.of(TipoConta.INVESTIMENTO, TipoConta.RESERVA_EMERGENCIA))
+                .stream()
+                .map(conta -> projetarCurva(conta, meses))
+                .toList();
+    }
+
+    private void validarMeses(int meses) {
+        if (meses < 1 || meses > ProjecaoRendimentoEngine.MESES_MAXIMO) {
+            throw new BadRequestException("Número de meses deve estar entre 1 e "
+                    + ProjecaoRendimentoEngine.MESES_MAXIMO);
         }
-        
-        return valorFinal;
     }
 }
@@ -2,19 +2,16 @@ package br.com.salvemais.application.services;
 
 import br.com.salvemais.web.api.dto.*;
 import br.com.salvemais.domain.entities.Conta;
-import br.com.salvemais.domain.entities.ContaFixa;
-import br.com.salvemais.domain.entities.Fatura;
 import br.com.salvemais.domain.entities.ReservaEmergencia;
 import br.com.salvemais.domain.entities.Transacao;
 import br.com.salvemais.domain.enums.TipoConta;
 import br.com.salvemais.domain.enums.TipoTransacao;
-import br.com.salvemais.infrastructure.repositories.ContaFixaRepository;
 import br.com.salvemais.infrastructure.repositories.ContaRepository;
-import br.com.salvemais.infrastructure.repositories.FaturaRepository;
 import br.com.salvemais.infrastructure.repositories.ReservaEmergenciaRepository;
 import br.com.salvemais.infrastructure.repositories.TransacaoRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,14 +35,17 @@ public class ReservaEmergenciaService {
     private ContaRepository contaRepository;
 
     @Autowired
-    private ContaFixaRepository contaFixaRepository;
+    private ContaService contaService;
 
     @Autowired
-    private FaturaRepository faturaRepository;
+    private MonthlyTrendEngine monthlyTrendEngine;
 
     @Autowired
     private TransacaoRepository transacaoRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Busca todas as reservas de emergência
      */
@@ -96,7 +96,9 @@ public class ReservaEmergenciaService {
         calcularPercentualConcluido(reserva);
         calcularDataPrevisaoCompletar(reserva);
 
-        return toDTO(reservaEmergenciaRepository.save(reserva));
+        ReservaEmergenciaDTO salva = toDTO(reservaEmergenciaRepository.save(reserva));
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        return salva;
     }
 
     /**
@@ -136,7 +138,9 @@ public class ReservaEmergenciaService {
         // Recalcula a data prevista para completar a reserva
         calcularDataPrevisaoCompletar(reserva);
         
-        return toDTO(reservaEmergenciaRepository.save(reserva));
+        ReservaEmergenciaDTO salva = toDTO(reservaEmergenciaRepository.save(reserva));
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        return salva;
     }
 
     /**
@@ -147,6 +151,7 @@ public class ReservaEmergenciaService {
             throw new EntityNotFoundException("Reserva de emergência não encontrada");
         }
         reservaEmergenciaRepository.deleteById(id);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
     }
     
     /**
@@ -164,7 +169,9 @@ public class ReservaEmergenciaService {
         // Recalcula a data prevista para completar a reserva
         calcularDataPrevisaoCompletar(reserva);
         
-        return toDTO(reservaEmergenciaRepository.save(reserva));
+        ReservaEmergenciaDTO salva = toDTO(reservaEmergenciaRepository.save(reserva));
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        return salva;
     }
     
     /**
@@ -231,11 +238,7 @@ public class ReservaEmergenciaService {
         }
 
         // Atualiza saldos
-        contaOrigem.setSaldo(contaOrigem.getSaldo().subtract(contribuicaoDTO.valor()));
-        contaReserva.setSaldo(contaReserva.getSaldo().add(contribuicaoDTO.valor()));
-
-        contaRepository.save(contaOrigem);
-        contaRepository.save(contaReserva);
+        contaService.transferirSaldo(contaOrigem, contaReserva, contribuicaoDTO.valor());
 
         // Registra transação de saída na conta de origem
         Transacao saida = new Transacao();
@@ -264,44 +267,28 @@ public class ReservaEmergenciaService {
         calcularPercentualConcluido(reserva);
         calcularDataPrevisaoCompletar(reserva);
 
-        return toDTO(reservaEmergenciaRepository.save(reserva));
+        ReservaEmergenciaDTO salva = toDTO(reservaEmergenciaRepository.save(reserva));
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        return salva;
     }
     
     /**
      * Calcula a média de despesas mensais dos últimos 6 meses
+     * (contas fixas + faturas, sem compras no débito)
      */
     private BigDecimal calcularMediaDespesasMensais() {
         // Obtém o mês atual
         YearMonth mesAtual = YearMonth.now();
         
-        BigDecimal totalDespesas = BigDecimal.ZERO;
         int mesesConsiderados = 6;
         
-        // Calcula despesas dos últimos 6 meses
-        for (int i = 0; i < mesesConsiderados; i++) {
-            YearMonth mesPesquisa = mesAtual.minusMonths(i);
-            LocalDate inicioPeriodo = mesPesquisa.atDay(1);
-            LocalDate fimPeriodo = mesPesquisa.atEndOfMonth();
-            
-            // Soma despesas fixas do período
-            BigDecimal despesasFixas = contaFixaRepository.findByVencimentoBetween(inicioPeriodo, fimPeriodo).stream()
-                    .map(ContaFixa::getValor)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-            // Soma faturas do período
-            BigDecimal despesasFaturas = faturaRepository.findByDataVencimentoBetween(inicioPeriodo, fimPeriodo).stream()
-                    .map(Fatura::getValorTotal)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-            totalDespesas = totalDespesas.add(despesasFixas).add(despesasFaturas);
-        }
+        // Uma consulta agrupada por origem para os 6 meses, em vez de duas por mês
+        BigDecimal totalDespesas = monthlyTrendEngine.calcular(mesAtual.minusMonths(mesesConsiderados - 1), mesAtual).stream()
+                .map(resumo -> resumo.despesasFixas().add(resumo.despesasFaturas()))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
         
         // Calcula a média mensal
-        if (mesesConsiderados > 0) {
-            return totalDespesas.divide(BigDecimal.valueOf(mesesConsiderados), 2, RoundingMode.HALF_UP);
-        } else {
-            return BigDecimal.ZERO;
-        }
+        return totalDespesas.divide(BigDecimal.valueOf(mesesConsiderados), 2, RoundingMode.HALF_UP);
     }
     
     /**
@@ -0,0 +1,279 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.ResumoMensal;
+import br.com.salvemais.domain.enums.OrigemResumo;
+import br.com.salvemais.infrastructure.repositories.CompraDebitoRepository;
+import br.com.salvemais.infrastructure.repositories.ContaFixaRepository;
+import br.com.salvemais.infrastructure.repositories.FaturaRepository;
+import br.com.salvemais.infrastructure.repositories.ProventoRepository;
+import br.com.salvemais.infrastructure.repositories.ResumoMensalRepository;
+import br.com.salvemais.infrastructure.repositories.TotalMensal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mantém a tabela {@code resumo_mensal}: totais por (mês, origem, categoria) de proventos,
+ * contas fixas, faturas e compras no débito.
+ *
+ * Os serviços de escrita chamam {@link #registrarAlteracao} com as datas afetadas; os meses
+ * marcados são recalculados a partir dos lançamentos depois do commit, em uma transação
+ * própria, então uma falha aqui nunca desfaz a escrita do usuário. Cada recálculo trava o
+ * mês/origem no Postgres (advisory lock de transação), então escritas simultâneas no mesmo mês
+ * são recalculadas uma depois da outra, a segunda já enxergando o commit da primeira.
+ * Divergências eventuais são detectadas por {@link #verificarConsistencia()} e corrigidas por
+ * {@link #reconstruir()}; o {@link ResumoMensalVerificacaoJob} faz isso todo dia em todos os tenants.
+ */
+@Service
+public class ResumoMensalService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumoMensalService.class);
+
+    private static final LocalDate INICIO_HISTORICO = LocalDate.of(1900, 1, 1);
+    private static final LocalDate FIM_HISTORICO = LocalDate.of(9999, 12, 31);
+
+    /**
+     * Diferença entre o total esperado (calculado dos lançamentos) e o registrado no resumo.
+     */
+    public record Divergencia(YearMonth mes, OrigemResumo origem, Long categoriaId,
+                              BigDecimal esperado, BigDecimal registrado) {
+    }
+
+    private record Chave(LocalDate mes, OrigemResumo origem, Long categoriaId) {
+    }
+
+    private record MesOrigem(YearMonth mes, OrigemResumo origem) {
+    }
+
+    private final ResumoMensalRepository resumoMensalRepository;
+    private final ProventoRepository proventoRepository;
+    private final ContaFixaRepository contaFixaRepository;
+    private final FaturaRepository faturaRepository;
+    private final CompraDebitoRepository compraDebitoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean leituraHabilitada;
+
+    public ResumoMensalService(ResumoMensalRepository resumoMensalRepository,
+                               ProventoRepository proventoRepository,
+                               ContaFixaRepository contaFixaRepository,
+                               FaturaRepository faturaRepository,
+                               CompraDebitoRepository compraDebitoRepository,
+                               PlatformTransactionManager transactionManager,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${app.resumo-mensal.leitura.enabled:true}") boolean leituraHabilitada) {
+        this.resumoMensalRepository = resumoMensalRepository;
+        this.proventoRepository = proventoRepository;
+        this.contaFixaRepository = contaFixaRepository;
+        this.faturaRepository = faturaRepository;
+        this.compraDebitoRepository = compraDebitoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.leituraHabilitada = leituraHabilitada;
+    }
+
+    /**
+     * @return {@code true} se os dashboards devem ler do resumo em vez dos lançamentos
+     */
+    public boolean isLeituraHabilitada() {
+        return leituraHabilitada;
+    }
+
+    /**
+     * Marca os meses das datas informadas como alterados para a origem.
+     * Datas nulas são ignoradas; em uma atualização, passe a data anterior e a nova.
+     */
+    public void registrarAlteracao(OrigemResumo origem, LocalDate... datas) {
+        Set<MesOrigem> alterados = new LinkedHashSet<>();
+        for (LocalDate data : datas) {
+            if (data != null) {
+                alterados.add(new MesOrigem(YearMonth.from(data), origem));
+            }
+        }
+        if (alterados.isEmpty()) {
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            alterados.forEach(this::recalcularSemFalhar);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<MesOrigem> pendentes = (Set<MesOrigem>) TransactionSynchronizationManager.getResource(this);
+        if (pendentes == null) {
+            Set<MesOrigem> novos = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, novos);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    novos.forEach(ResumoMensalService.this::recalcularSemFalhar);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ResumoMensalService.this);
+                }
+            });
+            pendentes = novos;
+        }
+        pendentes.addAll(alterados);
+    }
+
+    /**
+     * Recalcula as linhas de uma origem em um mês a partir dos lançamentos.
+     */
+    public void recalcular(OrigemResumo origem, YearMonth mes) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Em READ COMMITTED, as somas feitas depois de obter a trava já enxergam o recálculo anterior
+            resumoMensalRepository.travarResumoCompartilhado();
+            resumoMensalRepository.travarMesOrigem(mes + ":" + origem);
+            resumoMensalRepository.deleteByMesAndOrigem(mes.atDay(1), origem);
+            resumoMensalRepository.saveAll(calcularDosLancamentos(origem, mes.atDay(1), mes.atEndOfMonth()));
+        });
+    }
+
+    /**
+     * Apaga e recria todo o resumo do tenant atual a partir dos lançamentos (backfill/correção).
+     *
+     * @return quantidade de linhas gravadas
+     */
+    public int reconstruir() {
+        Integer gravadas = transactionTemplate.execute(status -> {
+            resumoMensalRepository.travarResumoExclusivo();
+            resumoMensalRepository.deleteAllInBatch();
+            int total = 0;
+            for (OrigemResumo origem : OrigemResumo.values()) {
+                total += resumoMensalRepository.saveAll(
+                        calcularDosLancamentos(origem, INICIO_HISTORICO, FIM_HISTORICO)).size();
+            }
+            return total;
+        });
+        log.info("Resumo mensal reconstruído: {} linhas", gravadas);
+        eventPublisher.publishEvent(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        return gravadas != null ? gravadas : 0;
+    }
+
+    /**
+     * Reconstrói o resumo do tenant atual se ele divergir dos lançamentos, corrigindo
+     * recálculos que falharam depois do commit.
+     *
+     * @return {@code true} se o resumo foi reconstruído
+     */
+    public boolean corrigirSeDivergente() {
+        if (verificarConsistencia().isEmpty()) {
+            return false;
+        }
+        reconstruir();
+        return true;
+    }
+
+    /**
+     * Compara o resumo com os totais calculados dos lançamentos, sem alterar nada.
+     *
+     * @return divergências encontradas (vazia se o resumo está consistente)
+     */
+    public List<Divergencia> verificarConsistencia() {
+        Map<Chave, BigDecimal> esperado = new HashMap<>();
+        for (OrigemResumo origem : OrigemResumo.values()) {
+            for (ResumoMensal linha : calcularDosLancamentos(origem, INICIO_HISTORICO, FIM_HISTORICO)) {
+                esperado.merge(chave(linha), linha.getTotal(), BigDecimal::add);
+            }
+        }
+
+        Map<Chave, BigDecimal> registrado = new HashMap<>();
+        for (ResumoMensal linha : resumoMensalRepository.findAll()) {
+            registrado.merge(chave(linha), linha.getTotal(), BigDecimal::add);
+        }
+
+        Set<Chave> chaves = new HashSet<>(esperado.keySet());
+        chaves.addAll(registrado.keySet());
+
+        List<Divergencia> divergencias = new ArrayList<>();
+        for (Chave chave : chaves) {
+            BigDecimal valorEsperado = esperado.getOrDefault(chave, BigDecimal.ZERO);
+            BigDecimal valorRegistrado = registrado.getOrDefault(chave, BigDecimal.ZERO);
+            if (valorEsperado.compareTo(valorRegistrado) != 0) {
+                divergencias.add(new Divergencia(YearMonth.from(chave.mes()), chave.origem(), chave.categoriaId(),
+                        valorEsperado, valorRegistrado));
+            }
+        }
+        if (!divergencias.isEmpty()) {
+            log.warn("Resumo mensal com {} divergências em relação aos lançamentos", divergencias.size());
+        }
+        return divergencias;
+    }
+
+    /**
+     * Linhas do resumo entre os meses informados (inclusive).
+     */
+    public List<ResumoMensal> listar(YearMonth inicio, YearMonth fim) {
+        return resumoMensalRepository.findByMesBetween(inicio.atDay(1), fim.atDay(1));
+    }
+
+    /**
+     * Linhas do resumo de um mês para as origens informadas.
+     */
+    public List<ResumoMensal> listar(YearMonth mes, List<OrigemResumo> origens) {
+        return resumoMensalRepository.findByMesAndOrigemIn(mes.atDay(1), origens);
+    }
+
+    private void recalcularSemFalhar(MesOrigem alterado) {
+        try {
+            recalcular(alterado.origem(), alterado.mes());
+        } catch (Exception e) {
+            log.warn("Erro ao recalcular resumo mensal de {} em {}; será corrigido na próxima verificação: {}",
+                    alterado.origem(), alterado.mes(), e.getMessage());
+        }
+    }
+
+    private List<ResumoMensal> calcularDosLancamentos(OrigemResumo origem, LocalDate inicio, LocalDate fim) {
+        List<ResumoMensal> linhas = new ArrayList<>();
+        switch (origem) {
+            case PROVENTO -> proventoRepository.somarValorPorMes(inicio, fim)
+                    .forEach(total -> adicionar(linhas, origem, total, null));
+            case FATURA -> faturaRepository.somarValorTotalPorMesVencimento(inicio, fim)
+                    .forEach(total -> adicionar(linhas, origem, total, null));
+            case CONTA_FIXA -> contaFixaRepository.somarValorPorMesECategoriaVencimento(inicio, fim)
+                    .forEach(total -> adicionar(linhas, origem, total, total.getCategoriaId()));
+            case COMPRA_DEBITO -> compraDebitoRepository.somarValorPorMesECategoria(inicio, fim)
+                    .forEach(total -> adicionar(linhas, origem, total, total.getCategoriaId()));
+        }
+        return linhas;
+    }
+
+    private void adicionar(List<ResumoMensal> linhas, OrigemResumo origem, TotalMensal total, Long categoriaId) {
+        if (total.getTotal() == null) {
+            return;
+        }
+        ResumoMensal linha = new ResumoMensal();
+        linha.setMes(YearMonth.of(total.getAno(), total.getMes()).atDay(1));
+        linha.setOrigem(origem);
+        linha.setCategoriaId(categoriaId);
+        linha.setTotal(total.getTotal());
+        linhas.add(linha);
+    }
+
+    private Chave chave(ResumoMensal linha) {
+        return new Chave(linha.getMes(), linha.getOrigem(), linha.getCategoriaId());
+    }
+}
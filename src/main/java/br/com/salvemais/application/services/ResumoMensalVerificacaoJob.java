@@ -0,0 +1,47 @@
+package br.com.salvemais.application.services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * Verificação diária do {@code resumo_mensal} em todos os tenants: se o resumo de um tenant
+ * divergir dos lançamentos (por exemplo, um recálculo pós-commit que falhou), ele é reconstruído.
+ * A referência é o dia, então cada tenant é verificado uma vez por dia, com retomada pelo
+ * {@link TenantJobRunner} em caso de falha.
+ */
+@Service
+public class ResumoMensalVerificacaoJob implements TenantJob {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumoMensalVerificacaoJob.class);
+
+    static final String JOB_VERIFICACAO_RESUMO_MENSAL = "resumo-mensal-verificacao";
+
+    private final ResumoMensalService resumoMensalService;
+    private final TenantJobRunner tenantJobRunner;
+
+    public ResumoMensalVerificacaoJob(ResumoMensalService resumoMensalService, TenantJobRunner tenantJobRunner) {
+        this.resumoMensalService = resumoMensalService;
+        this.tenantJobRunner = tenantJobRunner;
+    }
+
+    @Scheduled(cron = "${app.resumo-mensal.verificacao.cron:0 30 3 * * *}", zone = "America/Sao_Paulo")
+    public void verificarTodosOsTenants() {
+        tenantJobRunner.executar(this, LocalDate.now().toString());
+    }
+
+    @Override
+    public String nome() {
+        return JOB_VERIFICACAO_RESUMO_MENSAL;
+    }
+
+    @Override
+    public void executar(String tenant, String referencia) {
+        if (resumoMensalService.corrigirSeDivergente()) {
+            log.warn("Resumo mensal do tenant {} divergia dos lançamentos e foi reconstruído", tenant);
+        }
+    }
+}
@@ -6,21 +6,33 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.function.Function;
+
 @Component
 public class SubscriptionScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(SubscriptionScheduler.class);
 
+    static final String JOB_EXPIRAR_TRIALS = "expirar-trials";
+
     @Autowired
     private SubscriptionService subscriptionService;
 
+    @Autowired
+    private TenantJobRunner tenantJobRunner;
+
     // Executa todo dia às 02:00
     @Scheduled(cron = "0 0 2 * * *", zone = "America/Sao_Paulo")
     public void expirarTrialsVencidos() {
         log.info("Verificando trials expirados...");
         try {
-            subscriptionService.expirarTrialsVencidos();
-            log.info("Verificação de trials concluída.");
+            // Cada tenant em sua transação: uma falha (ex.: SMTP) não desfaz nem trava os demais
+            List<String> vencidos = subscriptionService.listarTrialsVencidos();
+            TenantJobRunner.Resultado resultado = tenantJobRunner.distribuir(
+                    JOB_EXPIRAR_TRIALS, vencidos, Function.identity(), subscriptionService::expirarTrial);
+            log.info("Verificação de trials concluída: {} processados, {} com falha.",
+                    resultado.concluidos(), resultado.falhas());
         } catch (Exception e) {
             log.error("Erro ao expirar trials: {}", e.getMessage(), e);
         }
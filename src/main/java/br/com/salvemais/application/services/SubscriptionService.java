@@ -28,6 +28,9 @@ public class SubscriptionService {
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private TenantMetadataCache tenantMetadataCache;
+
     public List<Plano> listarPlanos() {
         return planoRepository.findAll().stream()
                 .filter(Plano::getAtivo)
@@ -51,7 +54,9 @@ public class SubscriptionService {
         tenant.setStripeCustomerId(stripeCustomerId);
         tenant.setTrialEndDate(null);
 
-        return tenantRepository.save(tenant);
+        Tenant saved = tenantRepository.save(tenant);
+        tenantMetadataCache.invalidate(saved.getDomain());
+        return saved;
     }
 
     @Transactional
@@ -64,6 +69,7 @@ public class SubscriptionService {
 
         tenant.setSubscriptionStatus(SubscriptionStatus.INADIMPLENTE);
         Tenant saved = tenantRepository.save(tenant);
+        tenantMetadataCache.invalidate(saved.getDomain());
 
         emailService.enviarEmailHtml(
                 tenant.getEmail(),
@@ -84,7 +90,9 @@ public class SubscriptionService {
         tenant.setSubscriptionEndDate(LocalDateTime.now());
         tenant.setStripeSubscriptionId(null);
 
-        return tenantRepository.save(tenant);
+        Tenant saved = tenantRepository.save(tenant);
+        tenantMetadataCache.invalidate(saved.getDomain());
+        return saved;
     }
 
     @Transactional
@@ -98,33 +106,54 @@ public class SubscriptionService {
         tenant.setSubscriptionStatus(SubscriptionStatus.ATIVO);
         tenant.setSubscriptionEndDate(LocalDateTime.now().plusMonths(1));
 
-        return tenantRepository.save(tenant);
+        Tenant saved = tenantRepository.save(tenant);
+        tenantMetadataCache.invalidate(saved.getDomain());
+        return saved;
+    }
+
+    /**
+     * Domínios dos tenants em trial com o período de teste já encerrado
+     */
+    @Transactional(readOnly = true)
+    public List<String> listarTrialsVencidos() {
+        return tenantRepository
+                .findBySubscriptionStatusAndTrialEndDateBefore(SubscriptionStatus.TRIAL, LocalDateTime.now())
+                .stream()
+                .map(Tenant::getDomain)
+                .toList();
     }
 
+    /**
+     * Encerra o trial do tenant e avisa por e-mail. A situação é conferida de novo porque o
+     * tenant pode ter assinado entre a listagem e o processamento
+     */
     @Transactional
-    public void expirarTrialsVencidos() {
-        List<Tenant> trialsVencidos = tenantRepository
-                .findBySubscriptionStatusAndTrialEndDateBefore(SubscriptionStatus.TRIAL, LocalDateTime.now());
-
-        for (Tenant tenant : trialsVencidos) {
-            tenant.setSubscriptionStatus(SubscriptionStatus.INADIMPLENTE);
-            tenantRepository.save(tenant);
-
-            emailService.enviarEmailHtml(
-                    tenant.getEmail(),
-                    "Salve Mais - Seu período de teste encerrou",
-                    "trial-expirado.html",
-                    tenant.getName(),
-                    "https://www.salvemais.com.br/#/billing"
-            );
+    public void expirarTrial(String domain) {
+        Tenant tenant = tenantRepository.findByDomain(domain).orElse(null);
+        if (tenant == null
+                || tenant.getSubscriptionStatus() != SubscriptionStatus.TRIAL
+                || tenant.getTrialEndDate() == null
+                || !tenant.getTrialEndDate().isBefore(LocalDateTime.now())) {
+            return;
         }
+
+        tenant.setSubscriptionStatus(SubscriptionStatus.INADIMPLENTE);
+        tenantRepository.save(tenant);
+        tenantMetadataCache.invalidate(tenant.getDomain());
+
+        emailService.enviarEmailHtml(
+                tenant.getEmail(),
+                "Salve Mais - Seu período de teste encerrou",
+                "trial-expirado.html",
+                tenant.getName(),
+                "https://www.salvemais.com.br/#/billing"
+        );
     }
 
     public boolean tenantEstaAtivo(String domain) {
-        Tenant tenant = tenantRepository.findByDomain(domain)
-                .orElseThrow(() -> new ResourceNotFoundException("Tenant não encontrado: " + domain));
-
-        SubscriptionStatus status = tenant.getSubscriptionStatus();
+        SubscriptionStatus status = tenantMetadataCache.get(domain)
+                .orElseThrow(() -> new ResourceNotFoundException("Tenant não encontrado: " + domain))
+                .subscriptionStatus();
         return status == SubscriptionStatus.TRIAL || status == SubscriptionStatus.ATIVO;
     }
 
@@ -0,0 +1,18 @@
+package br.com.salvemais.application.services;
+
+/**
+ * Job agendado que roda uma vez por tenant ativo, executado pelo {@link TenantJobRunner}.
+ */
+public interface TenantJob {
+
+    /** Nome estável do job, usado no checkpoint e nas métricas (ex.: {@code rendimento-mensal}). */
+    String nome();
+
+    /**
+     * Processa um tenant. Roda com o {@code TenantContext} do tenant e dentro da transação
+     * que marca o checkpoint: se lançar exceção, nada do tenant é gravado e ele é retomado depois.
+     * @param tenant Domínio do tenant
+     * @param referencia Identificador da execução (ex.: mês de referência)
+     */
+    void executar(String tenant, String referencia);
+}
@@ -0,0 +1,247 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.infrastructure.context.TenantContext;
+import br.com.salvemais.infrastructure.repositories.ExecucaoJobPendente;
+import br.com.salvemais.infrastructure.repositories.JobExecucaoTenantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Executa jobs agendados em todos os tenants: um virtual thread por tenant, cada um com o
+ * {@link TenantContext} do tenant e um tempo limite. O limite {@code app.jobs.paralelismo} vale para
+ * a instância inteira, somando todos os jobs em andamento, para os jobs não tomarem o pool de conexões.
+ *
+ * Jobs com checkpoint ({@link #executar(TenantJob, String)}) registram o progresso por tenant em
+ * {@code public.job_execucao_tenant}; uma queda ou falha retoma só os tenants que faltaram
+ * ({@link #retomarPendentes()}). Métricas: {@code salvemais.job.tenant} (duração por tenant, com a
+ * tag {@code resultado}) e {@code salvemais.job.execucao} (duração da execução inteira).
+ */
+@Service
+public class TenantJobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantJobRunner.class);
+
+    private static final int TAMANHO_MAXIMO_ERRO = 1000;
+    // Execuções mais antigas que isso não são mais retomadas
+    private static final int DIAS_RETOMADA = 7;
+
+    private final JobExecucaoTenantRepository jobExecucaoTenantRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate transacaoDoTenant;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<TenantJob> jobs;
+    // Vagas compartilhadas por todas as execuções: cada tenant em andamento segura uma conexão
+    private final Semaphore vagas;
+    private final Duration tempoLimite;
+    private final int maxTentativas;
+
+    // Execuções (job + referência) em andamento nesta instância
+    private final Set<String> emAndamento = ConcurrentHashMap.newKeySet();
+
+    public TenantJobRunner(JobExecucaoTenantRepository jobExecucaoTenantRepository,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           ObjectProvider<TenantJob> jobs,
+                           @Value("${app.jobs.paralelismo:3}") int paralelismo,
+                           @Value("${app.jobs.tempo-limite-segundos:300}") long tempoLimiteSegundos,
+                           @Value("${app.jobs.max-tentativas:5}") int maxTentativas) {
+        this.jobExecucaoTenantRepository = jobExecucaoTenantRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transacaoDoTenant = new TransactionTemplate(transactionManager);
+        // O banco aborta o trabalho do tenant que passar do limite, mesmo depois de o runner desistir dele
+        this.transacaoDoTenant.setTimeout((int) Math.min(Integer.MAX_VALUE, tempoLimiteSegundos));
+        this.meterRegistry = meterRegistry;
+        this.jobs = jobs;
+        this.vagas = new Semaphore(Math.max(1, paralelismo));
+        this.tempoLimite = Duration.ofSeconds(tempoLimiteSegundos);
+        this.maxTentativas = maxTentativas;
+    }
+
+    public record Resultado(int concluidos, int falhas) {}
+
+    /**
+     * Abre (ou reabre) a execução do job para a referência com os tenants ativos e processa
+     * os que ainda não concluíram.
+     */
+    public Resultado executar(TenantJob job, String referencia) {
+        Integer novos = transactionTemplate.execute(status ->
+                jobExecucaoTenantRepository.registrarTenantsAtivos(job.nome(), referencia, LocalDateTime.now()));
+        log.info("Job {} ({}): {} tenants registrados", job.nome(), referencia, novos);
+        return processarPendentes(job, referencia);
+    }
+
+    /**
+     * Retoma as execuções recentes que ficaram com tenants pendentes ou com falha
+     * (queda da aplicação, tempo esgotado, erro).
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.retomada-ms:1800000}",
+            initialDelayString = "${app.jobs.retomada-atraso-inicial-ms:120000}")
+    public void retomarPendentes() {
+        List<ExecucaoJobPendente> pendentes = jobExecucaoTenantRepository.findExecucoesPendentes(
+                maxTentativas, LocalDateTime.now().minusDays(DIAS_RETOMADA));
+        if (pendentes.isEmpty()) {
+            return;
+        }
+
+        Map<String, TenantJob> porNome = jobs.orderedStream()
+                .collect(Collectors.toMap(TenantJob::nome, Function.identity()));
+        for (ExecucaoJobPendente pendente : pendentes) {
+            TenantJob job = porNome.get(pendente.getJob());
+            if (job == null) {
+                log.warn("Execução pendente de job desconhecido: {} ({})", pendente.getJob(), pendente.getReferencia());
+                continue;
+            }
+            log.info("Retomando job {} ({})", job.nome(), pendente.getReferencia());
+            processarPendentes(job, pendente.getReferencia());
+        }
+    }
+
+    /**
+     * Distribui uma tarefa sem checkpoint entre tenants, para jobs que já têm a própria marca
+     * de idempotência. Cada item roda com o {@link TenantContext} do tenant devolvido por
+     * {@code tenantDe}; a tarefa controla as próprias transações.
+     */
+    public <T> Resultado distribuir(String nomeJob, Collection<T> itens, Function<T, String> tenantDe,
+                                    Consumer<T> tarefa) {
+        return distribuir(nomeJob, itens, tenantDe, tarefa, (item, erro) -> { });
+    }
+
+    private Resultado processarPendentes(TenantJob job, String referencia) {
+        String chave = job.nome() + "/" + referencia;
+        if (!emAndamento.add(chave)) {
+            log.info("Job {} já está em andamento nesta instância", chave);
+            return new Resultado(0, 0);
+        }
+        try {
+            List<String> tenants = jobExecucaoTenantRepository.findTenantsPendentes(job.nome(), referencia, maxTentativas);
+            return distribuir(job.nome(), tenants, Function.identity(),
+                    tenant -> processarComCheckpoint(job, referencia, tenant),
+                    (tenant, erro) -> registrarFalha(job.nome(), referencia, tenant, erro));
+        } finally {
+            emAndamento.remove(chave);
+        }
+    }
+
+    private void processarComCheckpoint(TenantJob job, String referencia, String tenant) {
+        transacaoDoTenant.executeWithoutResult(status -> {
+            if (jobExecucaoTenantRepository.marcarConcluido(job.nome(), referencia, tenant, LocalDateTime.now()) == 0) {
+                log.debug("Job {} ({}) já concluído no tenant {}", job.nome(), referencia, tenant);
+                return;
+            }
+            job.executar(tenant, referencia);
+        });
+    }
+
+    private void registrarFalha(String nomeJob, String referencia, String tenant, String erro) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jobExecucaoTenantRepository.registrarFalha(nomeJob, referencia, tenant, erro, LocalDateTime.now()));
+        } catch (Exception e) {
+            log.error("Erro ao registrar falha do job {} ({}) no tenant {}: {}", nomeJob, referencia, tenant, e.getMessage());
+        }
+    }
+
+    private <T> Resultado distribuir(String nomeJob, Collection<T> itens, Function<T, String> tenantDe,
+                                     Consumer<T> tarefa, BiConsumer<T, String> aoFalhar) {
+        if (itens.isEmpty()) {
+            return new Resultado(0, 0);
+        }
+
+        long inicio = System.nanoTime();
+        AtomicInteger concluidos = new AtomicInteger();
+        AtomicInteger falhas = new AtomicInteger();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (T item : itens) {
+                vagas.acquireUninterruptibly();
+                executor.submit(() -> {
+                    try {
+                        if (executarNoTenant(nomeJob, item, tenantDe.apply(item), tarefa, aoFalhar)) {
+                            concluidos.incrementAndGet();
+                        } else {
+                            falhas.incrementAndGet();
+                        }
+                    } finally {
+                        vagas.release();
+                    }
+                });
+            }
+        }
+
+        long duracaoNanos = System.nanoTime() - inicio;
+        meterRegistry.timer("salvemais.job.execucao", "job", nomeJob).record(duracaoNanos, TimeUnit.NANOSECONDS);
+        double segundos = Math.max(duracaoNanos / 1_000_000_000.0, 0.001);
+        log.info("Job {}: {} tenants em {} ms ({} tenants/s), {} com falha", nomeJob, itens.size(),
+                TimeUnit.NANOSECONDS.toMillis(duracaoNanos), Math.round(itens.size() / segundos), falhas.get());
+        return new Resultado(concluidos.get(), falhas.get());
+    }
+
+    /**
+     * Roda o item em um virtual thread próprio e espera até o tempo limite; ao esgotar,
+     * interrompe o trabalho e registra a falha.
+     * @return true se o item terminou sem erro
+     */
+    private <T> boolean executarNoTenant(String nomeJob, T item, String tenant, Consumer<T> tarefa,
+                                         BiConsumer<T, String> aoFalhar) {
+        Timer.Sample amostra = Timer.start(meterRegistry);
+        String resultado = "falha";
+        FutureTask<Void> trabalho = new FutureTask<>(() -> {
+            TenantContext.runWithTenant(tenant, () -> tarefa.accept(item));
+            return null;
+        });
+        Thread.ofVirtual().name("job-" + nomeJob + "-" + tenant).start(trabalho);
+        try {
+            trabalho.get(tempoLimite.toMillis(), TimeUnit.MILLISECONDS);
+            resultado = "sucesso";
+            return true;
+        } catch (TimeoutException e) {
+            trabalho.cancel(true);
+            resultado = "tempo_esgotado";
+            log.warn("Job {} excedeu {} s no tenant {}", nomeJob, tempoLimite.toSeconds(), tenant);
+            aoFalhar.accept(item, "Tempo limite de " + tempoLimite.toSeconds() + " s esgotado");
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            log.error("Job {} falhou no tenant {}", nomeJob, tenant, causa);
+            aoFalhar.accept(item, resumirErro(causa));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            trabalho.cancel(true);
+            aoFalhar.accept(item, "Interrompido");
+        } finally {
+            amostra.stop(meterRegistry.timer("salvemais.job.tenant", "job", nomeJob, "resultado", resultado));
+        }
+        return false;
+    }
+
+    private String resumirErro(Throwable erro) {
+        String mensagem = erro.getClass().getSimpleName() + ": " + erro.getMessage();
+        return mensagem.length() > TAMANHO_MAXIMO_ERRO ? mensagem.substring(0, TAMANHO_MAXIMO_ERRO) : mensagem;
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.Tenant;
+import br.com.salvemais.domain.entities.Tenant.SubscriptionPlan;
+import br.com.salvemais.domain.enums.SubscriptionStatus;
+import br.com.salvemais.infrastructure.repositories.TenantRepository;
+import br.com.salvemais.util.TtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache em memória (limitado e com TTL) dos metadados de assinatura do tenant,
+ * indexado pelo domínio. Evita o {@code findByDomain} em toda requisição
+ * autenticada ({@code SubscriptionGuardFilter}, {@code PlanLimitService}, billing).
+ *
+ * Quem altera status/plano do tenant deve chamar {@link #invalidate(String)}.
+ */
+@Service
+public class TenantMetadataCache {
+
+    public record TenantMetadata(
+            UUID id,
+            String domain,
+            Boolean active,
+            SubscriptionStatus subscriptionStatus,
+            SubscriptionPlan subscriptionPlan,
+            Integer maxUsers,
+            BigDecimal maxStorageGb,
+            LocalDateTime trialEndDate,
+            LocalDateTime subscriptionEndDate
+    ) {
+        static TenantMetadata of(Tenant tenant) {
+            return new TenantMetadata(
+                    tenant.getId(),
+                    tenant.getDomain(),
+                    tenant.getActive(),
+                    tenant.getSubscriptionStatus(),
+                    tenant.getSubscriptionPlan(),
+                    tenant.getMaxUsers(),
+                    tenant.getMaxStorageGb(),
+                    tenant.getTrialEndDate(),
+                    tenant.getSubscriptionEndDate()
+            );
+        }
+    }
+
+    private final TenantRepository tenantRepository;
+    private final TtlCache<String, TenantMetadata> cache;
+
+    public TenantMetadataCache(TenantRepository tenantRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.cache.tenant-metadata.ttl-seconds:60}") long ttlSeconds,
+                               @Value("${app.cache.tenant-metadata.max-entries:10000}") int maxEntries) {
+        this.tenantRepository = tenantRepository;
+        this.cache = new TtlCache<>("salvemais.cache.tenant.metadata",
+                Duration.ofSeconds(ttlSeconds), maxEntries, meterRegistry);
+    }
+
+    public Optional<TenantMetadata> get(String domain) {
+        return cache.get(domain, d -> tenantRepository.findByDomain(d).map(TenantMetadata::of));
+    }
+
+    /**
+     * Remove o domínio do cache (e de novo ao fim da transação corrente, se houver).
+     */
+    public void invalidate(String domain) {
+        cache.invalidate(domain);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    double hitRatio() {
+        return cache.hitRatio();
+    }
+}
@@ -41,6 +41,12 @@ public class TenantService {
 
     @Autowired
     private TenantSchemaUserService tenantSchemaUserService;
+
+    @Autowired
+    private TenantMetadataCache tenantMetadataCache;
+
+    @Autowired
+    private UsuarioAtivoCache usuarioAtivoCache;
     
     @Value("${app.confirmation.url}")
     private String confirmationUrl;
@@ -136,13 +142,17 @@ public class TenantService {
     
     public Tenant update(UUID id, TenantDTO tenantDTO) {
         Tenant tenant = findById(id);
+        tenantMetadataCache.invalidate(tenant.getDomain());
         BeanUtils.copyProperties(tenantDTO, tenant, Utils.getNullPropertyNames(tenantDTO));
-        return tenantRepository.save(tenant);
+        Tenant saved = tenantRepository.save(tenant);
+        tenantMetadataCache.invalidate(saved.getDomain());
+        return saved;
     }
     
     public void delete(UUID id) {
         Tenant tenant = findById(id);
         tenantRepository.delete(tenant);
+        tenantMetadataCache.invalidate(tenant.getDomain());
     }
     
     // Métodos para customização do tenant
@@ -200,7 +210,9 @@ public class TenantService {
             tenant.setEnabledFeatures(subscriptionDTO.getEnabledFeatures());
         }
         
-        return tenantRepository.save(tenant);
+        Tenant saved = tenantRepository.save(tenant);
+        tenantMetadataCache.invalidate(saved.getDomain());
+        return saved;
     }
     
     public Tenant updateSmtpConfig(UUID id, TenantSmtpConfigDTO smtpConfigDTO) {
@@ -245,6 +257,7 @@ public class TenantService {
         
         if (updateDTO.getActive() != null) {
             tenant.setActive(updateDTO.getActive());
+            tenantMetadataCache.invalidate(tenant.getDomain());
         }
         if (updateDTO.getName() != null) {
             tenant.setName(updateDTO.getName());
@@ -378,10 +391,12 @@ public class TenantService {
         Tenant tenant = findById(tenantId);
         tenant.setActive(!tenant.getActive());
         tenantRepository.save(tenant);
+        tenantMetadataCache.invalidate(tenant.getDomain());
     }
 
     public void toggleUsuarioStatus(UUID tenantId, Long usuarioId) {
         tenantUserService.toggleUsuarioStatus(tenantId, usuarioId);
+        usuarioAtivoCache.invalidateTenant(tenantId);
     }
 
     public void enviarResetSenhaUsuario(UUID tenantId, Long usuarioId) {
@@ -408,10 +423,12 @@ public class TenantService {
 
     public void desativarTodosUsuarios(UUID tenantId) {
         tenantUserService.desativarTodosUsuarios(tenantId);
+        usuarioAtivoCache.invalidateTenant(tenantId);
     }
 
     public void ativarTodosUsuarios(UUID tenantId) {
         tenantUserService.ativarTodosUsuarios(tenantId);
+        usuarioAtivoCache.invalidateTenant(tenantId);
     }
 
     public TenantExportDTO exportarDadosTenant(UUID tenantId) {
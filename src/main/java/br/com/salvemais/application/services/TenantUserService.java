@@ -5,6 +5,7 @@ import br.com.salvemais.domain.entities.Usuario;
 import br.com.salvemais.domain.exceptions.ResourceNotFoundException;
 import br.com.salvemais.infrastructure.context.TenantContext;
 import br.com.salvemais.infrastructure.repositories.TenantRepository;
+import br.com.salvemais.infrastructure.repositories.UsuarioGlobalRepository;
 import br.com.salvemais.infrastructure.repositories.UsuarioRepository;
 import org.springframework.stereotype.Service;
 
@@ -17,13 +18,16 @@ public class TenantUserService {
 
     private final TenantRepository tenantRepository;
     private final UsuarioRepository usuarioRepository;
+    private final UsuarioGlobalRepository usuarioGlobalRepository;
     private final EmailService emailService;
 
     public TenantUserService(TenantRepository tenantRepository,
                              UsuarioRepository usuarioRepository,
+                             UsuarioGlobalRepository usuarioGlobalRepository,
                              EmailService emailService) {
         this.tenantRepository = tenantRepository;
         this.usuarioRepository = usuarioRepository;
+        this.usuarioGlobalRepository = usuarioGlobalRepository;
         this.emailService = emailService;
     }
 
@@ -34,6 +38,7 @@ public class TenantUserService {
                     .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado"));
             usuario.setAtivo(!usuario.getAtivo());
             usuarioRepository.save(usuario);
+            usuarioGlobalRepository.atualizarAtivoPorEmail(usuario.getEmail(), usuario.getAtivo());
         });
     }
 
@@ -89,6 +94,7 @@ public class TenantUserService {
                 usuarioRepository.save(usuario);
             }
         });
+        usuarioGlobalRepository.atualizarAtivoPorTenant(tenantId, false);
     }
 
     public void ativarTodosUsuarios(UUID tenantId) {
@@ -100,6 +106,7 @@ public class TenantUserService {
                 usuarioRepository.save(usuario);
             }
         });
+        usuarioGlobalRepository.atualizarAtivoPorTenant(tenantId, true);
     }
 
     private Tenant findTenant(UUID tenantId) {
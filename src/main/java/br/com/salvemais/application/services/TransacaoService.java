@@ -1,15 +1,21 @@
 package br.com.salvemais.application.services;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import br.com.salvemais.web.api.dto.PaginaCursorDTO;
 import br.com.salvemais.web.api.dto.TransacaoDTO;
 import br.com.salvemais.web.api.dto.TransacaoFiltroDTO;
 import br.com.salvemais.web.api.dto.TransacaoInputDTO;
@@ -19,6 +25,7 @@ import br.com.salvemais.domain.entities.ContaFixa;
 import br.com.salvemais.domain.entities.Fatura;
 import br.com.salvemais.domain.entities.Provento;
 import br.com.salvemais.domain.entities.Transacao;
+import br.com.salvemais.domain.exceptions.BadRequestException;
 import br.com.salvemais.domain.exceptions.ResourceNotFoundException;
 import br.com.salvemais.infrastructure.repositories.CategoriaRepository;
 import br.com.salvemais.infrastructure.repositories.ContaFixaRepository;
@@ -26,9 +33,39 @@ import br.com.salvemais.infrastructure.repositories.ContaRepository;
 import br.com.salvemais.infrastructure.repositories.FaturaRepository;
 import br.com.salvemais.infrastructure.repositories.ProventoRepository;
 import br.com.salvemais.infrastructure.repositories.TransacaoRepository;
+import br.com.salvemais.infrastructure.repositories.specifications.TransacaoSpecification;
 
 @Service
 public class TransacaoService {
+
+    private static final int TAMANHO_MAXIMO_PAGINA_CURSOR = 100;
+    private static final Sort ORDEM_CURSOR = Sort.by(Sort.Direction.DESC, "data", "id");
+    /** Associações usadas por {@link #toDTO}, carregadas junto na listagem por cursor. */
+    private static final List<String> DETALHES_CURSOR = List.of(
+            "conta", "contaDestino", "fatura.cartaoCredito", "categoria", "provento", "contaFixa");
+
+    /**
+     * Posição da listagem por cursor: última transação devolvida. O token é opaco para o
+     * cliente (Base64 de {@code data|id}).
+     */
+    private record CursorTransacao(LocalDateTime data, Long id) {
+
+        String codificar() {
+            String valor = data + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static CursorTransacao decodificar(String token) {
+            try {
+                String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int separador = valor.lastIndexOf('|');
+                return new CursorTransacao(LocalDateTime.parse(valor.substring(0, separador)),
+                        Long.valueOf(valor.substring(separador + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new BadRequestException("Cursor de paginação inválido");
+            }
+        }
+    }
     /**
      * Remove uma transação pelo ID
      */
@@ -76,11 +113,49 @@ public class TransacaoService {
      */
     public Page<TransacaoDTO> listarTransacoes(TransacaoFiltroDTO filtro, Pageable pageable) {
         return transacaoRepository.findAll(
-            br.com.salvemais.infrastructure.repositories.specifications.TransacaoSpecification.comFiltro(filtro),
+            TransacaoSpecification.comFiltro(filtro),
             pageable
         ).map(this::toDTO);
     }
 
+    /**
+     * Lista transações por cursor, em ordem de {@code data DESC, id DESC}.
+     * Cada página filtra a partir da última linha da anterior em vez de usar OFFSET, então o
+     * custo não cresce com a profundidade; o COUNT só roda quando {@code contarTotal} é verdadeiro.
+     *
+     * @param cursor token devolvido em {@link PaginaCursorDTO#proximoCursor()} ({@code null} na primeira página)
+     * @param tamanho quantidade de itens por página (limitada a {@value #TAMANHO_MAXIMO_PAGINA_CURSOR})
+     */
+    public PaginaCursorDTO<TransacaoDTO> listarTransacoesPorCursor(TransacaoFiltroDTO filtro, String cursor,
+                                                                   int tamanho, boolean contarTotal) {
+        int limite = Math.max(1, Math.min(tamanho, TAMANHO_MAXIMO_PAGINA_CURSOR));
+        Specification<Transacao> filtroSpec = TransacaoSpecification.comFiltro(filtro);
+
+        Specification<Transacao> spec = filtroSpec;
+        if (cursor != null && !cursor.isBlank()) {
+            CursorTransacao posicao = CursorTransacao.decodificar(cursor);
+            spec = spec.and(TransacaoSpecification.antesDe(posicao.data(), posicao.id()));
+        }
+
+        // Busca um item a mais só para saber se existe próxima página
+        List<Transacao> transacoes = transacaoRepository.findBy(spec, q -> q
+                .sortBy(ORDEM_CURSOR)
+                .project(DETALHES_CURSOR)
+                .limit(limite + 1)
+                .all());
+
+        boolean temMais = transacoes.size() > limite;
+        List<Transacao> pagina = temMais ? transacoes.subList(0, limite) : transacoes;
+        String proximoCursor = null;
+        if (temMais) {
+            Transacao ultima = pagina.get(pagina.size() - 1);
+            proximoCursor = new CursorTransacao(ultima.getData(), ultima.getId()).codificar();
+        }
+        Long total = contarTotal ? transacaoRepository.count(filtroSpec) : null;
+
+        return new PaginaCursorDTO<>(pagina.stream().map(this::toDTO).toList(), proximoCursor, temMais, total);
+    }
+
     /**
      * Cria uma nova transação e atualiza os saldos
      * Este método é usado pelo ContaService e mantido para compatibilidade com código existente
@@ -0,0 +1,126 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.infrastructure.context.TenantContext;
+import br.com.salvemais.infrastructure.repositories.UsuarioGlobalRepository;
+import br.com.salvemais.infrastructure.repositories.UsuarioRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Registra o último acesso dos usuários fora do caminho do login: o login só anota o acesso
+ * em memória e a cada {@code app.ultimo-acesso.flush-ms} os acessos acumulados são gravados em
+ * lote — um UPDATE em {@code usuario_global.atualizado_em} e um por tenant em
+ * {@code usuario.ultimo_acesso} para cada segundo com acesso.
+ *
+ * Logins repetidos do mesmo usuário entre dois flushes viram uma única escrita. Como o buffer
+ * é indexado pelo e-mail, ele nunca passa do número de usuários. Uma queda da instância perde
+ * no máximo os acessos do último intervalo.
+ */
+@Service
+public class UltimoAcessoService {
+
+    private static final Logger log = LoggerFactory.getLogger(UltimoAcessoService.class);
+
+    private record Acesso(String tenantDomain, LocalDateTime instante) {}
+
+    private final UsuarioGlobalRepository usuarioGlobalRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<String, Acesso> pendentes = new ConcurrentHashMap<>();
+    private final Counter registrados;
+    private final Counter gravados;
+
+    public UltimoAcessoService(UsuarioGlobalRepository usuarioGlobalRepository,
+                               UsuarioRepository usuarioRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.usuarioGlobalRepository = usuarioGlobalRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.registrados = Counter.builder("salvemais.ultimo.acesso").tag("etapa", "registrado").register(meterRegistry);
+        this.gravados = Counter.builder("salvemais.ultimo.acesso").tag("etapa", "gravado").register(meterRegistry);
+        Gauge.builder("salvemais.ultimo.acesso.pendentes", pendentes, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Anota o acesso em memória; não toca no banco
+     */
+    public void registrar(String email, String tenantDomain) {
+        Acesso acesso = new Acesso(tenantDomain, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS));
+        pendentes.merge(email, acesso, (atual, novo) -> novo.instante().isAfter(atual.instante()) ? novo : atual);
+        registrados.increment();
+    }
+
+    /**
+     * Grava os acessos acumulados desde o último flush
+     */
+    @Scheduled(fixedDelayString = "${app.ultimo-acesso.flush-ms:5000}")
+    public void flush() {
+        Map<String, Acesso> lote = new TreeMap<>();
+        for (String email : List.copyOf(pendentes.keySet())) {
+            Acesso acesso = pendentes.remove(email);
+            if (acesso != null) {
+                lote.put(email, acesso);
+            }
+        }
+        if (lote.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> porInstante(lote).forEach(
+                    (instante, emails) -> usuarioGlobalRepository.registrarUltimoAcesso(emails, instante)));
+        } catch (Exception e) {
+            log.error("Erro ao gravar último acesso de {} usuários em usuario_global", lote.size(), e);
+        }
+
+        Map<String, Map<String, Acesso>> porTenant = lote.entrySet().stream()
+                .filter(e -> e.getValue().tenantDomain() != null)
+                .collect(Collectors.groupingBy(e -> e.getValue().tenantDomain(), TreeMap::new,
+                        Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, TreeMap::new)));
+        porTenant.forEach((tenant, acessos) -> {
+            try {
+                TenantContext.runWithTenant(tenant, () -> transactionTemplate.executeWithoutResult(status ->
+                        porInstante(acessos).forEach((instante, emails) ->
+                                usuarioRepository.registrarUltimoAcesso(emails, instante))));
+            } catch (Exception e) {
+                log.warn("Erro ao gravar último acesso no tenant {}: {}", tenant, e.getMessage());
+            }
+        });
+
+        gravados.increment(lote.size());
+        log.debug("Último acesso gravado para {} usuários de {} tenants", lote.size(), porTenant.size());
+    }
+
+    /**
+     * Grava o que ficou pendente antes de a aplicação parar
+     */
+    @PreDestroy
+    public void encerrar() {
+        flush();
+    }
+
+    private Map<LocalDateTime, List<String>> porInstante(Map<String, Acesso> acessos) {
+        Map<LocalDateTime, List<String>> emailsPorInstante = new TreeMap<>();
+        acessos.forEach((email, acesso) ->
+                emailsPorInstante.computeIfAbsent(acesso.instante(), i -> new ArrayList<>()).add(email));
+        return emailsPorInstante;
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.util.TtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Cache das URLs pré-assinadas de download por chave S3. Cada URL vale
+ * {@code aws.s3.presignedUrlExpirationMinutes} e sai do cache
+ * {@code app.cache.url-assinada.margem-segundos} antes de expirar, para que o cliente
+ * sempre receba uma URL com pelo menos essa margem de validade.
+ *
+ * A chave S3 já inclui o tenant ({@code comprovantes/<tenant>/...}) e só é consultada
+ * depois de o anexo ser lido no schema do tenant atual.
+ */
+@Service
+public class UrlAssinadaCache {
+
+    private final S3Presigner s3Presigner;
+    private final String bucketName;
+    private final Duration validade;
+    private final TtlCache<String, String> cache;
+
+    public UrlAssinadaCache(S3Presigner s3Presigner,
+                            MeterRegistry meterRegistry,
+                            @Value("${aws.s3.bucket}") String bucketName,
+                            @Value("${aws.s3.presignedUrlExpirationMinutes}") int presignedUrlExpirationMinutes,
+                            @Value("${app.cache.url-assinada.margem-segundos:60}") long margemSegundos,
+                            @Value("${app.cache.url-assinada.max-entries:10000}") int maxEntries) {
+        this.s3Presigner = s3Presigner;
+        this.bucketName = bucketName;
+        this.validade = Duration.ofMinutes(presignedUrlExpirationMinutes);
+        Duration ttl = validade.minusSeconds(margemSegundos);
+        this.cache = new TtlCache<>("salvemais.cache.url.assinada",
+                ttl.isNegative() ? Duration.ZERO : ttl, maxEntries, meterRegistry);
+    }
+
+    /**
+     * URL pré-assinada de download do objeto, reaproveitada enquanto ainda tiver a margem de validade
+     */
+    public String urlDownload(String chaveS3) {
+        return cache.get(chaveS3, chave -> Optional.of(assinar(chave))).orElseThrow();
+    }
+
+    public void invalidate(String chaveS3) {
+        cache.invalidate(chaveS3);
+    }
+
+    private String assinar(String chaveS3) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(chaveS3)
+                .build();
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(validade)
+                .getObjectRequest(getObjectRequest)
+                .build();
+
+        return s3Presigner.presignGetObject(presignRequest).url().toString();
+    }
+}
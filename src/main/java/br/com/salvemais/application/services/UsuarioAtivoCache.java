@@ -0,0 +1,51 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.infrastructure.repositories.UsuarioGlobalRepository;
+import br.com.salvemais.util.TtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Cache curto do status (ativo/inativo) de {@code usuario_global} por e-mail,
+ * usado pela autenticação sem estado do {@code JwtAuthenticationFilter}.
+ */
+@Service
+public class UsuarioAtivoCache {
+
+    private record UsuarioStatus(UUID tenantId, boolean ativo) {
+    }
+
+    private final UsuarioGlobalRepository usuarioGlobalRepository;
+    private final TtlCache<String, UsuarioStatus> cache;
+
+    public UsuarioAtivoCache(UsuarioGlobalRepository usuarioGlobalRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.cache.usuario-ativo.ttl-seconds:30}") long ttlSeconds,
+                             @Value("${app.cache.usuario-ativo.max-entries:50000}") int maxEntries) {
+        this.usuarioGlobalRepository = usuarioGlobalRepository;
+        this.cache = new TtlCache<>("salvemais.cache.usuario.ativo",
+                Duration.ofSeconds(ttlSeconds), maxEntries, meterRegistry);
+    }
+
+    /**
+     * @return {@code true} se o usuário existe em {@code usuario_global} e está ativo
+     */
+    public boolean isAtivo(String email) {
+        Optional<UsuarioStatus> status = cache.get(email, e -> usuarioGlobalRepository.findByEmail(e)
+                .map(usuario -> new UsuarioStatus(usuario.getTenantId(), Boolean.TRUE.equals(usuario.getAtivo()))));
+        return status.map(UsuarioStatus::ativo).orElse(false);
+    }
+
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+
+    public void invalidateTenant(UUID tenantId) {
+        cache.invalidateIf((email, status) -> tenantId.equals(status.tenantId()));
+    }
+}
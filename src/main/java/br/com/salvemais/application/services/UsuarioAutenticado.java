@@ -0,0 +1,33 @@
+package br.com.salvemais.application.services;
+
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.UUID;
+
+/**
+ * Principal do login: além das credenciais, guarda o tenant lido na mesma consulta da
+ * autenticação, para emitir o JWT e registrar o acesso sem buscar o usuário de novo.
+ */
+public class UsuarioAutenticado extends User {
+
+    private final UUID tenantId;
+    private final String tenantDomain;
+
+    public UsuarioAutenticado(String email, String senha, UUID tenantId, String tenantDomain) {
+        super(email, senha, AuthorityUtils.createAuthorityList("USER"));
+        this.tenantId = tenantId;
+        this.tenantDomain = tenantDomain;
+    }
+
+    public UUID getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Nulo se o tenant do usuário não existe mais
+     */
+    public String getTenantDomain() {
+        return tenantDomain;
+    }
+}
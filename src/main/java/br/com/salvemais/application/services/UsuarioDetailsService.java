@@ -1,7 +1,7 @@
 package br.com.salvemais.application.services;
 
-import br.com.salvemais.domain.entities.UsuarioGlobal;
 import br.com.salvemais.infrastructure.repositories.UsuarioGlobalRepository;
+import br.com.salvemais.infrastructure.repositories.UsuarioLogin;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -19,15 +19,16 @@ public class UsuarioDetailsService implements UserDetailsService {
 
     /**
      * Carrega os detalhes do usuário pelo email.
-     * Este método busca na tabela usuario_global (centralizada no schema public)
+     * Este método busca na tabela usuario_global (centralizada no schema public),
+     * junto com o domínio do tenant do usuário
      * 
      * @param email email do usuário
-     * @return UserDetails com as credenciais do usuário
+     * @return {@link UsuarioAutenticado} com as credenciais e o tenant do usuário
      * @throws UsernameNotFoundException se o usuário não for encontrado
      */
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        UsuarioGlobal usuarioGlobal = usuarioGlobalRepository.findByEmail(email)
+        UsuarioLogin usuarioGlobal = usuarioGlobalRepository.findLoginByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado"));
         
         // Verificar se o usuário está ativo
@@ -35,10 +36,7 @@ public class UsuarioDetailsService implements UserDetailsService {
             throw new UsernameNotFoundException("Usuário inativo");
         }
         
-        return org.springframework.security.core.userdetails.User
-                .withUsername(usuarioGlobal.getEmail())
-                .password(usuarioGlobal.getSenha())
-                .authorities("USER")
-                .build();
+        return new UsuarioAutenticado(usuarioGlobal.getEmail(), usuarioGlobal.getSenha(),
+                usuarioGlobal.getTenantId(), usuarioGlobal.getTenantDomain());
     }
 }
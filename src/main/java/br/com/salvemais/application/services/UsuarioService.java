@@ -37,18 +37,6 @@ public class UsuarioService {
 
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
-    @Transactional
-    public void atualizarUltimoAcesso(String email) {
-        try {
-            Usuario usuario = usuarioRepository.findByEmail(email)
-                    .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
-            usuario.setUltimoAcesso(java.time.LocalDateTime.now());
-            usuarioRepository.save(usuario);
-        } catch (Exception e) {
-            logger.debug("Não foi possível atualizar último acesso em usuário local: {}", e.getMessage());
-        }
-    }
-    
     /**
      * Cria um novo usuário tanto na tabela local (tenant-specific) quanto na tabela global
      * Sincroniza automaticamente com usuario_global para permitir login centralizado
@@ -204,5 +192,13 @@ public class UsuarioService {
         }
         
         usuarioRepository.deleteById(id);
+
+        // Remover também de usuario_global, que serve de base para login e estatísticas
+        try {
+            usuarioGlobalRepository.findByEmail(usuarioParaDeletar.getEmail())
+                    .ifPresent(usuarioGlobalRepository::delete);
+        } catch (Exception e) {
+            logger.error("Erro ao remover {} de usuario_global: {}", usuarioParaDeletar.getEmail(), e.getMessage());
+        }
     }
 }
@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @Setter
-@Table(name = "anexo")
+@Table(name = "anexo", indexes = @Index(name = "idx_anexo_hash_sha256", columnList = "hash_sha256"))
 public class Anexo {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -26,6 +26,15 @@ public class Anexo {
     @Column(name = "chave_s3")
     private String chaveS3;
 
+    /**
+     * SHA-256 (hex) do conteúdo enviado ao S3; nulo em anexos anteriores à V41
+     */
+    @Column(name = "hash_sha256", length = 64)
+    private String hashSha256;
+
+    @Column(name = "tamanho")
+    private Long tamanho;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "conta_fixa_id")
     @JsonBackReference
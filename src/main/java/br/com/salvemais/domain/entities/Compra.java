@@ -10,6 +10,10 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @Setter
+@Table(indexes = {
+        @Index(name = "idx_compra_data", columnList = "data"),
+        @Index(name = "idx_compra_cartao_data", columnList = "cartao_credito_id, data")
+})
 public class Compra {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
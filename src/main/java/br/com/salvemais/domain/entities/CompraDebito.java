@@ -13,7 +13,7 @@ import java.util.List;
 @Entity
 @Getter
 @Setter
-@Table(name = "compra_debito")
+@Table(name = "compra_debito", indexes = @Index(name = "idx_compra_debito_data_compra", columnList = "data_compra"))
 public class CompraDebito {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
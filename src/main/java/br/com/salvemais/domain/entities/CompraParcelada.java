@@ -12,8 +12,26 @@ import java.util.List;
 @Entity
 @Getter
 @Setter
-@Table(name = "compra_parcelada")
+@Table(name = "compra_parcelada", indexes = @Index(name = "idx_compra_parcelada_data_compra", columnList = "data_compra"))
+@NamedEntityGraph(
+        name = CompraParcelada.GRAFO_RESUMO,
+        attributeNodes = {@NamedAttributeNode("categoria"), @NamedAttributeNode("cartaoCredito")}
+)
+@NamedEntityGraph(
+        name = CompraParcelada.GRAFO_PARCELAS,
+        attributeNodes = {
+                @NamedAttributeNode("categoria"),
+                @NamedAttributeNode("cartaoCredito"),
+                @NamedAttributeNode("parcelas")
+        }
+)
 public class CompraParcelada {
+
+    /** Categoria e cartão (seguro para consultas paginadas; parcelas vêm em lote). */
+    public static final String GRAFO_RESUMO = "CompraParcelada.resumo";
+
+    /** Categoria, cartão e parcelas, para buscas de uma compra ou listas sem paginação. */
+    public static final String GRAFO_PARCELAS = "CompraParcelada.parcelas";
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
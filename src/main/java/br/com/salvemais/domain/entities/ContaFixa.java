@@ -13,10 +13,11 @@ import java.util.List;
 @Entity
 @Getter
 @Setter
-@Table(name = "conta_fixa") // Specify the table name if needed
+@Table(name = "conta_fixa", indexes = @Index(name = "idx_conta_fixa_vencimento", columnList = "vencimento"))
 public class ContaFixa {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "conta_fixa_seq")
+    @SequenceGenerator(name = "conta_fixa_seq", sequenceName = "conta_fixa_id_seq", allocationSize = 50)
     private Long id;
 
     private String nome;
@@ -0,0 +1,52 @@
+package br.com.salvemais.domain.entities;
+
+import br.com.salvemais.domain.enums.StatusEmailOutbox;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * E-mail na fila de saída, enviado pelo {@code EmailOutboxService} com novas tentativas.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "email_outbox", schema = "public")
+public class EmailOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tenant_domain")
+    private String tenantDomain;
+
+    @Column(nullable = false)
+    private String destinatario;
+
+    @Column(nullable = false, length = 500)
+    private String assunto;
+
+    @Column(name = "corpo_html", nullable = false, columnDefinition = "TEXT")
+    private String corpoHtml;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatusEmailOutbox status = StatusEmailOutbox.PENDENTE;
+
+    @Column(nullable = false)
+    private int tentativas;
+
+    @Column(name = "proxima_tentativa", nullable = false)
+    private LocalDateTime proximaTentativa;
+
+    @Column(name = "ultimo_erro", length = 1000)
+    private String ultimoErro;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "enviado_em")
+    private LocalDateTime enviadoEm;
+}
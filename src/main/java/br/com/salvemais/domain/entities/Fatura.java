@@ -10,10 +10,22 @@ import java.time.LocalDate;
 import java.util.List;
 
 @Entity(name = "fatura")
+@Table(indexes = @Index(name = "idx_fatura_data_vencimento", columnList = "data_vencimento"))
+@NamedEntityGraph(
+        name = Fatura.GRAFO_COMPRAS,
+        attributeNodes = {
+                @NamedAttributeNode("cartaoCredito"),
+                @NamedAttributeNode(value = "compras", subgraph = "compras")
+        },
+        subgraphs = @NamedSubgraph(name = "compras", attributeNodes = @NamedAttributeNode("categoria"))
+)
 @Getter
 @Setter
 public class Fatura {
 
+    /** Fatura com cartão, compras e a categoria de cada compra em uma única consulta. */
+    public static final String GRAFO_COMPRAS = "Fatura.compras";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
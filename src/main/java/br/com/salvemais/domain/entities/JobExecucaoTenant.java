@@ -0,0 +1,48 @@
+package br.com.salvemais.domain.entities;
+
+import br.com.salvemais.domain.enums.StatusJobTenant;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint de um tenant em uma execução de job, mantido pelo {@code TenantJobRunner}.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "job_execucao_tenant", schema = "public",
+        uniqueConstraints = @UniqueConstraint(name = "uk_job_execucao_tenant",
+                columnNames = {"job", "referencia", "tenant_domain"}))
+public class JobExecucaoTenant {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String job;
+
+    @Column(nullable = false, length = 50)
+    private String referencia;
+
+    @Column(name = "tenant_domain", nullable = false)
+    private String tenantDomain;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatusJobTenant status = StatusJobTenant.PENDENTE;
+
+    @Column(nullable = false)
+    private int tentativas;
+
+    @Column(name = "ultimo_erro", length = 1000)
+    private String ultimoErro;
+
+    @Column(name = "criado_em", nullable = false)
+    private LocalDateTime criadoEm;
+
+    @Column(name = "atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+}
@@ -1,6 +1,7 @@
 package br.com.salvemais.domain.entities;
 
 import jakarta.persistence.*;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.UUID;
@@ -22,6 +23,10 @@ public class NotificacaoEmail {
     @Column(nullable = false)
     private Boolean ativo = true;
 
+    // Dia do último envio programado; evita dois envios no mesmo dia
+    @Column(name = "ultimo_envio")
+    private LocalDate ultimoEnvio;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -84,6 +89,14 @@ public class NotificacaoEmail {
         this.ativo = ativo;
     }
 
+    public LocalDate getUltimoEnvio() {
+        return ultimoEnvio;
+    }
+
+    public void setUltimoEnvio(LocalDate ultimoEnvio) {
+        this.ultimoEnvio = ultimoEnvio;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -10,11 +10,12 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @Setter
-@Table(name = "parcela")
+@Table(name = "parcela", indexes = @Index(name = "idx_parcela_data_vencimento", columnList = "data_vencimento"))
 public class Parcela {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "parcela_seq")
+    @SequenceGenerator(name = "parcela_seq", sequenceName = "parcela_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "numero_parcela")
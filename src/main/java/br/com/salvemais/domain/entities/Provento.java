@@ -10,6 +10,7 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @Setter
+@Table(indexes = @Index(name = "idx_provento_data", columnList = "data"))
 public class Provento {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
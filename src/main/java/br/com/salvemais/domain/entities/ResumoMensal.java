@@ -0,0 +1,52 @@
+package br.com.salvemais.domain.entities;
+
+import br.com.salvemais.domain.enums.OrigemResumo;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Total consolidado de um mês por origem e categoria.
+ *
+ * Mantido pelo {@code ResumoMensalService} a cada escrita em proventos, contas fixas,
+ * faturas e compras no débito; os dashboards leem estas linhas em vez dos lançamentos.
+ * {@code categoriaId} é nulo para origens sem categoria (proventos e faturas).
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "resumo_mensal")
+public class ResumoMensal {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Primeiro dia do mês consolidado.
+     */
+    @Column(nullable = false)
+    private LocalDate mes;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrigemResumo origem;
+
+    @Column(name = "categoria_id")
+    private Long categoriaId;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal total = BigDecimal.ZERO;
+
+    @Column(name = "atualizado_em", nullable = false)
+    private LocalDateTime atualizadoEm;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        atualizadoEm = LocalDateTime.now();
+    }
+}
@@ -14,6 +14,10 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.SequenceGenerator;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -22,11 +26,32 @@ import lombok.Setter;
  * As transações são imutáveis após criadas.
  */
 @Entity(name = "transacao")
+@NamedEntityGraph(
+        name = Transacao.GRAFO_DETALHES,
+        attributeNodes = {
+                @NamedAttributeNode("conta"),
+                @NamedAttributeNode("contaDestino"),
+                @NamedAttributeNode(value = "fatura", subgraph = "fatura"),
+                @NamedAttributeNode("categoria"),
+                @NamedAttributeNode("provento"),
+                @NamedAttributeNode("contaFixa")
+        },
+        subgraphs = @NamedSubgraph(name = "fatura", attributeNodes = @NamedAttributeNode("cartaoCredito"))
+)
 @Getter
 @Setter
 public class Transacao {
+
+    /** Associações usadas por {@code TransacaoService.toDTO}, carregadas junto com a transação. */
+    public static final String GRAFO_DETALHES = "Transacao.detalhes";
+
+    /**
+     * Sequência com pooled optimizer (um nextval reserva {@code allocationSize} ids), o que
+     * permite agrupar INSERTs em lote; o INCREMENT BY da sequência precisa ser igual (V35).
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transacao_seq")
+    @SequenceGenerator(name = "transacao_seq", sequenceName = "transacao_id_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,21 @@
+package br.com.salvemais.domain.enums;
+
+/**
+ * Origem dos lançamentos consolidados na tabela {@code resumo_mensal}.
+ */
+public enum OrigemResumo {
+    PROVENTO("Proventos"),
+    CONTA_FIXA("Contas fixas"),
+    FATURA("Faturas de cartão"),
+    COMPRA_DEBITO("Compras no débito");
+
+    private final String descricao;
+
+    OrigemResumo(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
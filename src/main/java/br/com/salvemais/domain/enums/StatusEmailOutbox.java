@@ -0,0 +1,14 @@
+package br.com.salvemais.domain.enums;
+
+/**
+ * Situação de um e-mail na fila de saída ({@code email_outbox}).
+ */
+public enum StatusEmailOutbox {
+    /** Aguardando envio (ou nova tentativa após falha) */
+    PENDENTE,
+    /** Reservado por um envio em andamento; volta a ser elegível se a reserva expirar */
+    ENVIANDO,
+    ENVIADO,
+    /** Esgotou as tentativas */
+    FALHA
+}
@@ -0,0 +1,12 @@
+package br.com.salvemais.domain.enums;
+
+/**
+ * Situação de um tenant dentro de uma execução de job ({@code job_execucao_tenant}).
+ */
+public enum StatusJobTenant {
+    /** Ainda não processado nesta execução */
+    PENDENTE,
+    CONCLUIDO,
+    /** Última tentativa falhou; é retomado até esgotar as tentativas */
+    FALHA
+}
@@ -2,6 +2,8 @@ package br.com.salvemais.infrastructure.config;
 
 import br.com.salvemais.infrastructure.context.TenantContext;
 import br.com.salvemais.application.services.JwtService;
+import br.com.salvemais.application.services.JwtService.JwtPrincipal;
+import br.com.salvemais.application.services.UsuarioAtivoCache;
 import br.com.salvemais.application.services.UsuarioDetailsService;
 import br.com.salvemais.infrastructure.database.FlywayMigrationService;
 import jakarta.servlet.FilterChain;
@@ -9,6 +11,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -32,12 +35,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private UsuarioDetailsService usuarioDetailsService;
     @Autowired
     private FlywayMigrationService flywayMigrationService;
+    @Autowired
+    private UsuarioAtivoCache usuarioAtivoCache;
+
+    /**
+     * Quando ligado, o principal vem direto das claims do JWT e o status do
+     * usuário de um cache curto, sem passar pelo UsuarioDetailsService.
+     */
+    @Value("${app.security.jwt.stateless-auth.enabled:false}")
+    private boolean statelessAuth;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
             throws ServletException, IOException {
         String authHeader = request.getHeader("Authorization");
         String token = null;
+        JwtPrincipal principal = null;
         String email = null;
         String tenantDomain = null;
         boolean tenantContextSet = false;
@@ -46,8 +59,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 token = authHeader.substring(7);
                 try {
-                    email = jwtService.getEmailFromToken(token);
-                    tenantDomain = jwtService.getTenantDomainFromToken(token);
+                    principal = jwtService.parseToken(token);
+                    email = principal.email();
+                    tenantDomain = principal.tenantDomain();
                 } catch (Exception e) {
                     logger.debug("Erro ao extrair claims do JWT: {}", e.getMessage());
                 }
@@ -69,7 +83,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         }
                     }
 
-                    UserDetails userDetails = usuarioDetailsService.loadUserByUsername(email);
+                    UserDetails userDetails = statelessAuth
+                            ? carregarPrincipalSemEstado(principal)
+                            : usuarioDetailsService.loadUserByUsername(email);
                     if (userDetails != null) {
                         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                                 userDetails, null, userDetails.getAuthorities());
@@ -78,9 +94,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         logger.debug("Autenticação estabelecida para usuário: {} no tenant: {}", email, tenantDomain);
                     }
                 } catch (UsernameNotFoundException e) {
-                    // Log de forma menos verbosa e retorna 403
+                    // Log de forma menos verbosa e retorna 401: o token não vale mais para este usuário
                     logger.warn("Usuário não encontrado ou inativo para email: {} no tenant: {}", email, tenantDomain);
-                    response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+                    response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                     response.setContentType("application/json");
                     response.setCharacterEncoding("UTF-8");
                     response.getWriter().write("{\"error\":\"Acesso negado\",\"message\":\"Token inválido ou expirado\"}");
@@ -99,4 +115,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         }
     }
+
+    private UserDetails carregarPrincipalSemEstado(JwtPrincipal principal) {
+        if (!usuarioAtivoCache.isAtivo(principal.email())) {
+            throw new UsernameNotFoundException("Usuário inativo");
+        }
+        return principal.toUserDetails();
+    }
 }
@@ -1,7 +1,10 @@
 package br.com.salvemais.infrastructure.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import br.com.salvemais.infrastructure.context.TenantContext;
@@ -9,15 +12,38 @@ import br.com.salvemais.infrastructure.context.TenantContext;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 @Slf4j
 @Component
 public class MultiTenantConnectionProviderImpl implements MultiTenantConnectionProvider<String> {
 
     private final DataSource datasource;
+    private final boolean schemaAffinity;
+    private final Counter schemaHits;
+    private final Counter schemaMisses;
 
-    public MultiTenantConnectionProviderImpl(DataSource dataSource) {
+    /**
+     * Schema atualmente aplicado em cada conexão física do pool (modo afinidade).
+     * Chave fraca: quando o Hikari descarta a conexão, a entrada some junto.
+     */
+    private final Map<Connection, String> boundSchemas = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public MultiTenantConnectionProviderImpl(DataSource dataSource,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${app.multitenancy.schema-affinity.enabled:false}") boolean schemaAffinity) {
         this.datasource = dataSource;
+        this.schemaAffinity = schemaAffinity;
+        this.schemaHits = Counter.builder("salvemais.tenant.connection.schema")
+                .description("Checkouts em que a conexão já estava no schema do tenant")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.schemaMisses = Counter.builder("salvemais.tenant.connection.schema")
+                .description("Checkouts que precisaram trocar o schema da conexão")
+                .tag("result", "miss")
+                .register(meterRegistry);
     }
 
     @Override
@@ -35,17 +61,49 @@ public class MultiTenantConnectionProviderImpl implements MultiTenantConnectionP
     public Connection getConnection(String tenantIdentifier) throws SQLException {
         log.debug("Get connection for tenant {}", tenantIdentifier);
         Connection connection = getAnyConnection();
-        connection.setSchema(tenantIdentifier);
+        if (schemaAffinity) {
+            bindSchema(connection, tenantIdentifier);
+        } else {
+            connection.setSchema(tenantIdentifier);
+        }
         return connection;
     }
 
     @Override
     public void releaseConnection(String tenantIdentifier, Connection connection) throws SQLException {
         log.debug("Release connection for tenant {}", tenantIdentifier);
-        connection.setSchema(TenantContext.DEFAULT_TENANT);
+        // No modo afinidade a conexão volta ao pool ainda presa ao schema do tenant;
+        // o próximo checkout só troca o schema se for de outro tenant.
+        if (!schemaAffinity) {
+            connection.setSchema(TenantContext.DEFAULT_TENANT);
+        }
         releaseAnyConnection(connection);
     }
 
+    /**
+     * Aplica o schema direto na conexão física (abaixo do proxy do Hikari) e
+     * só faz o round-trip quando o schema registrado para ela for diferente.
+     */
+    private void bindSchema(Connection connection, String schema) throws SQLException {
+        Connection physical = connection.isWrapperFor(Connection.class)
+                ? connection.unwrap(Connection.class)
+                : connection;
+
+        if (schema.equals(boundSchemas.get(physical))) {
+            schemaHits.increment();
+            return;
+        }
+
+        schemaMisses.increment();
+        try {
+            physical.setSchema(schema);
+            boundSchemas.put(physical, schema);
+        } catch (SQLException e) {
+            boundSchemas.remove(physical);
+            throw e;
+        }
+    }
+
     @Override
     public boolean supportsAggressiveRelease() {
         return false;
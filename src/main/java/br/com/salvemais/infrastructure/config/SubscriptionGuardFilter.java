@@ -1,10 +1,10 @@
 package br.com.salvemais.infrastructure.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import br.com.salvemais.application.services.TenantMetadataCache;
+import br.com.salvemais.application.services.TenantMetadataCache.TenantMetadata;
 import br.com.salvemais.infrastructure.context.TenantContext;
-import br.com.salvemais.domain.entities.Tenant;
 import br.com.salvemais.domain.enums.SubscriptionStatus;
-import br.com.salvemais.infrastructure.repositories.TenantRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -36,13 +36,14 @@ public class SubscriptionGuardFilter extends OncePerRequestFilter {
             "/api/tenants/confirmar",
             "/api/tenants/verificar-dominio",
             "/swagger-ui",
-            "/v3/api-docs"
+            "/v3/api-docs",
+            "/actuator/health/"
     );
 
     private static final Set<String> PUBLIC_EXACT = Set.of("/", "/health", "/actuator/health", "/api/usuarios");
 
     @Autowired
-    private TenantRepository tenantRepository;
+    private TenantMetadataCache tenantMetadataCache;
 
     @Autowired
     private ObjectMapper objectMapper;
@@ -64,14 +65,13 @@ public class SubscriptionGuardFilter extends OncePerRequestFilter {
             return;
         }
 
-        Optional<Tenant> tenantOpt = tenantRepository.findByDomain(tenantDomain);
+        Optional<TenantMetadata> tenantOpt = tenantMetadataCache.get(tenantDomain);
         if (tenantOpt.isEmpty()) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        Tenant tenant = tenantOpt.get();
-        SubscriptionStatus status = tenant.getSubscriptionStatus();
+        SubscriptionStatus status = tenantOpt.get().subscriptionStatus();
 
         if (status == SubscriptionStatus.INADIMPLENTE || status == SubscriptionStatus.CANCELADO) {
             log.warn("Acesso bloqueado para tenant '{}' com status {}", tenantDomain, status);
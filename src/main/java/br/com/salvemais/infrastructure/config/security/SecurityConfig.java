@@ -1,5 +1,6 @@
 package br.com.salvemais.infrastructure.config.security;
 
+import br.com.salvemais.application.services.AcessoAdministrativoService;
 import br.com.salvemais.infrastructure.config.JwtAuthenticationFilter;
 import br.com.salvemais.infrastructure.config.SubscriptionGuardFilter;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,6 +8,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -31,6 +33,9 @@ public class SecurityConfig {
     @Autowired
     private SubscriptionGuardFilter subscriptionGuardFilter;
 
+    @Autowired
+    private AcessoAdministrativoService acessoAdministrativoService;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
 
@@ -48,8 +53,8 @@ public class SecurityConfig {
                 // Preflight CORS
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
-                // Healthcheck
-                .requestMatchers("/", "/health", "/actuator/health").permitAll()
+                // Healthcheck e probes de liveness/readiness da plataforma
+                .requestMatchers("/", "/health", "/actuator/health", "/actuator/health/**").permitAll()
 
                 // Swagger
                 .requestMatchers(
@@ -72,6 +77,10 @@ public class SecurityConfig {
                 // Webhook Stripe — sem JWT, validado pela assinatura do payload
                 .requestMatchers("/api/webhook/stripe").permitAll()
 
+                // Métricas do actuator (pool, JVM, jobs) só para administradores do sistema
+                .requestMatchers("/actuator/metrics", "/actuator/metrics/**").access((autenticacao, contexto) ->
+                        new AuthorizationDecision(acessoAdministrativoService.isAdministrador(autenticacao.get())))
+
                 // Todo resto protegido
                 .anyRequest().authenticated()
             )
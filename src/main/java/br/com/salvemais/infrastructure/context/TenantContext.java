@@ -10,7 +10,9 @@ public class TenantContext {
     private static final String LOGGER_TENANT_ID = "tenant_id";
     public static final String DEFAULT_TENANT = "public";
 
-    private static final ThreadLocal<String> currentTenant = new InheritableThreadLocal<>();
+    // ThreadLocal simples: threads filhas (inclusive virtuais) não herdam o tenant.
+    // Quem repassa trabalho para outra thread captura o tenant e usa runWithTenant(...) na thread de destino
+    private static final ThreadLocal<String> currentTenant = new ThreadLocal<>();
 
     public static String getCurrentTenant() {
         String tenant = currentTenant.get();
@@ -5,6 +5,7 @@ import org.flywaydb.core.Flyway;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 import javax.sql.DataSource;
 
@@ -12,6 +13,7 @@ import javax.sql.DataSource;
 public class FlywayMigrationService {
     private final DataSource dataSource;
     private final ConcurrentHashMap<String, Boolean> migratedSchemas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ReentrantLock> schemaLocks = new ConcurrentHashMap<>();
 
     public FlywayMigrationService(DataSource dataSource) {
         this.dataSource = dataSource;
@@ -23,13 +25,29 @@ public class FlywayMigrationService {
             return;
         }
 
-        Flyway flyway = Flyway.configure()
-                .dataSource(dataSource)
-                .schemas(schemaName)
-                .load();
-
-        flyway.migrate(); // Flyway já verifica se há migrações pendentes
+        // Um lock por schema: requisições concorrentes do mesmo tenant (ou a migração
+        // de startup) esperam a primeira terminar em vez de rodar o migrate em paralelo
+        ReentrantLock lock = schemaLocks.computeIfAbsent(schemaName, s -> new ReentrantLock());
+        lock.lock();
+        try {
+            if (migratedSchemas.containsKey(schemaName)) {
+                return;
+            }
+
+            Flyway flyway = Flyway.configure()
+                    .dataSource(dataSource)
+                    .schemas(schemaName)
+                    .load();
+
+            flyway.migrate(); // Flyway já verifica se há migrações pendentes
+
+            migratedSchemas.put(schemaName, true);
+        } finally {
+            lock.unlock();
+        }
+    }
 
-        migratedSchemas.put(schemaName, true);
+    public boolean isMigrated(String schemaName) {
+        return migratedSchemas.containsKey(schemaName);
     }
 }
@@ -0,0 +1,115 @@
+package br.com.salvemais.infrastructure.database;
+
+import br.com.salvemais.domain.entities.Tenant;
+import br.com.salvemais.infrastructure.context.TenantContext;
+import br.com.salvemais.infrastructure.repositories.TenantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Migra os schemas de todos os tenants na subida da aplicação, em paralelo,
+ * antes de a aplicação ser marcada como pronta (readiness).
+ *
+ * Roda como {@link ApplicationRunner}: o Spring Boot só publica
+ * {@code ReadinessState.ACCEPTING_TRAFFIC} depois que os runners terminam.
+ * A migração lazy no {@code JwtAuthenticationFilter} continua como fallback
+ * para tenants que falharem aqui ou forem criados depois.
+ */
+@Component
+public class TenantMigrationOrchestrator implements ApplicationRunner, HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(TenantMigrationOrchestrator.class);
+
+    private final TenantRepository tenantRepository;
+    private final FlywayMigrationService flywayMigrationService;
+    private final boolean enabled;
+    private final int parallelism;
+
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger concluidos = new AtomicInteger();
+    private final AtomicInteger falhas = new AtomicInteger();
+    private volatile boolean finalizado;
+
+    public TenantMigrationOrchestrator(TenantRepository tenantRepository,
+                                       FlywayMigrationService flywayMigrationService,
+                                       @Value("${app.flyway.tenant-migration.on-startup:true}") boolean enabled,
+                                       @Value("${app.flyway.tenant-migration.parallelism:2}") int parallelism) {
+        this.tenantRepository = tenantRepository;
+        this.flywayMigrationService = flywayMigrationService;
+        this.enabled = enabled;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            finalizado = true;
+            return;
+        }
+
+        List<String> schemas = tenantRepository.findAll().stream()
+                .map(Tenant::getDomain)
+                .filter(domain -> domain != null && !domain.isBlank())
+                .filter(domain -> !TenantContext.DEFAULT_TENANT.equals(domain))
+                .distinct()
+                .toList();
+
+        total.set(schemas.size());
+        log.info("Migrando {} schemas de tenant na subida (paralelismo {})", schemas.size(), parallelism);
+        long inicio = System.currentTimeMillis();
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "tenant-migration");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture.allOf(schemas.stream()
+                    .map(schema -> CompletableFuture.runAsync(() -> migrar(schema), executor))
+                    .toArray(CompletableFuture[]::new)
+            ).join();
+        } finally {
+            executor.shutdown();
+            finalizado = true;
+        }
+
+        log.info("Migração de tenants concluída em {} ms: {} ok, {} com falha",
+                System.currentTimeMillis() - inicio, concluidos.get() - falhas.get(), falhas.get());
+    }
+
+    private void migrar(String schema) {
+        try {
+            flywayMigrationService.migrateTenantSchema(schema);
+        } catch (Exception e) {
+            falhas.incrementAndGet();
+            log.warn("Erro ao migrar schema do tenant {} na subida: {}", schema, e.getMessage());
+        } finally {
+            int feitos = concluidos.incrementAndGet();
+            if (feitos % 50 == 0 || feitos == total.get()) {
+                log.info("Migração de tenants: {}/{}", feitos, total.get());
+            }
+        }
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = finalizado ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("total", total.get())
+                .withDetail("concluidos", concluidos.get())
+                .withDetail("falhas", falhas.get())
+                .build();
+    }
+}
@@ -1,11 +1,17 @@
 package br.com.salvemais.infrastructure.repositories;
 
 import br.com.salvemais.domain.entities.Anexo;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface AnexoRepository extends JpaRepository<Anexo, Long> {
@@ -14,4 +20,40 @@ public interface AnexoRepository extends JpaRepository<Anexo, Long> {
 
     @EntityGraph(attributePaths = "contaFixa")
     List<Anexo> findAllBy();
+
+    Optional<Anexo> findFirstByHashSha256AndTamanho(String hashSha256, Long tamanho);
+
+    boolean existsByChaveS3(String chaveS3);
+
+    boolean existsByChaveS3AndIdNot(String chaveS3, Long id);
+
+    /**
+     * Trava (até o fim da transação) um objeto S3 do schema atual, para que a exclusão do último
+     * anexo que o usa não concorra com um upload deduplicado que passe a apontar para ele
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext(current_schema()), hashtext(:chaveS3))",
+            nativeQuery = true)
+    Integer travarObjetoS3(@Param("chaveS3") String chaveS3);
+
+    /**
+     * Catálogo paginado de anexos do tenant. Filtros nulos são ignorados; {@code nome}
+     * busca por trecho sem diferenciar maiúsculas e o período é [{@code inicio}, {@code fim})
+     */
+    @Query(value = "SELECT a.id AS id, a.nome AS nome, a.tipo AS tipo, a.dataUpload AS dataUpload, " +
+            "a.contaFixa.id AS contaFixaId FROM Anexo a " +
+            "WHERE (:nome IS NULL OR LOWER(a.nome) LIKE LOWER(CONCAT('%', :nome, '%'))) " +
+            "AND (:tipo IS NULL OR a.tipo = :tipo) " +
+            "AND (:contaFixaId IS NULL OR a.contaFixa.id = :contaFixaId) " +
+            "AND (:inicio IS NULL OR a.dataUpload >= :inicio) " +
+            "AND (:fim IS NULL OR a.dataUpload < :fim)",
+            countQuery = "SELECT COUNT(a) FROM Anexo a " +
+            "WHERE (:nome IS NULL OR LOWER(a.nome) LIKE LOWER(CONCAT('%', :nome, '%'))) " +
+            "AND (:tipo IS NULL OR a.tipo = :tipo) " +
+            "AND (:contaFixaId IS NULL OR a.contaFixa.id = :contaFixaId) " +
+            "AND (:inicio IS NULL OR a.dataUpload >= :inicio) " +
+            "AND (:fim IS NULL OR a.dataUpload < :fim)")
+    Page<AnexoResumo> buscarResumos(@Param("nome") String nome, @Param("tipo") String tipo,
+                                    @Param("contaFixaId") Long contaFixaId,
+                                    @Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim,
+                                    Pageable pageable);
 }
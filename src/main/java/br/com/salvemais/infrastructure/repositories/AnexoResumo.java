@@ -0,0 +1,15 @@
+package br.com.salvemais.infrastructure.repositories;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção dos metadados de um anexo para o catálogo de comprovantes, sem os
+ * bytes do arquivo e sem carregar a conta fixa ou a compra de débito.
+ */
+public interface AnexoResumo {
+    Long getId();
+    String getNome();
+    String getTipo();
+    LocalDateTime getDataUpload();
+    Long getContaFixaId();
+}
@@ -2,9 +2,43 @@ package br.com.salvemais.infrastructure.repositories;
 
 import br.com.salvemais.domain.entities.CartaoCredito;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CartaoCreditoRepository extends JpaRepository<CartaoCredito, Long>
 {
+    String SELECT_UTILIZACAO_LIMITE = "SELECT c.id AS cartaoId, c.nome AS nome, c.limiteTotal AS limiteTotal, " +
+            "c.limiteAlertaPercentual AS limiteAlertaPercentual, " +
+            "(SELECT COALESCE(SUM(co.valor), 0) FROM Compra co " +
+            " WHERE co.cartaoCredito.id = c.id AND co.data >= :inicio AND co.data < :fimExclusivo) AS valorCompras, " +
+            "(SELECT COALESCE(SUM(p.valor), 0) FROM Parcela p " +
+            " WHERE p.compraParcelada.cartaoCredito.id = c.id AND p.paga = false " +
+            " AND p.compraParcelada.arquivado = false) AS valorParcelasAbertas " +
+            "FROM CartaoCredito c ";
+
+    /**
+     * Utilização do limite de todos os cartões ativos com limite configurado, em uma consulta
+     * @param inicio Primeiro dia do mês das compras à vista
+     * @param fimExclusivo Primeiro dia do mês seguinte
+     */
+    @Query(SELECT_UTILIZACAO_LIMITE + "WHERE c.ativo = true AND c.limiteTotal IS NOT NULL ORDER BY c.id")
+    List<UtilizacaoLimiteCartao> buscarUtilizacaoLimiteAtivos(@Param("inicio") LocalDate inicio,
+                                                              @Param("fimExclusivo") LocalDate fimExclusivo);
+
+    /**
+     * Utilização do limite de um cartão, em uma consulta
+     * @param cartaoId Id do cartão
+     * @param inicio Primeiro dia do mês das compras à vista
+     * @param fimExclusivo Primeiro dia do mês seguinte
+     */
+    @Query(SELECT_UTILIZACAO_LIMITE + "WHERE c.id = :cartaoId")
+    Optional<UtilizacaoLimiteCartao> buscarUtilizacaoLimite(@Param("cartaoId") Long cartaoId,
+                                                            @Param("inicio") LocalDate inicio,
+                                                            @Param("fimExclusivo") LocalDate fimExclusivo);
 }
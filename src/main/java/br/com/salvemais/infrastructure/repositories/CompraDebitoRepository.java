@@ -19,9 +19,25 @@ public interface CompraDebitoRepository extends JpaRepository<CompraDebito, Long
     
     List<CompraDebito> findByDataCompraBetween(LocalDate dataInicio, LocalDate dataFim);
     
-    @Query("SELECT cd FROM CompraDebito cd WHERE MONTH(cd.dataCompra) = :mes AND YEAR(cd.dataCompra) = :ano")
-    Page<CompraDebito> findByDataCompraMesEAno(Pageable pageable, @Param("mes") Integer mes, @Param("ano") Integer ano);
+    /**
+     * Compras no débito com data da compra no intervalo {@code [inicio, fimExclusivo)}. A comparação direta com a
+     * coluna usa o índice {@code idx_compra_debito_data_compra}, ao contrário de filtrar por {@code MONTH()}/{@code YEAR()}
+     * @param inicio Primeiro dia do período
+     * @param fimExclusivo Dia seguinte ao último dia do período
+     */
+    @Query("SELECT cd FROM CompraDebito cd WHERE cd.dataCompra >= :inicio AND cd.dataCompra < :fimExclusivo")
+    Page<CompraDebito> findByDataCompraNoPeriodo(Pageable pageable, @Param("inicio") LocalDate inicio,
+                                                 @Param("fimExclusivo") LocalDate fimExclusivo);
     
     @Query("SELECT SUM(cd.valor) FROM CompraDebito cd WHERE cd.dataCompra BETWEEN :dataInicio AND :dataFim")
     BigDecimal calcularTotalPorPeriodo(@Param("dataInicio") LocalDate dataInicio, @Param("dataFim") LocalDate dataFim);
+
+    @Query("SELECT YEAR(cd.dataCompra) AS ano, MONTH(cd.dataCompra) AS mes, SUM(cd.valor) AS total FROM CompraDebito cd " +
+           "WHERE cd.dataCompra BETWEEN :dataInicio AND :dataFim GROUP BY YEAR(cd.dataCompra), MONTH(cd.dataCompra)")
+    List<TotalMensal> somarValorPorMes(@Param("dataInicio") LocalDate dataInicio, @Param("dataFim") LocalDate dataFim);
+
+    @Query("SELECT YEAR(cd.dataCompra) AS ano, MONTH(cd.dataCompra) AS mes, c.id AS categoriaId, SUM(cd.valor) AS total " +
+           "FROM CompraDebito cd LEFT JOIN cd.categoria c WHERE cd.dataCompra BETWEEN :dataInicio AND :dataFim " +
+           "GROUP BY YEAR(cd.dataCompra), MONTH(cd.dataCompra), c.id")
+    List<TotalMensalCategoria> somarValorPorMesECategoria(@Param("dataInicio") LocalDate dataInicio, @Param("dataFim") LocalDate dataFim);
 }
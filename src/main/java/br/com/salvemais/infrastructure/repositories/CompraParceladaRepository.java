@@ -3,47 +3,73 @@ package br.com.salvemais.infrastructure.repositories;
 import br.com.salvemais.domain.entities.CompraParcelada;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CompraParceladaRepository extends JpaRepository<CompraParcelada, Long> {
+
+    // Busca uma compra parcelada com categoria, cartão e parcelas em uma única consulta
+    @EntityGraph(CompraParcelada.GRAFO_PARCELAS)
+    @Query("SELECT cp FROM CompraParcelada cp WHERE cp.id = :id")
+    Optional<CompraParcelada> findComParcelasById(@Param("id") Long id);
+
+    // Ids das compras parceladas com parcelas pendentes (não pagas e não arquivadas), paginados no banco
+    @Query("SELECT cp.id FROM CompraParcelada cp " +
+           "WHERE cp.arquivado = false " +
+           "AND EXISTS (SELECT 1 FROM Parcela pp WHERE pp.compraParcelada = cp AND pp.paga = false)")
+    List<Long> findIdsComParcelasPendentes(Pageable pageable);
+
+    // Busca as compras parceladas dos ids com categoria, cartão e parcelas em uma única consulta
+    @EntityGraph(CompraParcelada.GRAFO_PARCELAS)
+    @Query("SELECT cp FROM CompraParcelada cp WHERE cp.id IN :ids")
+    List<CompraParcelada> findComParcelasByIdIn(@Param("ids") Collection<Long> ids);
     
     // Busca compras parceladas por cartão (não arquivadas)
     List<CompraParcelada> findByCartaoCreditoIdAndArquivadoFalse(Long cartaoId);
     
     // Busca compras parceladas por cartão com paginação (não arquivadas)
+    @EntityGraph(CompraParcelada.GRAFO_RESUMO)
     Page<CompraParcelada> findByCartaoCreditoIdAndArquivadoFalse(Long cartaoId, Pageable pageable);
     
     // Busca compras parceladas por período
     @Query("SELECT cp FROM CompraParcelada cp WHERE cp.dataCompra BETWEEN :inicio AND :fim AND cp.arquivado = false")
     List<CompraParcelada> findByDataCompraBetween(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
     
-    // Busca compras parceladas por mês e ano (não arquivadas)
-    @Query("SELECT cp FROM CompraParcelada cp WHERE MONTH(cp.dataCompra) = :mes AND YEAR(cp.dataCompra) = :ano AND cp.arquivado = false")
-    Page<CompraParcelada> findByDataCompraMesEAno(Pageable pageable, @Param("mes") Integer mes, @Param("ano") Integer ano);
+    // Busca compras parceladas (não arquivadas) com data da compra em [inicio, fimExclusivo), usando idx_compra_parcelada_data_compra
+    @EntityGraph(CompraParcelada.GRAFO_RESUMO)
+    @Query("SELECT cp FROM CompraParcelada cp WHERE cp.dataCompra >= :inicio AND cp.dataCompra < :fimExclusivo AND cp.arquivado = false")
+    Page<CompraParcelada> findByDataCompraNoPeriodo(Pageable pageable, @Param("inicio") LocalDate inicio,
+                                                    @Param("fimExclusivo") LocalDate fimExclusivo);
     
     // Busca compras parceladas com parcelas pendentes (não pagas e não arquivadas)
+    @EntityGraph(CompraParcelada.GRAFO_RESUMO)
     @Query("SELECT DISTINCT cp FROM CompraParcelada cp " +
            "LEFT JOIN cp.parcelas p " +
            "WHERE p.paga = false AND cp.arquivado = false")
     Page<CompraParcelada> findComprasComParcelasPendentes(Pageable pageable);
     
     // Busca compras parceladas ordenadas por data mais recente (não arquivadas)
+    @EntityGraph(CompraParcelada.GRAFO_RESUMO)
     Page<CompraParcelada> findAllByArquivadoFalseOrderByDataCompraDesc(Pageable pageable);
     
     // Busca compras parceladas com parcelas pendentes por cartão (não arquivadas)
+    @EntityGraph(CompraParcelada.GRAFO_RESUMO)
     @Query("SELECT DISTINCT cp FROM CompraParcelada cp " +
            "LEFT JOIN cp.parcelas p " +
            "WHERE cp.cartaoCredito.id = :cartaoId AND p.paga = false AND cp.arquivado = false")
     Page<CompraParcelada> findComprasComParcelasPendentesPorCartao(@Param("cartaoId") Long cartaoId, Pageable pageable);
     
     // Busca compras parceladas com parcelas pendentes por categoria (não arquivadas)
+    @EntityGraph(CompraParcelada.GRAFO_RESUMO)
     @Query("SELECT DISTINCT cp FROM CompraParcelada cp " +
            "LEFT JOIN cp.parcelas p " +
            "WHERE cp.categoria.id = :categoriaId AND p.paga = false AND cp.arquivado = false")
@@ -52,12 +78,15 @@ public interface CompraParceladaRepository extends JpaRepository<CompraParcelada
     // ========== QUERIES PARA COMPRAS ARQUIVADAS ==========
     
     // Busca compras parceladas arquivadas
+    @EntityGraph(CompraParcelada.GRAFO_RESUMO)
     Page<CompraParcelada> findAllByArquivadoTrueOrderByDataCompraDesc(Pageable pageable);
     
     // Busca compras parceladas arquivadas por cartão
+    @EntityGraph(CompraParcelada.GRAFO_RESUMO)
     Page<CompraParcelada> findByCartaoCreditoIdAndArquivadoTrueOrderByDataCompraDesc(Long cartaoId, Pageable pageable);
     
     // Busca compras parceladas arquivadas com parcelas pendentes por cartão
+    @EntityGraph(CompraParcelada.GRAFO_RESUMO)
     @Query("SELECT DISTINCT cp FROM CompraParcelada cp " +
            "LEFT JOIN cp.parcelas p " +
            "WHERE cp.cartaoCredito.id = :cartaoId AND p.paga = false AND cp.arquivado = true")
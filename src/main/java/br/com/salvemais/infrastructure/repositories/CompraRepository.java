@@ -8,7 +8,6 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -27,15 +26,12 @@ public interface CompraRepository extends JpaRepository<Compra, Long>  {
     List<Compra> findByDataBetween(LocalDate inicio, LocalDate fim);
     
     /**
-     * Calcula o valor total utilizado no cartão em um período específico
-     * @param cartaoId ID do cartão
-     * @param inicio Data inicial
-     * @param fim Data final
-     * @return Soma dos valores das compras no período
+     * Compras no cartão com data no intervalo {@code [inicio, fimExclusivo)}. A comparação direta com a
+     * coluna usa o índice {@code idx_compra_data}, ao contrário de filtrar por {@code MONTH()}/{@code YEAR()}
+     * @param inicio Primeiro dia do período
+     * @param fimExclusivo Dia seguinte ao último dia do período
      */
-    @Query("SELECT COALESCE(SUM(c.valor), 0) FROM Compra c WHERE c.cartaoCredito.id = :cartaoId AND c.data BETWEEN :inicio AND :fim")
-    BigDecimal calcularValorUtilizadoPeriodo(@Param("cartaoId") Long cartaoId, @Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
-    
-    @Query("SELECT c FROM Compra c WHERE MONTH(c.data) = :mes AND YEAR(c.data) = :ano")
-    Page<Compra> findByDataMesEAno(Pageable pageable, @Param("mes") Integer mes, @Param("ano") Integer ano);
+    @Query("SELECT c FROM Compra c WHERE c.data >= :inicio AND c.data < :fimExclusivo")
+    Page<Compra> findByDataNoPeriodo(Pageable pageable, @Param("inicio") LocalDate inicio,
+                                     @Param("fimExclusivo") LocalDate fimExclusivo);
 }
@@ -23,7 +23,39 @@ public interface ContaFixaRepository extends JpaRepository<ContaFixa, Long> {
     List<ContaFixa> findByVencimentoBeforeAndPagoIsFalse(LocalDate vencimento);
     
     List<ContaFixa> findByVencimentoBetween(LocalDate dataInicio, LocalDate dataFim);
+
+    @Query("SELECT COALESCE(SUM(cf.valor), 0) FROM ContaFixa cf WHERE cf.vencimento BETWEEN :dataInicio AND :dataFim")
+    BigDecimal somarValorPorVencimento(@Param("dataInicio") LocalDate dataInicio, @Param("dataFim") LocalDate dataFim);
+
+    @Query("SELECT YEAR(cf.vencimento) AS ano, MONTH(cf.vencimento) AS mes, SUM(cf.valor) AS total FROM ContaFixa cf " +
+           "WHERE cf.vencimento BETWEEN :dataInicio AND :dataFim GROUP BY YEAR(cf.vencimento), MONTH(cf.vencimento)")
+    List<TotalMensal> somarValorPorMesVencimento(@Param("dataInicio") LocalDate dataInicio, @Param("dataFim") LocalDate dataFim);
+
+    @Query("SELECT YEAR(cf.vencimento) AS ano, MONTH(cf.vencimento) AS mes, c.id AS categoriaId, SUM(cf.valor) AS total " +
+           "FROM ContaFixa cf LEFT JOIN cf.categoria c WHERE cf.vencimento BETWEEN :dataInicio AND :dataFim " +
+           "GROUP BY YEAR(cf.vencimento), MONTH(cf.vencimento), c.id")
+    List<TotalMensalCategoria> somarValorPorMesECategoriaVencimento(@Param("dataInicio") LocalDate dataInicio, @Param("dataFim") LocalDate dataFim);
     
-    @Query("SELECT cf FROM ContaFixa cf WHERE MONTH(cf.vencimento) = :mes AND YEAR(cf.vencimento) = :ano")
-    Page<ContaFixa> findByVencimentoMesEAno(Pageable pageable, @Param("mes") Integer mes, @Param("ano") Integer ano);
+    /**
+     * Próximo lote da exportação, em ordem de id a partir de {@code depoisDoId} (paginação por chave).
+     * O tamanho do lote vem do {@code limite}; a página dele é ignorada.
+     */
+    @Query("SELECT cf.id AS id, cf.nome AS nome, c.nome AS categoriaNome, ct.titular AS contaTitular, " +
+           "cf.vencimento AS vencimento, cf.valor AS valor, cf.pago AS pago " +
+           "FROM ContaFixa cf LEFT JOIN cf.categoria c LEFT JOIN cf.conta ct " +
+           "WHERE cf.id > :depoisDoId AND cf.vencimento BETWEEN :dataInicio AND :dataFim ORDER BY cf.id")
+    List<LinhaExportacaoContaFixa> buscarLoteExportacao(@Param("depoisDoId") Long depoisDoId,
+                                                        @Param("dataInicio") LocalDate dataInicio,
+                                                        @Param("dataFim") LocalDate dataFim,
+                                                        Pageable limite);
+
+    /**
+     * Contas fixas com vencimento no intervalo {@code [inicio, fimExclusivo)}. A comparação direta com a
+     * coluna usa o índice {@code idx_conta_fixa_vencimento}, ao contrário de filtrar por {@code MONTH()}/{@code YEAR()}
+     * @param inicio Primeiro dia do período
+     * @param fimExclusivo Dia seguinte ao último dia do período
+     */
+    @Query("SELECT cf FROM ContaFixa cf WHERE cf.vencimento >= :inicio AND cf.vencimento < :fimExclusivo")
+    Page<ContaFixa> findByVencimentoNoPeriodo(Pageable pageable, @Param("inicio") LocalDate inicio,
+                                              @Param("fimExclusivo") LocalDate fimExclusivo);
 }
\ No newline at end of file
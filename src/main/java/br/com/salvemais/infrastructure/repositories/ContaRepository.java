@@ -3,7 +3,12 @@ package br.com.salvemais.infrastructure.repositories;
 import br.com.salvemais.domain.entities.Conta;
 import br.com.salvemais.domain.enums.TipoConta;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ContaRepository extends JpaRepository<Conta, Long> {
@@ -21,4 +26,55 @@ public interface ContaRepository extends JpaRepository<Conta, Long> {
      * @return Lista de contas dos tipos especificados
      */
     List<Conta> findByTipoIn(List<TipoConta> tipos);
+
+    /**
+     * Soma o saldo de todas as contas, exceto as do tipo informado
+     * @param tipo Tipo de conta a ser desconsiderado
+     * @return Soma dos saldos (zero se não houver contas)
+     */
+    @Query("SELECT COALESCE(SUM(c.saldo), 0) FROM Conta c WHERE c.tipo IS NULL OR c.tipo <> :tipo")
+    BigDecimal somarSaldoExcetoTipo(@Param("tipo") TipoConta tipo);
+
+    /**
+     * Soma um valor ao saldo direto no banco, sem ler o saldo antes
+     * @param id Id da conta
+     * @param valor Valor a creditar
+     * @return Quantidade de linhas alteradas (0 se a conta não existe)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Conta c SET c.saldo = COALESCE(c.saldo, 0) + :valor WHERE c.id = :id")
+    int creditarSaldo(@Param("id") Long id, @Param("valor") BigDecimal valor);
+
+    /**
+     * Subtrai um valor do saldo direto no banco, só se o saldo for suficiente.
+     * A verificação e a subtração acontecem no mesmo UPDATE, então dois débitos
+     * concorrentes nunca deixam o saldo negativo nem perdem atualização
+     * @param id Id da conta
+     * @param valor Valor a debitar
+     * @return Quantidade de linhas alteradas (0 se a conta não existe ou o saldo é insuficiente)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Conta c SET c.saldo = c.saldo - :valor WHERE c.id = :id AND COALESCE(c.saldo, 0) >= :valor")
+    int debitarSaldo(@Param("id") Long id, @Param("valor") BigDecimal valor);
+
+    /**
+     * Credita o rendimento do mês em todas as contas de investimento e reserva de emergência
+     * do tenant em um único comando. O rendimento de cada conta é saldo * (taxa anual / 12,
+     * com 6 casas) / 100, arredondado para centavos; o UPDATE devolve o valor creditado, que
+     * vira uma transação de sistema (CREDITO) por conta. O id da transação vem do DEFAULT
+     * da coluna (V35)
+     * @param data Data das transações de rendimento
+     * @param descricao Descrição das transações de rendimento
+     * @return Quantidade de contas creditadas
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "WITH rendimentos AS (" +
+            "SELECT id, ROUND(saldo * ROUND(taxa_rendimento / 12, 6) / 100, 2) AS valor FROM conta " +
+            "WHERE tipo IN ('INVESTIMENTO', 'RESERVA_EMERGENCIA') AND taxa_rendimento > 0 AND saldo IS NOT NULL), " +
+            "creditadas AS (" +
+            "UPDATE conta c SET saldo = c.saldo + r.valor FROM rendimentos r " +
+            "WHERE c.id = r.id AND r.valor <> 0 RETURNING c.id, r.valor) " +
+            "INSERT INTO transacao (tipo, valor, data, descricao, conta_id, sistema) " +
+            "SELECT 'CREDITO', valor, :data, :descricao, id, true FROM creditadas", nativeQuery = true)
+    int creditarRendimentoMensal(@Param("data") LocalDateTime data, @Param("descricao") String descricao);
 }
@@ -0,0 +1,25 @@
+package br.com.salvemais.infrastructure.repositories;
+
+import br.com.salvemais.domain.entities.EmailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * E-mails prontos para envio: pendentes ou com reserva de envio expirada, na ordem da
+     * próxima tentativa. {@code SKIP LOCKED} deixa duas instâncias processarem a fila ao
+     * mesmo tempo sem pegar as mesmas linhas
+     * @param agora Instante de referência
+     * @param limite Quantidade máxima de linhas
+     * @return E-mails bloqueados até o fim da transação
+     */
+    @Query(value = "SELECT * FROM public.email_outbox " +
+            "WHERE status IN ('PENDENTE', 'ENVIANDO') AND proxima_tentativa <= :agora " +
+            "ORDER BY proxima_tentativa LIMIT :limite FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailOutbox> reservarProntosParaEnvio(@Param("agora") LocalDateTime agora, @Param("limite") int limite);
+}
@@ -0,0 +1,13 @@
+package br.com.salvemais.infrastructure.repositories;
+
+/**
+ * Totais de tenants e usuários de todos os schemas, lidos das tabelas centrais do
+ * schema {@code public} em uma única consulta.
+ */
+public interface EstatisticasTenants {
+    Long getTotalTenants();
+    Long getTenantsAtivos();
+
+    /** Usuários cadastrados em {@code usuario_global}, que espelha os usuários de cada schema. */
+    Long getTotalUsuarios();
+}
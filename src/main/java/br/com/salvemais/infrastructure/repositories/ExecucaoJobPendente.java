@@ -0,0 +1,9 @@
+package br.com.salvemais.infrastructure.repositories;
+
+/**
+ * Execução de job (nome + referência) que ainda tem tenants a processar.
+ */
+public interface ExecucaoJobPendente {
+    String getJob();
+    String getReferencia();
+}
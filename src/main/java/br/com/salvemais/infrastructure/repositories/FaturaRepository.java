@@ -3,8 +3,12 @@ package br.com.salvemais.infrastructure.repositories;
 import br.com.salvemais.domain.entities.Fatura;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -13,6 +17,20 @@ public interface FaturaRepository extends JpaRepository<Fatura, Long> {
     List<Fatura> findByDataVencimentoBetween(LocalDate startDate, LocalDate endDate);
     
     Page<Fatura> findByDataVencimentoBetween(LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    /**
+     * Faturas do período já com compras e categorias, para quem percorre {@code fatura.getCompras()}.
+     */
+    @EntityGraph(Fatura.GRAFO_COMPRAS)
+    @Query("SELECT DISTINCT f FROM fatura f WHERE f.dataVencimento BETWEEN :startDate AND :endDate")
+    List<Fatura> findComComprasByDataVencimentoBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT COALESCE(SUM(f.valorTotal), 0) FROM fatura f WHERE f.dataVencimento BETWEEN :startDate AND :endDate")
+    BigDecimal somarValorTotalPorVencimento(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    @Query("SELECT YEAR(f.dataVencimento) AS ano, MONTH(f.dataVencimento) AS mes, SUM(f.valorTotal) AS total FROM fatura f " +
+           "WHERE f.dataVencimento BETWEEN :startDate AND :endDate GROUP BY YEAR(f.dataVencimento), MONTH(f.dataVencimento)")
+    List<TotalMensal> somarValorTotalPorMesVencimento(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
     
     List<Fatura> findByContaPagamentoId(Long contaId);
     
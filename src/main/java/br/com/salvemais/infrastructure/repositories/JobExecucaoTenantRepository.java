@@ -0,0 +1,63 @@
+package br.com.salvemais.infrastructure.repositories;
+
+import br.com.salvemais.domain.entities.JobExecucaoTenant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JobExecucaoTenantRepository extends JpaRepository<JobExecucaoTenant, Long> {
+
+    /**
+     * Abre a execução registrando uma linha PENDENTE por tenant ativo. Repetir a chamada
+     * (outra instância ou nova tentativa) não duplica nem reinicia os tenants já registrados
+     * @return Quantidade de tenants incluídos agora
+     */
+    @Modifying
+    @Query(value = "INSERT INTO public.job_execucao_tenant " +
+            "(job, referencia, tenant_domain, status, tentativas, criado_em, atualizado_em) " +
+            "SELECT :job, :referencia, t.domain, 'PENDENTE', 0, :agora, :agora " +
+            "FROM public.tenants t WHERE t.active = true " +
+            "ON CONFLICT (job, referencia, tenant_domain) DO NOTHING", nativeQuery = true)
+    int registrarTenantsAtivos(@Param("job") String job, @Param("referencia") String referencia,
+                               @Param("agora") LocalDateTime agora);
+
+    @Query("SELECT j.tenantDomain FROM JobExecucaoTenant j " +
+            "WHERE j.job = :job AND j.referencia = :referencia " +
+            "AND j.status <> br.com.salvemais.domain.enums.StatusJobTenant.CONCLUIDO " +
+            "AND j.tentativas < :maxTentativas ORDER BY j.tenantDomain")
+    List<String> findTenantsPendentes(@Param("job") String job, @Param("referencia") String referencia,
+                                      @Param("maxTentativas") int maxTentativas);
+
+    @Query("SELECT DISTINCT j.job AS job, j.referencia AS referencia FROM JobExecucaoTenant j " +
+            "WHERE j.status <> br.com.salvemais.domain.enums.StatusJobTenant.CONCLUIDO " +
+            "AND j.tentativas < :maxTentativas AND j.criadoEm >= :desde")
+    List<ExecucaoJobPendente> findExecucoesPendentes(@Param("maxTentativas") int maxTentativas,
+                                                     @Param("desde") LocalDateTime desde);
+
+    /**
+     * Marca o tenant como concluído. Roda na transação do trabalho do tenant: se o trabalho
+     * falhar a marca é desfeita junto, e uma segunda instância que tente o mesmo tenant espera
+     * o lock da linha e recebe 0
+     * @return 1 se este processo ficou com o tenant, 0 se já estava concluído
+     */
+    @Modifying
+    @Query("UPDATE JobExecucaoTenant j SET j.status = br.com.salvemais.domain.enums.StatusJobTenant.CONCLUIDO, " +
+            "j.tentativas = j.tentativas + 1, j.ultimoErro = null, j.atualizadoEm = :agora " +
+            "WHERE j.job = :job AND j.referencia = :referencia AND j.tenantDomain = :tenant " +
+            "AND j.status <> br.com.salvemais.domain.enums.StatusJobTenant.CONCLUIDO")
+    int marcarConcluido(@Param("job") String job, @Param("referencia") String referencia,
+                        @Param("tenant") String tenant, @Param("agora") LocalDateTime agora);
+
+    @Modifying
+    @Query("UPDATE JobExecucaoTenant j SET j.status = br.com.salvemais.domain.enums.StatusJobTenant.FALHA, " +
+            "j.tentativas = j.tentativas + 1, j.ultimoErro = :erro, j.atualizadoEm = :agora " +
+            "WHERE j.job = :job AND j.referencia = :referencia AND j.tenantDomain = :tenant " +
+            "AND j.status <> br.com.salvemais.domain.enums.StatusJobTenant.CONCLUIDO")
+    int registrarFalha(@Param("job") String job, @Param("referencia") String referencia,
+                       @Param("tenant") String tenant, @Param("erro") String erro,
+                       @Param("agora") LocalDateTime agora);
+}
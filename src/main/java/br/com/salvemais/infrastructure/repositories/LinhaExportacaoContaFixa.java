@@ -0,0 +1,19 @@
+package br.com.salvemais.infrastructure.repositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projeção de uma conta fixa com os nomes da categoria e da conta, usada pela
+ * exportação para Excel. Não é uma entidade gerenciada, então percorrer o histórico
+ * inteiro não acumula objetos no contexto de persistência.
+ */
+public interface LinhaExportacaoContaFixa {
+    Long getId();
+    String getNome();
+    String getCategoriaNome();
+    String getContaTitular();
+    LocalDate getVencimento();
+    BigDecimal getValor();
+    Boolean getPago();
+}
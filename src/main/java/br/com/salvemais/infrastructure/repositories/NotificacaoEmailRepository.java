@@ -2,8 +2,13 @@ package br.com.salvemais.infrastructure.repositories;
 
 import br.com.salvemais.domain.entities.NotificacaoEmail;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,4 +17,18 @@ import java.util.UUID;
 public interface NotificacaoEmailRepository extends JpaRepository<NotificacaoEmail, UUID> {
     Optional<NotificacaoEmail> findByDomain(String domain);
     List<NotificacaoEmail> findByAtivoTrue();
+
+    /**
+     * Marca a notificação ativa do domínio como enviada no dia, se ainda não foi.
+     * A verificação e a marcação acontecem no mesmo UPDATE, então só um chamador
+     * consegue a marca de cada dia
+     * @param domain Domínio do tenant
+     * @param dia Dia do envio
+     * @return 1 se a marca foi registrada agora, 0 se já existia ou a notificação está inativa
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE NotificacaoEmail n SET n.ultimoEnvio = :dia " +
+            "WHERE n.domain = :domain AND n.ativo = true AND (n.ultimoEnvio IS NULL OR n.ultimoEnvio < :dia)")
+    int registrarEnvioDoDia(@Param("domain") String domain, @Param("dia") LocalDate dia);
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -51,6 +52,25 @@ public interface ParcelaRepository extends JpaRepository<Parcela, Long> {
     @Query("SELECT p FROM Parcela p WHERE p.dataVencimento BETWEEN :inicio AND :fim AND p.compraParcelada.arquivado = false")
     List<Parcela> findByDataVencimentoBetweenAtivas(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
     
+    // Conta parcelas não pagas (excluindo compras arquivadas)
+    @Query("SELECT COUNT(p) FROM Parcela p WHERE p.paga = false AND p.compraParcelada.arquivado = false")
+    long countParcelasNaoPagasAtivas();
+
+    // Resumo (quantidades e valores) das parcelas de um período, agregado no banco (excluindo compras arquivadas)
+    @Query("SELECT COUNT(CASE WHEN p.paga = true THEN 1 END) AS pagas, " +
+           "COUNT(CASE WHEN p.paga = false THEN 1 END) AS naoPagas, " +
+           "COALESCE(SUM(p.valor), 0) AS valorTotal, " +
+           "COALESCE(SUM(CASE WHEN p.paga = true THEN p.valor END), 0) AS valorPago " +
+           "FROM Parcela p WHERE p.dataVencimento BETWEEN :inicio AND :fim AND p.compraParcelada.arquivado = false")
+    ResumoParcelas resumirPorDataVencimentoAtivas(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
+
+    interface ResumoParcelas {
+        Long getPagas();
+        Long getNaoPagas();
+        BigDecimal getValorTotal();
+        BigDecimal getValorPago();
+    }
+
     // Busca parcelas não pagas com vencimento até determinada data (excluindo compras arquivadas)
     @Query("SELECT p FROM Parcela p WHERE p.paga = false AND p.dataVencimento <= :data AND p.compraParcelada.arquivado = false")
     List<Parcela> findParcelasVencidasAtivas(@Param("data") LocalDate data);
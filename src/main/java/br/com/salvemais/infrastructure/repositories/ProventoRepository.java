@@ -2,8 +2,11 @@ package br.com.salvemais.infrastructure.repositories;
 
 import br.com.salvemais.domain.entities.Provento;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -17,4 +20,23 @@ public interface ProventoRepository extends JpaRepository<Provento, Long> {
      * @return Lista de proventos no período
      */
     List<Provento> findByDataBetween(LocalDate inicio, LocalDate fim);
+
+    /**
+     * Soma o valor dos proventos com data entre os parâmetros fornecidos
+     * @param inicio Data inicial
+     * @param fim Data final
+     * @return Soma dos valores no período (zero se não houver proventos)
+     */
+    @Query("SELECT COALESCE(SUM(p.valor), 0) FROM Provento p WHERE p.data BETWEEN :inicio AND :fim")
+    BigDecimal somarValorPorPeriodo(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
+
+    /**
+     * Soma o valor dos proventos agrupando por mês, em uma única consulta
+     * @param inicio Data inicial
+     * @param fim Data final
+     * @return Um total por mês que possui proventos (meses vazios não retornam linha)
+     */
+    @Query("SELECT YEAR(p.data) AS ano, MONTH(p.data) AS mes, SUM(p.valor) AS total FROM Provento p " +
+           "WHERE p.data BETWEEN :inicio AND :fim GROUP BY YEAR(p.data), MONTH(p.data)")
+    List<TotalMensal> somarValorPorMes(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
 }
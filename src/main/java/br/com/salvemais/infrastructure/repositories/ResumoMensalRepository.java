@@ -0,0 +1,47 @@
+package br.com.salvemais.infrastructure.repositories;
+
+import br.com.salvemais.domain.entities.ResumoMensal;
+import br.com.salvemais.domain.enums.OrigemResumo;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ResumoMensalRepository extends JpaRepository<ResumoMensal, Long> {
+
+    List<ResumoMensal> findByMesBetween(LocalDate inicio, LocalDate fim);
+
+    List<ResumoMensal> findByMesAndOrigemIn(LocalDate mes, List<OrigemResumo> origens);
+
+    @Modifying
+    @Query("DELETE FROM ResumoMensal r WHERE r.mes = :mes AND r.origem = :origem")
+    int deleteByMesAndOrigem(@Param("mes") LocalDate mes, @Param("origem") OrigemResumo origem);
+
+    /**
+     * Trava em modo compartilhado (até o fim da transação) o resumo do schema atual: vários recálculos
+     * de meses diferentes convivem, mas esperam uma reconstrução em andamento
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock_shared(hashtext(current_schema()))", nativeQuery = true)
+    Integer travarResumoCompartilhado();
+
+    /**
+     * Trava de forma exclusiva (até o fim da transação) todo o resumo do schema atual,
+     * esperando os recálculos em andamento
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext(current_schema()))", nativeQuery = true)
+    Integer travarResumoExclusivo();
+
+    /**
+     * Trava (até o fim da transação) um mês/origem do schema atual, para que dois recálculos do mesmo
+     * mês não apaguem e regravem as linhas ao mesmo tempo
+     * @param chave Identificador do mês e da origem (ex.: {@code 2025-03:PROVENTO})
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext(current_schema()), hashtext(:chave))",
+            nativeQuery = true)
+    Integer travarMesOrigem(@Param("chave") String chave);
+}
@@ -1,6 +1,7 @@
 package br.com.salvemais.infrastructure.repositories;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import br.com.salvemais.domain.entities.Tenant;
@@ -23,4 +24,14 @@ public interface TenantRepository extends JpaRepository<Tenant, UUID> {
     Optional<Tenant> findByStripeSubscriptionId(String stripeSubscriptionId);
     List<Tenant> findBySubscriptionStatusAndTrialEndDateBefore(SubscriptionStatus status, LocalDateTime date);
     List<Tenant> findBySubscriptionStatus(SubscriptionStatus status);
+
+    /**
+     * Conta tenants, tenants ativos e usuários de todos os tenants sem trocar de schema:
+     * os usuários vêm de {@code usuario_global}.
+     */
+    @Query("SELECT COUNT(t) AS totalTenants, "
+            + "COALESCE(SUM(CASE WHEN t.active = true THEN 1 ELSE 0 END), 0) AS tenantsAtivos, "
+            + "(SELECT COUNT(u) FROM UsuarioGlobal u) AS totalUsuarios "
+            + "FROM Tenant t")
+    EstatisticasTenants calcularEstatisticas();
 }
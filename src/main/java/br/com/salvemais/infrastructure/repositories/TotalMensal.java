@@ -0,0 +1,13 @@
+package br.com.salvemais.infrastructure.repositories;
+
+import java.math.BigDecimal;
+
+/**
+ * Projeção de um total agrupado por mês (ano + mês), usada pelas consultas
+ * de tendência mensal do dashboard.
+ */
+public interface TotalMensal {
+    Integer getAno();
+    Integer getMes();
+    BigDecimal getTotal();
+}
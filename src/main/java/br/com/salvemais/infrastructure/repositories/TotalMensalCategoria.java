@@ -0,0 +1,9 @@
+package br.com.salvemais.infrastructure.repositories;
+
+/**
+ * Projeção de um total agrupado por mês e categoria, usada para manter
+ * a tabela {@code resumo_mensal}. {@code categoriaId} é nulo para lançamentos sem categoria.
+ */
+public interface TotalMensalCategoria extends TotalMensal {
+    Long getCategoriaId();
+}
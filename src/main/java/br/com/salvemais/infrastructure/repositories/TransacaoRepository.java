@@ -4,6 +4,8 @@ import br.com.salvemais.domain.entities.Transacao;
 import br.com.salvemais.domain.enums.TipoTransacao;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -17,6 +19,13 @@ import java.util.Optional;
 
 @Repository
 public interface TransacaoRepository extends JpaRepository<Transacao, Long>, JpaSpecificationExecutor<Transacao> {
+
+    /**
+     * Listagem filtrada com as associações do DTO em JOIN, em vez de um SELECT por associação.
+     */
+    @Override
+    @EntityGraph(Transacao.GRAFO_DETALHES)
+    Page<Transacao> findAll(Specification<Transacao> spec, Pageable pageable);
     
     /**
      * Busca todas as transações de uma conta específica.
@@ -85,11 +94,13 @@ public interface TransacaoRepository extends JpaRepository<Transacao, Long>, Jpa
     /**
      * Busca as últimas transações de uma conta.
      */
+    @EntityGraph(Transacao.GRAFO_DETALHES)
     Page<Transacao> findByConta_IdOrderByDataDesc(Long contaId, Pageable pageable);
     
     /**
      * Busca as últimas transações (global).
      */
+    @EntityGraph(Transacao.GRAFO_DETALHES)
     Page<Transacao> findAllByOrderByDataDesc(Pageable pageable);
     
     
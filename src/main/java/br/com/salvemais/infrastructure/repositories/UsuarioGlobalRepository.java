@@ -2,8 +2,14 @@ package br.com.salvemais.infrastructure.repositories;
 
 import br.com.salvemais.domain.entities.UsuarioGlobal;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -16,6 +22,51 @@ public interface UsuarioGlobalRepository extends JpaRepository<UsuarioGlobal, Lo
      */
     Optional<UsuarioGlobal> findByEmail(String email);
 
+    /**
+     * Busca o usuário global e o domínio do tenant dele em uma única consulta
+     * @param email email do usuário
+     * @return Optional com os dados de login se o usuário existe
+     */
+    @Query("SELECT u.email AS email, u.senha AS senha, u.ativo AS ativo, u.tenantId AS tenantId, " +
+            "t.domain AS tenantDomain FROM UsuarioGlobal u LEFT JOIN Tenant t ON t.id = u.tenantId " +
+            "WHERE u.email = :email")
+    Optional<UsuarioLogin> findLoginByEmail(@Param("email") String email);
+
+    /**
+     * Registra o último acesso de vários usuários em um único UPDATE, sem voltar no tempo
+     * quando outra instância já gravou um acesso mais recente
+     * @param emails emails dos usuários
+     * @param instante momento do acesso
+     * @return Quantidade de linhas alteradas
+     */
+    @Modifying
+    @Query("UPDATE UsuarioGlobal u SET u.atualizadoEm = :instante " +
+            "WHERE u.email IN :emails AND (u.atualizadoEm IS NULL OR u.atualizadoEm < :instante)")
+    int registrarUltimoAcesso(@Param("emails") Collection<String> emails, @Param("instante") LocalDateTime instante);
+
+    /**
+     * Replica em {@code usuario_global} o status do usuário alterado no schema do tenant; é esse
+     * campo que o login e o filtro JWT consultam
+     * @param email email do usuário
+     * @param ativo novo status
+     * @return Quantidade de linhas alteradas
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE UsuarioGlobal u SET u.ativo = :ativo WHERE u.email = :email")
+    int atualizarAtivoPorEmail(@Param("email") String email, @Param("ativo") Boolean ativo);
+
+    /**
+     * Ativa ou desativa em {@code usuario_global} todos os usuários de um tenant
+     * @param tenantId ID do tenant
+     * @param ativo novo status
+     * @return Quantidade de linhas alteradas
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE UsuarioGlobal u SET u.ativo = :ativo WHERE u.tenantId = :tenantId")
+    int atualizarAtivoPorTenant(@Param("tenantId") UUID tenantId, @Param("ativo") Boolean ativo);
+
     /**
      * Busca usuarios globais por tenant_id
      * @param tenantId ID do tenant
@@ -0,0 +1,17 @@
+package br.com.salvemais.infrastructure.repositories;
+
+import java.util.UUID;
+
+/**
+ * Dados de {@code usuario_global} e o domínio do tenant do usuário, lidos em uma única
+ * consulta para autenticar e emitir o JWT.
+ */
+public interface UsuarioLogin {
+    String getEmail();
+    String getSenha();
+    Boolean getAtivo();
+    UUID getTenantId();
+
+    /** Nulo se o tenant do usuário não existe mais. */
+    String getTenantDomain();
+}
@@ -2,7 +2,12 @@ package br.com.salvemais.infrastructure.repositories;
 
 import br.com.salvemais.domain.entities.Usuario;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,4 +18,9 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     Optional<Usuario> findByEmail(String email);
 
     List<Usuario> findByTenantId(UUID tenantId);
+
+    @Modifying
+    @Query("UPDATE Usuario u SET u.ultimoAcesso = :instante " +
+            "WHERE u.email IN :emails AND (u.ultimoAcesso IS NULL OR u.ultimoAcesso < :instante)")
+    int registrarUltimoAcesso(@Param("emails") Collection<String> emails, @Param("instante") LocalDateTime instante);
 }
@@ -0,0 +1,19 @@
+package br.com.salvemais.infrastructure.repositories;
+
+import java.math.BigDecimal;
+
+/**
+ * Limite de um cartão e quanto dele está comprometido, calculados em uma única consulta.
+ */
+public interface UtilizacaoLimiteCartao {
+    Long getCartaoId();
+    String getNome();
+    BigDecimal getLimiteTotal();
+    Integer getLimiteAlertaPercentual();
+
+    /** Compras à vista no cartão dentro do mês consultado. */
+    BigDecimal getValorCompras();
+
+    /** Parcelas ainda não pagas das compras parceladas não arquivadas do cartão. */
+    BigDecimal getValorParcelasAbertas();
+}
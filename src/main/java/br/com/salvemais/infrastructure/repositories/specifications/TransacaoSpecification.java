@@ -1,5 +1,6 @@
 package br.com.salvemais.infrastructure.repositories.specifications;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -62,4 +63,16 @@ public class TransacaoSpecification {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * Transações que vêm depois de {@code (data, id)} na ordem {@code data DESC, id DESC}.
+     * O id desempata transações com a mesma data, então nenhuma linha é repetida ou pulada.
+     */
+    public static Specification<Transacao> antesDe(LocalDateTime data, Long id) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                criteriaBuilder.lessThan(root.get("data"), data),
+                criteriaBuilder.and(
+                        criteriaBuilder.equal(root.get("data"), data),
+                        criteriaBuilder.lessThan(root.get("id"), id)));
+    }
 }
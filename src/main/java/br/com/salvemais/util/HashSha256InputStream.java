@@ -0,0 +1,89 @@
+package br.com.salvemais.util;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Repassa um stream calculando o SHA-256 e contando os bytes lidos, sem guardar o conteúdo.
+ * Não suporta mark/reset, para que cada byte entre uma única vez no hash; quem precisar
+ * reler o conteúdo (ex.: o SDK da AWS ao repetir uma requisição) abre um stream novo da
+ * origem a cada tentativa, via {@code ContentStreamProvider}.
+ */
+public class HashSha256InputStream extends FilterInputStream {
+
+    private final MessageDigest digest;
+    private long bytesLidos;
+
+    public HashSha256InputStream(InputStream in) {
+        super(in);
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b != -1) {
+            digest.update((byte) b);
+            bytesLidos++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int lidos = super.read(b, off, len);
+        if (lidos > 0) {
+            digest.update(b, off, lidos);
+            bytesLidos += lidos;
+        }
+        return lidos;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Lê em vez de pular, para o hash cobrir todos os bytes
+        byte[] descarte = new byte[(int) Math.min(n, 8192)];
+        long pulados = 0;
+        while (pulados < n) {
+            int lidos = read(descarte, 0, (int) Math.min(descarte.length, n - pulados));
+            if (lidos < 0) {
+                break;
+            }
+            pulados += lidos;
+        }
+        return pulados;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset não suportado");
+    }
+
+    public long getBytesLidos() {
+        return bytesLidos;
+    }
+
+    /**
+     * SHA-256 em hexadecimal do que foi lido até aqui; chamar só ao fim da leitura
+     */
+    public String getHashHex() {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
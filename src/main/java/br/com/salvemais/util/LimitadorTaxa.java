@@ -0,0 +1,38 @@
+package br.com.salvemais.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limita a taxa de operações por chave (ex.: host SMTP), espaçando as chamadas de forma
+ * uniforme: no máximo {@code porSegundo} operações por segundo em cada chave.
+ * Chaves diferentes não interferem entre si.
+ */
+public class LimitadorTaxa {
+
+    private final long intervaloNanos;
+    private final Map<String, AtomicLong> proximaLiberacao = new ConcurrentHashMap<>();
+
+    public LimitadorTaxa(double porSegundo) {
+        if (porSegundo <= 0) {
+            throw new IllegalArgumentException("A taxa deve ser maior que zero");
+        }
+        this.intervaloNanos = (long) (TimeUnit.SECONDS.toNanos(1) / porSegundo);
+    }
+
+    /**
+     * Bloqueia até a chave liberar a próxima operação.
+     */
+    public void aguardar(String chave) throws InterruptedException {
+        long agora = System.nanoTime();
+        AtomicLong proxima = proximaLiberacao.computeIfAbsent(chave, k -> new AtomicLong(agora));
+        // Reserva o próximo horário livre e empurra o seguinte um intervalo para frente
+        long reservado = proxima.getAndAccumulate(agora, (livre, instante) -> Math.max(livre, instante) + intervaloNanos);
+        long espera = Math.max(reservado, agora) - agora;
+        if (espera > 0) {
+            TimeUnit.NANOSECONDS.sleep(espera);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.salvemais.util;
+
+import br.com.salvemais.domain.exceptions.BadRequestException;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Mês como intervalo semiaberto {@code [inicio, fimExclusivo)}, para filtrar colunas de data
+ * com {@code >=} e {@code <}. Comparar a coluna diretamente deixa o banco usar o índice,
+ * o que não acontece com {@code MONTH(coluna) = :mes AND YEAR(coluna) = :ano}.
+ */
+public record PeriodoMensal(LocalDate inicio, LocalDate fimExclusivo) {
+
+    public static PeriodoMensal de(YearMonth mes) {
+        return new PeriodoMensal(mes.atDay(1), mes.plusMonths(1).atDay(1));
+    }
+
+    /**
+     * @throws BadRequestException se o mês não estiver entre 1 e 12
+     */
+    public static PeriodoMensal de(int mes, int ano) {
+        if (mes < 1 || mes > 12) {
+            throw new BadRequestException("Mês inválido: " + mes);
+        }
+        return de(YearMonth.of(ano, mes));
+    }
+}
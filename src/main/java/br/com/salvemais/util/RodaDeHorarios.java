@@ -0,0 +1,59 @@
+package br.com.salvemais.util;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Agenda diária em memória com uma posição por minuto do dia. Cada chave ocupa no máximo
+ * uma posição; agendar de novo move a chave para o novo minuto. Buscar quem está agendado
+ * em um minuto custa só o tamanho daquela posição, sem percorrer a agenda inteira.
+ */
+public class RodaDeHorarios {
+
+    public static final int MINUTOS_POR_DIA = 24 * 60;
+
+    private final List<Set<String>> posicoes = new ArrayList<>(MINUTOS_POR_DIA);
+    private final Map<String, Integer> minutoPorChave = new ConcurrentHashMap<>();
+
+    public RodaDeHorarios() {
+        for (int i = 0; i < MINUTOS_POR_DIA; i++) {
+            posicoes.add(ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    public synchronized void agendar(String chave, LocalTime horario) {
+        int minuto = minutoDoDia(horario);
+        Integer anterior = minutoPorChave.put(chave, minuto);
+        if (anterior != null && anterior != minuto) {
+            posicoes.get(anterior).remove(chave);
+        }
+        posicoes.get(minuto).add(chave);
+    }
+
+    public synchronized void remover(String chave) {
+        Integer anterior = minutoPorChave.remove(chave);
+        if (anterior != null) {
+            posicoes.get(anterior).remove(chave);
+        }
+    }
+
+    /**
+     * Chaves agendadas para o minuto do dia informado (0 a 1439).
+     */
+    public Set<String> agendadosNoMinuto(int minuto) {
+        return Collections.unmodifiableSet(posicoes.get(Math.floorMod(minuto, MINUTOS_POR_DIA)));
+    }
+
+    public int tamanho() {
+        return minutoPorChave.size();
+    }
+
+    public static int minutoDoDia(LocalTime horario) {
+        return horario.getHour() * 60 + horario.getMinute();
+    }
+}
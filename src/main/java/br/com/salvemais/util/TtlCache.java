@@ -0,0 +1,120 @@
+package br.com.salvemais.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * Cache em memória, limitado e com TTL, com métricas de hit/miss no Micrometer.
+ *
+ * Valores ausentes (loader retornando {@code Optional.empty()}) não são guardados.
+ * Invalidações feitas dentro de uma transação são repetidas após o término dela,
+ * para que uma leitura concorrente não recoloque o estado anterior ao commit.
+ */
+public class TtlCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public TtlCache(String metricName, Duration ttl, int maxEntries, MeterRegistry meterRegistry) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.hits = Counter.builder(metricName)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(metricName)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(metricName + ".hit.ratio", this, TtlCache::hitRatio)
+                .register(meterRegistry);
+        Gauge.builder(metricName + ".size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        long now = System.nanoTime();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && now - entry.expiresAt() < 0) {
+            hits.increment();
+            return Optional.of(entry.value());
+        }
+
+        misses.increment();
+        Optional<V> value = loader.apply(key);
+        if (value.isPresent()) {
+            abrirEspaco(now);
+            entries.put(key, new Entry<>(value.get(), now + ttlNanos));
+        } else {
+            entries.remove(key);
+        }
+        return value;
+    }
+
+    public void invalidate(K key) {
+        if (key == null) {
+            return;
+        }
+        entries.remove(key);
+        aposTransacao(() -> entries.remove(key));
+    }
+
+    public void invalidateIf(BiPredicate<K, V> predicate) {
+        Runnable remover = () -> entries.entrySet().removeIf(e -> predicate.test(e.getKey(), e.getValue().value()));
+        remover.run();
+        aposTransacao(remover);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+        aposTransacao(entries::clear);
+    }
+
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void aposTransacao(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    acao.run();
+                }
+            });
+        }
+    }
+
+    private void abrirEspaco(long now) {
+        if (entries.size() < maxEntries) {
+            return;
+        }
+        entries.values().removeIf(entry -> now - entry.expiresAt() >= 0);
+        if (entries.size() >= maxEntries) {
+            // Sem entradas expiradas: descarta a que vence primeiro
+            entries.entrySet().stream()
+                    .min(Comparator.comparingLong(e -> e.getValue().expiresAt() - now))
+                    .ifPresent(oldest -> entries.remove(oldest.getKey()));
+        }
+    }
+}
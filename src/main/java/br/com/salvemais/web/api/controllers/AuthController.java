@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -23,6 +24,8 @@ import br.com.salvemais.infrastructure.context.TenantContext;
 import br.com.salvemais.application.services.EmailService;
 import br.com.salvemais.application.services.JwtService;
 import br.com.salvemais.application.services.PasswordResetTokenService;
+import br.com.salvemais.application.services.UltimoAcessoService;
+import br.com.salvemais.application.services.UsuarioAutenticado;
 import br.com.salvemais.application.services.UsuarioService;
 import br.com.salvemais.domain.entities.Tenant;
 import br.com.salvemais.domain.entities.UsuarioGlobal;
@@ -55,6 +58,8 @@ public class AuthController {
     private UsuarioGlobalRepository usuarioGlobalRepository;
     @Autowired
     private TenantRepository tenantRepository;
+    @Autowired
+    private UltimoAcessoService ultimoAcessoService;
     
     @Value("${app.password.reset.url}")
     private String passwordResetUrl;
@@ -62,7 +67,7 @@ public class AuthController {
     /**
      * Realiza o login do usuário
      * Nova lógica centralizada: busca usuário na tabela usuario_global (public)
-     * e obtém o tenant para gerar o JWT com tenantDomain
+     * e o domínio do tenant na mesma consulta da autenticação, para gerar o JWT com tenantDomain
      */
     @PostMapping("/login")
     @Operation(summary = "Autenticar usuário e emitir JWT")
@@ -72,38 +77,22 @@ public class AuthController {
     })
     public ResponseEntity<?> login(@RequestBody LoginDTO loginDTO) {
         try {
-            // Autenticar usando UsuarioDetailsService que agora busca de usuario_global
-            authenticationManager.authenticate(
+            // Autenticar usando UsuarioDetailsService, que já traz o tenant do usuário de usuario_global
+            Authentication autenticacao = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(loginDTO.getEmail(), loginDTO.getSenha()));
+            UsuarioAutenticado usuario = (UsuarioAutenticado) autenticacao.getPrincipal();
             
-            // Buscar usuário global para obter tenantId
-            UsuarioGlobal usuarioGlobal = usuarioGlobalRepository.findByEmail(loginDTO.getEmail())
-                    .orElseThrow(() -> new RuntimeException("Usuário não encontrado na tabela centralizada"));
-            
-            if (!usuarioGlobal.getAtivo()) {
-                logger.warn("Tentativa de login de usuário inativo: {}", loginDTO.getEmail());
-                return ResponseEntity.status(401).body("Usuário inativo");
+            if (usuario.getTenantDomain() == null) {
+                throw new RuntimeException("Tenant não encontrado");
             }
             
-            // Buscar tenant para obter o domain
-            Tenant tenant = tenantRepository.findById(usuarioGlobal.getTenantId())
-                    .orElseThrow(() -> new RuntimeException("Tenant não encontrado"));
-            
-            // Atualizar último acesso na tabela usuario_global
-            usuarioGlobal.setAtualizadoEm(java.time.LocalDateTime.now());
-            usuarioGlobalRepository.save(usuarioGlobal);
-            
-            // Atualizar último acesso também na tabela usuario local (para compatibilidade temporária)
-            try {
-                usuarioService.atualizarUltimoAcesso(loginDTO.getEmail());
-            } catch (Exception e) {
-                logger.debug("Não foi possível atualizar último acesso em usuário local: {}", e.getMessage());
-            }
+            // Último acesso (usuario_global e usuario local) é gravado em lote, fora do login
+            ultimoAcessoService.registrar(usuario.getUsername(), usuario.getTenantDomain());
             
             // Gerar JWT com email, tenantId e tenantDomain
-            String token = jwtService.gerarToken(loginDTO.getEmail(), usuarioGlobal.getTenantId(), tenant.getDomain());
+            String token = jwtService.gerarToken(usuario.getUsername(), usuario.getTenantId(), usuario.getTenantDomain());
             
-            logger.info("Login bem-sucedido para usuário: {} do tenant: {}", loginDTO.getEmail(), tenant.getDomain());
+            logger.info("Login bem-sucedido para usuário: {} do tenant: {}", loginDTO.getEmail(), usuario.getTenantDomain());
             return ResponseEntity.ok(new TokenDTO(token));
         } catch (AuthenticationException e) {
             logger.warn("Falha na autenticação para email: {}", loginDTO.getEmail());
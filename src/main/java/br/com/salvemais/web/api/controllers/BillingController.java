@@ -32,8 +32,7 @@ public class BillingController {
     @GetMapping("/status")
     @Operation(summary = "Obter status de billing do tenant")
     public ResponseEntity<BillingStatusDTO> status() {
-        Tenant tenant = tenantService.findByDomain(TenantContext.getCurrentTenant());
-        return ResponseEntity.ok(billingService.getStatus(tenant));
+        return ResponseEntity.ok(billingService.getStatus(TenantContext.getCurrentTenant()));
     }
 
     @PostMapping("/assinar")
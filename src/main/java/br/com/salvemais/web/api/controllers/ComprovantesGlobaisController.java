@@ -4,15 +4,18 @@ import br.com.salvemais.web.api.dto.AnexoDTO;
 import br.com.salvemais.web.api.dto.UrlDownloadDTO;
 import br.com.salvemais.web.api.mappers.AnexoMapper;
 import br.com.salvemais.application.services.AnexoService;
-import br.com.salvemais.domain.entities.Anexo;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/comprovantes")
@@ -26,29 +29,24 @@ public class ComprovantesGlobaisController {
     private AnexoMapper anexoMapper;
     
     @GetMapping
-    @Operation(summary = "Listar todos os comprovantes do sistema")
-    public ResponseEntity<List<AnexoDTO>> listarTodosComprovantes() {
-        List<Anexo> anexos = anexoService.listarTodosAnexos();
-        List<AnexoDTO> anexoDTOs = anexos.stream()
-                .map(anexoMapper::toDTO)
-                .collect(Collectors.toList());
-                
-        return ResponseEntity.ok(anexoDTOs);
+    @Operation(summary = "Listar os comprovantes do tenant, paginados e filtrados")
+    public Page<AnexoDTO> listarTodosComprovantes(
+            @PageableDefault(size = 20, sort = "dataUpload", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) String nome,
+            @RequestParam(required = false) String tipo,
+            @RequestParam(required = false) Long contaFixaId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataInicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dataFim) {
+        return anexoService.buscarComprovantes(nome, tipo, contaFixaId, dataInicio, dataFim, pageable)
+                .map(anexoMapper::toDTO);
     }
     
     @GetMapping("/{anexoId}/download")
     @Operation(summary = "Gerar URL para download de comprovante")
     public ResponseEntity<UrlDownloadDTO> gerarUrlDownload(@PathVariable Long anexoId) {
         try {
-            String url = anexoService.gerarUrlDownload(anexoId);
-            
-            // Vamos obter o anexo do repositório para criar o DTO
-            Anexo anexo = anexoService.listarTodosAnexos().stream()
-                    .filter(a -> a.getId().equals(anexoId))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("Anexo não encontrado"));
-            
-            return ResponseEntity.ok(anexoMapper.toUrlDownloadDTO(anexo, url));
+            AnexoService.Download download = anexoService.prepararDownload(anexoId);
+            return ResponseEntity.ok(anexoMapper.toUrlDownloadDTO(download.anexo(), download.url()));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
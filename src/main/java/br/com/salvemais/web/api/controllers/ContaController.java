@@ -23,6 +23,7 @@ import br.com.salvemais.application.services.ContaService;
 import br.com.salvemais.application.services.RendimentoService;
 import br.com.salvemais.domain.entities.Conta;
 import br.com.salvemais.domain.enums.TipoConta;
+import br.com.salvemais.web.api.dto.ProjecaoRendimentoDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
@@ -67,6 +68,22 @@ public class ContaController {
         return ResponseEntity.ok(valorProjetado);
     }
 
+    @GetMapping("/{id}/projetar-rendimento/curva")
+    @Operation(summary = "Projetar o saldo de uma conta mês a mês")
+    public ResponseEntity<ProjecaoRendimentoDTO> projetarCurvaRendimento(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "12") int meses) {
+        Conta conta = contaService.findOrFail(id);
+        return ResponseEntity.ok(rendimentoService.projetarCurva(conta, meses));
+    }
+
+    @GetMapping("/projetar-rendimento")
+    @Operation(summary = "Projetar mês a mês o saldo de todas as contas de investimento e reserva")
+    public ResponseEntity<List<ProjecaoRendimentoDTO>> projetarCurvasRendimento(
+            @RequestParam(defaultValue = "12") int meses) {
+        return ResponseEntity.ok(rendimentoService.projetarCurvas(meses));
+    }
+
     @PostMapping
     @Operation(summary = "Criar conta")
     public Conta criar(@RequestBody Conta conta) {
@@ -1,14 +1,10 @@
 package br.com.salvemais.web.api.controllers;
 
-import java.io.ByteArrayOutputStream;
 import java.math.BigDecimal;
 import java.util.List;
 
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.com.salvemais.web.api.dto.ContaFixaDTO;
 import br.com.salvemais.web.api.dto.ContaFixaRecorrenteDTO;
@@ -196,26 +193,15 @@ public class ContaFixaController {
      */
     @GetMapping("/exportar")
     @Operation(summary = "Exportar contas fixas para Excel")
-    public ResponseEntity<ByteArrayResource> exportarContasFixasParaExcel(
+    public ResponseEntity<StreamingResponseBody> exportarContasFixasParaExcel(
             @RequestParam(value = "mes", required = false) Integer mes,
             @RequestParam(value = "ano", required = false) Integer ano) {
-        try {
-            ByteArrayOutputStream outputStream = contaFixaService.exportarParaExcel(mes, ano);
-            
-            ByteArrayResource resource = new ByteArrayResource(outputStream.toByteArray());
-            
-            String filename = mes != null && ano != null 
-                ? "debitos_em_conta_%02d_%d.xlsx".formatted(mes, ano)
-                : "debitos_em_conta.xlsx";
-            
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
-                    .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                    .contentLength(resource.contentLength())
-                    .body(resource);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
-        }
+        String filename = mes != null && ano != null
+            ? "debitos_em_conta_%02d_%d.xlsx".formatted(mes, ano)
+            : "debitos_em_conta.xlsx";
+
+        return PlanilhaExcelResponse.download(filename,
+                outputStream -> contaFixaService.exportarParaExcel(mes, ano, outputStream));
     }
 
     // Outros métodos relacionados a contas fixas
@@ -5,19 +5,27 @@ import br.com.salvemais.web.api.dto.CategoryExpenseDTO;
 import br.com.salvemais.web.api.dto.DashboardSummaryDTO;
 import br.com.salvemais.web.api.dto.MonthlyExpenseDTO;
 import br.com.salvemais.web.api.dto.VariationDataDTO;
+import br.com.salvemais.application.services.AcessoAdministrativoService;
+import br.com.salvemais.application.services.DashboardCacheService;
 import br.com.salvemais.application.services.DashboardCategoryExpenseService;
 import br.com.salvemais.application.services.DashboardOverviewService;
 import br.com.salvemais.application.services.DashboardTrendService;
 import br.com.salvemais.application.services.ExportService;
+import br.com.salvemais.application.services.ResumoMensalService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 @Tag(name = "Dashboard", description = "Indicadores, tendências e exportações do dashboard")
 @RestController
@@ -28,15 +36,24 @@ public class DashboardController {
     private final DashboardCategoryExpenseService dashboardCategoryExpenseService;
     private final DashboardTrendService dashboardTrendService;
     private final ExportService exportService;
+    private final ResumoMensalService resumoMensalService;
+    private final DashboardCacheService dashboardCacheService;
+    private final AcessoAdministrativoService acessoAdministrativoService;
 
     public DashboardController(DashboardOverviewService dashboardOverviewService,
                                DashboardCategoryExpenseService dashboardCategoryExpenseService,
                                DashboardTrendService dashboardTrendService,
-                               ExportService exportService) {
+                               ExportService exportService,
+                               ResumoMensalService resumoMensalService,
+                               DashboardCacheService dashboardCacheService,
+                               AcessoAdministrativoService acessoAdministrativoService) {
         this.dashboardOverviewService = dashboardOverviewService;
         this.dashboardCategoryExpenseService = dashboardCategoryExpenseService;
         this.dashboardTrendService = dashboardTrendService;
         this.exportService = exportService;
+        this.resumoMensalService = resumoMensalService;
+        this.dashboardCacheService = dashboardCacheService;
+        this.acessoAdministrativoService = acessoAdministrativoService;
     }
 
     /**
@@ -49,8 +66,10 @@ public class DashboardController {
     @Operation(summary = "Obter resumo do dashboard")
     public ResponseEntity<DashboardSummaryDTO> getSummary(
             @RequestParam(value = "mes", required = false) Integer mes,
-            @RequestParam(value = "ano", required = false) Integer ano) {
-        return ResponseEntity.ok(dashboardOverviewService.getSummary(mes, ano));
+            @RequestParam(value = "ano", required = false) Integer ano,
+            WebRequest webRequest) {
+        return responderComCache("summary:" + periodo(mes, ano), webRequest,
+                () -> dashboardOverviewService.getSummary(mes, ano));
     }
 
     /**
@@ -63,8 +82,10 @@ public class DashboardController {
     @Operation(summary = "Obter despesas por categoria")
     public ResponseEntity<List<CategoryExpenseDTO>> getExpensesByCategory(
             @RequestParam(value = "mes", required = false) Integer mes,
-            @RequestParam(value = "ano", required = false) Integer ano) {
-        return ResponseEntity.ok(dashboardCategoryExpenseService.getExpensesByCategory(mes, ano));
+            @RequestParam(value = "ano", required = false) Integer ano,
+            WebRequest webRequest) {
+        return responderComCache("categorias:" + periodo(mes, ano), webRequest,
+                () -> dashboardCategoryExpenseService.getExpensesByCategory(mes, ano));
     }
     
     /**
@@ -73,8 +94,9 @@ public class DashboardController {
      */
     @GetMapping("/budget-rule")
     @Operation(summary = "Obter regra 50/30/20")
-    public ResponseEntity<BudgetRuleDTO> getBudgetRule() {
-        return ResponseEntity.ok(dashboardOverviewService.getBudgetRule());
+    public ResponseEntity<BudgetRuleDTO> getBudgetRule(WebRequest webRequest) {
+        return responderComCache("budget-rule:" + YearMonth.now(), webRequest,
+                dashboardOverviewService::getBudgetRule);
     }
 
     /**
@@ -85,8 +107,10 @@ public class DashboardController {
     @GetMapping("/monthly-trend")
     @Operation(summary = "Obter tendência mensal")
     public ResponseEntity<List<MonthlyExpenseDTO>> getMonthlyTrend(
-            @RequestParam(value = "months", defaultValue = "6") int months) {
-        return ResponseEntity.ok(dashboardTrendService.getMonthlyExpenseTrend(months));
+            @RequestParam(value = "months", defaultValue = "6") int months,
+            WebRequest webRequest) {
+        return responderComCache("trend:" + months + ":" + YearMonth.now(), webRequest,
+                () -> dashboardTrendService.getMonthlyExpenseTrend(months));
     }
 
     /**
@@ -96,8 +120,9 @@ public class DashboardController {
      */
     @GetMapping("/monthly-trend/year/{year}")
     @Operation(summary = "Obter tendência mensal por ano")
-    public ResponseEntity<List<MonthlyExpenseDTO>> getMonthlyTrendByYear(@PathVariable int year) {
-        return ResponseEntity.ok(dashboardTrendService.getMonthlyExpenseTrendByYear(year));
+    public ResponseEntity<List<MonthlyExpenseDTO>> getMonthlyTrendByYear(@PathVariable int year, WebRequest webRequest) {
+        return responderComCache("trend-ano:" + year, webRequest,
+                () -> dashboardTrendService.getMonthlyExpenseTrendByYear(year));
     }
 
     /**
@@ -110,8 +135,32 @@ public class DashboardController {
     @Operation(summary = "Obter variações mensais")
     public ResponseEntity<List<VariationDataDTO>> getVariationData(
             @RequestParam(value = "mes", required = false) Integer mes,
-            @RequestParam(value = "ano", required = false) Integer ano) {
-        return ResponseEntity.ok(dashboardTrendService.getVariationData(mes, ano));
+            @RequestParam(value = "ano", required = false) Integer ano,
+            WebRequest webRequest) {
+        return responderComCache("variacoes:" + periodo(mes, ano), webRequest,
+                () -> dashboardTrendService.getVariationData(mes, ano));
+    }
+
+    /**
+     * Endpoint para recriar o resumo mensal do tenant a partir dos lançamentos (somente administradores)
+     * @return Quantidade de linhas gravadas
+     */
+    @PostMapping("/resumo-mensal/reconstruir")
+    @Operation(summary = "Reconstruir resumo mensal")
+    public ResponseEntity<Map<String, Integer>> reconstruirResumoMensal() {
+        acessoAdministrativoService.exigirAdministrador();
+        return ResponseEntity.ok(Map.of("linhas", resumoMensalService.reconstruir()));
+    }
+
+    /**
+     * Endpoint para comparar o resumo mensal com os lançamentos sem alterar nada (somente administradores)
+     * @return Lista de divergências (vazia se o resumo está consistente)
+     */
+    @GetMapping("/resumo-mensal/consistencia")
+    @Operation(summary = "Verificar consistência do resumo mensal")
+    public ResponseEntity<List<ResumoMensalService.Divergencia>> verificarResumoMensal() {
+        acessoAdministrativoService.exigirAdministrador();
+        return ResponseEntity.ok(resumoMensalService.verificarConsistencia());
     }
 
     /**
@@ -132,45 +181,48 @@ public class DashboardController {
      */
     @GetMapping("/export/excel")
     @Operation(summary = "Exportar dashboard para Excel")
-    public ResponseEntity<byte[]> exportDashboardToExcel(
+    public ResponseEntity<StreamingResponseBody> exportDashboardToExcel(
             @RequestParam(value = "mes", required = false) Integer mes,
             @RequestParam(value = "ano", required = false) Integer ano) {
-        
-        try {
-            byte[] excelData = exportService.generateDashboardExcel(mes, ano);
-            
-            // Definir nome do arquivo baseado no período
-            String fileName = "dashboard-financeiro";
-            if (mes != null && ano != null) {
-                String monthName = getMonthName(mes);
-                fileName += "-" + monthName.toLowerCase() + "-" + ano;
-            } else if (ano != null) {
-                fileName += "-" + ano;
-            } else {
-                LocalDate now = LocalDate.now();
-                String monthName = getMonthName(now.getMonthValue());
-                fileName += "-" + monthName.toLowerCase() + "-" + now.getYear();
-            }
-            fileName += ".xlsx";
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-            headers.setContentDispositionFormData("attachment", fileName);
-            headers.setContentLength(excelData.length);
-            
-            return ResponseEntity.ok()
-                    .headers(headers)
-                    .body(excelData);
-                    
-        } catch (Exception e) {
-            // Log do erro para debug
-            System.err.println("Erro ao gerar Excel: " + e.getMessage());
-            e.printStackTrace();
-            
-            // Retorna erro HTTP 500
-            return ResponseEntity.internalServerError()
-                    .body(("Erro ao gerar arquivo Excel: " + e.getMessage()).getBytes());
+
+        // Definir nome do arquivo baseado no período
+        String fileName = "dashboard-financeiro";
+        if (mes != null && ano != null) {
+            String monthName = getMonthName(mes);
+            fileName += "-" + monthName.toLowerCase() + "-" + ano;
+        } else if (ano != null) {
+            fileName += "-" + ano;
+        } else {
+            LocalDate now = LocalDate.now();
+            String monthName = getMonthName(now.getMonthValue());
+            fileName += "-" + monthName.toLowerCase() + "-" + now.getYear();
         }
+        fileName += ".xlsx";
+
+        return PlanilhaExcelResponse.download(fileName,
+                outputStream -> exportService.generateDashboardExcel(mes, ano, outputStream));
+    }
+
+    /**
+     * Responde a partir do cache do dashboard, com ETag; devolve 304 se o
+     * If-None-Match do cliente ainda corresponde à resposta em cache
+     */
+    private <T> ResponseEntity<T> responderComCache(String recurso, WebRequest webRequest, Supplier<T> loader) {
+        DashboardCacheService.Resposta<T> resposta = dashboardCacheService.obter(recurso, loader);
+        if (webRequest.checkNotModified(resposta.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(resposta.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .eTag(resposta.etag())
+                .body(resposta.corpo());
+    }
+
+    /**
+     * Mês de referência usado na chave do cache (mês atual quando não informado)
+     */
+    private String periodo(Integer mes, Integer ano) {
+        return (mes != null && ano != null ? YearMonth.of(ano, mes) : YearMonth.now()).toString();
     }
 
     /**
@@ -0,0 +1,58 @@
+package br.com.salvemais.web.api.controllers;
+
+import br.com.salvemais.infrastructure.context.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Resposta de download de planilha .xlsx escrita direto no OutputStream do servlet.
+ *
+ * O {@link StreamingResponseBody} roda em uma thread do executor assíncrono do Spring MVC,
+ * que não herda o {@link TenantContext} da requisição; o tenant é capturado aqui e
+ * restaurado durante a escrita.
+ */
+final class PlanilhaExcelResponse {
+
+    static final MediaType XLSX =
+            MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+    private static final Logger log = LoggerFactory.getLogger(PlanilhaExcelResponse.class);
+
+    @FunctionalInterface
+    interface Escritor {
+        void escrever(OutputStream outputStream) throws IOException;
+    }
+
+    private PlanilhaExcelResponse() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> download(String filename, Escritor escritor) {
+        String tenant = TenantContext.getCurrentTenant();
+        StreamingResponseBody body = outputStream -> {
+            TenantContext.setCurrentTenant(tenant);
+            try {
+                escritor.escrever(outputStream);
+            } catch (IOException | RuntimeException e) {
+                // Os cabeçalhos já foram enviados: só resta registrar e abortar a resposta
+                log.error("Erro ao gerar planilha {}: {}", filename, e.getMessage(), e);
+                throw e;
+            } finally {
+                TenantContext.clear();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .contentType(XLSX)
+                .body(body);
+    }
+}
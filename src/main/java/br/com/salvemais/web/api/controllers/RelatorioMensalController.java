@@ -10,10 +10,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -152,30 +151,21 @@ public class RelatorioMensalController {
             @ApiResponse(responseCode = "400", description = "Parâmetros inválidos")
     })
     @GetMapping("/export/excel/{ano}/{mes}")
-    public ResponseEntity<ByteArrayResource> exportarRelatorioParaExcel(
+    public ResponseEntity<StreamingResponseBody> exportarRelatorioParaExcel(
             @Parameter(description = "Ano do relatório (ex: 2024)", example = "2024")
             @PathVariable int ano,
             
             @Parameter(description = "Mês do relatório (1-12)", example = "12")
             @PathVariable int mes
     ) {
-        try {
-            if (mes < 1 || mes > 12) {
-                return ResponseEntity.badRequest().build();
-            }
-
-            byte[] excelData = exportService.generateRelatorioMensalExcel(mes, ano);
-            ByteArrayResource resource = new ByteArrayResource(excelData);
+        if (mes < 1 || mes > 12) {
+            return ResponseEntity.badRequest().build();
+        }
 
-            String filename = String.format("relatorio-mensal-%02d-%04d.xlsx", mes, ano);
+        String filename = String.format("relatorio-mensal-%02d-%04d.xlsx", mes, ano);
 
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                    .header(HttpHeaders.CONTENT_TYPE, "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")
-                    .body(resource);
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().build();
-        }
+        return PlanilhaExcelResponse.download(filename,
+                outputStream -> exportService.generateRelatorioMensalExcel(mes, ano, outputStream));
     }
 
    
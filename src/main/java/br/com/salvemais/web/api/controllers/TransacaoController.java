@@ -1,6 +1,7 @@
 package br.com.salvemais.web.api.controllers;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,9 +17,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import br.com.salvemais.web.api.dto.ImportacaoTransacoesResultadoDTO;
+import br.com.salvemais.web.api.dto.PaginaCursorDTO;
 import br.com.salvemais.web.api.dto.TransacaoDTO;
 import br.com.salvemais.web.api.dto.TransacaoFiltroDTO;
 import br.com.salvemais.web.api.dto.TransacaoInputDTO;
+import br.com.salvemais.web.api.dto.TransacaoLoteItemDTO;
+import br.com.salvemais.application.services.ImportacaoTransacaoService;
 import br.com.salvemais.application.services.TransacaoService;
 import br.com.salvemais.domain.enums.TipoTransacao;
 import br.com.salvemais.domain.exceptions.TransacaoException;
@@ -33,9 +38,12 @@ import jakarta.validation.Valid;
 public class TransacaoController {
 
     private final TransacaoService transacaoService;
+    private final ImportacaoTransacaoService importacaoTransacaoService;
 
-    public TransacaoController(TransacaoService transacaoService) {
+    public TransacaoController(TransacaoService transacaoService,
+                               ImportacaoTransacaoService importacaoTransacaoService) {
         this.transacaoService = transacaoService;
+        this.importacaoTransacaoService = importacaoTransacaoService;
     }
 
     /**
@@ -61,6 +69,32 @@ public class TransacaoController {
         return ResponseEntity.ok(transacaoService.listarTransacoes(filtro, pageable));
     }
 
+    /**
+     * Lista transações por cursor (sem OFFSET), com os mesmos filtros da listagem paginada.
+     * Para a próxima página, repita a chamada com o {@code proximoCursor} recebido.
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Listar transações por cursor")
+    public ResponseEntity<PaginaCursorDTO<TransacaoDTO>> listarTransacoesPorCursor(
+            @RequestParam(required = false) Long contaId,
+            @RequestParam(required = false) TipoTransacao tipo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataInicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataFim,
+            @RequestParam(required = false) Long categoriaId,
+            @RequestParam(required = false) Long faturaId,
+            @RequestParam(required = false) Long contaFixaId,
+            @RequestParam(required = false) Long proventoId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int tamanho,
+            @RequestParam(defaultValue = "false") boolean semTotal) {
+
+        TransacaoFiltroDTO filtro = new TransacaoFiltroDTO(
+                contaId, tipo, dataInicio, dataFim, categoriaId,
+                faturaId, contaFixaId, proventoId);
+
+        return ResponseEntity.ok(transacaoService.listarTransacoesPorCursor(filtro, cursor, tamanho, !semTotal));
+    }
+
     /**
      * Busca uma transação por ID
      */
@@ -83,6 +117,16 @@ public class TransacaoController {
         }
     }
 
+    /**
+     * Importa transações em lote (créditos e débitos de um extrato, por exemplo).
+     * Linhas inválidas voltam em {@code erros} e não impedem a gravação das demais.
+     */
+    @PostMapping("/lote")
+    @Operation(summary = "Importar transações em lote")
+    public ResponseEntity<ImportacaoTransacoesResultadoDTO> importarLote(@RequestBody List<TransacaoLoteItemDTO> itens) {
+        return ResponseEntity.ok(importacaoTransacaoService.importar(itens));
+    }
+
     /**
      * Remove uma transação por ID
      */
@@ -0,0 +1,26 @@
+package br.com.salvemais.web.api.dto;
+
+import java.util.List;
+
+/**
+ * Resultado de uma importação em lote de transações.
+ *
+ * @param recebidas  quantidade de linhas enviadas
+ * @param importadas quantidade de transações gravadas
+ * @param erros      linhas rejeitadas e o motivo
+ */
+public record ImportacaoTransacoesResultadoDTO(
+        int recebidas,
+        int importadas,
+        List<ErroLinhaDTO> erros
+) {
+    /**
+     * Erro de uma linha do lote
+     *
+     * @param linha posição da linha no lote, começando em 1
+     */
+    public record ErroLinhaDTO(
+            int linha,
+            String mensagem
+    ) {}
+}
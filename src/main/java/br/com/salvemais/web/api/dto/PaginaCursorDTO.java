@@ -0,0 +1,18 @@
+package br.com.salvemais.web.api.dto;
+
+import java.util.List;
+
+/**
+ * Página de uma listagem por cursor.
+ *
+ * @param conteudo       itens da página
+ * @param proximoCursor  token opaco para buscar a página seguinte ({@code null} na última página)
+ * @param temMais        se existe uma página seguinte
+ * @param totalElementos total de itens do filtro, ou {@code null} quando a contagem foi dispensada
+ */
+public record PaginaCursorDTO<T>(
+        List<T> conteudo,
+        String proximoCursor,
+        boolean temMais,
+        Long totalElementos
+) {}
@@ -0,0 +1,22 @@
+package br.com.salvemais.web.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Schema(description = "Curva de rendimento projetado de uma conta, mês a mês")
+public record ProjecaoRendimentoDTO(
+    @Schema(description = "Id da conta")
+    Long contaId,
+    @Schema(description = "Titular da conta")
+    String titular,
+    @Schema(description = "Saldo atual")
+    BigDecimal saldo,
+    @Schema(description = "Taxa de rendimento anual em percentual")
+    BigDecimal taxaRendimento,
+    @Schema(description = "Saldo projetado ao fim de cada mês, do mês 1 em diante")
+    List<Ponto> pontos
+) {
+    public record Ponto(int mes, BigDecimal valor) {}
+}
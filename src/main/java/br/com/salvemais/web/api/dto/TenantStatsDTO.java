@@ -5,6 +5,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,4 +24,7 @@ public class TenantStatsDTO {
     
     @Schema(description = "Total de usuários em todos os tenants")
     private Long totalUsers;
+
+    @Schema(description = "Momento em que os totais foram calculados")
+    private LocalDateTime generatedAt;
 }
@@ -0,0 +1,21 @@
+package br.com.salvemais.web.api.dto;
+
+import br.com.salvemais.domain.enums.TipoTransacao;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Linha de uma importação em lote de transações (ex.: extrato bancário convertido pelo cliente).
+ * Aceita apenas {@code CREDITO} e {@code DEBITO}; a validação é feita linha a linha pelo
+ * serviço, para que uma linha inválida não derrube o lote inteiro.
+ */
+public record TransacaoLoteItemDTO(
+        TipoTransacao tipo,
+        BigDecimal valor,
+        LocalDateTime data,
+        String descricao,
+        Long contaId,
+        Long categoriaId,
+        String observacoes
+) {}
@@ -3,6 +3,7 @@ package br.com.salvemais.web.api.mappers;
 import br.com.salvemais.web.api.dto.AnexoDTO;
 import br.com.salvemais.web.api.dto.UrlDownloadDTO;
 import br.com.salvemais.domain.entities.Anexo;
+import br.com.salvemais.infrastructure.repositories.AnexoResumo;
 
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -19,6 +20,11 @@ public interface AnexoMapper {
         return anexo.getContaFixa() != null ? anexo.getContaFixa().getId() : null;
     }
 
+    default AnexoDTO toDTO(AnexoResumo resumo) {
+        return new AnexoDTO(resumo.getId(), resumo.getNome(), resumo.getTipo(),
+                resumo.getDataUpload(), resumo.getContaFixaId());
+    }
+
     default UrlDownloadDTO toUrlDownloadDTO(Anexo anexo, String url) {
         return new UrlDownloadDTO(url, anexo.getNome(), anexo.getTipo());
     }
@@ -0,0 +1,44 @@
+-- V33: Tabela de consolidação mensal (resumo_mensal) usada pelos dashboards
+-- Uma linha por (mês, origem, categoria). Mantida pela aplicação a cada escrita e
+-- populada aqui a partir dos lançamentos já existentes no schema do tenant.
+
+CREATE TABLE IF NOT EXISTS resumo_mensal (
+    id BIGSERIAL PRIMARY KEY,
+    mes DATE NOT NULL,
+    origem VARCHAR(20) NOT NULL,
+    categoria_id BIGINT,
+    total DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    atualizado_em TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- categoria_id é nulo para proventos e faturas; COALESCE mantém a chave única
+CREATE UNIQUE INDEX IF NOT EXISTS uk_resumo_mensal_mes_origem_categoria
+    ON resumo_mensal (mes, origem, COALESCE(categoria_id, 0));
+
+-- ============================================================================
+-- Carga inicial a partir dos lançamentos existentes
+-- ============================================================================
+
+INSERT INTO resumo_mensal (mes, origem, categoria_id, total)
+SELECT date_trunc('month', data)::date, 'PROVENTO', NULL, SUM(valor)
+FROM provento
+WHERE data IS NOT NULL
+GROUP BY date_trunc('month', data)::date;
+
+INSERT INTO resumo_mensal (mes, origem, categoria_id, total)
+SELECT date_trunc('month', vencimento)::date, 'CONTA_FIXA', categoria_id, SUM(valor)
+FROM conta_fixa
+WHERE vencimento IS NOT NULL
+GROUP BY date_trunc('month', vencimento)::date, categoria_id;
+
+INSERT INTO resumo_mensal (mes, origem, categoria_id, total)
+SELECT date_trunc('month', data_vencimento)::date, 'FATURA', NULL, SUM(valor_total)
+FROM fatura
+WHERE data_vencimento IS NOT NULL
+GROUP BY date_trunc('month', data_vencimento)::date;
+
+INSERT INTO resumo_mensal (mes, origem, categoria_id, total)
+SELECT date_trunc('month', data_compra)::date, 'COMPRA_DEBITO', categoria_id, SUM(valor)
+FROM compra_debito
+WHERE data_compra IS NOT NULL
+GROUP BY date_trunc('month', data_compra)::date, categoria_id;
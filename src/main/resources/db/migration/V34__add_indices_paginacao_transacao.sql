@@ -0,0 +1,26 @@
+-- V34: Índices compostos para a listagem de transações por cursor (GET /api/transacoes/cursor)
+-- A listagem ordena por (data DESC, id DESC) e filtra opcionalmente por conta, tipo,
+-- categoria e intervalo de datas; cada índice cobre uma combinação de igualdade seguida
+-- da ordenação, então o Postgres lê só a página pedida sem ordenar o resultado.
+
+CREATE INDEX IF NOT EXISTS idx_transacao_data_id
+    ON transacao (data DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_transacao_conta_data_id
+    ON transacao (conta_id, data DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_transacao_conta_tipo_data_id
+    ON transacao (conta_id, tipo, data DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_transacao_tipo_data_id
+    ON transacao (tipo, data DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_transacao_categoria_data_id
+    ON transacao (categoria_id, data DESC, id DESC);
+
+-- Cobertos pelo prefixo dos índices acima
+DROP INDEX IF EXISTS idx_transacao_data;
+DROP INDEX IF EXISTS idx_transacao_conta;
+DROP INDEX IF EXISTS idx_transacao_conta_tipo;
+DROP INDEX IF EXISTS idx_transacao_tipo;
+DROP INDEX IF EXISTS idx_transacao_categoria;
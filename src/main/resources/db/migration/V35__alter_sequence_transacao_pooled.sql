@@ -0,0 +1,7 @@
+-- V35: Sequência de transacao com incremento 50
+-- A entidade Transacao passou de IDENTITY para SEQUENCE com pooled optimizer
+-- (allocationSize = 50): cada nextval reserva um bloco de 50 ids, o que permite ao
+-- Hibernate gravar várias transações em um único lote JDBC. O DEFAULT da coluna
+-- continua usando a mesma sequência, então INSERTs manuais seguem funcionando.
+
+ALTER SEQUENCE transacao_id_seq INCREMENT BY 50;
@@ -0,0 +1,23 @@
+-- V36: Fila de saída de e-mails (outbox)
+-- Os e-mails de notificação são gravados aqui e enviados por um processo separado,
+-- com novas tentativas e limite de envios por servidor SMTP. Fica no schema public,
+-- como notificacoes_email, porque o envio atende todos os tenants.
+
+CREATE TABLE IF NOT EXISTS public.email_outbox
+(
+    id                BIGSERIAL PRIMARY KEY,
+    tenant_domain     VARCHAR(255),
+    destinatario      VARCHAR(255) NOT NULL,
+    assunto           VARCHAR(500) NOT NULL,
+    corpo_html        TEXT         NOT NULL,
+    status            VARCHAR(20)  NOT NULL DEFAULT 'PENDENTE',
+    tentativas        INTEGER      NOT NULL DEFAULT 0,
+    proxima_tentativa TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    ultimo_erro       VARCHAR(1000),
+    criado_em         TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    enviado_em        TIMESTAMP
+);
+
+-- Busca dos e-mails elegíveis para envio
+CREATE INDEX IF NOT EXISTS idx_email_outbox_status_proxima
+    ON public.email_outbox (status, proxima_tentativa);
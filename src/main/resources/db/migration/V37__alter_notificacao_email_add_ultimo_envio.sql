@@ -0,0 +1,11 @@
+-- V37: Marca do último envio das notificações diárias por e-mail
+-- O agendador só envia se conseguir avançar ultimo_envio para o dia corrente, então cada
+-- tenant recebe um único e-mail por dia, mesmo com mais de uma instância ou após reinício.
+
+ALTER TABLE public.notificacoes_email ADD COLUMN IF NOT EXISTS ultimo_envio DATE;
+
+-- Quem já passou do horário hoje foi atendido pela verificação horária anterior
+UPDATE public.notificacoes_email
+SET ultimo_envio = (now() AT TIME ZONE 'America/Sao_Paulo')::date
+WHERE ultimo_envio IS NULL
+  AND horario <= (now() AT TIME ZONE 'America/Sao_Paulo')::time;
@@ -0,0 +1,30 @@
+-- V38: Índices para os filtros por período (listagens "do mês", dashboard e faturas)
+-- As consultas filtram com intervalo semiaberto (coluna >= inicio AND coluna < fim) em
+-- vez de MONTH()/YEAR(), então um b-tree na coluna de data atende a busca sem varrer a
+-- tabela. Os nomes batem com os @Index das entidades.
+
+CREATE INDEX IF NOT EXISTS idx_conta_fixa_vencimento
+    ON conta_fixa (vencimento);
+
+CREATE INDEX IF NOT EXISTS idx_compra_data
+    ON compra (data);
+
+-- Compras de um cartão em um período (limite utilizado, fechamento de fatura)
+CREATE INDEX IF NOT EXISTS idx_compra_cartao_data
+    ON compra (cartao_credito_id, data);
+
+CREATE INDEX IF NOT EXISTS idx_compra_debito_data_compra
+    ON compra_debito (data_compra);
+
+CREATE INDEX IF NOT EXISTS idx_compra_parcelada_data_compra
+    ON compra_parcelada (data_compra);
+
+CREATE INDEX IF NOT EXISTS idx_fatura_data_vencimento
+    ON fatura (data_vencimento);
+
+CREATE INDEX IF NOT EXISTS idx_provento_data
+    ON provento (data);
+
+-- Já criado na V18; repetido para garantir o índice em schemas antigos
+CREATE INDEX IF NOT EXISTS idx_parcela_data_vencimento
+    ON parcela (data_vencimento);
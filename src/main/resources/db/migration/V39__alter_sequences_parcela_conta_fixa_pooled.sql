@@ -0,0 +1,7 @@
+-- V39: Sequências de parcela e conta_fixa com incremento 50
+-- Parcela e ContaFixa passaram de IDENTITY para SEQUENCE com pooled optimizer
+-- (allocationSize = 50), como a transacao na V35: as parcelas de uma compra parcelada e
+-- as recorrências de uma conta fixa são gravadas em lotes JDBC em vez de um INSERT por linha.
+
+ALTER SEQUENCE parcela_id_seq INCREMENT BY 50;
+ALTER SEQUENCE conta_fixa_id_seq INCREMENT BY 50;
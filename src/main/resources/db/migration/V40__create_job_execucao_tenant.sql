@@ -0,0 +1,22 @@
+-- V40: Checkpoint por tenant dos jobs agendados que percorrem todos os tenants
+-- Cada execução (job + referência, ex.: rendimento-mensal/2026-09) registra uma linha por
+-- tenant ativo; o TenantJobRunner marca a linha como CONCLUIDO na mesma transação do trabalho
+-- do tenant, então uma queda no meio retoma só os tenants que faltaram.
+
+CREATE TABLE IF NOT EXISTS public.job_execucao_tenant
+(
+    id            BIGSERIAL PRIMARY KEY,
+    job           VARCHAR(100) NOT NULL,
+    referencia    VARCHAR(50)  NOT NULL,
+    tenant_domain VARCHAR(255) NOT NULL,
+    status        VARCHAR(20)  NOT NULL DEFAULT 'PENDENTE',
+    tentativas    INTEGER      NOT NULL DEFAULT 0,
+    ultimo_erro   VARCHAR(1000),
+    criado_em     TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    atualizado_em TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_job_execucao_tenant UNIQUE (job, referencia, tenant_domain)
+);
+
+-- Busca das execuções com tenants pendentes
+CREATE INDEX IF NOT EXISTS idx_job_execucao_tenant_status
+    ON public.job_execucao_tenant (status, criado_em);
@@ -0,0 +1,11 @@
+-- V41: Hash SHA-256 e tamanho dos comprovantes
+-- O upload envia o arquivo ao S3 em streaming e calcula o hash e o tamanho no caminho,
+-- sem copiar o arquivo inteiro para a memória. Com app.anexos.deduplicacao.enabled, um
+-- comprovante idêntico a outro do mesmo tenant reaproveita o objeto S3 existente.
+-- Anexos antigos ficam com hash nulo e nunca são usados na deduplicação.
+
+ALTER TABLE anexo ADD COLUMN IF NOT EXISTS hash_sha256 VARCHAR(64);
+ALTER TABLE anexo ADD COLUMN IF NOT EXISTS tamanho BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_anexo_hash_sha256
+    ON anexo (hash_sha256);
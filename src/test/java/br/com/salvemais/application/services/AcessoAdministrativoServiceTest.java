@@ -0,0 +1,64 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.exceptions.ForbiddenException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AcessoAdministrativoServiceTest {
+
+    private final AcessoAdministrativoService acessoAdministrativoService =
+            new AcessoAdministrativoService(" Admin@Salve.com , ops@salve.com");
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void devePermitirEmailConfiguradoIgnorandoMaiusculas() {
+        autenticar("admin@salve.com");
+
+        assertDoesNotThrow(acessoAdministrativoService::exigirAdministrador);
+    }
+
+    @Test
+    void deveNegarUsuarioComumESemAutenticacao() {
+        assertThrows(ForbiddenException.class, acessoAdministrativoService::exigirAdministrador);
+
+        autenticar("usuario@salve.com");
+
+        assertThrows(ForbiddenException.class, acessoAdministrativoService::exigirAdministrador);
+    }
+
+    @Test
+    void semEmailsConfiguradosNinguemEAdministrador() {
+        autenticar("admin@salve.com");
+
+        assertThrows(ForbiddenException.class, new AcessoAdministrativoService("")::exigirAdministrador);
+    }
+
+    @Test
+    void isAdministradorAvaliaAAutenticacaoRecebida() {
+        assertTrue(acessoAdministrativoService.isAdministrador(
+                new UsernamePasswordAuthenticationToken("ops@salve.com", null, List.of())));
+        assertFalse(acessoAdministrativoService.isAdministrador(
+                new UsernamePasswordAuthenticationToken("usuario@salve.com", null, List.of())));
+        assertFalse(acessoAdministrativoService.isAdministrador(
+                new UsernamePasswordAuthenticationToken("ops@salve.com", null)));
+        assertFalse(acessoAdministrativoService.isAdministrador(null));
+    }
+
+    private void autenticar(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
@@ -0,0 +1,200 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.Anexo;
+import br.com.salvemais.domain.entities.ContaFixa;
+import br.com.salvemais.infrastructure.context.TenantContext;
+import br.com.salvemais.infrastructure.repositories.AnexoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AnexoServiceTest {
+
+    private static final String SHA256_CONTEUDO = "92359bb294288000958de4f1f20d5778681b14bfe2f0868104f79230942a6984";
+
+    @Mock
+    private AnexoRepository anexoRepository;
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private UrlAssinadaCache urlAssinadaCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private AnexoService anexoService;
+
+    private final MockMultipartFile arquivo =
+            new MockMultipartFile("arquivo", "recibo.pdf", "application/pdf", "conteudo".getBytes());
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(anexoService, "bucketName", "bucket");
+        TenantContext.setCurrentTenant("tenant-a");
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void enviaEmStreamingComHashETamanho() throws Exception {
+        simularS3();
+        when(anexoRepository.save(any(Anexo.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        Anexo anexo = anexoService.uploadAnexo(arquivo, new ContaFixa());
+
+        ArgumentCaptor<PutObjectRequest> pedido = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(pedido.capture(), any(RequestBody.class));
+        assertEquals(8L, pedido.getValue().contentLength());
+        assertTrue(anexo.getChaveS3().startsWith("comprovantes/tenant-a/"));
+        assertEquals(SHA256_CONTEUDO, anexo.getHashSha256());
+        assertEquals(8L, anexo.getTamanho());
+        verify(anexoRepository, never()).findFirstByHashSha256AndTamanho(anyString(), anyLong());
+    }
+
+    @Test
+    void reabreOConteudoQuandoOSdkRepeteOEnvio() throws Exception {
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocacao -> {
+            RequestBody corpo = invocacao.getArgument(1);
+            // Primeira tentativa cai no meio do envio; a segunda relê desde o início
+            corpo.contentStreamProvider().newStream().read(new byte[3]);
+            try (InputStream in = corpo.contentStreamProvider().newStream()) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return PutObjectResponse.builder().build();
+        });
+        when(anexoRepository.save(any(Anexo.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        Anexo anexo = anexoService.uploadAnexo(arquivo, new ContaFixa());
+
+        assertEquals(SHA256_CONTEUDO, anexo.getHashSha256());
+        assertEquals(8L, anexo.getTamanho());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reaproveitaOObjetoDeUmComprovanteIdentico() throws Exception {
+        ReflectionTestUtils.setField(anexoService, "deduplicacaoHabilitada", true);
+        simularS3();
+        Anexo existente = new Anexo();
+        existente.setChaveS3("comprovantes/tenant-a/original-recibo.pdf");
+        when(anexoRepository.findFirstByHashSha256AndTamanho(SHA256_CONTEUDO, 8L)).thenReturn(Optional.of(existente));
+        when(anexoRepository.existsByChaveS3(existente.getChaveS3())).thenReturn(true);
+        when(anexoRepository.save(any(Anexo.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        Anexo anexo = anexoService.uploadAnexo(arquivo, new ContaFixa());
+
+        assertEquals("comprovantes/tenant-a/original-recibo.pdf", anexo.getChaveS3());
+        InOrder ordem = inOrder(anexoRepository);
+        ordem.verify(anexoRepository).travarObjetoS3(existente.getChaveS3());
+        ordem.verify(anexoRepository).existsByChaveS3(existente.getChaveS3());
+        ordem.verify(anexoRepository).save(anexo);
+        ArgumentCaptor<Consumer<DeleteObjectRequest.Builder>> exclusao = ArgumentCaptor.forClass(Consumer.class);
+        verify(s3Client).deleteObject(exclusao.capture());
+        DeleteObjectRequest.Builder builder = DeleteObjectRequest.builder();
+        exclusao.getValue().accept(builder);
+        assertTrue(builder.build().key().startsWith("comprovantes/tenant-a/"));
+        assertNotEquals(existente.getChaveS3(), builder.build().key());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void mantemOProprioObjetoQuandoOIdenticoFoiExcluidoDuranteAEspera() throws Exception {
+        ReflectionTestUtils.setField(anexoService, "deduplicacaoHabilitada", true);
+        simularS3();
+        Anexo existente = new Anexo();
+        existente.setChaveS3("comprovantes/tenant-a/original-recibo.pdf");
+        when(anexoRepository.findFirstByHashSha256AndTamanho(SHA256_CONTEUDO, 8L)).thenReturn(Optional.of(existente));
+        when(anexoRepository.existsByChaveS3(existente.getChaveS3())).thenReturn(false);
+        when(anexoRepository.save(any(Anexo.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        Anexo anexo = anexoService.uploadAnexo(arquivo, new ContaFixa());
+
+        assertNotEquals(existente.getChaveS3(), anexo.getChaveS3());
+        assertTrue(anexo.getChaveS3().startsWith("comprovantes/tenant-a/"));
+        verify(s3Client, never()).deleteObject(any(Consumer.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void excluiOObjetoDoS3SoDepoisDeApagarOUltimoAnexoComATrava() {
+        Anexo anexo = new Anexo();
+        anexo.setId(1L);
+        anexo.setChaveS3("comprovantes/tenant-a/original-recibo.pdf");
+        when(anexoRepository.findById(1L)).thenReturn(Optional.of(anexo));
+        when(anexoRepository.existsByChaveS3AndIdNot(anexo.getChaveS3(), 1L)).thenReturn(false);
+
+        anexoService.excluirAnexo(1L);
+
+        InOrder ordem = inOrder(anexoRepository, s3Client, urlAssinadaCache);
+        ordem.verify(anexoRepository).travarObjetoS3(anexo.getChaveS3());
+        ordem.verify(anexoRepository).existsByChaveS3AndIdNot(anexo.getChaveS3(), 1L);
+        ordem.verify(anexoRepository).delete(anexo);
+        ordem.verify(s3Client).deleteObject(any(Consumer.class));
+        ordem.verify(urlAssinadaCache).invalidate(anexo.getChaveS3());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void mantemNoS3OObjetoCompartilhadoPorOutroAnexo() {
+        Anexo anexo = new Anexo();
+        anexo.setId(1L);
+        anexo.setChaveS3("comprovantes/tenant-a/original-recibo.pdf");
+        when(anexoRepository.findById(1L)).thenReturn(Optional.of(anexo));
+        when(anexoRepository.existsByChaveS3AndIdNot(anexo.getChaveS3(), 1L)).thenReturn(true);
+
+        anexoService.excluirAnexo(1L);
+
+        verify(s3Client, never()).deleteObject(any(Consumer.class));
+        verify(anexoRepository).delete(anexo);
+    }
+
+    /**
+     * Consome o corpo do upload como o S3 faria
+     */
+    private void simularS3() {
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocacao -> {
+            RequestBody corpo = invocacao.getArgument(1);
+            try (InputStream in = corpo.contentStreamProvider().newStream()) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return PutObjectResponse.builder().build();
+        });
+    }
+}
@@ -0,0 +1,195 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.Anexo;
+import br.com.salvemais.domain.entities.ContaFixa;
+import br.com.salvemais.infrastructure.context.TenantContext;
+import br.com.salvemais.infrastructure.repositories.AnexoRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.File;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Teste de carga (só roda com {@code mvn test -Pcarga}): 50 uploads simultâneos de 10 MB
+ * (o {@code spring.servlet.multipart.max-file-size}) contra um S3 simulado em memória que só
+ * consome o corpo. Copiando cada arquivo para a memória o pico passaria de 500 MB; em
+ * streaming o heap cresce só com os buffers de leitura.
+ *
+ * Os arquivos são gerados sob demanda e {@link MultipartFile#getBytes()} falha, como garantia
+ * de que o upload não volta a bufferizar o conteúdo.
+ */
+@Tag("carga")
+class AnexoUploadCargaTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AnexoUploadCargaTest.class);
+
+    private static final int UPLOADS = 50;
+    private static final long TAMANHO = 10L * 1024 * 1024;
+    private static final long LIMITE_CRESCIMENTO_HEAP = 100L * 1024 * 1024;
+
+    @Test
+    void uploadsSimultaneosNaoCopiamOsArquivosParaOHeap() throws Exception {
+        CyclicBarrier todosEnviando = new CyclicBarrier(UPLOADS);
+        S3Client s3Client = mock(S3Client.class);
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenAnswer(invocacao -> {
+            RequestBody corpo = invocacao.getArgument(1);
+            try (InputStream in = corpo.contentStreamProvider().newStream()) {
+                byte[] buffer = new byte[8192];
+                // Metade lida antes e metade depois de todos os uploads estarem em andamento
+                long lidos = 0;
+                int n;
+                while (lidos < TAMANHO / 2 && (n = in.read(buffer)) > 0) {
+                    lidos += n;
+                }
+                todosEnviando.await(60, TimeUnit.SECONDS);
+                while (in.read(buffer) > 0) {
+                    // descarta, como o S3 gravando o objeto
+                }
+            }
+            return PutObjectResponse.builder().build();
+        });
+        AnexoRepository anexoRepository = mock(AnexoRepository.class);
+        when(anexoRepository.save(any(Anexo.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        AnexoService anexoService = new AnexoService();
+        ReflectionTestUtils.setField(anexoService, "s3Client", s3Client);
+        ReflectionTestUtils.setField(anexoService, "anexoRepository", anexoRepository);
+        ReflectionTestUtils.setField(anexoService, "bucketName", "bucket");
+
+        long base = heapUsado();
+        List<MemoryPoolMXBean> pools = poolsDeHeap();
+        pools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        List<Anexo> anexos = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(UPLOADS)) {
+            List<Future<Anexo>> uploads = new ArrayList<>();
+            for (int i = 0; i < UPLOADS; i++) {
+                ArquivoGerado arquivo = new ArquivoGerado("recibo-" + i + ".pdf", TAMANHO, i);
+                uploads.add(executor.submit(() ->
+                        TenantContext.withTenant("carga", () -> enviar(anexoService, arquivo))));
+            }
+            for (Future<Anexo> upload : uploads) {
+                anexos.add(upload.get(120, TimeUnit.SECONDS));
+            }
+        }
+
+        long pico = pools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        long crescimento = pico - base;
+        log.info("{} uploads de {} MB: pico do heap {} MB acima da base (bufferizando seriam ao menos {} MB)",
+                UPLOADS, TAMANHO / (1024 * 1024), crescimento / (1024 * 1024), UPLOADS * TAMANHO / (1024 * 1024));
+
+        assertEquals(UPLOADS, anexos.size());
+        assertTrue(anexos.stream().allMatch(anexo -> anexo.getTamanho() == TAMANHO && anexo.getHashSha256() != null));
+        assertTrue(crescimento < LIMITE_CRESCIMENTO_HEAP, "pico de " + crescimento / (1024 * 1024) + " MB");
+    }
+
+    private Anexo enviar(AnexoService anexoService, MultipartFile arquivo) {
+        try {
+            return anexoService.uploadAnexo(arquivo, new ContaFixa());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long heapUsado() {
+        System.gc();
+        return poolsDeHeap().stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+    }
+
+    private List<MemoryPoolMXBean> poolsDeHeap() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+    }
+
+    /**
+     * Arquivo de upload com conteúdo gerado na leitura, como a parte multipart que o Tomcat
+     * mantém em disco
+     */
+    private record ArquivoGerado(String nome, long tamanho, int semente) implements MultipartFile {
+
+        @Override
+        public String getName() {
+            return "arquivo";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return nome;
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/pdf";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return tamanho == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return tamanho;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException("O upload não deve copiar o arquivo para a memória");
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new InputStream() {
+                private long posicao;
+
+                @Override
+                public int read() {
+                    return posicao < tamanho ? (int) ((posicao++ + semente) & 0xFF) : -1;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (posicao >= tamanho) {
+                        return -1;
+                    }
+                    int n = (int) Math.min(len, tamanho - posicao);
+                    for (int i = 0; i < n; i++) {
+                        b[off + i] = (byte) (posicao++ + semente);
+                    }
+                    return n;
+                }
+            };
+        }
+
+        @Override
+        public void transferTo(File dest) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.CartaoCredito;
+import br.com.salvemais.domain.entities.Compra;
+import br.com.salvemais.domain.entities.CompraParcelada;
+import br.com.salvemais.domain.entities.Parcela;
+import br.com.salvemais.domain.exceptions.CartaoCreditoException;
+import br.com.salvemais.web.api.dto.CartaoLimiteStatusDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(CartaoCreditoService.class)
+class CartaoCreditoLimiteTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CartaoCreditoService cartaoCreditoService;
+
+    private CartaoCredito nubank;
+    private CartaoCredito inter;
+
+    @BeforeEach
+    void setUp() {
+        LocalDate hoje = LocalDate.now();
+
+        nubank = criarCartao("Nubank", "1000.00", true);
+        inter = criarCartao("Inter", "500.00", true);
+        criarCartao("Sem limite", null, true);
+        criarCartao("Inativo", "300.00", false);
+
+        criarCompra(nubank, "200.00", hoje.withDayOfMonth(1));
+        criarCompra(nubank, "999.00", hoje.withDayOfMonth(1).minusDays(1)); // mês anterior
+        criarCompra(inter, "450.00", hoje.withDayOfMonth(1));
+
+        CompraParcelada parcelada = criarCompraParcelada(nubank, false);
+        criarParcela(parcelada, 1, "100.00", true);
+        criarParcela(parcelada, 2, "100.00", false);
+        criarParcela(parcelada, 3, "100.00", false);
+        criarParcela(criarCompraParcelada(nubank, true), 1, "50.00", false); // arquivada
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void somaComprasDoMesEParcelasEmAberto() {
+        CartaoLimiteStatusDTO status = cartaoCreditoService.verificarStatusLimite(nubank.getId());
+
+        assertValor("400.00", status.valorUtilizado());
+        assertValor("600.00", status.limiteDisponivel());
+        assertValor("40.00", status.percentualUtilizado());
+        assertFalse(status.limiteExcedido());
+        assertFalse(status.alertaAtivado());
+    }
+
+    @Test
+    void listaOsCartoesAtivosComLimiteEmUmaUnicaConsulta() {
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<CartaoLimiteStatusDTO> status = cartaoCreditoService.listarStatusLimiteTodos();
+
+        assertEquals(List.of(nubank.getId(), inter.getId()), status.stream().map(CartaoLimiteStatusDTO::cartaoId).toList());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        CartaoLimiteStatusDTO statusInter = status.get(1);
+        assertValor("450.00", statusInter.valorUtilizado());
+        assertTrue(statusInter.alertaAtivado());
+    }
+
+    @Test
+    void podeRealizarCompraConsideraAsParcelasEmAberto() {
+        assertTrue(cartaoCreditoService.podeRealizarCompra(nubank.getId(), new BigDecimal("600.00")));
+        assertFalse(cartaoCreditoService.podeRealizarCompra(nubank.getId(), new BigDecimal("600.01")));
+    }
+
+    @Test
+    void cartaoInexistenteGeraErro() {
+        assertThrows(CartaoCreditoException.class, () -> cartaoCreditoService.verificarStatusLimite(999_999L));
+    }
+
+    private void assertValor(String esperado, BigDecimal valor) {
+        assertEquals(0, new BigDecimal(esperado).compareTo(valor), "valor " + valor);
+    }
+
+    private CartaoCredito criarCartao(String nome, String limite, boolean ativo) {
+        CartaoCredito cartao = new CartaoCredito();
+        cartao.setNome(nome);
+        cartao.setVencimento(LocalDate.now().withDayOfMonth(10));
+        cartao.setLimiteTotal(limite != null ? new BigDecimal(limite) : null);
+        cartao.setAtivo(ativo);
+        return em.persist(cartao);
+    }
+
+    private void criarCompra(CartaoCredito cartao, String valor, LocalDate data) {
+        Compra compra = new Compra();
+        compra.setDescricao("Compra");
+        compra.setValor(new BigDecimal(valor));
+        compra.setData(data);
+        compra.setCartaoCredito(cartao);
+        em.persist(compra);
+    }
+
+    private CompraParcelada criarCompraParcelada(CartaoCredito cartao, boolean arquivado) {
+        CompraParcelada compraParcelada = new CompraParcelada();
+        compraParcelada.setDescricao("Notebook");
+        compraParcelada.setValorTotal(new BigDecimal("300.00"));
+        compraParcelada.setDataCompra(LocalDate.now().minusMonths(1));
+        compraParcelada.setParcelaInicial(1);
+        compraParcelada.setTotalParcelas(3);
+        compraParcelada.setCartaoCredito(cartao);
+        compraParcelada.setArquivado(arquivado);
+        return em.persist(compraParcelada);
+    }
+
+    private void criarParcela(CompraParcelada compraParcelada, int numero, String valor, boolean paga) {
+        Parcela parcela = new Parcela();
+        parcela.setNumeroParcela(numero);
+        parcela.setTotalParcelas(compraParcelada.getTotalParcelas());
+        parcela.setValor(new BigDecimal(valor));
+        parcela.setDataVencimento(LocalDate.now().plusMonths(numero));
+        parcela.setPaga(paga);
+        parcela.setCompraParcelada(compraParcelada);
+        em.persist(parcela);
+    }
+}
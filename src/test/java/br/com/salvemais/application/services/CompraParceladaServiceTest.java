@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -38,6 +39,9 @@ class CompraParceladaServiceTest {
     @Mock
     private CategoriaService categoriaService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CompraParceladaService compraParceladaService;
 
@@ -166,7 +170,7 @@ class CompraParceladaServiceTest {
     void deveBuscarCompraPorId() {
         // Arrange
         compraParcelada.setId(1L);
-        when(compraParceladaRepository.findById(1L)).thenReturn(Optional.of(compraParcelada));
+        when(compraParceladaRepository.findComParcelasById(1L)).thenReturn(Optional.of(compraParcelada));
 
         // Act
         CompraParcelada resultado = compraParceladaService.buscarPorId(1L);
@@ -181,7 +185,7 @@ class CompraParceladaServiceTest {
     @DisplayName("Deve lançar exceção ao buscar compra inexistente")
     void deveLancarExcecaoAoBuscarCompraInexistente() {
         // Arrange
-        when(compraParceladaRepository.findById(999L)).thenReturn(Optional.empty());
+        when(compraParceladaRepository.findComParcelasById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(RuntimeException.class, () -> {
@@ -194,7 +198,7 @@ class CompraParceladaServiceTest {
     void deveExcluirCompraParcelada() {
         // Arrange
         compraParcelada.setId(1L);
-        when(compraParceladaRepository.findById(1L)).thenReturn(Optional.of(compraParcelada));
+        when(compraParceladaRepository.findComParcelasById(1L)).thenReturn(Optional.of(compraParcelada));
         doNothing().when(compraParceladaRepository).delete(compraParcelada);
 
         // Act
@@ -0,0 +1,124 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.Categoria;
+import br.com.salvemais.domain.entities.Conta;
+import br.com.salvemais.domain.entities.ContaFixa;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A exportação de contas fixas percorre o histórico em lotes por chave (id); com mais de um
+ * lote, nenhuma conta pode ficar de fora nem aparecer duas vezes na virada dos lotes.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(ContaFixaService.class)
+class ContaFixaExportacaoTest {
+
+    // Dois lotes completos de 500 e um parcial
+    private static final int QUANTIDADE = 1_201;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ContaFixaService contaFixaService;
+
+    @MockBean
+    private ContaService contaService;
+
+    @MockBean
+    private CategoriaService categoriaService;
+
+    @MockBean
+    private ContaFixaComprovanteService contaFixaComprovanteService;
+
+    @MockBean
+    private TransacaoService transacaoService;
+
+    @MockBean
+    private ResumoMensalService resumoMensalService;
+
+    @Test
+    void exportaTodasAsContasUmaVezAtravesDosLotes() throws Exception {
+        List<String> nomesEsperados = criarContasFixas();
+        BigDecimal totalEsperado = BigDecimal.ZERO;
+        for (int i = 1; i <= QUANTIDADE; i++) {
+            totalEsperado = totalEsperado.add(valor(i));
+        }
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        contaFixaService.exportarParaExcel(null, null, saida);
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(saida.toByteArray()))) {
+            Sheet sheet = workbook.getSheet("Débitos em Conta");
+            // Cabeçalho na linha 0, contas de 1 a QUANTIDADE e o total logo depois
+            assertEquals(QUANTIDADE + 1, sheet.getLastRowNum());
+
+            List<String> nomesExportados = new ArrayList<>();
+            for (int linha = 1; linha <= QUANTIDADE; linha++) {
+                nomesExportados.add(sheet.getRow(linha).getCell(0).getStringCellValue());
+            }
+            assertEquals(nomesEsperados, nomesExportados);
+            Set<String> distintos = new HashSet<>(nomesExportados);
+            assertEquals(QUANTIDADE, distintos.size());
+
+            Row total = sheet.getRow(QUANTIDADE + 1);
+            assertEquals("TOTAL:", total.getCell(3).getStringCellValue());
+            assertEquals(totalEsperado.doubleValue(), total.getCell(4).getNumericCellValue(), 0.001);
+        }
+    }
+
+    private List<String> criarContasFixas() {
+        Conta conta = new Conta();
+        conta.setTitular("Conta corrente");
+        conta.setSaldo(new BigDecimal("1000.00"));
+        em.persist(conta);
+
+        Categoria categoria = new Categoria();
+        categoria.setNome("Moradia");
+        categoria.setTipo(Categoria.TipoCategoria.NECESSIDADE);
+        em.persist(categoria);
+
+        // Persistidas em ordem, então a ordem de id é a ordem dos nomes
+        List<String> nomes = new ArrayList<>();
+        LocalDate vencimento = LocalDate.of(2025, 1, 10);
+        for (int i = 1; i <= QUANTIDADE; i++) {
+            ContaFixa contaFixa = new ContaFixa();
+            contaFixa.setNome(String.format("Conta %04d", i));
+            contaFixa.setCategoria(categoria);
+            contaFixa.setConta(conta);
+            contaFixa.setVencimento(vencimento.plusDays(i % 365));
+            contaFixa.setValor(valor(i));
+            em.persist(contaFixa);
+            nomes.add(contaFixa.getNome());
+        }
+        em.flush();
+        em.clear();
+        return nomes;
+    }
+
+    private static BigDecimal valor(int i) {
+        return BigDecimal.valueOf(i, 2);
+    }
+}
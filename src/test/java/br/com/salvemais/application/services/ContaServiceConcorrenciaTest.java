@@ -0,0 +1,153 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.Categoria;
+import br.com.salvemais.domain.entities.Conta;
+import br.com.salvemais.domain.entities.Transacao;
+import br.com.salvemais.domain.exceptions.TransacaoException;
+import br.com.salvemais.infrastructure.repositories.CategoriaRepository;
+import br.com.salvemais.infrastructure.repositories.ContaRepository;
+import br.com.salvemais.infrastructure.repositories.TransacaoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Dispara débitos, créditos e transferências em paralelo nas mesmas contas e confere que
+ * o saldo final bate com o saldo inicial mais o razão de transações, e que nunca fica negativo.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ContaService.class, TransacaoService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ContaServiceConcorrenciaTest {
+
+    private static final BigDecimal SALDO_INICIAL = new BigDecimal("100.00");
+    private static final int THREADS = 8;
+    private static final int OPERACOES_POR_THREAD = 40;
+
+    @Autowired
+    private ContaService contaService;
+
+    @Autowired
+    private ContaRepository contaRepository;
+
+    @Autowired
+    private TransacaoRepository transacaoRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    private Long contaA;
+    private Long contaB;
+    private Long categoriaId;
+
+    @BeforeEach
+    void setUp() {
+        Categoria categoria = new Categoria();
+        categoria.setNome("Diversos");
+        categoria.setTipo(Categoria.TipoCategoria.NECESSIDADE);
+        categoriaId = categoriaRepository.save(categoria).getId();
+
+        contaA = criarConta("Conta A").getId();
+        contaB = criarConta("Conta B").getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transacaoRepository.deleteAllInBatch();
+        contaRepository.deleteAllInBatch();
+        categoriaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void saldoFicaConsistenteComORazaoSobCargaParalela() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<?>> tarefas = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                tarefas.add(executor.submit(() -> {
+                    largada.await();
+                    for (int i = 0; i < OPERACOES_POR_THREAD; i++) {
+                        executarOperacaoAleatoria();
+                    }
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (Long contaId : List.of(contaA, contaB)) {
+            BigDecimal saldo = contaRepository.findById(contaId).orElseThrow().getSaldo();
+            assertEquals(0, SALDO_INICIAL.add(movimentoDoRazao(contaId)).compareTo(saldo),
+                    "saldo da conta " + contaId + " diverge do razão");
+            assertTrue(saldo.signum() >= 0, "saldo negativo na conta " + contaId);
+        }
+    }
+
+    private void executarOperacaoAleatoria() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        BigDecimal valor = BigDecimal.valueOf(random.nextInt(1, 30));
+        boolean sentidoAB = random.nextBoolean();
+        Long origem = sentidoAB ? contaA : contaB;
+        Long destino = sentidoAB ? contaB : contaA;
+        try {
+            switch (random.nextInt(3)) {
+                case 0 -> contaService.debitar(origem, valor, categoriaId, null, null, "Débito");
+                case 1 -> contaService.creditar(origem, valor, categoriaId, null, null, "Crédito");
+                default -> contaService.transferir(origem, destino, valor);
+            }
+        } catch (TransacaoException e) {
+            // Saldo insuficiente: esperado quando os débitos esgotam a conta
+        } catch (RuntimeException e) {
+            if (e.getMessage() == null || !e.getMessage().startsWith("Saldo insuficiente")) {
+                throw e;
+            }
+        }
+    }
+
+    private BigDecimal movimentoDoRazao(Long contaId) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Transacao transacao : transacaoRepository.findAll()) {
+            if (!transacao.getConta().getId().equals(contaId)) {
+                continue;
+            }
+            total = switch (transacao.getTipo()) {
+                case CREDITO, TRANSFERENCIA_ENTRADA -> total.add(transacao.getValor());
+                default -> total.subtract(transacao.getValor());
+            };
+        }
+        return total;
+    }
+
+    private Conta criarConta(String titular) {
+        Conta conta = new Conta();
+        conta.setTitular(titular);
+        conta.setSaldo(SALDO_INICIAL);
+        return contaRepository.save(conta);
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.infrastructure.context.TenantContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class DashboardCacheServiceTest {
+
+    private DashboardCacheService cache;
+    private AtomicInteger consultas;
+
+    @BeforeEach
+    void setUp() {
+        cache = new DashboardCacheService(new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry(), 60, 100);
+        consultas = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void deveReutilizarRespostaEEtagDentroDoTtl() {
+        TenantContext.setCurrentTenant("tenant-a");
+
+        var primeira = cache.obter("summary:2025-03", () -> carregar("a"));
+        var segunda = cache.obter("summary:2025-03", () -> carregar("b"));
+
+        assertEquals(1, consultas.get());
+        assertEquals(primeira.etag(), segunda.etag());
+        assertEquals(List.of("a"), segunda.corpo());
+    }
+
+    @Test
+    void eventoInvalidaApenasOTenantAlterado() {
+        TenantContext.runWithTenant("tenant-a", () -> cache.obter("summary:2025-03", () -> carregar("a")));
+        TenantContext.runWithTenant("tenant-b", () -> cache.obter("summary:2025-03", () -> carregar("b")));
+
+        cache.onDadosFinanceirosAlterados(new DadosFinanceirosAlteradosEvent("tenant-a"));
+
+        TenantContext.runWithTenant("tenant-a", () -> cache.obter("summary:2025-03", () -> carregar("a2")));
+        TenantContext.runWithTenant("tenant-b", () -> cache.obter("summary:2025-03", () -> carregar("b2")));
+
+        assertEquals(3, consultas.get());
+    }
+
+    @Test
+    void etagMudaQuandoOConteudoMuda() {
+        TenantContext.setCurrentTenant("tenant-a");
+
+        var antes = cache.obter("summary:2025-03", () -> carregar("a"));
+        cache.onDadosFinanceirosAlterados(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        var mesmoConteudo = cache.obter("summary:2025-03", () -> carregar("a"));
+        cache.onDadosFinanceirosAlterados(DadosFinanceirosAlteradosEvent.doTenantAtual());
+        var depois = cache.obter("summary:2025-03", () -> carregar("b"));
+
+        assertEquals(antes.etag(), mesmoConteudo.etag());
+        assertNotEquals(antes.etag(), depois.etag());
+    }
+
+    private List<String> carregar(String valor) {
+        consultas.incrementAndGet();
+        return List.of(valor);
+    }
+}
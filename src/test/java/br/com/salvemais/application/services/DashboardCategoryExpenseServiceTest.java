@@ -3,7 +3,8 @@ package br.com.salvemais.application.services;
 import br.com.salvemais.domain.entities.Categoria;
 import br.com.salvemais.domain.entities.CompraDebito;
 import br.com.salvemais.domain.entities.ContaFixa;
-import br.com.salvemais.domain.entities.Fatura;
+import br.com.salvemais.domain.entities.ResumoMensal;
+import br.com.salvemais.domain.enums.OrigemResumo;
 import br.com.salvemais.infrastructure.repositories.CategoriaRepository;
 import br.com.salvemais.infrastructure.repositories.CompraDebitoRepository;
 import br.com.salvemais.infrastructure.repositories.ContaFixaRepository;
@@ -16,10 +17,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +41,9 @@ class DashboardCategoryExpenseServiceTest {
     @Mock
     private CompraDebitoRepository compraDebitoRepository;
 
+    @Mock
+    private ResumoMensalService resumoMensalService;
+
     @InjectMocks
     private DashboardCategoryExpenseService dashboardCategoryExpenseService;
 
@@ -54,9 +61,10 @@ class DashboardCategoryExpenseServiceTest {
         compraDebito.setCategoria(alimentacao);
         compraDebito.setValor(new BigDecimal("50.00"));
 
+        when(resumoMensalService.isLeituraHabilitada()).thenReturn(false);
         when(contaFixaRepository.findByVencimentoBetween(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of(contaFixa));
         when(compraDebitoRepository.findByDataCompraBetween(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of(compraDebito));
-        when(faturaRepository.findByDataVencimentoBetween(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
+        when(faturaRepository.findComComprasByDataVencimentoBetween(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
         when(categoriaRepository.findByNome("Cartões de Crédito")).thenReturn(null);
 
         var resultado = dashboardCategoryExpenseService.getExpensesByCategory(null, null);
@@ -65,4 +73,37 @@ class DashboardCategoryExpenseServiceTest {
         assertEquals("Alimentação", resultado.getFirst().categoriaNome());
         assertEquals(new BigDecimal("150.00"), resultado.getFirst().valorTotal());
     }
+
+    @Test
+    void getExpensesByCategory_deveUsarResumoMensalParaContasFixasEDebito() {
+        Categoria alimentacao = new Categoria();
+        alimentacao.setId(1L);
+        alimentacao.setNome("Alimentação");
+
+        YearMonth mes = YearMonth.of(2025, 3);
+        when(resumoMensalService.isLeituraHabilitada()).thenReturn(true);
+        when(resumoMensalService.listar(mes, List.of(OrigemResumo.CONTA_FIXA, OrigemResumo.COMPRA_DEBITO))).thenReturn(List.of(
+                linha(OrigemResumo.CONTA_FIXA, 1L, "100.00"),
+                linha(OrigemResumo.COMPRA_DEBITO, 1L, "50.00"),
+                linha(OrigemResumo.COMPRA_DEBITO, null, "30.00")));
+        when(categoriaRepository.findAllById(List.of(1L))).thenReturn(List.of(alimentacao));
+        when(faturaRepository.findComComprasByDataVencimentoBetween(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
+        when(categoriaRepository.findByNome("Cartões de Crédito")).thenReturn(null);
+
+        var resultado = dashboardCategoryExpenseService.getExpensesByCategory(3, 2025);
+
+        assertEquals(1, resultado.size());
+        assertEquals(1L, resultado.getFirst().categoriaId());
+        assertEquals(new BigDecimal("150.00"), resultado.getFirst().valorTotal());
+        verify(contaFixaRepository, never()).findByVencimentoBetween(any(LocalDate.class), any(LocalDate.class));
+    }
+
+    private ResumoMensal linha(OrigemResumo origem, Long categoriaId, String total) {
+        ResumoMensal linha = new ResumoMensal();
+        linha.setMes(LocalDate.of(2025, 3, 1));
+        linha.setOrigem(origem);
+        linha.setCategoriaId(categoriaId);
+        linha.setTotal(new BigDecimal(total));
+        return linha;
+    }
 }
@@ -1,12 +1,13 @@
 package br.com.salvemais.application.services;
 
-import br.com.salvemais.domain.entities.Conta;
+import br.com.salvemais.domain.enums.TipoConta;
 import br.com.salvemais.infrastructure.repositories.CompraDebitoRepository;
 import br.com.salvemais.infrastructure.repositories.CategoriaRepository;
 import br.com.salvemais.infrastructure.repositories.ContaFixaRepository;
 import br.com.salvemais.infrastructure.repositories.ContaRepository;
 import br.com.salvemais.infrastructure.repositories.FaturaRepository;
 import br.com.salvemais.infrastructure.repositories.ParcelaRepository;
+import br.com.salvemais.infrastructure.repositories.ParcelaRepository.ResumoParcelas;
 import br.com.salvemais.infrastructure.repositories.ProventoRepository;
 import br.com.salvemais.infrastructure.repositories.ReservaEmergenciaRepository;
 import org.junit.jupiter.api.Test;
@@ -55,16 +56,16 @@ class DashboardOverviewServiceTest {
 
     @Test
     void getSummary_deveRetornarResumoBasicoSemDados() {
-        when(contaRepository.findAll()).thenReturn(List.of());
+        when(contaRepository.somarSaldoExcetoTipo(TipoConta.RESERVA_EMERGENCIA)).thenReturn(BigDecimal.ZERO);
         when(contaRepository.count()).thenReturn(0L);
         when(categoriaRepository.count()).thenReturn(0L);
-        when(proventoRepository.findByDataBetween(any(), any())).thenReturn(List.of());
-        when(contaFixaRepository.findByVencimentoBetween(any(), any())).thenReturn(List.of());
-        when(faturaRepository.findByDataVencimentoBetween(any(), any())).thenReturn(List.of());
-        when(compraDebitoRepository.findByDataCompraBetween(any(), any())).thenReturn(List.of());
+        when(proventoRepository.somarValorPorPeriodo(any(), any())).thenReturn(BigDecimal.ZERO);
+        when(contaFixaRepository.somarValorPorVencimento(any(), any())).thenReturn(BigDecimal.ZERO);
+        when(faturaRepository.somarValorTotalPorVencimento(any(), any())).thenReturn(BigDecimal.ZERO);
+        when(compraDebitoRepository.calcularTotalPorPeriodo(any(), any())).thenReturn(null);
         when(reservaEmergenciaRepository.findAll()).thenReturn(List.of());
-        when(parcelaRepository.findByDataVencimentoBetweenAtivas(any(), any())).thenReturn(List.of());
-        when(parcelaRepository.findParcelasNaoPagasAtivas()).thenReturn(List.of());
+        when(parcelaRepository.resumirPorDataVencimentoAtivas(any(), any())).thenReturn(resumoParcelas(0L, 0L, BigDecimal.ZERO, BigDecimal.ZERO));
+        when(parcelaRepository.countParcelasNaoPagasAtivas()).thenReturn(0L);
 
         var resultado = dashboardOverviewService.getSummary(null, null);
 
@@ -73,11 +74,34 @@ class DashboardOverviewServiceTest {
         assertEquals(0, resultado.getTotalCategorias());
     }
 
+    @Test
+    void getSummary_deveUsarAgregadosDoBanco() {
+        when(contaRepository.somarSaldoExcetoTipo(TipoConta.RESERVA_EMERGENCIA)).thenReturn(new BigDecimal("1500.00"));
+        when(contaRepository.count()).thenReturn(2L);
+        when(categoriaRepository.count()).thenReturn(4L);
+        when(proventoRepository.somarValorPorPeriodo(any(), any())).thenReturn(new BigDecimal("3000.00"));
+        when(contaFixaRepository.somarValorPorVencimento(any(), any())).thenReturn(new BigDecimal("800.00"));
+        when(faturaRepository.somarValorTotalPorVencimento(any(), any())).thenReturn(new BigDecimal("400.00"));
+        when(compraDebitoRepository.calcularTotalPorPeriodo(any(), any())).thenReturn(new BigDecimal("100.00"));
+        when(reservaEmergenciaRepository.findAll()).thenReturn(List.of());
+        when(parcelaRepository.resumirPorDataVencimentoAtivas(any(), any()))
+                .thenReturn(resumoParcelas(1L, 2L, new BigDecimal("300.00"), new BigDecimal("100.00")));
+        when(parcelaRepository.countParcelasNaoPagasAtivas()).thenReturn(7L);
+
+        var resultado = dashboardOverviewService.getSummary(3, 2026);
+
+        assertEquals(new BigDecimal("1500.00"), resultado.getSaldoTotal());
+        assertEquals(0, resultado.getReceitasMes().compareTo(new BigDecimal("3000.00")));
+        assertEquals(0, resultado.getDespesasMes().compareTo(new BigDecimal("1300.00")));
+        assertEquals(7L, resultado.getParcelasResumo().getTotalParcelasAtivas());
+        assertEquals(0, resultado.getParcelasResumo().getValorRestanteMes().compareTo(new BigDecimal("200.00")));
+    }
+
     @Test
     void getBudgetRule_deveRetornarZerosSemMovimento() {
-        when(proventoRepository.findByDataBetween(any(), any())).thenReturn(List.of());
+        when(proventoRepository.somarValorPorPeriodo(any(), any())).thenReturn(BigDecimal.ZERO);
         when(contaFixaRepository.findByVencimentoBetween(any(), any())).thenReturn(List.of());
-        when(faturaRepository.findByDataVencimentoBetween(any(), any())).thenReturn(List.of());
+        when(faturaRepository.findComComprasByDataVencimentoBetween(any(), any())).thenReturn(List.of());
         when(compraDebitoRepository.findByDataCompraBetween(any(), any())).thenReturn(List.of());
 
         var resultado = dashboardOverviewService.getBudgetRule();
@@ -86,4 +110,28 @@ class DashboardOverviewServiceTest {
         assertTrue(resultado.desejosIdeal().compareTo(BigDecimal.ZERO) == 0);
         assertTrue(resultado.economiaIdeal().compareTo(BigDecimal.ZERO) == 0);
     }
+
+    private ResumoParcelas resumoParcelas(Long pagas, Long naoPagas, BigDecimal valorTotal, BigDecimal valorPago) {
+        return new ResumoParcelas() {
+            @Override
+            public Long getPagas() {
+                return pagas;
+            }
+
+            @Override
+            public Long getNaoPagas() {
+                return naoPagas;
+            }
+
+            @Override
+            public BigDecimal getValorTotal() {
+                return valorTotal;
+            }
+
+            @Override
+            public BigDecimal getValorPago() {
+                return valorPago;
+            }
+        };
+    }
 }
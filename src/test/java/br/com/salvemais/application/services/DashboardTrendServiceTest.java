@@ -1,10 +1,8 @@
 package br.com.salvemais.application.services;
 
-import br.com.salvemais.infrastructure.repositories.CompraDebitoRepository;
-import br.com.salvemais.infrastructure.repositories.ContaFixaRepository;
+import br.com.salvemais.application.services.MonthlyTrendEngine.TotaisDoMes;
+import br.com.salvemais.domain.enums.TipoConta;
 import br.com.salvemais.infrastructure.repositories.ContaRepository;
-import br.com.salvemais.infrastructure.repositories.FaturaRepository;
-import br.com.salvemais.infrastructure.repositories.ProventoRepository;
 import br.com.salvemais.infrastructure.repositories.ReservaEmergenciaRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,11 +11,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,45 +24,49 @@ class DashboardTrendServiceTest {
     @Mock
     private ContaRepository contaRepository;
 
-    @Mock
-    private ProventoRepository proventoRepository;
-
-    @Mock
-    private ContaFixaRepository contaFixaRepository;
-
-    @Mock
-    private FaturaRepository faturaRepository;
-
     @Mock
     private ReservaEmergenciaRepository reservaEmergenciaRepository;
 
     @Mock
-    private CompraDebitoRepository compraDebitoRepository;
+    private MonthlyTrendEngine monthlyTrendEngine;
 
     @InjectMocks
     private DashboardTrendService dashboardTrendService;
 
     @Test
     void getMonthlyExpenseTrend_deveRetornarMesesSolicitados() {
-        when(proventoRepository.findByDataBetween(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
-        when(contaFixaRepository.findByVencimentoBetween(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
-        when(faturaRepository.findByDataVencimentoBetween(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
-        when(compraDebitoRepository.findByDataCompraBetween(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
+        YearMonth mesAtual = YearMonth.now();
+        when(monthlyTrendEngine.calcular(mesAtual.minusMonths(1), mesAtual))
+                .thenReturn(List.of(vazio(mesAtual.minusMonths(1)), vazio(mesAtual)));
 
         var resultado = dashboardTrendService.getMonthlyExpenseTrend(2);
 
         assertEquals(2, resultado.size());
         assertEquals(BigDecimal.ZERO, resultado.getFirst().valorDespesas());
         assertEquals(BigDecimal.ZERO, resultado.getFirst().valorReceitas());
+        assertEquals(mesAtual.atDay(1), resultado.getLast().data());
+    }
+
+    @Test
+    void getMonthlyExpenseTrendByYear_deveConsultarOAnoInteiroDeUmaVez() {
+        when(monthlyTrendEngine.calcular(YearMonth.of(2024, 1), YearMonth.of(2024, 12))).thenReturn(List.of(
+                new TotaisDoMes(YearMonth.of(2024, 1), new BigDecimal("1000"), new BigDecimal("100"),
+                        new BigDecimal("200"), new BigDecimal("50"))));
+
+        var resultado = dashboardTrendService.getMonthlyExpenseTrendByYear(2024);
+
+        verify(monthlyTrendEngine).calcular(YearMonth.of(2024, 1), YearMonth.of(2024, 12));
+        assertEquals("2024-01", resultado.getFirst().mes());
+        assertEquals(new BigDecimal("350"), resultado.getFirst().valorDespesas());
+        assertEquals(new BigDecimal("1000"), resultado.getFirst().valorReceitas());
     }
 
     @Test
     void getVariationData_deveRetornarQuatroIndicadoresSemReserva() {
-        when(contaRepository.findAll()).thenReturn(List.of());
-        when(proventoRepository.findByDataBetween(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
-        when(contaFixaRepository.findByVencimentoBetween(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
-        when(faturaRepository.findByDataVencimentoBetween(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
-        when(compraDebitoRepository.findByDataCompraBetween(any(LocalDate.class), any(LocalDate.class))).thenReturn(List.of());
+        YearMonth mesAtual = YearMonth.now();
+        when(contaRepository.somarSaldoExcetoTipo(TipoConta.RESERVA_EMERGENCIA)).thenReturn(BigDecimal.ZERO);
+        when(monthlyTrendEngine.calcular(mesAtual.minusMonths(1), mesAtual))
+                .thenReturn(List.of(vazio(mesAtual.minusMonths(1)), vazio(mesAtual)));
         when(reservaEmergenciaRepository.findAll()).thenReturn(List.of());
 
         var resultado = dashboardTrendService.getVariationData(null, null);
@@ -72,4 +74,8 @@ class DashboardTrendServiceTest {
         assertEquals(4, resultado.size());
         assertEquals("Saldo Total", resultado.getFirst().metric());
     }
+
+    private TotaisDoMes vazio(YearMonth mes) {
+        return new TotaisDoMes(mes, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
 }
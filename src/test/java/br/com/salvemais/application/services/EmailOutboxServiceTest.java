@@ -0,0 +1,129 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.EmailOutbox;
+import br.com.salvemais.domain.enums.StatusEmailOutbox;
+import br.com.salvemais.infrastructure.repositories.EmailOutboxRepository;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxServiceTest {
+
+    private static final int MAX_TENTATIVAS = 3;
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EmailOutboxService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new EmailOutboxService(emailOutboxRepository, mailSender, transactionManager,
+                "smtp.teste", "noreply@salvemais.com.br", "Salve Mais",
+                1000, MAX_TENTATIVAS, 60, 10, 10_000);
+    }
+
+    @Test
+    void deveMarcarComoEnviadoQuandoOSmtpAceita() {
+        EmailOutbox email = email(0);
+        when(emailOutboxRepository.reservarProntosParaEnvio(any(LocalDateTime.class), anyInt())).thenReturn(List.of(email));
+        when(mailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+
+        service.processarFila();
+
+        assertEquals(StatusEmailOutbox.ENVIADO, email.getStatus());
+        assertEquals(1, email.getTentativas());
+        assertNotNull(email.getEnviadoEm());
+        verify(mailSender).send(any(MimeMessage.class));
+        verify(emailOutboxRepository).save(email);
+    }
+
+    @Test
+    void deveReagendarComEsperaExponencialQuandoOEnvioFalha() {
+        EmailOutbox email = email(1);
+        when(emailOutboxRepository.reservarProntosParaEnvio(any(LocalDateTime.class), anyInt())).thenReturn(List.of(email));
+        when(mailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+        doThrow(new MailSendException("Servidor indisponível")).when(mailSender).send(any(MimeMessage.class));
+
+        LocalDateTime antes = LocalDateTime.now();
+        service.processarFila();
+
+        // Segunda falha: espera inicial (60s) dobrada
+        assertEquals(StatusEmailOutbox.PENDENTE, email.getStatus());
+        assertEquals(2, email.getTentativas());
+        assertEquals("Servidor indisponível", email.getUltimoErro());
+        long esperaSegundos = Duration.between(antes, email.getProximaTentativa()).toSeconds();
+        assertTrue(esperaSegundos >= 119 && esperaSegundos <= 121, "espera de " + esperaSegundos + "s");
+        verify(emailOutboxRepository).save(email);
+    }
+
+    @Test
+    void deveDesistirAoAtingirOMaximoDeTentativas() {
+        EmailOutbox email = email(MAX_TENTATIVAS - 1);
+        when(emailOutboxRepository.reservarProntosParaEnvio(any(LocalDateTime.class), anyInt())).thenReturn(List.of(email));
+        when(mailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+        doThrow(new MailSendException("Caixa inexistente")).when(mailSender).send(any(MimeMessage.class));
+
+        service.processarFila();
+
+        assertEquals(StatusEmailOutbox.FALHA, email.getStatus());
+        assertEquals(MAX_TENTATIVAS, email.getTentativas());
+    }
+
+    @Test
+    void devePararAoEsgotarOTempoDaExecucaoMesmoComFilaCheia() {
+        EmailOutboxService comTempoEsgotado = new EmailOutboxService(emailOutboxRepository, mailSender,
+                transactionManager, "smtp.teste", "noreply@salvemais.com.br", "Salve Mais",
+                1000, MAX_TENTATIVAS, 60, 10, 0);
+        when(emailOutboxRepository.reservarProntosParaEnvio(any(LocalDateTime.class), anyInt()))
+                .thenAnswer(invocation -> List.of(email(0)));
+        when(mailSender.createMimeMessage()).thenReturn(new MimeMessage((Session) null));
+
+        comTempoEsgotado.processarFila();
+
+        verify(emailOutboxRepository, times(1)).reservarProntosParaEnvio(any(LocalDateTime.class), eq(1));
+        verify(mailSender, times(1)).send(any(MimeMessage.class));
+    }
+
+    private EmailOutbox email(int tentativas) {
+        EmailOutbox email = new EmailOutbox();
+        email.setId(1L);
+        email.setTenantDomain("tenant-a");
+        email.setDestinatario("usuario@tenant-a.com");
+        email.setAssunto("Resumo diário");
+        email.setCorpoHtml("<p>Olá</p>");
+        email.setStatus(StatusEmailOutbox.PENDENTE);
+        email.setTentativas(tentativas);
+        email.setProximaTentativa(LocalDateTime.now());
+        return email;
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.CartaoCredito;
+import br.com.salvemais.domain.entities.Categoria;
+import br.com.salvemais.domain.entities.CompraParcelada;
+import br.com.salvemais.domain.entities.Conta;
+import br.com.salvemais.domain.entities.ContaFixa;
+import br.com.salvemais.domain.entities.Parcela;
+import br.com.salvemais.web.api.dto.ContaFixaRecorrenteDTO;
+import br.com.salvemais.web.api.dto.ContaFixaRecorrenteDTO.TipoRecorrencia;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Confere que gerar dezenas de parcelas ou recorrências não prepara um INSERT por linha:
+ * com ids de sequência em pool o Hibernate agrupa as inserções no flush.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({CompraParceladaService.class, CartaoCreditoService.class, CategoriaService.class,
+        ContaFixaService.class, ContaService.class, TransacaoService.class})
+class GeracaoEmLoteTest {
+
+    private static final LocalDate DATA = LocalDate.of(2025, 3, 10);
+
+    @MockBean
+    private ContaFixaComprovanteService contaFixaComprovanteService;
+
+    @MockBean
+    private ResumoMensalService resumoMensalService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CompraParceladaService compraParceladaService;
+
+    @Autowired
+    private ContaFixaService contaFixaService;
+
+    private Statistics statistics;
+    private Categoria categoria;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+
+        categoria = new Categoria();
+        categoria.setNome("Moradia");
+        categoria.setTipo(Categoria.TipoCategoria.NECESSIDADE);
+        em.persist(categoria);
+        em.flush();
+    }
+
+    @Test
+    void compraEm48ParcelasGravaAsParcelasEmLote() {
+        CartaoCredito cartao = new CartaoCredito();
+        cartao.setNome("Cartão principal");
+        cartao.setVencimento(DATA);
+        em.persist(cartao);
+        em.flush();
+
+        CompraParcelada compra = new CompraParcelada();
+        compra.setDescricao("Geladeira");
+        compra.setValorTotal(new BigDecimal("4800.00"));
+        compra.setDataCompra(DATA);
+        compra.setParcelaInicial(1);
+        compra.setTotalParcelas(48);
+        compra.setCartaoCredito(cartao);
+        compra.setCategoria(categoria);
+
+        statistics.clear();
+        compraParceladaService.criarCompraParcelada(compra);
+        em.flush();
+
+        assertEquals(49, statistics.getEntityInsertCount());
+        assertInstrucoes(10, "compra em 48 parcelas");
+        em.clear();
+        List<Parcela> parcelas = compraParceladaService.listarParcelasPorCompra(compra.getId());
+        assertEquals(48, parcelas.size());
+    }
+
+    @Test
+    void recorrenciaDe60MesesGravaAsContasEmLote() {
+        Conta conta = new Conta();
+        conta.setTitular("Conta corrente");
+        conta.setSaldo(new BigDecimal("1000.00"));
+        em.persist(conta);
+        em.flush();
+
+        var dto = new ContaFixaRecorrenteDTO("Aluguel", categoria.getId(), conta.getId(), DATA,
+                new BigDecimal("1500.00"), 60, TipoRecorrencia.MENSAL, null);
+
+        statistics.clear();
+        List<ContaFixa> criadas = contaFixaService.criarContasFixasRecorrentes(dto);
+        em.flush();
+
+        assertEquals(60, criadas.size());
+        assertEquals(60, statistics.getEntityInsertCount());
+        assertInstrucoes(10, "recorrência de 60 meses");
+        assertEquals(DATA.plusMonths(59), criadas.get(59).getVencimento());
+    }
+
+    private void assertInstrucoes(long maximo, String cenario) {
+        long instrucoes = statistics.getPrepareStatementCount();
+        assertTrue(instrucoes <= maximo, cenario + " preparou " + instrucoes + " instruções");
+    }
+}
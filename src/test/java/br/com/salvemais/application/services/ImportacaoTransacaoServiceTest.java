@@ -0,0 +1,140 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.Categoria;
+import br.com.salvemais.domain.entities.Conta;
+import br.com.salvemais.domain.enums.TipoTransacao;
+import br.com.salvemais.domain.exceptions.BadRequestException;
+import br.com.salvemais.infrastructure.repositories.TransacaoRepository;
+import br.com.salvemais.web.api.dto.ImportacaoTransacoesResultadoDTO;
+import br.com.salvemais.web.api.dto.ImportacaoTransacoesResultadoDTO.ErroLinhaDTO;
+import br.com.salvemais.web.api.dto.TransacaoLoteItemDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({ImportacaoTransacaoService.class, ContaService.class, TransacaoService.class})
+class ImportacaoTransacaoServiceTest {
+
+    private static final LocalDateTime DATA = LocalDateTime.of(2025, 3, 10, 9, 0);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ImportacaoTransacaoService importacaoTransacaoService;
+
+    @Autowired
+    private TransacaoRepository transacaoRepository;
+
+    private Conta conta;
+    private Conta poupanca;
+    private Categoria categoria;
+
+    @BeforeEach
+    void setUp() {
+        conta = criarConta("Conta corrente", "100.00");
+        poupanca = criarConta("Poupança", "10.00");
+
+        categoria = new Categoria();
+        categoria.setNome("Mercado");
+        categoria.setTipo(Categoria.TipoCategoria.NECESSIDADE);
+        em.persist(categoria);
+        em.flush();
+    }
+
+    @Test
+    void importaLinhasValidasERelataAsInvalidasSemAbortar() {
+        List<TransacaoLoteItemDTO> itens = List.of(
+                item(TipoTransacao.CREDITO, "50.00", conta.getId(), categoria.getId()),
+                item(TipoTransacao.DEBITO, "30.00", conta.getId(), categoria.getId()),
+                item(TipoTransacao.DEBITO, "0", conta.getId(), categoria.getId()),
+                item(TipoTransacao.CREDITO, "10.00", 999_999L, categoria.getId()),
+                item(TipoTransacao.TRANSFERENCIA_SAIDA, "10.00", conta.getId(), categoria.getId()),
+                item(TipoTransacao.CREDITO, "10.00", conta.getId(), null)
+        );
+
+        ImportacaoTransacoesResultadoDTO resultado = importacaoTransacaoService.importar(itens);
+
+        assertEquals(6, resultado.recebidas());
+        assertEquals(2, resultado.importadas());
+        assertEquals(List.of(3, 4, 5, 6), resultado.erros().stream().map(ErroLinhaDTO::linha).toList());
+        assertEquals(2, transacaoRepository.count());
+        assertSaldo(conta, "120.00");
+    }
+
+    @Test
+    void rejeitaAsLinhasDaContaQuandoOsDebitosSomadosPassamDoSaldo() {
+        List<TransacaoLoteItemDTO> itens = List.of(
+                item(TipoTransacao.DEBITO, "8.00", poupanca.getId(), categoria.getId()),
+                item(TipoTransacao.DEBITO, "8.00", poupanca.getId(), categoria.getId()),
+                item(TipoTransacao.CREDITO, "5.00", conta.getId(), categoria.getId())
+        );
+
+        ImportacaoTransacoesResultadoDTO resultado = importacaoTransacaoService.importar(itens);
+
+        assertEquals(1, resultado.importadas());
+        assertEquals(List.of(1, 2), resultado.erros().stream().map(ErroLinhaDTO::linha).toList());
+        assertSaldo(poupanca, "10.00");
+        assertSaldo(conta, "105.00");
+    }
+
+    @Test
+    void gravaOLoteComPoucasInstrucoesIndependenteDoTamanho() {
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        List<TransacaoLoteItemDTO> itens = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            itens.add(item(TipoTransacao.CREDITO, "1.00", conta.getId(), categoria.getId()));
+        }
+
+        statistics.clear();
+        ImportacaoTransacoesResultadoDTO resultado = importacaoTransacaoService.importar(itens);
+        em.flush();
+
+        assertEquals(200, resultado.importadas());
+        assertEquals(200, statistics.getEntityInsertCount());
+        long instrucoes = statistics.getPrepareStatementCount();
+        assertTrue(instrucoes <= 20, "importação de 200 linhas preparou " + instrucoes + " instruções");
+        assertSaldo(conta, "300.00");
+    }
+
+    @Test
+    void loteVazioGeraBadRequest() {
+        assertThrows(BadRequestException.class, () -> importacaoTransacaoService.importar(List.of()));
+    }
+
+    private void assertSaldo(Conta alvo, String esperado) {
+        em.flush();
+        em.clear();
+        BigDecimal saldo = em.find(Conta.class, alvo.getId()).getSaldo();
+        assertEquals(0, new BigDecimal(esperado).compareTo(saldo), "saldo " + saldo);
+    }
+
+    private TransacaoLoteItemDTO item(TipoTransacao tipo, String valor, Long contaId, Long categoriaId) {
+        return new TransacaoLoteItemDTO(tipo, new BigDecimal(valor), DATA, "Linha do extrato", contaId, categoriaId, null);
+    }
+
+    private Conta criarConta(String titular, String saldo) {
+        Conta nova = new Conta();
+        nova.setTitular(titular);
+        nova.setSaldo(new BigDecimal(saldo));
+        return em.persist(nova);
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.salvemais.application.services;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtServiceTest {
+
+    private final JwtService jwtService = new JwtService();
+
+    @Test
+    void parseTokenDeveExtrairTodasAsClaimsDeUmaVez() {
+        UUID tenantId = UUID.randomUUID();
+        String token = jwtService.gerarToken("usuario@teste.com", tenantId, "tenant-a");
+
+        var principal = jwtService.parseToken(token);
+
+        assertEquals("usuario@teste.com", principal.email());
+        assertEquals(tenantId, principal.tenantId());
+        assertEquals("tenant-a", principal.tenantDomain());
+        assertEquals("usuario@teste.com", principal.toUserDetails().getUsername());
+    }
+
+    @Test
+    void parseTokenDeveAceitarTokenSemTenantDomain() {
+        String token = jwtService.gerarToken("usuario@teste.com", null);
+
+        var principal = jwtService.parseToken(token);
+
+        assertNull(principal.tenantId());
+        assertNull(principal.tenantDomain());
+    }
+
+    @Test
+    void parseTokenDeveRejeitarTokenAdulterado() {
+        String token = jwtService.gerarToken("usuario@teste.com", UUID.randomUUID(), "tenant-a");
+
+        assertThrows(JwtException.class, () -> jwtService.parseToken(token + "x"));
+    }
+}
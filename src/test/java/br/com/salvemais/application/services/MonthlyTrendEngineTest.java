@@ -0,0 +1,126 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.ResumoMensal;
+import br.com.salvemais.domain.enums.OrigemResumo;
+import br.com.salvemais.infrastructure.repositories.CompraDebitoRepository;
+import br.com.salvemais.infrastructure.repositories.ContaFixaRepository;
+import br.com.salvemais.infrastructure.repositories.FaturaRepository;
+import br.com.salvemais.infrastructure.repositories.ProventoRepository;
+import br.com.salvemais.infrastructure.repositories.TotalMensal;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MonthlyTrendEngineTest {
+
+    private static final LocalDate INICIO = LocalDate.of(2024, 11, 1);
+    private static final LocalDate FIM = LocalDate.of(2025, 2, 28);
+
+    @Mock
+    private ProventoRepository proventoRepository;
+
+    @Mock
+    private ContaFixaRepository contaFixaRepository;
+
+    @Mock
+    private FaturaRepository faturaRepository;
+
+    @Mock
+    private CompraDebitoRepository compraDebitoRepository;
+
+    @Mock
+    private ResumoMensalService resumoMensalService;
+
+    @InjectMocks
+    private MonthlyTrendEngine monthlyTrendEngine;
+
+    @Test
+    void calcular_deveAgruparPorMesEPreencherMesesVazios() {
+        when(resumoMensalService.isLeituraHabilitada()).thenReturn(false);
+        when(proventoRepository.somarValorPorMes(INICIO, FIM)).thenReturn(List.of(
+                total(2024, 11, "5000"), total(2025, 2, "5200")));
+        when(contaFixaRepository.somarValorPorMesVencimento(INICIO, FIM)).thenReturn(List.of(
+                total(2024, 11, "800")));
+        when(faturaRepository.somarValorTotalPorMesVencimento(INICIO, FIM)).thenReturn(List.of(
+                total(2024, 12, "1500")));
+        when(compraDebitoRepository.somarValorPorMes(INICIO, FIM)).thenReturn(List.of(
+                total(2024, 11, "120")));
+
+        var resultado = monthlyTrendEngine.calcular(YearMonth.of(2024, 11), YearMonth.of(2025, 2));
+
+        assertEquals(4, resultado.size());
+        assertEquals(YearMonth.of(2024, 11), resultado.get(0).mes());
+        assertEquals(new BigDecimal("5000"), resultado.get(0).receitas());
+        assertEquals(new BigDecimal("920"), resultado.get(0).despesas());
+        assertEquals(new BigDecimal("1500"), resultado.get(1).despesasFaturas());
+        assertEquals(BigDecimal.ZERO, resultado.get(2).receitas());
+        assertEquals(BigDecimal.ZERO, resultado.get(2).despesas());
+        assertEquals(new BigDecimal("5200"), resultado.get(3).resultado());
+    }
+
+    @Test
+    void calcular_deveLerDoResumoMensalQuandoHabilitado() {
+        when(resumoMensalService.isLeituraHabilitada()).thenReturn(true);
+        when(resumoMensalService.listar(YearMonth.of(2024, 11), YearMonth.of(2024, 12))).thenReturn(List.of(
+                linha(2024, 11, OrigemResumo.PROVENTO, null, "3000"),
+                linha(2024, 11, OrigemResumo.CONTA_FIXA, 1L, "400"),
+                linha(2024, 11, OrigemResumo.CONTA_FIXA, 2L, "100"),
+                linha(2024, 12, OrigemResumo.COMPRA_DEBITO, 1L, "75")));
+
+        var resultado = monthlyTrendEngine.calcular(YearMonth.of(2024, 11), YearMonth.of(2024, 12));
+
+        assertEquals(new BigDecimal("3000"), resultado.get(0).receitas());
+        assertEquals(new BigDecimal("500"), resultado.get(0).despesasFixas());
+        assertEquals(new BigDecimal("75"), resultado.get(1).despesas());
+        verify(contaFixaRepository, never()).somarValorPorMesVencimento(any(), any());
+    }
+
+    @Test
+    void calcular_deveRejeitarIntervaloInvertido() {
+        assertThrows(IllegalArgumentException.class,
+                () -> monthlyTrendEngine.calcular(YearMonth.of(2025, 2), YearMonth.of(2024, 11)));
+    }
+
+    private ResumoMensal linha(int ano, int mes, OrigemResumo origem, Long categoriaId, String valor) {
+        ResumoMensal linha = new ResumoMensal();
+        linha.setMes(LocalDate.of(ano, mes, 1));
+        linha.setOrigem(origem);
+        linha.setCategoriaId(categoriaId);
+        linha.setTotal(new BigDecimal(valor));
+        return linha;
+    }
+
+    private TotalMensal total(int ano, int mes, String valor) {
+        return new TotalMensal() {
+            @Override
+            public Integer getAno() {
+                return ano;
+            }
+
+            @Override
+            public Integer getMes() {
+                return mes;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal(valor);
+            }
+        };
+    }
+}
@@ -0,0 +1,140 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.infrastructure.repositories.JobExecucaoTenantRepository;
+import br.com.salvemais.infrastructure.repositories.NotificacaoEmailRepository;
+import br.com.salvemais.infrastructure.repositories.TenantRepository;
+import br.com.salvemais.web.api.dto.NotificacaoEmailResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificacaoEmailSchedulerServiceTest {
+
+    @Mock
+    private NotificacaoEmailService notificacaoEmailService;
+
+    @Mock
+    private NotificacaoEmailRepository notificacaoEmailRepository;
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private NotificacaoEmailSchedulerService schedulerService;
+
+    @BeforeEach
+    void setUp() {
+        // Janela de recuperação curta: cobre só a virada de minuto durante o teste
+        ReflectionTestUtils.setField(schedulerService, "recuperacaoMinutos", 5);
+        ReflectionTestUtils.setField(schedulerService, "tenantJobRunner", new TenantJobRunner(
+                mock(JobExecucaoTenantRepository.class), mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), null, 2, 60, 5));
+    }
+
+    @Test
+    void deveEnviarSomenteOsTenantsAgendadosParaOMinutoAtual() {
+        when(notificacaoEmailService.obterTodasNotificacoesAtivas()).thenReturn(List.of(
+                notificacao("tenant-agora", LocalTime.now()),
+                notificacao("tenant-depois", LocalTime.now().plusHours(2))));
+        when(notificacaoEmailRepository.registrarEnvioDoDia(eq("tenant-agora"), any(LocalDate.class))).thenReturn(1);
+        when(tenantRepository.findByDomain("tenant-agora")).thenReturn(Optional.empty());
+
+        schedulerService.iniciarAgenda();
+        schedulerService.verificarEEnviarNotificacoes();
+
+        verify(notificacaoEmailRepository).registrarEnvioDoDia(eq("tenant-agora"), any(LocalDate.class));
+        verify(notificacaoEmailRepository, never()).registrarEnvioDoDia(eq("tenant-depois"), any(LocalDate.class));
+        verify(tenantRepository).findByDomain("tenant-agora");
+    }
+
+    @Test
+    void naoDeveEnviarQuandoAMarcaDoDiaJaExiste() {
+        when(notificacaoEmailService.obterTodasNotificacoesAtivas()).thenReturn(List.of(
+                notificacao("tenant-a", LocalTime.now())));
+        when(notificacaoEmailRepository.registrarEnvioDoDia(eq("tenant-a"), any(LocalDate.class))).thenReturn(0);
+
+        schedulerService.iniciarAgenda();
+        schedulerService.verificarEEnviarNotificacoes();
+
+        verify(tenantRepository, never()).findByDomain(anyString());
+    }
+
+    @Test
+    void deveVerificarCadaMinutoUmaUnicaVez() {
+        when(notificacaoEmailService.obterTodasNotificacoesAtivas()).thenReturn(List.of(
+                notificacao("tenant-a", LocalTime.now())));
+        when(notificacaoEmailRepository.registrarEnvioDoDia(eq("tenant-a"), any(LocalDate.class))).thenReturn(0);
+
+        schedulerService.iniciarAgenda();
+        schedulerService.verificarEEnviarNotificacoes();
+        schedulerService.verificarEEnviarNotificacoes();
+
+        verify(notificacaoEmailRepository, times(1)).registrarEnvioDoDia(eq("tenant-a"), any(LocalDate.class));
+    }
+
+    @Test
+    void falhaAposAMarcaDoDiaDeveDesfazerAMarcaETentarDeNovoNaProximaVerificacao() {
+        when(notificacaoEmailService.obterTodasNotificacoesAtivas()).thenReturn(List.of(
+                notificacao("tenant-a", LocalTime.now())));
+        when(notificacaoEmailRepository.registrarEnvioDoDia(eq("tenant-a"), any(LocalDate.class))).thenReturn(1);
+        when(tenantRepository.findByDomain("tenant-a"))
+                .thenThrow(new IllegalStateException("Banco indisponível"))
+                .thenReturn(Optional.empty());
+
+        schedulerService.iniciarAgenda();
+        schedulerService.verificarEEnviarNotificacoes();
+
+        // A marca foi gravada na transação que falhou
+        verify(transactionManager).rollback(any());
+
+        schedulerService.verificarEEnviarNotificacoes();
+
+        verify(notificacaoEmailRepository, times(2)).registrarEnvioDoDia(eq("tenant-a"), any(LocalDate.class));
+        verify(tenantRepository, times(2)).findByDomain("tenant-a");
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void deveTirarDaAgendaQuandoANotificacaoEDesativada() {
+        when(notificacaoEmailService.obterTodasNotificacoesAtivas()).thenReturn(List.of(
+                notificacao("tenant-a", LocalTime.now())));
+
+        schedulerService.iniciarAgenda();
+        schedulerService.atualizarAgenda("tenant-a", LocalTime.now(), false);
+        schedulerService.verificarEEnviarNotificacoes();
+
+        verify(notificacaoEmailRepository, never()).registrarEnvioDoDia(anyString(), any(LocalDate.class));
+    }
+
+    private NotificacaoEmailResponseDTO notificacao(String domain, LocalTime horario) {
+        NotificacaoEmailResponseDTO dto = new NotificacaoEmailResponseDTO();
+        dto.setDomain(domain);
+        dto.setHorario(horario);
+        dto.setAtivo(true);
+        return dto;
+    }
+}
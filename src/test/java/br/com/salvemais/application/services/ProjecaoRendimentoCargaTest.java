@@ -0,0 +1,88 @@
+package br.com.salvemais.application.services;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Teste de carga (só roda com {@code mvn test -Pcarga}): compara o laço mês a mês que
+ * {@code RendimentoService.projetarRendimento} usava com o {@link ProjecaoRendimentoEngine}
+ * para montar a curva de 1 a 360 meses de várias contas.
+ *
+ * Com o laço, a curva exige uma projeção por horizonte (1 + 2 + ... + 360 multiplicações por
+ * conta); a engine faz uma multiplicação por ponto. Cada cenário é aquecido antes da medição.
+ */
+@Tag("carga")
+class ProjecaoRendimentoCargaTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjecaoRendimentoCargaTest.class);
+
+    private static final int CONTAS = 200;
+    private static final int RODADAS = 5;
+
+    private final ProjecaoRendimentoEngine engine = new ProjecaoRendimentoEngine();
+
+    @Test
+    void curvaDaEngineEhMaisRapidaQueOLacoPorHorizonte() {
+        List<BigDecimal> saldos = new ArrayList<>(CONTAS);
+        for (int i = 0; i < CONTAS; i++) {
+            saldos.add(BigDecimal.valueOf(1_000 + i * 137L, 2).multiply(BigDecimal.TEN));
+        }
+        BigDecimal taxa = new BigDecimal("13.25");
+        int meses = ProjecaoRendimentoEngine.MESES_MAXIMO;
+
+        long laco = medir(saldos, saldo -> {
+            for (int horizonte = 1; horizonte <= meses; horizonte++) {
+                projetarComLaco(saldo, taxa, horizonte);
+            }
+        });
+        long pontoAPonto = medir(saldos, saldo -> {
+            for (int horizonte = 1; horizonte <= meses; horizonte++) {
+                engine.projetar(saldo, taxa, horizonte);
+            }
+        });
+        long curva = medir(saldos, saldo -> engine.curva(saldo, taxa, meses));
+
+        log.info("Curva de {} meses para {} contas: laço {} ms, engine ponto a ponto {} ms, engine curva {} ms",
+                meses, CONTAS, laco / 1_000_000, pontoAPonto / 1_000_000, curva / 1_000_000);
+        assertTrue(pontoAPonto < laco, "pow " + pontoAPonto + " ns x laço " + laco + " ns");
+        assertTrue(curva * 10 < laco, "curva " + curva + " ns x laço " + laco + " ns");
+    }
+
+    /**
+     * Melhor tempo entre as rodadas, depois de uma rodada de aquecimento
+     */
+    private long medir(List<BigDecimal> saldos, Consumer<BigDecimal> projecao) {
+        saldos.forEach(projecao);
+        long melhor = Long.MAX_VALUE;
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            long inicio = System.nanoTime();
+            saldos.forEach(projecao);
+            melhor = Math.min(melhor, System.nanoTime() - inicio);
+        }
+        return melhor;
+    }
+
+    /**
+     * Implementação anterior de {@code RendimentoService.projetarRendimento}
+     */
+    private BigDecimal projetarComLaco(BigDecimal saldo, BigDecimal taxaAnual, int meses) {
+        BigDecimal taxaMensal = taxaAnual.divide(BigDecimal.valueOf(12), 10, RoundingMode.HALF_UP)
+                .divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP)
+                .add(BigDecimal.ONE);
+        BigDecimal valorFinal = saldo;
+        for (int i = 0; i < meses; i++) {
+            valorFinal = valorFinal.multiply(taxaMensal).setScale(2, RoundingMode.HALF_UP);
+        }
+        return valorFinal;
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.salvemais.application.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProjecaoRendimentoEngineTest {
+
+    private final ProjecaoRendimentoEngine engine = new ProjecaoRendimentoEngine();
+
+    @Test
+    void projetaJurosCompostosSoArredondandoNoFinal() {
+        BigDecimal saldo = new BigDecimal("1000.00");
+        BigDecimal taxa = new BigDecimal("12");
+
+        assertEquals(new BigDecimal("1126.83"), engine.projetar(saldo, taxa, 12));
+        assertEquals(new BigDecimal("35949.64"), engine.projetar(saldo, taxa, 360));
+        // O laço antigo arredondava a cada mês e chegava a 130283.23
+        assertEquals(new BigDecimal("130282.56"), engine.projetar(new BigDecimal("2500.50"), new BigDecimal("13.25"), 360));
+    }
+
+    @Test
+    void semTaxaPositivaOuSemMesesMantemOSaldo() {
+        BigDecimal saldo = new BigDecimal("1000.00");
+
+        assertEquals(saldo, engine.projetar(saldo, null, 12));
+        assertEquals(saldo, engine.projetar(saldo, BigDecimal.ZERO, 12));
+        assertEquals(saldo, engine.projetar(saldo, new BigDecimal("12"), 0));
+    }
+
+    @Test
+    void curvaCoincideComAProjecaoDeCadaMes() {
+        BigDecimal saldo = new BigDecimal("2500.50");
+        BigDecimal taxa = new BigDecimal("13.25");
+
+        List<BigDecimal> curva = engine.curva(saldo, taxa, ProjecaoRendimentoEngine.MESES_MAXIMO);
+
+        assertEquals(ProjecaoRendimentoEngine.MESES_MAXIMO, curva.size());
+        for (int mes = 1; mes <= curva.size(); mes++) {
+            assertEquals(engine.projetar(saldo, taxa, mes), curva.get(mes - 1), "mês " + mes);
+        }
+    }
+
+    @Test
+    void curvaSemTaxaRepeteOSaldo() {
+        assertEquals(List.of(new BigDecimal("50.00"), new BigDecimal("50.00")),
+                engine.curva(new BigDecimal("50.00"), null, 2));
+    }
+}
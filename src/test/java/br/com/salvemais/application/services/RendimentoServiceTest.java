@@ -0,0 +1,96 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.Conta;
+import br.com.salvemais.domain.enums.TipoConta;
+import br.com.salvemais.domain.exceptions.BadRequestException;
+import br.com.salvemais.infrastructure.context.TenantContext;
+import br.com.salvemais.infrastructure.repositories.ContaRepository;
+import br.com.salvemais.web.api.dto.ProjecaoRendimentoDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RendimentoServiceTest {
+
+    @Mock
+    private ContaRepository contaRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ProjecaoRendimentoEngine projecaoRendimentoEngine;
+
+    @InjectMocks
+    private RendimentoService rendimentoService;
+
+    @Test
+    void creditaORendimentoDoTenantEmUmUnicoComando() {
+        when(contaRepository.creditarRendimentoMensal(any(LocalDateTime.class), eq("Rendimento 2026-09"))).thenReturn(3);
+
+        TenantContext.runWithTenant("tenant-a", () -> rendimentoService.executar("tenant-a", "2026-09"));
+
+        verify(eventPublisher).publishEvent(new DadosFinanceirosAlteradosEvent("tenant-a"));
+    }
+
+    @Test
+    void naoInvalidaODashboardSemContasCreditadas() {
+        when(contaRepository.creditarRendimentoMensal(any(LocalDateTime.class), any())).thenReturn(0);
+
+        rendimentoService.executar("tenant-a", "2026-09");
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void projetaAsCurvasDasContasDeRendimento() {
+        Conta conta = new Conta();
+        conta.setId(7L);
+        conta.setSaldo(new BigDecimal("1000.00"));
+        conta.setTaxaRendimento(new BigDecimal("12"));
+        when(contaRepository.findByTipoIn(List.of(TipoConta.INVESTIMENTO, TipoConta.RESERVA_EMERGENCIA)))
+                .thenReturn(List.of(conta));
+
+        List<ProjecaoRendimentoDTO> curvas = rendimentoService.projetarCurvas(2);
+
+        assertEquals(1, curvas.size());
+        assertEquals(7L, curvas.get(0).contaId());
+        assertEquals(List.of(new ProjecaoRendimentoDTO.Ponto(1, new BigDecimal("1010.00")),
+                new ProjecaoRendimentoDTO.Ponto(2, new BigDecimal("1020.10"))), curvas.get(0).pontos());
+    }
+
+    @Test
+    void curvaRejeitaHorizonteForaDoLimite() {
+        Conta conta = new Conta();
+
+        assertThrows(BadRequestException.class, () -> rendimentoService.projetarCurva(conta, 0));
+        assertThrows(BadRequestException.class, () -> rendimentoService.projetarCurva(conta, 361));
+    }
+
+    @Test
+    void projetarRendimentoMantemOComportamentoParaQualquerHorizonte() {
+        Conta conta = new Conta();
+        conta.setSaldo(new BigDecimal("1000.00"));
+        conta.setTaxaRendimento(new BigDecimal("12.00"));
+
+        assertEquals(new BigDecimal("118647.73"), rendimentoService.projetarRendimento(conta, 480));
+        assertEquals(new BigDecimal("1000.00"), rendimentoService.projetarRendimento(conta, -1));
+    }
+}
@@ -0,0 +1,216 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.ResumoMensal;
+import br.com.salvemais.domain.enums.OrigemResumo;
+import br.com.salvemais.infrastructure.repositories.CompraDebitoRepository;
+import br.com.salvemais.infrastructure.repositories.ContaFixaRepository;
+import br.com.salvemais.infrastructure.repositories.FaturaRepository;
+import br.com.salvemais.infrastructure.repositories.ProventoRepository;
+import br.com.salvemais.infrastructure.repositories.ResumoMensalRepository;
+import br.com.salvemais.infrastructure.repositories.TotalMensal;
+import br.com.salvemais.infrastructure.repositories.TotalMensalCategoria;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResumoMensalServiceTest {
+
+    private static final LocalDate MARCO = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private ResumoMensalRepository resumoMensalRepository;
+
+    @Mock
+    private ProventoRepository proventoRepository;
+
+    @Mock
+    private ContaFixaRepository contaFixaRepository;
+
+    @Mock
+    private FaturaRepository faturaRepository;
+
+    @Mock
+    private CompraDebitoRepository compraDebitoRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ResumoMensalService resumoMensalService;
+
+    @BeforeEach
+    void setUp() {
+        resumoMensalService = new ResumoMensalService(resumoMensalRepository, proventoRepository, contaFixaRepository,
+                faturaRepository, compraDebitoRepository, transactionManager, eventPublisher, true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void registrarAlteracaoSemTransacaoDeveRecalcularOMesNaHora() {
+        when(contaFixaRepository.somarValorPorMesECategoriaVencimento(MARCO, LocalDate.of(2025, 3, 31)))
+                .thenReturn(List.of(totalCategoria(2025, 3, 7L, "1200.00")));
+
+        resumoMensalService.registrarAlteracao(OrigemResumo.CONTA_FIXA, LocalDate.of(2025, 3, 10));
+
+        verify(resumoMensalRepository).deleteByMesAndOrigem(MARCO, OrigemResumo.CONTA_FIXA);
+        ArgumentCaptor<List<ResumoMensal>> linhas = ArgumentCaptor.forClass(List.class);
+        verify(resumoMensalRepository).saveAll(linhas.capture());
+        assertEquals(1, linhas.getValue().size());
+        assertEquals(7L, linhas.getValue().getFirst().getCategoriaId());
+        assertEquals(new BigDecimal("1200.00"), linhas.getValue().getFirst().getTotal());
+    }
+
+    @Test
+    void registrarAlteracaoEmTransacaoDeveRecalcularUmaVezPorMesAposOCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(proventoRepository.somarValorPorMes(any(), any())).thenReturn(List.of());
+
+        resumoMensalService.registrarAlteracao(OrigemResumo.PROVENTO, LocalDate.of(2025, 3, 5));
+        resumoMensalService.registrarAlteracao(OrigemResumo.PROVENTO, LocalDate.of(2025, 3, 20), null);
+
+        verify(resumoMensalRepository, never()).deleteByMesAndOrigem(any(), any());
+
+        List<TransactionSynchronization> sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+        sincronizacoes.forEach(TransactionSynchronization::afterCommit);
+        sincronizacoes.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(resumoMensalRepository, times(1)).deleteByMesAndOrigem(MARCO, OrigemResumo.PROVENTO);
+        assertNull(TransactionSynchronizationManager.getResource(resumoMensalService));
+    }
+
+    @Test
+    void recalcularDeveTravarOMesAntesDeApagarERegravar() {
+        when(proventoRepository.somarValorPorMes(any(), any())).thenReturn(List.of());
+
+        resumoMensalService.recalcular(OrigemResumo.PROVENTO, YearMonth.of(2025, 3));
+
+        InOrder ordem = inOrder(resumoMensalRepository, proventoRepository);
+        ordem.verify(resumoMensalRepository).travarResumoCompartilhado();
+        ordem.verify(resumoMensalRepository).travarMesOrigem("2025-03:PROVENTO");
+        ordem.verify(resumoMensalRepository).deleteByMesAndOrigem(MARCO, OrigemResumo.PROVENTO);
+        ordem.verify(proventoRepository).somarValorPorMes(MARCO, LocalDate.of(2025, 3, 31));
+    }
+
+    @Test
+    void reconstruirDeveTravarOResumoDoTenantAntesDeApagar() {
+        when(proventoRepository.somarValorPorMes(any(), any())).thenReturn(List.of());
+        when(faturaRepository.somarValorTotalPorMesVencimento(any(), any())).thenReturn(List.of());
+        when(contaFixaRepository.somarValorPorMesECategoriaVencimento(any(), any())).thenReturn(List.of());
+        when(compraDebitoRepository.somarValorPorMesECategoria(any(), any())).thenReturn(List.of());
+
+        resumoMensalService.reconstruir();
+
+        InOrder ordem = inOrder(resumoMensalRepository);
+        ordem.verify(resumoMensalRepository).travarResumoExclusivo();
+        ordem.verify(resumoMensalRepository).deleteAllInBatch();
+    }
+
+    @Test
+    void corrigirSeDivergenteDeveReconstruirApenasQuandoHaDivergencia() {
+        when(proventoRepository.somarValorPorMes(any(), any())).thenReturn(List.of(total(2025, 3, "5000.00")));
+        when(faturaRepository.somarValorTotalPorMesVencimento(any(), any())).thenReturn(List.of());
+        when(contaFixaRepository.somarValorPorMesECategoriaVencimento(any(), any())).thenReturn(List.of());
+        when(compraDebitoRepository.somarValorPorMesECategoria(any(), any())).thenReturn(List.of());
+        when(resumoMensalRepository.findAll()).thenReturn(List.of(linha(OrigemResumo.PROVENTO, null, "5000.00")));
+
+        assertFalse(resumoMensalService.corrigirSeDivergente());
+        verify(resumoMensalRepository, never()).deleteAllInBatch();
+
+        when(resumoMensalRepository.findAll()).thenReturn(List.of());
+
+        assertTrue(resumoMensalService.corrigirSeDivergente());
+        verify(resumoMensalRepository).deleteAllInBatch();
+    }
+
+    @Test
+    void verificarConsistenciaDeveApontarTotaisDivergentes() {
+        when(proventoRepository.somarValorPorMes(any(), any())).thenReturn(List.of(total(2025, 3, "5000.00")));
+        when(faturaRepository.somarValorTotalPorMesVencimento(any(), any())).thenReturn(List.of());
+        when(contaFixaRepository.somarValorPorMesECategoriaVencimento(any(), any()))
+                .thenReturn(List.of(totalCategoria(2025, 3, 7L, "300.00")));
+        when(compraDebitoRepository.somarValorPorMesECategoria(any(), any())).thenReturn(List.of());
+        when(resumoMensalRepository.findAll()).thenReturn(List.of(
+                linha(OrigemResumo.PROVENTO, null, "5000.00"),
+                linha(OrigemResumo.CONTA_FIXA, 7L, "250.00")));
+
+        var divergencias = resumoMensalService.verificarConsistencia();
+
+        assertEquals(1, divergencias.size());
+        assertEquals(OrigemResumo.CONTA_FIXA, divergencias.getFirst().origem());
+        assertEquals(YearMonth.of(2025, 3), divergencias.getFirst().mes());
+        assertEquals(new BigDecimal("300.00"), divergencias.getFirst().esperado());
+        assertEquals(new BigDecimal("250.00"), divergencias.getFirst().registrado());
+    }
+
+    private ResumoMensal linha(OrigemResumo origem, Long categoriaId, String total) {
+        ResumoMensal linha = new ResumoMensal();
+        linha.setMes(MARCO);
+        linha.setOrigem(origem);
+        linha.setCategoriaId(categoriaId);
+        linha.setTotal(new BigDecimal(total));
+        return linha;
+    }
+
+    private TotalMensal total(int ano, int mes, String valor) {
+        return totalCategoria(ano, mes, null, valor);
+    }
+
+    private TotalMensalCategoria totalCategoria(int ano, int mes, Long categoriaId, String valor) {
+        return new TotalMensalCategoria() {
+            @Override
+            public Long getCategoriaId() {
+                return categoriaId;
+            }
+
+            @Override
+            public Integer getAno() {
+                return ano;
+            }
+
+            @Override
+            public Integer getMes() {
+                return mes;
+            }
+
+            @Override
+            public BigDecimal getTotal() {
+                return new BigDecimal(valor);
+            }
+        };
+    }
+}
@@ -0,0 +1,190 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.infrastructure.context.TenantContext;
+import br.com.salvemais.infrastructure.repositories.ExecucaoJobPendente;
+import br.com.salvemais.infrastructure.repositories.JobExecucaoTenantRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TenantJobRunnerTest {
+
+    private static final String REFERENCIA = "2026-09";
+
+    @Mock
+    private JobExecucaoTenantRepository jobExecucaoTenantRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ObjectProvider<TenantJob> jobs;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JobDeTeste job = new JobDeTeste();
+    private TenantJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new TenantJobRunner(jobExecucaoTenantRepository, transactionManager, meterRegistry, jobs, 2, 1, 5);
+    }
+
+    @Test
+    void executaCadaTenantPendenteNoProprioContextoEPulaOsJaConcluidos() {
+        when(jobExecucaoTenantRepository.findTenantsPendentes("teste", REFERENCIA, 5))
+                .thenReturn(List.of("tenant-a", "tenant-b"));
+        when(jobExecucaoTenantRepository.marcarConcluido(eq("teste"), eq(REFERENCIA), eq("tenant-a"), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(jobExecucaoTenantRepository.marcarConcluido(eq("teste"), eq(REFERENCIA), eq("tenant-b"), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        TenantJobRunner.Resultado resultado = runner.executar(job, REFERENCIA);
+
+        verify(jobExecucaoTenantRepository).registrarTenantsAtivos(eq("teste"), eq(REFERENCIA), any(LocalDateTime.class));
+        assertEquals(Map.of("tenant-a", "tenant-a"), job.contextoPorTenant);
+        assertEquals(2, resultado.concluidos());
+        assertEquals(0, resultado.falhas());
+        assertEquals(2, meterRegistry.timer("salvemais.job.tenant", "job", "teste", "resultado", "sucesso").count());
+    }
+
+    @Test
+    void registraAFalhaDoTenantESegueComOsDemais() {
+        job.falharEm = "tenant-b";
+        when(jobExecucaoTenantRepository.findTenantsPendentes("teste", REFERENCIA, 5))
+                .thenReturn(List.of("tenant-a", "tenant-b"));
+        when(jobExecucaoTenantRepository.marcarConcluido(anyString(), anyString(), anyString(), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        TenantJobRunner.Resultado resultado = runner.executar(job, REFERENCIA);
+
+        assertEquals(1, resultado.concluidos());
+        assertEquals(1, resultado.falhas());
+        verify(jobExecucaoTenantRepository).registrarFalha(eq("teste"), eq(REFERENCIA), eq("tenant-b"),
+                contains("saldo inválido"), any(LocalDateTime.class));
+        verify(jobExecucaoTenantRepository, never()).registrarFalha(eq("teste"), eq(REFERENCIA), eq("tenant-a"),
+                anyString(), any(LocalDateTime.class));
+        assertEquals(1, meterRegistry.timer("salvemais.job.tenant", "job", "teste", "resultado", "falha").count());
+    }
+
+    @Test
+    void desisteDoTenantQuePassaDoTempoLimite() {
+        job.demorarEm = "tenant-lento";
+        when(jobExecucaoTenantRepository.findTenantsPendentes("teste", REFERENCIA, 5))
+                .thenReturn(List.of("tenant-lento"));
+        when(jobExecucaoTenantRepository.marcarConcluido(anyString(), anyString(), anyString(), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        TenantJobRunner.Resultado resultado = runner.executar(job, REFERENCIA);
+
+        assertEquals(1, resultado.falhas());
+        verify(jobExecucaoTenantRepository).registrarFalha(eq("teste"), eq(REFERENCIA), eq("tenant-lento"),
+                contains("Tempo limite"), any(LocalDateTime.class));
+        assertEquals(1, meterRegistry.timer("salvemais.job.tenant", "job", "teste", "resultado", "tempo_esgotado").count());
+    }
+
+    @Test
+    void limiteDeParalelismoValeParaTodosOsJobsSomados() {
+        AtomicInteger emExecucao = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+        List<String> tenants = List.of("tenant-a", "tenant-b", "tenant-c", "tenant-d");
+        Consumer<String> tarefa = tenant -> {
+            maximo.accumulateAndGet(emExecucao.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                emExecucao.decrementAndGet();
+            }
+        };
+
+        CompletableFuture<TenantJobRunner.Resultado> primeiro = CompletableFuture.supplyAsync(() ->
+                runner.distribuir("job-1", tenants, t -> t, tarefa));
+        CompletableFuture<TenantJobRunner.Resultado> segundo = CompletableFuture.supplyAsync(() ->
+                runner.distribuir("job-2", tenants, t -> t, tarefa));
+
+        assertEquals(4, primeiro.join().concluidos());
+        assertEquals(4, segundo.join().concluidos());
+        assertTrue(maximo.get() <= 2, "Tenants em paralelo: " + maximo.get());
+    }
+
+    @Test
+    void retomaSoOsTenantsPendentesSemReabrirAExecucao() {
+        ExecucaoJobPendente pendente = new ExecucaoJobPendente() {
+            @Override
+            public String getJob() {
+                return "teste";
+            }
+
+            @Override
+            public String getReferencia() {
+                return REFERENCIA;
+            }
+        };
+        when(jobExecucaoTenantRepository.findExecucoesPendentes(anyInt(), any(LocalDateTime.class)))
+                .thenReturn(List.of(pendente));
+        when(jobs.orderedStream()).thenReturn(Stream.of(job));
+        when(jobExecucaoTenantRepository.findTenantsPendentes("teste", REFERENCIA, 5)).thenReturn(List.of("tenant-a"));
+        when(jobExecucaoTenantRepository.marcarConcluido(anyString(), anyString(), anyString(), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        runner.retomarPendentes();
+
+        assertEquals(Map.of("tenant-a", "tenant-a"), job.contextoPorTenant);
+        verify(jobExecucaoTenantRepository, never()).registrarTenantsAtivos(anyString(), anyString(), any(LocalDateTime.class));
+    }
+
+    private static class JobDeTeste implements TenantJob {
+
+        private final Map<String, String> contextoPorTenant = new ConcurrentHashMap<>();
+        private volatile String falharEm;
+        private volatile String demorarEm;
+
+        @Override
+        public String nome() {
+            return "teste";
+        }
+
+        @Override
+        public void executar(String tenant, String referencia) {
+            if (tenant.equals(falharEm)) {
+                throw new IllegalStateException("saldo inválido");
+            }
+            if (tenant.equals(demorarEm)) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            contextoPorTenant.put(tenant, TenantContext.getCurrentTenant());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.Tenant;
+import br.com.salvemais.domain.enums.SubscriptionStatus;
+import br.com.salvemais.infrastructure.repositories.TenantRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TenantMetadataCacheTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void deveConsultarORepositorioApenasUmaVezDentroDoTtl() {
+        when(tenantRepository.findByDomain("tenant-a")).thenReturn(Optional.of(tenant("tenant-a", SubscriptionStatus.ATIVO)));
+        var cache = new TenantMetadataCache(tenantRepository, meterRegistry, 60, 100);
+
+        cache.get("tenant-a");
+        cache.get("tenant-a");
+        var metadata = cache.get("tenant-a");
+
+        assertEquals(SubscriptionStatus.ATIVO, metadata.orElseThrow().subscriptionStatus());
+        verify(tenantRepository, times(1)).findByDomain("tenant-a");
+        assertEquals(2.0 / 3.0, cache.hitRatio(), 0.0001);
+    }
+
+    @Test
+    void deveRecarregarAposInvalidacao() {
+        when(tenantRepository.findByDomain("tenant-a")).thenReturn(
+                Optional.of(tenant("tenant-a", SubscriptionStatus.ATIVO)),
+                Optional.of(tenant("tenant-a", SubscriptionStatus.INADIMPLENTE)));
+        var cache = new TenantMetadataCache(tenantRepository, meterRegistry, 60, 100);
+
+        cache.get("tenant-a");
+        cache.invalidate("tenant-a");
+        var metadata = cache.get("tenant-a");
+
+        assertEquals(SubscriptionStatus.INADIMPLENTE, metadata.orElseThrow().subscriptionStatus());
+        verify(tenantRepository, times(2)).findByDomain("tenant-a");
+    }
+
+    @Test
+    void deveExpirarEntradasAposOTtl() {
+        when(tenantRepository.findByDomain("tenant-a")).thenReturn(Optional.of(tenant("tenant-a", SubscriptionStatus.TRIAL)));
+        var cache = new TenantMetadataCache(tenantRepository, meterRegistry, 0, 100);
+
+        cache.get("tenant-a");
+        cache.get("tenant-a");
+
+        verify(tenantRepository, times(2)).findByDomain("tenant-a");
+    }
+
+    @Test
+    void deveRespeitarOLimiteDeEntradas() {
+        when(tenantRepository.findByDomain("tenant-a")).thenReturn(Optional.of(tenant("tenant-a", SubscriptionStatus.ATIVO)));
+        when(tenantRepository.findByDomain("tenant-b")).thenReturn(Optional.of(tenant("tenant-b", SubscriptionStatus.ATIVO)));
+        var cache = new TenantMetadataCache(tenantRepository, meterRegistry, 60, 1);
+
+        cache.get("tenant-a");
+        cache.get("tenant-b");
+
+        assertEquals(1.0, meterRegistry.get("salvemais.cache.tenant.metadata.size").gauge().value());
+    }
+
+    @Test
+    void naoDeveGuardarTenantInexistente() {
+        when(tenantRepository.findByDomain("inexistente")).thenReturn(Optional.empty());
+        var cache = new TenantMetadataCache(tenantRepository, meterRegistry, 60, 100);
+
+        assertTrue(cache.get("inexistente").isEmpty());
+        assertTrue(cache.get("inexistente").isEmpty());
+        verify(tenantRepository, times(2)).findByDomain("inexistente");
+    }
+
+    private Tenant tenant(String domain, SubscriptionStatus status) {
+        Tenant tenant = new Tenant();
+        tenant.setDomain(domain);
+        tenant.setSubscriptionStatus(status);
+        return tenant;
+    }
+}
@@ -4,6 +4,7 @@ import br.com.salvemais.domain.entities.Tenant;
 import br.com.salvemais.domain.entities.Usuario;
 import br.com.salvemais.infrastructure.context.TenantContext;
 import br.com.salvemais.infrastructure.repositories.TenantRepository;
+import br.com.salvemais.infrastructure.repositories.UsuarioGlobalRepository;
 import br.com.salvemais.infrastructure.repositories.UsuarioRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +29,9 @@ class TenantUserServiceTest {
     @Mock
     private UsuarioRepository usuarioRepository;
 
+    @Mock
+    private UsuarioGlobalRepository usuarioGlobalRepository;
+
     @Mock
     private EmailService emailService;
 
@@ -48,6 +52,7 @@ class TenantUserServiceTest {
 
         Usuario usuario = new Usuario();
         usuario.setId(1L);
+        usuario.setEmail("usuario@salve.com");
         usuario.setAtivo(true);
 
         when(tenantRepository.findById(tenantId)).thenReturn(Optional.of(tenant));
@@ -60,6 +65,7 @@ class TenantUserServiceTest {
         assertEquals(false, usuario.getAtivo());
         assertEquals("original", TenantContext.getCurrentTenant());
         verify(usuarioRepository).save(usuario);
+        verify(usuarioGlobalRepository).atualizarAtivoPorEmail("usuario@salve.com", false);
     }
 
     @Test
@@ -118,5 +124,26 @@ class TenantUserServiceTest {
         assertEquals(false, usuario1.getAtivo());
         assertEquals(false, usuario2.getAtivo());
         verify(usuarioRepository, times(2)).save(any(Usuario.class));
+        verify(usuarioGlobalRepository).atualizarAtivoPorTenant(tenantId, false);
+    }
+
+    @Test
+    void deveAtivarTodosUsuariosDoTenantTambemEmUsuarioGlobal() {
+        UUID tenantId = UUID.randomUUID();
+        Tenant tenant = new Tenant();
+        tenant.setId(tenantId);
+        tenant.setDomain("tenant-1");
+
+        Usuario usuario = new Usuario();
+        usuario.setId(1L);
+        usuario.setAtivo(false);
+
+        when(tenantRepository.findById(tenantId)).thenReturn(Optional.of(tenant));
+        when(usuarioRepository.findAll()).thenReturn(List.of(usuario));
+
+        tenantUserService.ativarTodosUsuarios(tenantId);
+
+        assertEquals(true, usuario.getAtivo());
+        verify(usuarioGlobalRepository).atualizarAtivoPorTenant(tenantId, true);
     }
 }
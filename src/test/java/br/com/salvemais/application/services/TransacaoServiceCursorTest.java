@@ -0,0 +1,117 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.domain.entities.Conta;
+import br.com.salvemais.domain.entities.Transacao;
+import br.com.salvemais.domain.enums.TipoTransacao;
+import br.com.salvemais.domain.exceptions.BadRequestException;
+import br.com.salvemais.web.api.dto.PaginaCursorDTO;
+import br.com.salvemais.web.api.dto.TransacaoDTO;
+import br.com.salvemais.web.api.dto.TransacaoFiltroDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TransacaoService.class)
+class TransacaoServiceCursorTest {
+
+    private static final TransacaoFiltroDTO SEM_FILTRO =
+            new TransacaoFiltroDTO(null, null, null, null, null, null, null, null);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private TransacaoService transacaoService;
+
+    private Conta conta;
+    private final List<Transacao> criadas = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        conta = new Conta();
+        conta.setTitular("Conta corrente");
+        conta.setSaldo(new BigDecimal("1000.00"));
+        em.persist(conta);
+
+        // Várias transações com a mesma data para exercitar o desempate por id
+        LocalDateTime base = LocalDateTime.of(2025, 3, 10, 12, 0);
+        for (int i = 0; i < 7; i++) {
+            criar(TipoTransacao.CREDITO, base.minusDays(i / 3));
+        }
+        for (int i = 0; i < 3; i++) {
+            criar(TipoTransacao.DEBITO, base.minusDays(i));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void percorreTodasAsPaginasSemRepetirNemPularNaOrdemDataEId() {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            PaginaCursorDTO<TransacaoDTO> pagina = transacaoService.listarTransacoesPorCursor(SEM_FILTRO, cursor, 3, false);
+            pagina.conteudo().forEach(t -> ids.add(t.id()));
+            assertNull(pagina.totalElementos());
+            cursor = pagina.proximoCursor();
+            paginas++;
+        } while (cursor != null);
+
+        List<Long> esperado = criadas.stream()
+                .sorted(Comparator.comparing(Transacao::getData).thenComparing(Transacao::getId).reversed())
+                .map(Transacao::getId)
+                .toList();
+        assertEquals(esperado, ids);
+        assertEquals(4, paginas);
+    }
+
+    @Test
+    void aplicaFiltrosEContaTotalQuandoSolicitado() {
+        var filtro = new TransacaoFiltroDTO(conta.getId(), TipoTransacao.DEBITO, null, null, null, null, null, null);
+
+        PaginaCursorDTO<TransacaoDTO> primeira = transacaoService.listarTransacoesPorCursor(filtro, null, 2, true);
+        PaginaCursorDTO<TransacaoDTO> segunda =
+                transacaoService.listarTransacoesPorCursor(filtro, primeira.proximoCursor(), 2, true);
+
+        assertEquals(3L, primeira.totalElementos());
+        assertTrue(primeira.temMais());
+        assertEquals(1, segunda.conteudo().size());
+        assertFalse(segunda.temMais());
+        assertTrue(segunda.conteudo().stream().allMatch(t -> t.tipo() == TipoTransacao.DEBITO));
+    }
+
+    @Test
+    void cursorInvalidoGeraBadRequest() {
+        assertThrows(BadRequestException.class,
+                () -> transacaoService.listarTransacoesPorCursor(SEM_FILTRO, "nao-e-um-cursor", 3, false));
+    }
+
+    private void criar(TipoTransacao tipo, LocalDateTime data) {
+        Transacao transacao = new Transacao();
+        transacao.setTipo(tipo);
+        transacao.setValor(BigDecimal.TEN);
+        transacao.setData(data);
+        transacao.setDescricao("Transação " + criadas.size());
+        transacao.setConta(conta);
+        criadas.add(em.persist(transacao));
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.salvemais.application.services;
+
+import br.com.salvemais.infrastructure.context.TenantContext;
+import br.com.salvemais.infrastructure.repositories.UsuarioGlobalRepository;
+import br.com.salvemais.infrastructure.repositories.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UltimoAcessoServiceTest {
+
+    @Mock
+    private UsuarioGlobalRepository usuarioGlobalRepository;
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Captor
+    private ArgumentCaptor<Collection<String>> emails;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private UltimoAcessoService ultimoAcessoService;
+
+    @BeforeEach
+    void setUp() {
+        ultimoAcessoService = new UltimoAcessoService(usuarioGlobalRepository, usuarioRepository,
+                transactionManager, meterRegistry);
+    }
+
+    @Test
+    void registrarNaoTocaNoBanco() {
+        ultimoAcessoService.registrar("ana@teste.com", "tenant-a");
+
+        verifyNoInteractions(usuarioGlobalRepository, usuarioRepository, transactionManager);
+        assertEquals(1.0, meterRegistry.get("salvemais.ultimo.acesso.pendentes").gauge().value());
+    }
+
+    @Test
+    void agrupaOsAcessosPorTabelaEPorTenant() {
+        List<String> globais = new ArrayList<>();
+        doAnswer(invocacao -> {
+            globais.addAll(invocacao.getArgument(0));
+            return 1;
+        }).when(usuarioGlobalRepository).registrarUltimoAcesso(anyCollection(), any(LocalDateTime.class));
+        Map<String, List<String>> locaisPorTenant = new ConcurrentHashMap<>();
+        doAnswer(invocacao -> {
+            Collection<String> emails = invocacao.getArgument(0);
+            locaisPorTenant.computeIfAbsent(TenantContext.getCurrentTenant(), t -> new ArrayList<>()).addAll(emails);
+            return emails.size();
+        }).when(usuarioRepository).registrarUltimoAcesso(anyCollection(), any(LocalDateTime.class));
+
+        ultimoAcessoService.registrar("ana@teste.com", "tenant-a");
+        ultimoAcessoService.registrar("ana@teste.com", "tenant-a");
+        ultimoAcessoService.registrar("bia@teste.com", "tenant-a");
+        ultimoAcessoService.registrar("caio@teste.com", "tenant-b");
+        ultimoAcessoService.flush();
+
+        assertEquals(List.of("ana@teste.com", "bia@teste.com", "caio@teste.com"), globais.stream().sorted().toList());
+        assertEquals(List.of("ana@teste.com", "bia@teste.com"), locaisPorTenant.get("tenant-a").stream().sorted().toList());
+        assertEquals(List.of("caio@teste.com"), locaisPorTenant.get("tenant-b"));
+        assertEquals(3.0, meterRegistry.counter("salvemais.ultimo.acesso", "etapa", "gravado").count());
+
+        // Nada pendente: o próximo flush não escreve
+        ultimoAcessoService.flush();
+        assertEquals(3, globais.size());
+    }
+
+    @Test
+    void falhaEmUmTenantNaoImpedeOsDemais() {
+        when(usuarioGlobalRepository.registrarUltimoAcesso(anyCollection(), any(LocalDateTime.class))).thenReturn(2);
+        when(usuarioRepository.registrarUltimoAcesso(emails.capture(), any(LocalDateTime.class)))
+                .thenThrow(new IllegalStateException("schema inexistente"))
+                .thenReturn(1);
+
+        ultimoAcessoService.registrar("ana@teste.com", "tenant-a");
+        ultimoAcessoService.registrar("caio@teste.com", "tenant-b");
+        ultimoAcessoService.flush();
+
+        assertEquals(2, emails.getAllValues().size());
+        assertEquals(List.of("caio@teste.com"), List.copyOf(emails.getAllValues().get(1)));
+        verify(usuarioGlobalRepository, atLeastOnce()).registrarUltimoAcesso(anyCollection(), any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.salvemais.application.services;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+import java.net.URL;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UrlAssinadaCacheTest {
+
+    private static final String CHAVE = "comprovantes/tenant-a/recibo.pdf";
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    @Test
+    void reaproveitaAUrlAssinadaEnquantoTemMargemDeValidade() throws Exception {
+        UrlAssinadaCache cache = new UrlAssinadaCache(s3Presigner, new SimpleMeterRegistry(), "bucket", 30, 60, 100);
+        stubAssinatura();
+
+        assertEquals("https://s3/recibo.pdf?assinatura", cache.urlDownload(CHAVE));
+        assertEquals("https://s3/recibo.pdf?assinatura", cache.urlDownload(CHAVE));
+
+        ArgumentCaptor<GetObjectPresignRequest> pedido = ArgumentCaptor.forClass(GetObjectPresignRequest.class);
+        verify(s3Presigner).presignGetObject(pedido.capture());
+        assertEquals(Duration.ofMinutes(30), pedido.getValue().signatureDuration());
+        assertEquals(CHAVE, pedido.getValue().getObjectRequest().key());
+    }
+
+    @Test
+    void assinaDeNovoDepoisDeInvalidar() throws Exception {
+        UrlAssinadaCache cache = new UrlAssinadaCache(s3Presigner, new SimpleMeterRegistry(), "bucket", 30, 60, 100);
+        stubAssinatura();
+
+        cache.urlDownload(CHAVE);
+        cache.invalidate(CHAVE);
+        cache.urlDownload(CHAVE);
+
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    void naoGuardaQuandoAMargemCobreTodaAValidade() throws Exception {
+        UrlAssinadaCache cache = new UrlAssinadaCache(s3Presigner, new SimpleMeterRegistry(), "bucket", 1, 60, 100);
+        stubAssinatura();
+
+        cache.urlDownload(CHAVE);
+        cache.urlDownload(CHAVE);
+
+        verify(s3Presigner, times(2)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    private void stubAssinatura() throws Exception {
+        PresignedGetObjectRequest assinada = mock(PresignedGetObjectRequest.class);
+        when(assinada.url()).thenReturn(new URL("https://s3/recibo.pdf?assinatura"));
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenReturn(assinada);
+    }
+}
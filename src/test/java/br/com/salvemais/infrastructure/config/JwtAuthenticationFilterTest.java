@@ -0,0 +1,106 @@
+package br.com.salvemais.infrastructure.config;
+
+import br.com.salvemais.application.services.JwtService;
+import br.com.salvemais.application.services.JwtService.JwtPrincipal;
+import br.com.salvemais.application.services.UsuarioAtivoCache;
+import br.com.salvemais.application.services.UsuarioDetailsService;
+import br.com.salvemais.infrastructure.context.TenantContext;
+import br.com.salvemais.infrastructure.database.FlywayMigrationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String TOKEN = "token-valido";
+    private static final String EMAIL = "usuario@salve.com";
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private UsuarioDetailsService usuarioDetailsService;
+
+    @Mock
+    private FlywayMigrationService flywayMigrationService;
+
+    @Mock
+    private UsuarioAtivoCache usuarioAtivoCache;
+
+    @InjectMocks
+    private JwtAuthenticationFilter filter;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        TenantContext.clear();
+    }
+
+    @Test
+    void modoSemEstado_deveRetornar401QuandoUsuarioFoiDesativado() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessAuth", true);
+        when(jwtService.parseToken(TOKEN)).thenReturn(new JwtPrincipal(EMAIL, UUID.randomUUID(), "tenant-1"));
+        when(usuarioAtivoCache.isAtivo(EMAIL)).thenReturn(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(requisicaoComToken(), response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verifyNoInteractions(usuarioDetailsService);
+        assertEquals(TenantContext.DEFAULT_TENANT, TenantContext.getCurrentTenant());
+    }
+
+    @Test
+    void modoSemEstado_deveAutenticarComClaimsQuandoUsuarioAtivo() throws Exception {
+        ReflectionTestUtils.setField(filter, "statelessAuth", true);
+        when(jwtService.parseToken(TOKEN)).thenReturn(new JwtPrincipal(EMAIL, UUID.randomUUID(), "tenant-1"));
+        when(usuarioAtivoCache.isAtivo(EMAIL)).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(requisicaoComToken(), response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertNotNull(chain.getRequest());
+        assertEquals(EMAIL, SecurityContextHolder.getContext().getAuthentication().getName());
+        verifyNoInteractions(usuarioDetailsService);
+    }
+
+    @Test
+    void modoPadrao_deveRetornar401QuandoUsuarioInativo() throws Exception {
+        when(jwtService.parseToken(TOKEN)).thenReturn(new JwtPrincipal(EMAIL, UUID.randomUUID(), "tenant-1"));
+        when(usuarioDetailsService.loadUserByUsername(EMAIL)).thenThrow(new UsernameNotFoundException("Usuário inativo"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(requisicaoComToken(), response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+        verifyNoInteractions(usuarioAtivoCache);
+    }
+
+    private MockHttpServletRequest requisicaoComToken() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/contas");
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        return request;
+    }
+}
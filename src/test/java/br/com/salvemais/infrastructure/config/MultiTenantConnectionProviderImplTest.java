@@ -0,0 +1,120 @@
+package br.com.salvemais.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MultiTenantConnectionProviderImplTest {
+
+    private static final int REQUISICOES = 100;
+
+    private DataSource dataSource;
+    private Connection conexao;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        conexao = mock(Connection.class);
+        when(dataSource.getConnection()).thenReturn(conexao);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void modoPadraoTrocaSchemaNoCheckoutENaDevolucao() throws SQLException {
+        var provider = new MultiTenantConnectionProviderImpl(dataSource, meterRegistry, false);
+
+        Connection connection = provider.getConnection("tenant-a");
+        provider.releaseConnection("tenant-a", connection);
+
+        verify(conexao).setSchema("tenant-a");
+        verify(conexao).setSchema("public");
+    }
+
+    @Test
+    void modoAfinidadeNaoRepeteSetSchemaParaOMesmoTenant() throws SQLException {
+        var provider = new MultiTenantConnectionProviderImpl(dataSource, meterRegistry, true);
+
+        for (int i = 0; i < 3; i++) {
+            Connection connection = provider.getConnection("tenant-a");
+            provider.releaseConnection("tenant-a", connection);
+        }
+
+        verify(conexao).setSchema("tenant-a");
+        verify(conexao, never()).setSchema("public");
+        assertEquals(2.0, contador("hit"));
+        assertEquals(1.0, contador("miss"));
+    }
+
+    @Test
+    void modoAfinidadeTrocaSchemaQuandoOTenantMuda() throws SQLException {
+        var provider = new MultiTenantConnectionProviderImpl(dataSource, meterRegistry, true);
+
+        provider.releaseConnection("tenant-a", provider.getConnection("tenant-a"));
+        provider.releaseConnection("tenant-b", provider.getConnection("tenant-b"));
+        provider.releaseConnection("tenant-a", provider.getConnection("tenant-a"));
+
+        assertEquals(3, chamadasSetSchema());
+        assertEquals(3.0, contador("miss"));
+    }
+
+    /**
+     * Mede os round-trips de SET search_path economizados numa sequência de
+     * requisições em que o mesmo tenant concentra a maior parte do tráfego.
+     */
+    @Test
+    void modoAfinidadeEconomizaRoundTripsPorRequisicao() throws SQLException {
+        List<String> tenants = List.of("tenant-a", "tenant-a", "tenant-a", "tenant-b");
+
+        var padrao = new MultiTenantConnectionProviderImpl(dataSource, meterRegistry, false);
+        simularRequisicoes(padrao, tenants);
+        long roundTripsPadrao = chamadasSetSchema();
+
+        setUp();
+        var afinidade = new MultiTenantConnectionProviderImpl(dataSource, meterRegistry, true);
+        simularRequisicoes(afinidade, tenants);
+        long roundTripsAfinidade = chamadasSetSchema();
+
+        double economiaPorRequisicao = (roundTripsPadrao - roundTripsAfinidade) / (double) REQUISICOES;
+
+        assertEquals(2L * REQUISICOES, roundTripsPadrao);
+        assertTrue(roundTripsAfinidade <= REQUISICOES / 2,
+                "round-trips no modo afinidade: " + roundTripsAfinidade);
+        assertTrue(economiaPorRequisicao >= 1.5, "economia por requisição: " + economiaPorRequisicao);
+    }
+
+    private void simularRequisicoes(MultiTenantConnectionProviderImpl provider, List<String> tenants) throws SQLException {
+        for (int i = 0; i < REQUISICOES; i++) {
+            String tenant = tenants.get(i % tenants.size());
+            Connection connection = provider.getConnection(tenant);
+            provider.releaseConnection(tenant, connection);
+        }
+    }
+
+    private long chamadasSetSchema() {
+        return mockingDetails(conexao).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("setSchema"))
+                .count();
+    }
+
+    private double contador(String resultado) {
+        return meterRegistry.get("salvemais.tenant.connection.schema")
+                .tag("result", resultado)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,225 @@
+package br.com.salvemais.infrastructure.config;
+
+import br.com.salvemais.application.services.JwtService;
+import br.com.salvemais.infrastructure.database.FlywayMigrationService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestClassOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Teste de carga (só roda com {@code mvn test -Pcarga}): sobe a aplicação inteira em porta
+ * aleatória duas vezes, com {@code spring.threads.virtual.enabled} desligado e ligado, e
+ * dispara as mesmas requisições autenticadas concorrentes contra ela — conector do Tomcat,
+ * filtros de JWT e de assinatura, {@code TenantContext}, controllers e o pool Hikari de
+ * 5 conexões de produção sobre um Postgres de verdade.
+ *
+ * As requisições alternam dois tenants e misturam a listagem de contas com a exportação de
+ * contas fixas, cujo corpo é escrito no executor assíncrono do MVC. Toda resposta precisa vir
+ * com 200 e só com dados do próprio tenant. Como os dois endpoints passam pelo banco, o pool
+ * Hikari limita os dois modos; o teste exige que os virtual threads não percam vazão e registra
+ * as duas medidas no log. Sem Docker disponível, o teste é ignorado.
+ */
+@Tag("carga")
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+@TestClassOrder(ClassOrderer.OrderAnnotation.class)
+class ThreadsVirtuaisCargaTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadsVirtuaisCargaTest.class);
+
+    private static final int REQUISICOES = 2_000;
+    private static final int AQUECIMENTO = 200;
+    private static final int CLIENTES_SIMULTANEOS = 400;
+    private static final List<String> TENANTS = List.of("carga_a", "carga_b");
+    private static final String XLSX = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    private static final AtomicBoolean dadosCriados = new AtomicBoolean();
+    private static final Map<String, Double> vazoes = new ConcurrentHashMap<>();
+
+    @AfterAll
+    static void compararModos() {
+        Double plataforma = vazoes.get("plataforma");
+        Double virtuais = vazoes.get("virtual");
+        log.info("Vazão da aplicação: plataforma {} req/s, virtual {} req/s",
+                plataforma == null ? "-" : Math.round(plataforma), virtuais == null ? "-" : Math.round(virtuais));
+        if (plataforma != null && virtuais != null) {
+            assertTrue(virtuais >= plataforma * 0.8,
+                    "virtual " + Math.round(virtuais) + " req/s x plataforma " + Math.round(plataforma) + " req/s");
+        }
+    }
+
+    @Nested
+    @Order(1)
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.threads.virtual.enabled=false",
+            "spring.flyway.enabled=true",
+            "spring.jpa.hibernate.ddl-auto=none",
+            "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+            "spring.datasource.driver-class-name=org.postgresql.Driver"
+    })
+    class ThreadsDePlataforma extends Carga {
+
+        @Test
+        void atendeAsRequisicoesDeCadaTenantSemMisturarDados() throws Exception {
+            vazoes.put("plataforma", medirVazao());
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+            "spring.threads.virtual.enabled=true",
+            "spring.flyway.enabled=true",
+            "spring.jpa.hibernate.ddl-auto=none",
+            "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+            "spring.datasource.driver-class-name=org.postgresql.Driver"
+    })
+    class ThreadsVirtuais extends Carga {
+
+        @Test
+        void atendeAsRequisicoesDeCadaTenantSemMisturarDados() throws Exception {
+            vazoes.put("virtual", medirVazao());
+        }
+    }
+
+    abstract static class Carga {
+
+        @LocalServerPort
+        private int porta;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Autowired
+        private JwtService jwtService;
+
+        @Autowired
+        private FlywayMigrationService flywayMigrationService;
+
+        private final Map<String, String> tokens = new ConcurrentHashMap<>();
+
+        @BeforeEach
+        void setUp() {
+            // Os dois contextos usam o mesmo Postgres; os tenants são criados só na primeira vez
+            boolean criar = dadosCriados.compareAndSet(false, true);
+            for (String tenant : TENANTS) {
+                String email = "usuario@" + tenant + ".test";
+                if (criar) {
+                    UUID tenantId = UUID.randomUUID();
+                    jdbcTemplate.update("INSERT INTO public.tenants (id, domain, name, email, active, created_by, updated_by) " +
+                            "VALUES (?, ?, ?, ?, true, 'carga', 'carga')", tenantId, tenant, tenant, email);
+                    jdbcTemplate.update("INSERT INTO public.usuario_global (email, senha, tenant_id) VALUES (?, 'x', ?)",
+                            email, tenantId);
+                    flywayMigrationService.migrateTenantSchema(tenant);
+                    jdbcTemplate.update("INSERT INTO " + tenant + ".conta (saldo, titular) VALUES (100, ?)",
+                            titular(tenant));
+                }
+                UUID tenantId = jdbcTemplate.queryForObject("SELECT id FROM public.tenants WHERE domain = ?",
+                        UUID.class, tenant);
+                tokens.put(tenant, jwtService.gerarToken(email, tenantId, tenant));
+            }
+        }
+
+        double medirVazao() throws Exception {
+            HttpClient cliente = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            disparar(cliente, AQUECIMENTO);
+
+            long inicio = System.nanoTime();
+            disparar(cliente, REQUISICOES);
+            double segundos = (System.nanoTime() - inicio) / 1_000_000_000.0;
+            return REQUISICOES / segundos;
+        }
+
+        private void disparar(HttpClient cliente, int requisicoes) throws Exception {
+            Semaphore clientes = new Semaphore(CLIENTES_SIMULTANEOS);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> respostas = new ArrayList<>(requisicoes);
+                for (int i = 0; i < requisicoes; i++) {
+                    int requisicao = i;
+                    respostas.add(executor.submit(() -> {
+                        clientes.acquire();
+                        try {
+                            requisitar(cliente, requisicao);
+                        } finally {
+                            clientes.release();
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> resposta : respostas) {
+                    resposta.get();
+                }
+            }
+        }
+
+        private void requisitar(HttpClient cliente, int requisicao) throws Exception {
+            String tenant = TENANTS.get(requisicao % TENANTS.size());
+            String outroTenant = TENANTS.get((requisicao + 1) % TENANTS.size());
+            boolean exportacao = requisicao % 4 == 3;
+            String caminho = exportacao ? "/api/contas/fixas/exportar" : "/api/contas";
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + caminho))
+                    .header("Authorization", "Bearer " + tokens.get(tenant))
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build();
+            HttpResponse<byte[]> resposta = cliente.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+            assertEquals(200, resposta.statusCode(), caminho + " do tenant " + tenant);
+            if (exportacao) {
+                assertEquals(XLSX, resposta.headers().firstValue("Content-Type").orElse(null));
+            } else {
+                String corpo = new String(resposta.body());
+                assertTrue(corpo.contains(titular(tenant)), "listagem sem a conta do tenant " + tenant);
+                assertFalse(corpo.contains(titular(outroTenant)), "listagem do tenant " + tenant + " com dados de " + outroTenant);
+            }
+        }
+
+        private static String titular(String tenant) {
+            return "Titular " + tenant;
+        }
+    }
+}
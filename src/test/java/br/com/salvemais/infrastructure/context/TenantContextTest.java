@@ -0,0 +1,38 @@
+package br.com.salvemais.infrastructure.context;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TenantContextTest {
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void threadFilhaNaoHerdaOTenant() throws Exception {
+        TenantContext.setCurrentTenant("tenant-a");
+        AtomicReference<String> visto = new AtomicReference<>();
+
+        Thread filha = Thread.ofVirtual().start(() -> visto.set(TenantContext.getCurrentTenant()));
+        filha.join();
+
+        assertEquals(TenantContext.DEFAULT_TENANT, visto.get());
+    }
+
+    @Test
+    void runWithTenantRestauraOTenantAnterior() {
+        TenantContext.setCurrentTenant("tenant-a");
+        AtomicReference<String> visto = new AtomicReference<>();
+
+        TenantContext.runWithTenant("tenant-b", () -> visto.set(TenantContext.getCurrentTenant()));
+
+        assertEquals("tenant-b", visto.get());
+        assertEquals("tenant-a", TenantContext.getCurrentTenant());
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.salvemais.infrastructure.database;
+
+import br.com.salvemais.domain.entities.Tenant;
+import br.com.salvemais.infrastructure.repositories.TenantRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TenantMigrationOrchestratorTest {
+
+    @Mock
+    private TenantRepository tenantRepository;
+
+    @Mock
+    private FlywayMigrationService flywayMigrationService;
+
+    @Test
+    void deveMigrarTodosOsTenantsExcetoOSchemaPublico() {
+        when(tenantRepository.findAll()).thenReturn(List.of(tenant("public"), tenant("tenant-a"), tenant("tenant-b")));
+        var orchestrator = new TenantMigrationOrchestrator(tenantRepository, flywayMigrationService, true, 2);
+
+        assertEquals(Status.OUT_OF_SERVICE, orchestrator.health().getStatus());
+
+        orchestrator.run(null);
+
+        verify(flywayMigrationService).migrateTenantSchema("tenant-a");
+        verify(flywayMigrationService).migrateTenantSchema("tenant-b");
+        verify(flywayMigrationService, never()).migrateTenantSchema("public");
+        assertEquals(Status.UP, orchestrator.health().getStatus());
+        assertEquals(2, orchestrator.health().getDetails().get("concluidos"));
+    }
+
+    @Test
+    void falhaEmUmTenantNaoInterrompeOsDemais() {
+        when(tenantRepository.findAll()).thenReturn(List.of(tenant("tenant-a"), tenant("tenant-b")));
+        doThrow(new RuntimeException("erro")).when(flywayMigrationService).migrateTenantSchema("tenant-a");
+        var orchestrator = new TenantMigrationOrchestrator(tenantRepository, flywayMigrationService, true, 2);
+
+        orchestrator.run(null);
+
+        verify(flywayMigrationService).migrateTenantSchema("tenant-b");
+        assertEquals(1, orchestrator.health().getDetails().get("falhas"));
+        assertEquals(Status.UP, orchestrator.health().getStatus());
+    }
+
+    @Test
+    void desabilitadoNaoConsultaTenants() {
+        var orchestrator = new TenantMigrationOrchestrator(tenantRepository, flywayMigrationService, false, 2);
+
+        orchestrator.run(null);
+
+        verify(tenantRepository, never()).findAll();
+        assertEquals(Status.UP, orchestrator.health().getStatus());
+    }
+
+    private Tenant tenant(String domain) {
+        Tenant tenant = new Tenant();
+        tenant.setDomain(domain);
+        return tenant;
+    }
+}
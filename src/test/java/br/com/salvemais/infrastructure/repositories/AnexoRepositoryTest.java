@@ -0,0 +1,115 @@
+package br.com.salvemais.infrastructure.repositories;
+
+import br.com.salvemais.domain.entities.Anexo;
+import br.com.salvemais.domain.entities.Categoria;
+import br.com.salvemais.domain.entities.Conta;
+import br.com.salvemais.domain.entities.ContaFixa;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * O catálogo de comprovantes lê só os metadados do anexo: nenhuma entidade é carregada
+ * (nem o anexo, nem a conta fixa) e cada página custa a consulta e a contagem.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class AnexoRepositoryTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private AnexoRepository anexoRepository;
+
+    private Statistics statistics;
+    private ContaFixa aluguel;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        Conta conta = new Conta();
+        conta.setTitular("Conta corrente");
+        conta.setSaldo(new BigDecimal("1000.00"));
+        em.persist(conta);
+
+        Categoria categoria = new Categoria();
+        categoria.setNome("Moradia");
+        categoria.setTipo(Categoria.TipoCategoria.NECESSIDADE);
+        em.persist(categoria);
+
+        aluguel = new ContaFixa();
+        aluguel.setNome("Aluguel");
+        aluguel.setCategoria(categoria);
+        aluguel.setConta(conta);
+        aluguel.setVencimento(LocalDate.now());
+        aluguel.setValor(BigDecimal.TEN);
+        em.persist(aluguel);
+
+        for (int i = 1; i <= 5; i++) {
+            criarAnexo("Recibo aluguel " + i + ".pdf", "application/pdf", aluguel);
+        }
+        criarAnexo("nota-mercado.jpg", "image/jpeg", null);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void paginaOsMetadadosSemCarregarEntidades() {
+        statistics.clear();
+
+        Page<AnexoResumo> pagina = anexoRepository.buscarResumos(null, null, null, null, null,
+                PageRequest.of(0, 4, Sort.by("nome")));
+
+        assertEquals(6, pagina.getTotalElements());
+        assertEquals(4, pagina.getContent().size());
+        assertEquals("Recibo aluguel 1.pdf", pagina.getContent().get(0).getNome());
+        assertEquals(aluguel.getId(), pagina.getContent().get(0).getContaFixaId());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void aplicaOsFiltros() {
+        LocalDate hoje = LocalDate.now();
+
+        assertEquals(List.of("nota-mercado.jpg"), nomes(anexoRepository.buscarResumos(
+                "MERCADO", null, null, null, null, PageRequest.of(0, 10))));
+        assertEquals(1, anexoRepository.buscarResumos(null, "image/jpeg", null, null, null,
+                PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(5, anexoRepository.buscarResumos(null, null, aluguel.getId(), null, null,
+                PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(6, anexoRepository.buscarResumos(null, null, null, hoje.atStartOfDay(),
+                hoje.plusDays(1).atStartOfDay(), PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(0, anexoRepository.buscarResumos(null, null, null, hoje.plusDays(1).atStartOfDay(),
+                null, PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    private List<String> nomes(Page<AnexoResumo> pagina) {
+        return pagina.getContent().stream().map(AnexoResumo::getNome).toList();
+    }
+
+    private void criarAnexo(String nome, String tipo, ContaFixa contaFixa) {
+        Anexo anexo = new Anexo();
+        anexo.setNome(nome);
+        anexo.setTipo(tipo);
+        anexo.setChaveS3("comprovantes/teste/" + nome);
+        anexo.setContaFixa(contaFixa);
+        em.persist(anexo);
+    }
+}
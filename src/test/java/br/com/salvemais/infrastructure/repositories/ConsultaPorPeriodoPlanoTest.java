@@ -0,0 +1,242 @@
+package br.com.salvemais.infrastructure.repositories;
+
+import br.com.salvemais.util.PeriodoMensal;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Roda {@code EXPLAIN} no SQL gerado pelas consultas por período e falha se alguma voltar
+ * a varrer a tabela inteira (ex.: um filtro com {@code MONTH()}/{@code YEAR()} na coluna).
+ * O plano só diz algo sobre produção no Postgres, com o schema das migrações do Flyway e
+ * estatísticas de um volume realista (20 anos de lançamentos, em ordem de data, e
+ * {@code ANALYZE}). Sem Docker disponível, o teste é ignorado.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "br.com.salvemais.infrastructure.repositories.ConsultaPorPeriodoPlanoTest$CapturaSql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+class ConsultaPorPeriodoPlanoTest {
+
+    private static final PeriodoMensal MARCO = PeriodoMensal.de(3, 2025);
+    private static final Pageable PAGINA = PageRequest.of(0, 20);
+
+    // Cinco lançamentos por dia de 2015 a 2034 (~36 mil linhas por tabela), gravados em ordem de data
+    private static final String DIAS = "FROM generate_series(DATE '2015-01-01', DATE '2034-12-31', INTERVAL '1 day') d, "
+            + "generate_series(1, 5) n";
+
+    private static final List<String> CARGA = List.of(
+            "INSERT INTO cartao_credito (id, nome, vencimento) VALUES (1, 'Cartão', DATE '2025-03-10')",
+            "INSERT INTO conta (id, saldo, titular) VALUES (1, 1000, 'Conta corrente')",
+            "INSERT INTO conta_fixa (nome, vencimento, valor, pago) SELECT 'Conta fixa', d::date, 10, false " + DIAS,
+            "INSERT INTO compra (descricao, valor, data, cartao_credito_id) SELECT 'Compra', 10, d::date, 1 " + DIAS,
+            "INSERT INTO compra_debito (nome, conta_id, data_compra, valor) SELECT 'Compra débito', 1, d::date, 10 " + DIAS,
+            "INSERT INTO compra_parcelada (descricao, valor_total, data_compra, parcela_inicial, total_parcelas, cartao_credito_id) "
+                    + "SELECT 'Parcelada', 10, d::date, 1, 1, 1 " + DIAS,
+            "INSERT INTO parcela (numero_parcela, total_parcelas, valor, data_vencimento, compra_parcelada_id) "
+                    + "SELECT 1, 1, valor_total, data_compra, id FROM compra_parcelada ORDER BY data_compra",
+            "INSERT INTO fatura (data_vencimento, valor_total, pago, cartao_credito_id) SELECT d::date, 10, false, 1 " + DIAS,
+            "INSERT INTO provento (descricao, valor, data) SELECT 'Salário', 10, d::date " + DIAS,
+            "ANALYZE"
+    );
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ContaFixaRepository contaFixaRepository;
+
+    @Autowired
+    private CompraRepository compraRepository;
+
+    @Autowired
+    private CompraDebitoRepository compraDebitoRepository;
+
+    @Autowired
+    private CompraParceladaRepository compraParceladaRepository;
+
+    @Autowired
+    private FaturaRepository faturaRepository;
+
+    @Autowired
+    private ProventoRepository proventoRepository;
+
+    @Autowired
+    private ParcelaRepository parcelaRepository;
+
+    @BeforeEach
+    void setUp() {
+        em.getEntityManager().unwrap(Session.class).doWork(conexao -> {
+            try (Statement st = conexao.createStatement()) {
+                for (String sql : CARGA) {
+                    st.execute(sql);
+                }
+            }
+        });
+    }
+
+    @Test
+    void detectaVarreduraCompletaNoFiltroPorMesEAno() {
+        String plano = explicar("SELECT * FROM compra WHERE EXTRACT(MONTH FROM data) = 3 AND EXTRACT(YEAR FROM data) = 2025");
+
+        assertTrue(varreTabela(plano, "compra"), plano);
+    }
+
+    @Test
+    void contasFixasDoMesUsamIndice() {
+        assertSemVarreduraCompleta("conta_fixa",
+                () -> contaFixaRepository.findByVencimentoNoPeriodo(PAGINA, MARCO.inicio(), MARCO.fimExclusivo()),
+                MARCO.inicio(), MARCO.fimExclusivo());
+    }
+
+    @Test
+    void comprasDoMesUsamIndice() {
+        assertSemVarreduraCompleta("compra",
+                () -> compraRepository.findByDataNoPeriodo(PAGINA, MARCO.inicio(), MARCO.fimExclusivo()),
+                MARCO.inicio(), MARCO.fimExclusivo());
+    }
+
+    @Test
+    void comprasDoCartaoNoPeriodoUsamIndice() {
+        assertSemVarreduraCompleta("compra",
+                () -> compraRepository.findByCartaoCreditoIdAndDataBetween(1L, MARCO.inicio(), MARCO.fimExclusivo()),
+                1L, MARCO.inicio(), MARCO.fimExclusivo());
+    }
+
+    @Test
+    void comprasNoDebitoDoMesUsamIndice() {
+        assertSemVarreduraCompleta("compra_debito",
+                () -> compraDebitoRepository.findByDataCompraNoPeriodo(PAGINA, MARCO.inicio(), MARCO.fimExclusivo()),
+                MARCO.inicio(), MARCO.fimExclusivo());
+    }
+
+    @Test
+    void comprasParceladasDoMesUsamIndice() {
+        assertSemVarreduraCompleta("compra_parcelada",
+                () -> compraParceladaRepository.findByDataCompraNoPeriodo(PAGINA, MARCO.inicio(), MARCO.fimExclusivo()),
+                MARCO.inicio(), MARCO.fimExclusivo());
+    }
+
+    @Test
+    void faturasProventosEParcelasDoPeriodoUsamIndice() {
+        assertSemVarreduraCompleta("fatura",
+                () -> faturaRepository.findByDataVencimentoBetween(MARCO.inicio(), MARCO.fimExclusivo()),
+                MARCO.inicio(), MARCO.fimExclusivo());
+        assertSemVarreduraCompleta("provento",
+                () -> proventoRepository.findByDataBetween(MARCO.inicio(), MARCO.fimExclusivo()),
+                MARCO.inicio(), MARCO.fimExclusivo());
+        assertSemVarreduraCompleta("parcela",
+                () -> parcelaRepository.findByDataVencimentoBetween(MARCO.inicio(), MARCO.fimExclusivo()),
+                MARCO.inicio(), MARCO.fimExclusivo());
+    }
+
+    /**
+     * Executa a consulta, captura o SQL gerado na tabela (consulta e contagem; as cargas das
+     * associações ficam de fora) e confere o plano de cada instrução.
+     * Parâmetros além dos informados (limite da página) recebem um valor fixo.
+     */
+    private void assertSemVarreduraCompleta(String tabela, Runnable consulta, Object... parametros) {
+        CapturaSql.iniciar();
+        try {
+            consulta.run();
+        } finally {
+            CapturaSql.parar();
+        }
+        Pattern daTabela = Pattern.compile("\\bfrom " + tabela + "\\s", Pattern.CASE_INSENSITIVE);
+        List<String> instrucoes = CapturaSql.capturadas().stream()
+                .filter(sql -> daTabela.matcher(sql).find())
+                .toList();
+        assertFalse(instrucoes.isEmpty(), "nenhum SQL capturado em " + tabela);
+
+        for (String sql : instrucoes) {
+            String plano = explicar(sql, parametros);
+            assertFalse(varreTabela(plano, tabela), "varredura completa em " + tabela + ":\n" + plano);
+        }
+    }
+
+    private boolean varreTabela(String plano, String tabela) {
+        return Pattern.compile("Seq Scan on " + tabela + "(\\s|$)", Pattern.MULTILINE).matcher(plano).find();
+    }
+
+    private String explicar(String sql, Object... parametros) {
+        long quantidadeParametros = sql.chars().filter(c -> c == '?').count();
+        return em.getEntityManager().unwrap(Session.class).doReturningWork(conexao -> {
+            try (PreparedStatement ps = conexao.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 1; i <= quantidadeParametros; i++) {
+                    ps.setObject(i, i <= parametros.length ? parametros[i - 1] : PAGINA.getPageSize());
+                }
+                StringBuilder plano = new StringBuilder();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        plano.append(rs.getString(1)).append('\n');
+                    }
+                }
+                return plano.toString();
+            }
+        });
+    }
+
+    /**
+     * Guarda os SELECTs preparados pelo Hibernate enquanto a captura está ligada.
+     */
+    public static class CapturaSql implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> CAPTURADAS = new ThreadLocal<>();
+        private static final ThreadLocal<Boolean> LIGADA = ThreadLocal.withInitial(() -> false);
+
+        static void iniciar() {
+            CAPTURADAS.set(new ArrayList<>());
+            LIGADA.set(true);
+        }
+
+        static void parar() {
+            LIGADA.set(false);
+        }
+
+        static List<String> capturadas() {
+            List<String> capturadas = CAPTURADAS.get();
+            return capturadas != null ? capturadas : List.of();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            if (LIGADA.get() && sql.trim().toLowerCase(Locale.ROOT).startsWith("select")) {
+                CAPTURADAS.get().add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.salvemais.infrastructure.repositories;
+
+import br.com.salvemais.domain.entities.Conta;
+import br.com.salvemais.domain.entities.Transacao;
+import br.com.salvemais.domain.enums.TipoConta;
+import br.com.salvemais.domain.enums.TipoTransacao;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * O crédito do rendimento mensal é SQL nativo do Postgres (CTE com UPDATE … RETURNING alimentando
+ * o INSERT em transacao), então roda contra um Postgres de verdade com as migrações do Flyway.
+ * Sem Docker disponível, o teste é ignorado.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+class ContaRepositoryPostgresTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16");
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ContaRepository contaRepository;
+
+    @Autowired
+    private TransacaoRepository transacaoRepository;
+
+    @Test
+    void creditarRendimentoMensalDeveAtualizarSaldosEGravarUmaTransacaoPorConta() {
+        Conta investimento = conta(TipoConta.INVESTIMENTO, "1000.00", "12.00");
+        Conta reserva = conta(TipoConta.RESERVA_EMERGENCIA, "2500.50", "10.50");
+        Conta corrente = conta(TipoConta.CORRENTE, "800.00", "12.00");
+        Conta semTaxa = conta(TipoConta.INVESTIMENTO, "500.00", "0");
+        Conta rendimentoArredondadoParaZero = conta(TipoConta.RESERVA_EMERGENCIA, "0.10", "1.00");
+        LocalDateTime data = LocalDateTime.of(2026, 10, 1, 0, 0);
+
+        int creditadas = contaRepository.creditarRendimentoMensal(data, "Rendimento 2026-09");
+
+        assertEquals(2, creditadas);
+        // 1000.00 * ROUND(12 / 12, 6) / 100 = 10.00
+        assertSaldo(investimento, "1010.00");
+        // 2500.50 * ROUND(10.50 / 12, 6) / 100 = 21.879375 -> 21.88
+        assertSaldo(reserva, "2522.38");
+        assertSaldo(corrente, "800.00");
+        assertSaldo(semTaxa, "500.00");
+        assertSaldo(rendimentoArredondadoParaZero, "0.10");
+
+        List<Transacao> transacoes = transacaoRepository.findAll();
+        assertEquals(2, transacoes.size());
+        Transacao doInvestimento = transacoes.stream()
+                .filter(t -> t.getConta().getId().equals(investimento.getId()))
+                .findFirst().orElseThrow();
+        assertEquals(TipoTransacao.CREDITO, doInvestimento.getTipo());
+        assertEquals(0, new BigDecimal("10.00").compareTo(doInvestimento.getValor()));
+        assertEquals(data, doInvestimento.getData());
+        assertEquals("Rendimento 2026-09", doInvestimento.getDescricao());
+        assertTrue(doInvestimento.isSistema());
+    }
+
+    @Test
+    void creditarRendimentoMensalSemContasElegiveisNaoDeveGravarNada() {
+        conta(TipoConta.CORRENTE, "800.00", "12.00");
+
+        assertEquals(0, contaRepository.creditarRendimentoMensal(LocalDateTime.now(), "Rendimento"));
+        assertEquals(0, transacaoRepository.count());
+    }
+
+    private Conta conta(TipoConta tipo, String saldo, String taxa) {
+        Conta conta = new Conta();
+        conta.setTitular(tipo.getDescricao());
+        conta.setTipo(tipo);
+        conta.setSaldo(new BigDecimal(saldo));
+        conta.setTaxaRendimento(new BigDecimal(taxa));
+        return em.persistFlushFind(conta);
+    }
+
+    private void assertSaldo(Conta conta, String esperado) {
+        Conta atual = contaRepository.findById(conta.getId()).orElseThrow();
+        assertEquals(0, new BigDecimal(esperado).compareTo(atual.getSaldo()),
+                "saldo da conta " + conta.getTitular() + ": " + atual.getSaldo());
+    }
+}
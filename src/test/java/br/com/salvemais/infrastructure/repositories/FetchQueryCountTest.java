@@ -0,0 +1,272 @@
+package br.com.salvemais.infrastructure.repositories;
+
+import br.com.salvemais.application.services.DashboardOverviewService;
+import br.com.salvemais.application.services.TransacaoService;
+import br.com.salvemais.domain.entities.CartaoCredito;
+import br.com.salvemais.domain.entities.Categoria;
+import br.com.salvemais.domain.entities.Compra;
+import br.com.salvemais.domain.entities.CompraDebito;
+import br.com.salvemais.domain.entities.CompraParcelada;
+import br.com.salvemais.domain.entities.Conta;
+import br.com.salvemais.domain.entities.ContaFixa;
+import br.com.salvemais.domain.entities.Fatura;
+import br.com.salvemais.domain.entities.Parcela;
+import br.com.salvemais.domain.entities.Provento;
+import br.com.salvemais.domain.entities.Transacao;
+import br.com.salvemais.domain.enums.TipoTransacao;
+import br.com.salvemais.web.api.dto.CompraParceladaResponseDTO;
+import br.com.salvemais.web.api.dto.TransacaoFiltroDTO;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Garante que a quantidade de consultas dos endpoints que percorrem associações não cresce
+ * com o número de linhas (N+1). Cada cenário é medido com poucas e com muitas linhas, e as
+ * duas contagens precisam ser iguais e ficar abaixo de um teto fixo.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({DashboardOverviewService.class, TransacaoService.class})
+class FetchQueryCountTest {
+
+    private static final LocalDate HOJE = LocalDate.now();
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private DashboardOverviewService dashboardOverviewService;
+
+    @Autowired
+    private TransacaoService transacaoService;
+
+    @Autowired
+    private CompraParceladaRepository compraParceladaRepository;
+
+    private Statistics statistics;
+    private Conta conta;
+    private CartaoCredito cartao;
+    private int sequencia;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager().getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        conta = new Conta();
+        conta.setTitular("Conta corrente");
+        conta.setSaldo(new BigDecimal("1000.00"));
+        em.persist(conta);
+
+        cartao = new CartaoCredito();
+        cartao.setNome("Cartão");
+        cartao.setVencimento(HOJE);
+        cartao.setLimiteTotal(new BigDecimal("5000.00"));
+        em.persist(cartao);
+    }
+
+    @Test
+    void regraOrcamentariaNaoFazUmaConsultaPorFaturaOuCompra() {
+        criarDespesasDoMes(2);
+        long poucas = contarConsultas(() -> dashboardOverviewService.getBudgetRule());
+
+        criarDespesasDoMes(10);
+        long muitas = contarConsultas(() -> dashboardOverviewService.getBudgetRule());
+
+        assertEquals(poucas, muitas);
+        assertTrue(muitas <= 10, "getBudgetRule executou " + muitas + " consultas");
+    }
+
+    @Test
+    void listagemDeTransacoesCarregaAssociacoesJunto() {
+        criarTransacoes(2);
+        long poucas = contarConsultas(this::listarTransacoes);
+
+        criarTransacoes(10);
+        long muitas = contarConsultas(this::listarTransacoes);
+
+        assertEquals(poucas, muitas);
+        assertTrue(muitas <= 5, "listarTransacoes executou " + muitas + " consultas");
+    }
+
+    @Test
+    void listagemDeComprasParceladasCarregaParcelasEmLote() {
+        criarComprasParceladas(2);
+        long poucas = contarConsultas(this::listarComprasParceladas);
+
+        criarComprasParceladas(10);
+        long muitas = contarConsultas(this::listarComprasParceladas);
+
+        assertEquals(poucas, muitas);
+        assertTrue(muitas <= 3, "listagem de compras parceladas executou " + muitas + " consultas");
+    }
+
+    @Test
+    void comprasParceladasDaExportacaoSaoPaginadasNoBanco() {
+        criarComprasParceladas(2);
+        long poucas = contarConsultas(this::buscarParceladasDaExportacao);
+
+        criarComprasParceladas(12);
+        long muitas = contarConsultas(this::buscarParceladasDaExportacao);
+
+        assertEquals(poucas, muitas);
+        assertTrue(muitas <= 2, "exportação de compras parceladas executou " + muitas + " consultas");
+        List<Long> ids = compraParceladaRepository.findIdsComParcelasPendentes(PageRequest.of(0, 10));
+        assertEquals(10, ids.size());
+        assertTrue(compraParceladaRepository.findComParcelasByIdIn(ids).stream()
+                .allMatch(compra -> compra.getParcelas().size() == 3));
+    }
+
+    @Test
+    void comprasParceladasDaExportacaoIgnoramArquivadasEQuitadas() {
+        List<CompraParcelada> compras = criarComprasParceladas(3);
+        compras.get(0).setArquivado(true);
+        compras.get(1).getParcelas().forEach(parcela -> parcela.setPaga(true));
+        em.flush();
+
+        List<Long> ids = compraParceladaRepository.findIdsComParcelasPendentes(PageRequest.of(0, 10));
+
+        assertEquals(List.of(compras.get(2).getId()), ids);
+    }
+
+    private long contarConsultas(Runnable endpoint) {
+        em.flush();
+        em.clear();
+        statistics.clear();
+        endpoint.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void listarTransacoes() {
+        var filtro = new TransacaoFiltroDTO(null, null, null, null, null, null, null, null);
+        transacaoService.listarTransacoes(filtro, PageRequest.of(0, 50)).getContent();
+    }
+
+    private void listarComprasParceladas() {
+        compraParceladaRepository.findAllByArquivadoFalseOrderByDataCompraDesc(PageRequest.of(0, 50))
+                .map(CompraParceladaResponseDTO::fromEntity)
+                .getContent();
+    }
+
+    private void buscarParceladasDaExportacao() {
+        List<Long> ids = compraParceladaRepository.findIdsComParcelasPendentes(PageRequest.of(0, 10));
+        compraParceladaRepository.findComParcelasByIdIn(ids)
+                .forEach(compra -> compra.getParcelas().forEach(Parcela::getValor));
+    }
+
+    private void criarDespesasDoMes(int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            ContaFixa contaFixa = new ContaFixa();
+            contaFixa.setNome("Conta fixa " + sequencia);
+            contaFixa.setCategoria(novaCategoria(Categoria.TipoCategoria.NECESSIDADE));
+            contaFixa.setConta(conta);
+            contaFixa.setVencimento(HOJE);
+            contaFixa.setValor(BigDecimal.TEN);
+            em.persist(contaFixa);
+
+            CompraDebito compraDebito = new CompraDebito();
+            compraDebito.setNome("Compra débito " + sequencia);
+            compraDebito.setCategoria(novaCategoria(Categoria.TipoCategoria.DESEJO));
+            compraDebito.setConta(conta);
+            compraDebito.setDataCompra(HOJE);
+            compraDebito.setValor(BigDecimal.TEN);
+            em.persist(compraDebito);
+
+            List<Compra> compras = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                Compra compra = new Compra();
+                compra.setDescricao("Compra " + sequencia + "-" + j);
+                compra.setValor(BigDecimal.ONE);
+                compra.setData(HOJE);
+                compra.setCategoria(novaCategoria(Categoria.TipoCategoria.DESEJO));
+                compra.setCartaoCredito(cartao);
+                em.persist(compra);
+                compras.add(compra);
+            }
+
+            Fatura fatura = new Fatura();
+            fatura.setCartaoCredito(cartao);
+            fatura.setDataVencimento(HOJE);
+            fatura.setValorTotal(new BigDecimal("3.00"));
+            fatura.setCompras(compras);
+            em.persist(fatura);
+        }
+    }
+
+    private void criarTransacoes(int quantidade) {
+        for (int i = 0; i < quantidade; i++) {
+            Provento provento = new Provento();
+            provento.setDescricao("Salário " + sequencia);
+            provento.setValor(BigDecimal.TEN);
+            provento.setData(HOJE);
+            provento.setConta(conta);
+            em.persist(provento);
+
+            Fatura fatura = new Fatura();
+            fatura.setCartaoCredito(cartao);
+            fatura.setDataVencimento(HOJE);
+            fatura.setValorTotal(BigDecimal.TEN);
+            em.persist(fatura);
+
+            Transacao transacao = new Transacao();
+            transacao.setTipo(TipoTransacao.CREDITO);
+            transacao.setValor(BigDecimal.TEN);
+            transacao.setData(LocalDateTime.now());
+            transacao.setDescricao("Transação " + sequencia);
+            transacao.setConta(conta);
+            transacao.setCategoria(novaCategoria(Categoria.TipoCategoria.NECESSIDADE));
+            transacao.setProvento(provento);
+            transacao.setFatura(fatura);
+            em.persist(transacao);
+        }
+    }
+
+    private List<CompraParcelada> criarComprasParceladas(int quantidade) {
+        List<CompraParcelada> compras = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            CompraParcelada compra = new CompraParcelada();
+            compra.setDescricao("Parcelada " + sequencia);
+            compra.setValorTotal(new BigDecimal("30.00"));
+            compra.setDataCompra(HOJE);
+            compra.setParcelaInicial(1);
+            compra.setTotalParcelas(3);
+            compra.setCategoria(novaCategoria(Categoria.TipoCategoria.DESEJO));
+            compra.setCartaoCredito(cartao);
+            for (int numero = 1; numero <= 3; numero++) {
+                Parcela parcela = new Parcela();
+                parcela.setNumeroParcela(numero);
+                parcela.setTotalParcelas(3);
+                parcela.setValor(BigDecimal.TEN);
+                parcela.setDataVencimento(HOJE.plusMonths(numero));
+                parcela.setCompraParcelada(compra);
+                compra.getParcelas().add(parcela);
+            }
+            em.persist(compra);
+            compras.add(compra);
+        }
+        return compras;
+    }
+
+    private Categoria novaCategoria(Categoria.TipoCategoria tipo) {
+        Categoria categoria = new Categoria();
+        categoria.setNome("Categoria " + sequencia++);
+        categoria.setTipo(tipo);
+        return em.persist(categoria);
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.salvemais.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RodaDeHorariosTest {
+
+    @Test
+    void deveAgruparAsChavesPorMinutoDoDia() {
+        RodaDeHorarios roda = new RodaDeHorarios();
+        roda.agendar("tenant-a", LocalTime.of(8, 0, 40));
+        roda.agendar("tenant-b", LocalTime.of(8, 0));
+        roda.agendar("tenant-c", LocalTime.of(23, 59));
+
+        assertEquals(Set.of("tenant-a", "tenant-b"), roda.agendadosNoMinuto(8 * 60));
+        assertEquals(Set.of("tenant-c"), roda.agendadosNoMinuto(RodaDeHorarios.MINUTOS_POR_DIA - 1));
+        assertEquals(3, roda.tamanho());
+    }
+
+    @Test
+    void reagendarDeveMoverAChaveDeMinuto() {
+        RodaDeHorarios roda = new RodaDeHorarios();
+        roda.agendar("tenant-a", LocalTime.of(8, 0));
+        roda.agendar("tenant-a", LocalTime.of(9, 30));
+
+        assertTrue(roda.agendadosNoMinuto(8 * 60).isEmpty());
+        assertEquals(Set.of("tenant-a"), roda.agendadosNoMinuto(9 * 60 + 30));
+        assertEquals(1, roda.tamanho());
+    }
+
+    @Test
+    void removerDeveTirarAChaveDaAgenda() {
+        RodaDeHorarios roda = new RodaDeHorarios();
+        roda.agendar("tenant-a", LocalTime.of(8, 0));
+        roda.remover("tenant-a");
+        roda.remover("inexistente");
+
+        assertTrue(roda.agendadosNoMinuto(8 * 60).isEmpty());
+        assertEquals(0, roda.tamanho());
+    }
+}
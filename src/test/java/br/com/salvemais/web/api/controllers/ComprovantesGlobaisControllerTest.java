@@ -1,11 +1,15 @@
 package br.com.salvemais.web.api.controllers;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +17,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.web.servlet.MockMvc;
 
 import br.com.salvemais.web.api.dto.AnexoDTO;
@@ -20,6 +27,7 @@ import br.com.salvemais.web.api.dto.UrlDownloadDTO;
 import br.com.salvemais.web.api.mappers.AnexoMapper;
 import br.com.salvemais.application.services.AnexoService;
 import br.com.salvemais.domain.entities.Anexo;
+import br.com.salvemais.infrastructure.repositories.AnexoResumo;
 import br.com.salvemais.testsupport.ControllerSliceTest;
 
 /**
@@ -49,22 +57,28 @@ class ComprovantesGlobaisControllerTest {
     }
 
     @Test
-    @DisplayName("GET /api/comprovantes retorna lista de comprovantes globais")
-    void listarTodosComprovantes_deveRetornarLista() throws Exception {
-        Anexo a1 = sampleAnexo(1L);
-        Anexo a2 = sampleAnexo(2L);
+    @DisplayName("GET /api/comprovantes retorna página filtrada de comprovantes")
+    void listarTodosComprovantes_deveRetornarPagina() throws Exception {
+        AnexoResumo r1 = Mockito.mock(AnexoResumo.class);
+        AnexoResumo r2 = Mockito.mock(AnexoResumo.class);
         AnexoDTO dto1 = new AnexoDTO(1L, "comprovante.pdf", "application/pdf", java.time.LocalDateTime.of(2025,9,14,12,0), null);
         AnexoDTO dto2 = new AnexoDTO(2L, "comprovante.pdf", "application/pdf", java.time.LocalDateTime.of(2025,9,14,12,0), null);
 
-        Mockito.when(anexoService.listarTodosAnexos()).thenReturn(List.of(a1, a2));
-        Mockito.when(anexoMapper.toDTO(a1)).thenReturn(dto1);
-        Mockito.when(anexoMapper.toDTO(a2)).thenReturn(dto2);
+        Mockito.when(anexoService.buscarComprovantes(eq("comprovante"), isNull(), isNull(),
+                        eq(LocalDate.of(2025, 9, 1)), isNull(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(r1, r2), PageRequest.of(0, 2), 5));
+        Mockito.when(anexoMapper.toDTO(r1)).thenReturn(dto1);
+        Mockito.when(anexoMapper.toDTO(r2)).thenReturn(dto2);
 
-        mockMvc.perform(get("/api/comprovantes"))
+        mockMvc.perform(get("/api/comprovantes")
+                        .param("nome", "comprovante")
+                        .param("dataInicio", "2025-09-01")
+                        .param("size", "2"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[1].id").value(2));
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[1].id").value(2))
+                .andExpect(jsonPath("$.totalElements").value(5));
     }
 
     @Test
@@ -74,21 +88,23 @@ class ComprovantesGlobaisControllerTest {
         Anexo anexo = sampleAnexo(anexoId);
         UrlDownloadDTO urlDto = new UrlDownloadDTO("https://url.com/download", "comprovante.pdf", "application/pdf");
 
-        Mockito.when(anexoService.listarTodosAnexos()).thenReturn(List.of(anexo));
-        Mockito.when(anexoService.gerarUrlDownload(anexoId)).thenReturn("https://url.com/download");
+        Mockito.when(anexoService.prepararDownload(anexoId))
+                .thenReturn(new AnexoService.Download(anexo, "https://url.com/download"));
         Mockito.when(anexoMapper.toUrlDownloadDTO(anexo, "https://url.com/download")).thenReturn(urlDto);
 
         mockMvc.perform(get("/api/comprovantes/{anexoId}/download", anexoId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.url").value("https://url.com/download"))
                 .andExpect(jsonPath("$.nome").value("comprovante.pdf"));
+        Mockito.verify(anexoService, Mockito.never()).listarTodosAnexos();
     }
 
     @Test
     @DisplayName("GET /api/comprovantes/{anexoId}/download retorna 404 quando não encontrado")
     void gerarUrlDownload_naoEncontrado() throws Exception {
         Long anexoId = 99L;
-        Mockito.when(anexoService.listarTodosAnexos()).thenReturn(List.of());
+        Mockito.when(anexoService.prepararDownload(anexoId))
+                .thenThrow(new IllegalArgumentException("Anexo não encontrado"));
 
         mockMvc.perform(get("/api/comprovantes/{anexoId}/download", anexoId))
                 .andExpect(status().isNotFound());
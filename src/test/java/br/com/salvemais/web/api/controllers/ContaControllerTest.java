@@ -5,6 +5,7 @@ import br.com.salvemais.application.services.RendimentoService;
 import br.com.salvemais.domain.entities.Conta;
 import br.com.salvemais.domain.enums.TipoConta;
 import br.com.salvemais.testsupport.ControllerSliceTest;
+import br.com.salvemais.web.api.dto.ProjecaoRendimentoDTO;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -161,6 +162,24 @@ class ContaControllerTest {
                 .andExpect(content().string("1120.00"));
     }
 
+    @Test
+    @DisplayName("GET /api/contas/{id}/projetar-rendimento/curva retorna o saldo projetado mês a mês")
+    void projetarCurvaRendimento() throws Exception {
+        Conta conta = sampleConta(1L, TipoConta.INVESTIMENTO);
+        Mockito.when(contaService.findOrFail(1L)).thenReturn(conta);
+        Mockito.when(rendimentoService.projetarCurva(conta, 2)).thenReturn(new ProjecaoRendimentoDTO(
+                1L, conta.getTitular(), conta.getSaldo(), conta.getTaxaRendimento(),
+                List.of(new ProjecaoRendimentoDTO.Ponto(1, new BigDecimal("1010.00")),
+                        new ProjecaoRendimentoDTO.Ponto(2, new BigDecimal("1020.10")))));
+
+        mockMvc.perform(get("/api/contas/{id}/projetar-rendimento/curva", 1L).param("meses", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contaId").value(1))
+                .andExpect(jsonPath("$.pontos", hasSize(2)))
+                .andExpect(jsonPath("$.pontos[1].mes").value(2))
+                .andExpect(jsonPath("$.pontos[1].valor").value(1020.10));
+    }
+
     @Test
     @DisplayName("POST /api/contas/transferir realiza transferência entre contas")
     void transferirEntreContas() throws Exception {
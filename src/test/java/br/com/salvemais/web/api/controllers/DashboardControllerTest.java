@@ -2,18 +2,23 @@ package br.com.salvemais.web.api.controllers;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Supplier;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
 import br.com.salvemais.web.api.dto.BudgetRuleDTO;
@@ -21,10 +26,14 @@ import br.com.salvemais.web.api.dto.CategoryExpenseDTO;
 import br.com.salvemais.web.api.dto.DashboardSummaryDTO;
 import br.com.salvemais.web.api.dto.MonthlyExpenseDTO;
 import br.com.salvemais.web.api.dto.VariationDataDTO;
+import br.com.salvemais.application.services.AcessoAdministrativoService;
+import br.com.salvemais.application.services.DashboardCacheService;
 import br.com.salvemais.application.services.DashboardCategoryExpenseService;
 import br.com.salvemais.application.services.DashboardOverviewService;
 import br.com.salvemais.application.services.DashboardTrendService;
 import br.com.salvemais.application.services.ExportService;
+import br.com.salvemais.application.services.ResumoMensalService;
+import br.com.salvemais.domain.exceptions.ForbiddenException;
 import br.com.salvemais.testsupport.ControllerSliceTest;
 
 @ControllerSliceTest(controllers = DashboardController.class)
@@ -45,6 +54,23 @@ class DashboardControllerTest {
     @MockBean
     private ExportService exportService;
 
+    @MockBean
+    private ResumoMensalService resumoMensalService;
+
+    @MockBean
+    private DashboardCacheService dashboardCacheService;
+
+    @MockBean
+    private AcessoAdministrativoService acessoAdministrativoService;
+
+    @BeforeEach
+    void setUp() {
+        // Sem cache: o loader é sempre executado
+        Mockito.when(dashboardCacheService.obter(Mockito.anyString(), Mockito.any()))
+                .thenAnswer(invocation -> new DashboardCacheService.Resposta<>(
+                        invocation.<Supplier<?>>getArgument(1).get(), "\"etag\""));
+    }
+
     @Test
     @DisplayName("GET /api/dashboard/summary retorna resumo do dashboard")
     void getSummary() throws Exception {
@@ -148,4 +174,54 @@ class DashboardControllerTest {
                 .andExpect(jsonPath("$", hasSize(1)))
                 .andExpect(jsonPath("$[0].metric").value("despesas"));
     }
+
+    @Test
+    @DisplayName("GET /api/dashboard/summary com If-None-Match igual ao ETag retorna 304 sem consultar o serviço")
+    void getSummaryNaoModificado() throws Exception {
+        Mockito.when(dashboardCacheService.obter(Mockito.startsWith("summary:"), Mockito.any()))
+                .thenReturn(new DashboardCacheService.Resposta<>(null, "\"abc\""));
+
+        mockMvc.perform(get("/api/dashboard/summary").header(HttpHeaders.IF_NONE_MATCH, "\"abc\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc\""));
+
+        Mockito.verifyNoInteractions(dashboardOverviewService);
+    }
+
+    @Test
+    @DisplayName("GET /api/dashboard/summary devolve ETag e Cache-Control no-cache")
+    void getSummaryComEtag() throws Exception {
+        mockMvc.perform(get("/api/dashboard/summary").param("mes", "3").param("ano", "2025"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"etag\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+
+        Mockito.verify(dashboardCacheService).obter(Mockito.eq("summary:2025-03"), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("POST /api/dashboard/resumo-mensal/reconstruir é negado a quem não é administrador")
+    void reconstruirResumoMensalSemSerAdministrador() throws Exception {
+        Mockito.doThrow(new ForbiddenException("Operação restrita a administradores do sistema"))
+                .when(acessoAdministrativoService).exigirAdministrador();
+
+        mockMvc.perform(post("/api/dashboard/resumo-mensal/reconstruir"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/dashboard/resumo-mensal/consistencia"))
+                .andExpect(status().isForbidden());
+
+        Mockito.verifyNoInteractions(resumoMensalService);
+    }
+
+    @Test
+    @DisplayName("POST /api/dashboard/resumo-mensal/reconstruir reconstrói o resumo para o administrador")
+    void reconstruirResumoMensalComoAdministrador() throws Exception {
+        Mockito.when(resumoMensalService.reconstruir()).thenReturn(12);
+
+        mockMvc.perform(post("/api/dashboard/resumo-mensal/reconstruir"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.linhas").value(12));
+
+        Mockito.verify(acessoAdministrativoService).exigirAdministrador();
+    }
 }
@@ -0,0 +1,71 @@
+package br.com.salvemais.web.api.controllers;
+
+import br.com.salvemais.infrastructure.context.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * O corpo da planilha é escrito em outra thread (executor assíncrono do Spring MVC), que
+ * precisa enxergar o tenant da requisição e não deixá-lo para a próxima tarefa.
+ */
+class PlanilhaExcelResponseTest {
+
+    private final ExecutorService executorAssincrono = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executorAssincrono.shutdownNow();
+        TenantContext.clear();
+    }
+
+    @Test
+    void escreveComOTenantDaRequisicaoELimpaAoTerminar() throws Exception {
+        AtomicReference<String> tenantNaEscrita = new AtomicReference<>();
+        TenantContext.setCurrentTenant("tenant-a");
+        ResponseEntity<StreamingResponseBody> resposta = PlanilhaExcelResponse.download("relatorio.xlsx",
+                saida -> tenantNaEscrita.set(TenantContext.getCurrentTenant()));
+        TenantContext.clear();
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        String tenantDepois = executorAssincrono.submit(() -> {
+            resposta.getBody().writeTo(saida);
+            return TenantContext.getCurrentTenant();
+        }).get();
+
+        assertEquals("tenant-a", tenantNaEscrita.get());
+        assertEquals(TenantContext.DEFAULT_TENANT, tenantDepois);
+        assertEquals(PlanilhaExcelResponse.XLSX, resposta.getHeaders().getContentType());
+        assertTrue(resposta.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION).contains("relatorio.xlsx"));
+    }
+
+    @Test
+    void limpaOTenantMesmoQuandoAEscritaFalha() throws Exception {
+        TenantContext.setCurrentTenant("tenant-a");
+        ResponseEntity<StreamingResponseBody> resposta = PlanilhaExcelResponse.download("relatorio.xlsx",
+                saida -> {
+                    throw new IOException("conexão fechada pelo cliente");
+                });
+        TenantContext.clear();
+
+        String tenantDepois = CompletableFuture.supplyAsync(() -> {
+            assertThrows(IOException.class, () -> resposta.getBody().writeTo(new ByteArrayOutputStream()));
+            return TenantContext.getCurrentTenant();
+        }, executorAssincrono).get();
+
+        assertEquals(TenantContext.DEFAULT_TENANT, tenantDepois);
+    }
+}